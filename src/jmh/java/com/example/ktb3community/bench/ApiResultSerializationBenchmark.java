@@ -0,0 +1,87 @@
+package com.example.ktb3community.bench;
+
+import com.example.ktb3community.common.pagination.PageResponse;
+import com.example.ktb3community.common.response.ApiResult;
+import com.example.ktb3community.config.JacksonConfig;
+import com.example.ktb3community.post.dto.Author;
+import com.example.ktb3community.post.dto.PostListResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 게시글 목록 한 페이지(ApiResult<PageResponse<PostListResponse>>)를 직렬화하는 비용 비교
+// - reflection: Boot 기본 ObjectMapper 설정
+// - optimized: Blackbird + 전용 직렬화기(JacksonConfig)
+// bytes(초당 바이트)는 AuxCounters로, 페이지당 할당량은 gc 프로파일러의 gc.alloc.rate.norm으로 확인한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ApiResultSerializationBenchmark {
+
+    @Param({"reflection", "optimized"})
+    public String mapper;
+
+    @Param({"10", "20"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResult<PageResponse<PostListResponse>> page;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("optimized".equals(mapper)) {
+            builder.modulesToInstall(new BlackbirdModule(), JacksonConfig.responseSerializers());
+        }
+        objectMapper = builder.build();
+        page = ApiResult.ok(new PageResponse<>(posts(pageSize), 1, pageSize, 50));
+    }
+
+    @Benchmark
+    public byte[] serializePage(Bytes counter) throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(page);
+        counter.bytes += json.length;
+        return json;
+    }
+
+    private static List<PostListResponse> posts(int size) {
+        Instant createdAt = Instant.parse("2025-01-01T00:00:00Z");
+        List<PostListResponse> posts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Author author = new Author("nickname-" + i, "https://cdn.example.com/profile/" + i + ".png",
+                    "https://cdn.example.com/variants/avatar/" + i + ".jpg");
+            posts.add(new PostListResponse((long) i, "게시글 제목 " + i,
+                    "https://cdn.example.com/variants/card/" + i + ".jpg", author,
+                    i * 3L, i * 17L, i, createdAt.plusSeconds(i)));
+        }
+        return posts;
+    }
+}
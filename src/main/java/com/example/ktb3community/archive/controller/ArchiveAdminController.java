@@ -0,0 +1,36 @@
+package com.example.ktb3community.archive.controller;
+
+import com.example.ktb3community.archive.dto.ArchiveRestoreResponse;
+import com.example.ktb3community.archive.service.ArchiveService;
+import com.example.ktb3community.common.doc.ApiCommonErrorResponses;
+import com.example.ktb3community.common.response.ApiResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/archive")
+public class ArchiveAdminController {
+
+    private final ArchiveService archiveService;
+
+    @Operation(summary = "보관된 게시글 복구", description = "보관 테이블로 옮겨진 게시글과 함께 지워진 댓글/좋아요를 되살립니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다."),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 게시글입니다."),
+            @ApiResponse(responseCode = "409", description = "작성자가 탈퇴했거나 같은 데이터가 이미 있습니다.")
+    })
+    @ApiCommonErrorResponses
+    @PostMapping("/posts/{postId}/restore")
+    public ResponseEntity<ApiResult<ArchiveRestoreResponse>> restorePost(@PathVariable Long postId) {
+        return ResponseEntity.ok(ApiResult.ok(archiveService.restorePost(postId)));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.ktb3community.archive.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 보관 대상 테이블. 외래 키를 지키려면 참조하는 쪽부터 옮겨야 하므로 선언 순서대로 처리한다.
+// candidates는 인덱스를 타는 후보 조회(%s 자리에 condition이 들어간다),
+// condition은 옮기는 순간 같은 트랜잭션에서 다시 확인하는 조건(별칭 t)이다
+@Getter
+@RequiredArgsConstructor
+public enum ArchiveTable {
+    // 게시글 삭제는 좋아요를 지우지 않으므로 삭제된 게시글의 좋아요도 함께 옮긴다
+    LIKES("likes", "likes_archive",
+            "id, post_id, user_id, deleted_at, created_at, updated_at",
+            """
+            select t.id from likes t where t.deleted_at < :cutoff
+            union
+            select t.id from likes t join posts p on p.id = t.post_id where p.deleted_at < :cutoff
+            order by id limit :limit
+            """,
+            "(t.deleted_at < :cutoff or exists (select 1 from posts p where p.id = t.post_id and p.deleted_at < :cutoff))"),
+    COMMENTS("comments", "comments_archive",
+            "id, post_id, user_id, content, deleted_at, created_at, updated_at",
+            """
+            select t.id from comments t where t.deleted_at < :cutoff
+            union
+            select t.id from comments t join posts p on p.id = t.post_id where p.deleted_at < :cutoff
+            order by id limit :limit
+            """,
+            "(t.deleted_at < :cutoff or exists (select 1 from posts p where p.id = t.post_id and p.deleted_at < :cutoff))"),
+    POSTS("posts", "posts_archive",
+            "id, user_id, title, content, post_image_url, post_thumbnail_url, like_count, view_count, comment_count, deleted_at, created_at, updated_at",
+            "select t.id from posts t where %s order by t.deleted_at, t.id limit :limit",
+            "t.deleted_at < :cutoff"
+                    + " and not exists (select 1 from comments c where c.post_id = t.id)"
+                    + " and not exists (select 1 from likes l where l.post_id = t.id)"),
+    USERS("users", "users_archive",
+            "id, email, password_hash, nickname, profile_image_url, profile_thumbnail_url, deleted_at, role, created_at, updated_at",
+            "select t.id from users t where %s order by t.deleted_at, t.id limit :limit",
+            "t.deleted_at < :cutoff"
+                    + " and not exists (select 1 from posts p where p.user_id = t.id)"
+                    + " and not exists (select 1 from comments c where c.user_id = t.id)"
+                    + " and not exists (select 1 from likes l where l.user_id = t.id)"
+                    + " and not exists (select 1 from refresh_token r where r.user_id = t.id)");
+
+    private final String table;
+    private final String archiveTable;
+    private final String columns;
+    private final String candidates;
+    private final String condition;
+
+    public String candidatesSql() {
+        return candidates.formatted(condition);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.ktb3community.archive.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// 같은 (post_id, user_id)가 여러 번 보관될 수 있으므로 유니크 제약을 두지 않는다
+@Entity
+@Table(name = "likes_archive", indexes = @Index(name = "idx_likes_archive_post_id", columnList = "post_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LikeArchive {
+    @Id
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,56 @@
+package com.example.ktb3community.archive.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// posts에서 보관 기간이 지난 soft delete 행을 옮겨 두는 테이블.
+// 행은 ArchiveRepository의 INSERT…SELECT로만 오가고, 매핑은 스키마 생성용이다
+@Entity
+@Table(name = "posts_archive", indexes = @Index(name = "idx_posts_archive_user_id", columnList = "user_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostArchive {
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Lob
+    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    private String content;
+
+    @Column(name = "post_image_url")
+    private String postImageUrl;
+
+    @Column(name = "post_thumbnail_url")
+    private String postThumbnailUrl;
+
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
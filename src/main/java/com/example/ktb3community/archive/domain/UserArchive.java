@@ -0,0 +1,49 @@
+package com.example.ktb3community.archive.domain;
+
+import com.example.ktb3community.common.Role;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// 보관된 뒤에는 같은 이메일/닉네임으로 다시 가입할 수 있으므로 유니크 제약을 두지 않는다
+@Entity
+@Table(name = "users_archive")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserArchive {
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(name = "password_hash", nullable = false)
+    private String passwordHash;
+
+    @Column(nullable = false)
+    private String nickname;
+
+    @Column(name = "profile_image_url", nullable = false)
+    private String profileImageUrl;
+
+    @Column(name = "profile_thumbnail_url")
+    private String profileThumbnailUrl;
+
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
+    @Enumerated(EnumType.STRING)
+    private Role role;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
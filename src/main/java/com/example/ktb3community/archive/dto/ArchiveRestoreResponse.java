@@ -0,0 +1,8 @@
+package com.example.ktb3community.archive.dto;
+
+public record ArchiveRestoreResponse(
+        Long postId,
+        int comments,
+        int likes
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.ktb3community.archive.dto;
+
+import java.time.Instant;
+
+public record ArchivedPost(
+        Long postId,
+        Long userId,
+        Instant deletedAt
+) {
+}
@@ -0,0 +1,153 @@
+package com.example.ktb3community.archive.repository;
+
+import com.example.ktb3community.archive.domain.ArchiveTable;
+import com.example.ktb3community.archive.dto.ArchivedPost;
+import com.example.ktb3community.post.domain.Post;
+import com.example.ktb3community.user.domain.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// hot 테이블과 *_archive 테이블 사이에서 행을 INSERT…SELECT / DELETE로 옮긴다.
+// 엔티티를 거치지 않으므로 2차 캐시에 올라가는 게시글/사용자는 옮긴 id만 직접 비운다
+@Repository
+@RequiredArgsConstructor
+public class ArchiveRepository {
+
+    private static final String CASCADED_CONDITION = "a.post_id = :postId"
+            + " and (a.deleted_at is null or a.deleted_at >= :deletedSince)"
+            + " and exists (select 1 from users u where u.id = a.user_id and u.deleted_at is null)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<Long> findArchivableIds(ArchiveTable table, Instant cutoff, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cutoff", utc(cutoff))
+                .addValue("limit", limit);
+        return jdbcTemplate.queryForList(table.candidatesSql(), params, Long.class);
+    }
+
+    // 후보를 고른 뒤 되살아난 행(좋아요 재등록 등)은 condition 재확인으로 걸러진다
+    public int moveToArchive(ArchiveTable table, Collection<Long> ids, Instant cutoff, Instant now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("cutoff", utc(cutoff))
+                .addValue("now", utc(now));
+        int copied = jdbcTemplate.update(
+                "insert into " + table.getArchiveTable() + " (" + table.getColumns() + ", archived_at)"
+                        + " select " + table.getColumns() + ", :now from " + table.getTable() + " t"
+                        + " where t.id in (:ids) and " + table.getCondition(),
+                params);
+        int deleted = jdbcTemplate.update(
+                "delete t from " + table.getTable() + " t"
+                        + " join " + table.getArchiveTable() + " a on a.id = t.id"
+                        + " where t.id in (:ids)",
+                params);
+        if (copied != deleted) {
+            throw new IllegalStateException(table.getTable() + " 보관 중 행 수 불일치: " + copied + " != " + deleted);
+        }
+        evict(table, ids);
+        return deleted;
+    }
+
+    public Optional<ArchivedPost> findArchivedPost(Long postId) {
+        return jdbcTemplate.query(
+                "select id, user_id, deleted_at from posts_archive where id = :id",
+                new MapSqlParameterSource("id", postId),
+                (rs, rowNum) -> new ArchivedPost(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        instant(rs.getObject("deleted_at", LocalDateTime.class))))
+                .stream().findFirst();
+    }
+
+    public int restorePost(Long postId, Instant now) {
+        return restore(ArchiveTable.POSTS, "a.id = :postId",
+                new MapSqlParameterSource("postId", postId), now);
+    }
+
+    // 게시글과 함께(또는 그 뒤에) 지워졌고 작성자가 탈퇴하지 않은 댓글/좋아요만 되살린다
+    public int restoreCascadedComments(Long postId, Instant deletedSince, Instant now) {
+        return restore(ArchiveTable.COMMENTS, CASCADED_CONDITION, cascadedParams(postId, deletedSince), now);
+    }
+
+    public int restoreCascadedLikes(Long postId, Instant deletedSince, Instant now) {
+        return restore(ArchiveTable.LIKES, CASCADED_CONDITION, cascadedParams(postId, deletedSince), now);
+    }
+
+    // 보관 중에 빠진 댓글/좋아요가 있을 수 있으므로 되살린 뒤 실제 개수로 맞춘다
+    public void recountPostCounters(Long postId) {
+        jdbcTemplate.update("""
+                update posts
+                set like_count = (select count(*) from likes l where l.post_id = :postId and l.deleted_at is null),
+                    comment_count = (select count(*) from comments c where c.post_id = :postId and c.deleted_at is null)
+                where id = :postId
+                """, new MapSqlParameterSource("postId", postId));
+        entityManagerFactory.getCache().evict(Post.class, postId);
+    }
+
+    private static MapSqlParameterSource cascadedParams(Long postId, Instant deletedSince) {
+        return new MapSqlParameterSource()
+                .addValue("postId", postId)
+                .addValue("deletedSince", utc(deletedSince));
+    }
+
+    // 되살린 행은 삭제 표시를 지우고 updated_at을 갱신해 목록/상세 ETag가 바뀌게 한다
+    private int restore(ArchiveTable table, String condition, MapSqlParameterSource params, Instant now) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "select a.id from " + table.getArchiveTable() + " a where " + condition, params, Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String restoredColumns = Arrays.stream(table.getColumns().split(",\\s*"))
+                .map(column -> switch (column) {
+                    case "deleted_at" -> "null";
+                    case "updated_at" -> ":now";
+                    default -> column;
+                })
+                .collect(Collectors.joining(", "));
+        MapSqlParameterSource idParams = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("now", utc(now));
+        jdbcTemplate.update(
+                "insert into " + table.getTable() + " (" + table.getColumns() + ")"
+                        + " select " + restoredColumns + " from " + table.getArchiveTable() + " where id in (:ids)",
+                idParams);
+        int deleted = jdbcTemplate.update(
+                "delete from " + table.getArchiveTable() + " where id in (:ids)", idParams);
+        evict(table, ids);
+        return deleted;
+    }
+
+    private void evict(ArchiveTable table, Collection<Long> ids) {
+        Class<?> entityType = switch (table) {
+            case POSTS -> Post.class;
+            case USERS -> User.class;
+            default -> null;
+        };
+        if (entityType != null) {
+            ids.forEach(id -> entityManagerFactory.getCache().evict(entityType, id));
+        }
+    }
+
+    // Hibernate가 Instant를 UTC 기준으로 저장하므로 JDBC로 비교/저장할 때도 UTC 기준 값으로 바인딩한다
+    private static LocalDateTime utc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static Instant instant(LocalDateTime utc) {
+        return utc == null ? null : utc.toInstant(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.ktb3community.archive.service;
+
+import com.example.ktb3community.archive.domain.ArchiveTable;
+import com.example.ktb3community.archive.dto.ArchiveRestoreResponse;
+import com.example.ktb3community.archive.dto.ArchivedPost;
+import com.example.ktb3community.archive.repository.ArchiveRepository;
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.post.exception.PostNotFoundException;
+import com.example.ktb3community.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// soft delete 후 보관 기간이 지난 행을 *_archive 테이블로 옮겨 hot 테이블에는 살아 있는 행만 남긴다.
+// 테이블마다 chunk 단위로 트랜잭션을 나누고 사이에 쉬어 긴 잠금과 복제 지연을 피한다
+@Slf4j
+@Service
+public class ArchiveService {
+
+    private final ArchiveRepository archiveRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration retention;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final int maxChunksPerRun;
+    private final Timer runTimer;
+
+    public ArchiveService(
+            ArchiveRepository archiveRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.archive.retention-days:30}") long retentionDays,
+            @Value("${app.archive.chunk-size:500}") int chunkSize,
+            @Value("${app.archive.pause-ms:200}") long pauseMillis,
+            @Value("${app.archive.max-chunks-per-run:1000}") int maxChunksPerRun) {
+        this.archiveRepository = archiveRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.retention = Duration.ofDays(retentionDays);
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.runTimer = Timer.builder("archive.run.duration")
+                .description("보관 작업 1회 실행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 0 3 * * *}")
+    public void run() {
+        Map<ArchiveTable, Long> moved = runTimer.record(this::archiveAll);
+        log.info("[archive] 보관 완료: {}", moved);
+    }
+
+    Map<ArchiveTable, Long> archiveAll() {
+        Instant now = Instant.now();
+        Instant cutoff = now.minus(retention);
+        Map<ArchiveTable, Long> moved = new EnumMap<>(ArchiveTable.class);
+        for (ArchiveTable table : ArchiveTable.values()) {
+            moved.put(table, archive(table, cutoff, now));
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+        return moved;
+    }
+
+    private long archive(ArchiveTable table, Instant cutoff, Instant now) {
+        long moved = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> ids = archiveRepository.findArchivableIds(table, cutoff, chunkSize);
+                return ids.isEmpty() ? 0 : archiveRepository.moveToArchive(table, ids, cutoff, now);
+            });
+            int chunkMoved = count == null ? 0 : count;
+            moved += chunkMoved;
+            meterRegistry.counter("archive.moved", "table", table.getTable()).increment(chunkMoved);
+
+            if (chunkMoved < chunkSize || !pause()) {
+                break;
+            }
+        }
+        return moved;
+    }
+
+    // 보관된 게시글을 되살리고, 게시글과 함께 지워졌던 댓글/좋아요도 돌려놓는다
+    public ArchiveRestoreResponse restorePost(Long postId) {
+        ArchiveRestoreResponse restored;
+        try {
+            restored = transactionTemplate.execute(status -> restore(postId));
+        } catch (DataIntegrityViolationException e) {
+            // 그 사이 같은 id나 (게시글, 사용자) 좋아요가 hot 테이블에 생겼다
+            throw new BusinessException(ErrorCode.CONFLICT);
+        }
+        meterRegistry.counter("archive.restored", "table", ArchiveTable.POSTS.getTable()).increment();
+        meterRegistry.counter("archive.restored", "table", ArchiveTable.COMMENTS.getTable()).increment(restored.comments());
+        meterRegistry.counter("archive.restored", "table", ArchiveTable.LIKES.getTable()).increment(restored.likes());
+        return restored;
+    }
+
+    private ArchiveRestoreResponse restore(Long postId) {
+        ArchivedPost post = archiveRepository.findArchivedPost(postId)
+                .orElseThrow(PostNotFoundException::new);
+        // 탈퇴했거나 보관된 사용자의 글은 되살리지 않는다
+        if (userRepository.findById(post.userId()).isEmpty()) {
+            throw new BusinessException(ErrorCode.CONFLICT);
+        }
+        Instant now = Instant.now();
+        archiveRepository.restorePost(postId, now);
+        Instant deletedSince = post.deletedAt() != null ? post.deletedAt() : Instant.EPOCH;
+        int comments = archiveRepository.restoreCascadedComments(postId, deletedSince, now);
+        int likes = archiveRepository.restoreCascadedLikes(postId, deletedSince, now);
+        archiveRepository.recountPostCounters(postId);
+        return new ArchiveRestoreResponse(postId, comments, likes);
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.ktb3community.auth.dto.AuthResponse;
 import com.example.ktb3community.auth.dto.LoginRequest;
 import com.example.ktb3community.auth.dto.SignUpRequest;
 import com.example.ktb3community.auth.dto.Token;
+import com.example.ktb3community.auth.infra.LoginAttemptLimiter;
 import com.example.ktb3community.auth.service.AuthService;
 import com.example.ktb3community.common.doc.ApiCommonErrorResponses;
 import com.example.ktb3community.common.error.ErrorCode;
@@ -13,6 +14,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import com.example.ktb3community.common.response.ApiResult;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
     private final AuthService authService;
     private final TokenResponder tokenResponder;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
     @Operation(summary = "회원가입", description = "새로운 사용자를 등록합니다.")
     @ApiResponses({
@@ -47,12 +50,18 @@ public class AuthController {
     @Operation(summary = "로그인", description = "사용자 로그인을 처리합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "OK"),
-            @ApiResponse(responseCode = "404", description = "존재하지 않는 사용자입니다.")
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 사용자입니다."),
+            @ApiResponse(responseCode = "429", description = "로그인 시도가 너무 많습니다.")
     })
     @ApiCommonErrorResponses
     @PostMapping("/login")
     public ResponseEntity<ApiResult<AuthResponse>> login(
-            @Valid @RequestBody LoginRequest loginRequest, HttpServletResponse response) {
+            @Valid @RequestBody LoginRequest loginRequest,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        // 제한된 시도는 트랜잭션, DB 조회, 해싱 전에 거절.
+        // 신뢰하는 프록시 뒤라면 getRemoteAddr()는 RemoteIpValve가 X-Forwarded-For로 복원한 클라이언트 주소다
+        loginAttemptLimiter.checkAllowed(loginRequest.normalizedEmail(), request.getRemoteAddr());
         Token token = authService.login(loginRequest);
         return tokenResponder.success(token, response, HttpStatus.OK);
     }
@@ -17,4 +17,7 @@ public record LoginRequest (
         )
         String password
 ){
+    public String normalizedEmail() {
+        return email.trim().toLowerCase();
+    }
 }
@@ -0,0 +1,6 @@
+package com.example.ktb3community.auth.dto;
+
+public record RotatedRefreshToken(
+        Long userId,
+        String refreshToken
+) {}
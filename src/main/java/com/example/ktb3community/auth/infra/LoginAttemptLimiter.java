@@ -0,0 +1,56 @@
+package com.example.ktb3community.auth.infra;
+
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.common.ratelimit.SlidingWindowRateLimiter;
+import com.example.ktb3community.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 로그인 시도를 이메일/IP 기준으로 제한해 크리덴셜 스터핑이 BCrypt 비용으로 이어지지 않게 한다.
+// IP는 프록시가 아니라 클라이언트 주소여야 하므로 server.forward-headers-strategy 설정에 의존한다
+@Component
+public class LoginAttemptLimiter {
+
+    private static final int BUCKET_COUNT = 12;
+
+    private final SlidingWindowRateLimiter emailLimiter;
+    private final SlidingWindowRateLimiter ipLimiter;
+    private final Counter emailRejectedCounter;
+    private final Counter ipRejectedCounter;
+
+    public LoginAttemptLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${app.login-throttle.window-seconds:60}") long windowSeconds,
+            @Value("${app.login-throttle.per-email:10}") int perEmail,
+            @Value("${app.login-throttle.per-ip:30}") int perIp,
+            @Value("${app.login-throttle.max-keys:100000}") int maxKeys) {
+        Duration window = Duration.ofSeconds(windowSeconds);
+        this.emailLimiter = new SlidingWindowRateLimiter(perEmail, window, BUCKET_COUNT, maxKeys);
+        this.ipLimiter = new SlidingWindowRateLimiter(perIp, window, BUCKET_COUNT, maxKeys);
+        this.emailRejectedCounter = rejectedCounter(meterRegistry, "email");
+        this.ipRejectedCounter = rejectedCounter(meterRegistry, "ip");
+    }
+
+    public void checkAllowed(String normalizedEmail, String clientIp) {
+        // IP를 먼저 확인해 한 IP가 여러 이메일을 돌며 이메일 카운터를 소모하지 않게 한다
+        if (clientIp != null && !ipLimiter.tryAcquire(clientIp)) {
+            ipRejectedCounter.increment();
+            throw new BusinessException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+        if (!emailLimiter.tryAcquire(normalizedEmail)) {
+            emailRejectedCounter.increment();
+            throw new BusinessException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String key) {
+        return Counter.builder("auth.login.throttled")
+                .description("로그인 시도 제한으로 거절된 요청 수")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+}
@@ -2,15 +2,37 @@ package com.example.ktb3community.auth.repository;
 
 import com.example.ktb3community.auth.domain.RefreshToken;
 import com.example.ktb3community.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("update RefreshToken rt set rt.revoked = true " +
             "where rt.user = :user and rt.revoked = false")
     int revokeAllByUser(User user);
+
+    // 조회 없이 조건부 UPDATE 한 번으로 폐기한다. 영향받은 행 수가 0이면 이미 폐기/만료됐거나 동시 요청에 진 것
+    @Modifying(flushAutomatically = true)
+    @Query("update RefreshToken rt set rt.revoked = true, rt.version = rt.version + 1 " +
+            "where rt.id = :id and rt.revoked = false and rt.expiresAt > :now")
+    int revokeIfActive(@Param("id") Long id, @Param("now") Instant now);
+
+    // TSID는 시간순이므로 id 키셋으로 오래된 행부터 훑는다
+    @Query("select rt.id from RefreshToken rt " +
+            "where rt.id > :afterId and (rt.revoked = true or rt.expiresAt < :now) " +
+            "order by rt.id")
+    List<Long> findPurgeableIds(@Param("afterId") Long afterId, @Param("now") Instant now, Pageable pageable);
+
+    @Modifying
+    @Query("delete from RefreshToken rt where rt.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -15,6 +15,7 @@ public final class SecurityPaths {
             "/auth/login",
             "/auth/signup",
             "/uploads/presigned-url",
+            "/files/**",
             "/users/availability/**",
             "/v3/api-docs/**",
             "/swagger-ui/**",
@@ -26,4 +27,22 @@ public final class SecurityPaths {
             "/swagger-ui/**",
             "/swagger-ui.html"
     };
+
+    // 로컬 저장소의 이미지 서빙/서명된 업로드 (업로드는 URL 서명으로 검증한다)
+    public static final String[] PUBLIC_FILES = {
+            "/files/**"
+    };
+
+    public static final String[] ADMIN = {
+            "/admin/**"
+    };
+
+    public static final String[] PUBLIC_ACTUATOR = {
+            "/actuator/health"
+    };
+
+    // 관리 포트(management.server.port)로 들어온 요청에만 연다
+    public static final String[] MANAGEMENT_ACTUATOR = {
+            "/actuator/prometheus"
+    };
 }
@@ -1,65 +1,93 @@
 package com.example.ktb3community.auth.service;
 
-import com.example.ktb3community.auth.domain.RefreshToken;
 import com.example.ktb3community.auth.dto.LoginRequest;
+import com.example.ktb3community.auth.dto.RotatedRefreshToken;
 import com.example.ktb3community.auth.dto.SignUpRequest;
 import com.example.ktb3community.auth.dto.Token;
+import com.example.ktb3community.auth.infra.PasswordHasher;
 import com.example.ktb3community.common.Role;
 import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.exception.BusinessException;
 import com.example.ktb3community.jwt.JwtTokenProvider;
+import com.example.ktb3community.outbox.domain.DomainEventType;
+import com.example.ktb3community.outbox.dto.ImageReplacedPayload;
+import com.example.ktb3community.outbox.service.DomainEventPublisher;
 import com.example.ktb3community.user.domain.User;
 import com.example.ktb3community.user.exception.UserNotFoundException;
 import com.example.ktb3community.user.repository.UserRepository;
-import lombok.AllArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.example.ktb3community.user.service.UserAvailabilityIndex;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
-@AllArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final UserAvailabilityIndex userAvailabilityIndex;
+    private final DomainEventPublisher domainEventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    public AuthService(
+            UserRepository userRepository,
+            JwtTokenProvider jwtTokenProvider,
+            RefreshTokenService refreshTokenService,
+            PasswordHasher passwordHasher,
+            UserAvailabilityIndex userAvailabilityIndex,
+            DomainEventPublisher domainEventPublisher,
+            PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenService = refreshTokenService;
+        this.passwordHasher = passwordHasher;
+        this.userAvailabilityIndex = userAvailabilityIndex;
+        this.domainEventPublisher = domainEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 해싱은 트랜잭션 밖에서 끝내고, 저장과 토큰 발급만 짧은 트랜잭션으로 묶는다
     public Token signup(SignUpRequest signUpRequest) {
         String email = signUpRequest.email().trim().toLowerCase();
-        String hashedPassword = passwordEncoder.encode(signUpRequest.password());
         if (userRepository.existsByEmail(email)) {
             throw new BusinessException(ErrorCode.EMAIL_ALREADY_EXIST);
         }
         if (userRepository.existsByNickname(signUpRequest.nickname())) {
             throw new BusinessException(ErrorCode.NICKNAME_ALREADY_EXIST);
         }
-        User saved = userRepository.save(User.createNew(email, hashedPassword, signUpRequest.nickname(), signUpRequest.profileImageUrl(), Role.ROLE_USER));
+        // 중복 검사를 통과한 요청만 비싼 해싱을 수행
+        String hashedPassword = passwordHasher.encode(signUpRequest.password());
+        return transactionTemplate.execute(status -> {
+            userAvailabilityIndex.add(email, signUpRequest.nickname());
+            User saved = userRepository.save(User.createNew(email, hashedPassword, signUpRequest.nickname(), signUpRequest.profileImageUrl(), Role.ROLE_USER));
+            // 아바타 축소본은 커밋 후 구독자(ImageVariantGenerator)가 만든다
+            domainEventPublisher.append(DomainEventType.PROFILE_IMAGE_REPLACED, saved.getId(),
+                    new ImageReplacedPayload(null, saved.getProfileImageUrl()));
 
-        return issueTokens(saved);
+            return issueTokens(saved);
+        });
     }
 
-    @Transactional
+    // 시도 제한은 호출 전에 AuthController가 확인한다.
+    // 비밀번호 검증은 트랜잭션 밖에서 하고, 리프레시 토큰 저장만 트랜잭션으로 묶는다
     public Token login(LoginRequest loginRequest) {
-        String email = loginRequest.email().trim().toLowerCase();
-        User user = userRepository.findByEmail(email).orElseThrow(UserNotFoundException::new);
-        if (!passwordEncoder.matches(loginRequest.password(), user.getPasswordHash())) {
+        User user = userRepository.findByEmail(loginRequest.normalizedEmail()).orElseThrow(UserNotFoundException::new);
+        if (!passwordHasher.matches(loginRequest.password(), user.getPasswordHash())) {
             throw new UserNotFoundException();
         }
-        return issueTokens(user);
+        return transactionTemplate.execute(status -> issueTokens(user));
     }
 
     @Transactional
     public Token refresh(String oldRefreshToken) {
-        // JWT 검증 + revoked/expired 검사
-        RefreshToken refreshToken = refreshTokenService.getValidTokenOrThrow(oldRefreshToken);
-        User user = refreshToken.getUser();
-
-        String accessToken = jwtTokenProvider.createAccessToken(user.getId());
-        String newRefreshToken = refreshTokenService.rotate(oldRefreshToken);
+        // JWT 검증 + 조건부 폐기 + 새 토큰 발급을 한 번에 처리
+        RotatedRefreshToken rotated = refreshTokenService.rotate(oldRefreshToken);
+        String accessToken = jwtTokenProvider.createAccessToken(rotated.userId());
 
-        return new Token(accessToken, newRefreshToken);
+        return new Token(accessToken, rotated.refreshToken());
     }
 
     @Transactional
@@ -0,0 +1,102 @@
+package com.example.ktb3community.auth.service;
+
+import com.example.ktb3community.auth.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 만료/폐기된 리프레시 토큰을 id 키셋 순서로 chunk 단위 삭제한다.
+// chunk마다 트랜잭션을 나누고 사이에 쉬어 긴 잠금과 복제 지연을 피한다
+@Slf4j
+@Component
+public class RefreshTokenPurgeJob {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final int maxChunksPerRun;
+    private final Counter purgedCounter;
+    private final Counter chunkCounter;
+    private final Timer runTimer;
+    private final AtomicLong lastRunPurged = new AtomicLong();
+
+    public RefreshTokenPurgeJob(
+            RefreshTokenRepository refreshTokenRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.refresh-token-purge.chunk-size:500}") int chunkSize,
+            @Value("${app.refresh-token-purge.pause-ms:200}") long pauseMillis,
+            @Value("${app.refresh-token-purge.max-chunks-per-run:1000}") int maxChunksPerRun) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.purgedCounter = Counter.builder("auth.refresh_token.purged")
+                .description("삭제된 리프레시 토큰 행 수")
+                .register(meterRegistry);
+        this.chunkCounter = Counter.builder("auth.refresh_token.purge.chunks")
+                .description("처리한 삭제 chunk 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("auth.refresh_token.purge.duration")
+                .description("삭제 작업 1회 실행 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("auth.refresh_token.purge.last_run", lastRunPurged);
+    }
+
+    @Scheduled(cron = "${app.refresh-token-purge.cron:0 30 4 * * *}")
+    public void run() {
+        long purged = runTimer.record(this::purge);
+        lastRunPurged.set(purged);
+        log.info("[refresh token purge] {}건 삭제", purged);
+    }
+
+    private long purge() {
+        Instant now = Instant.now();
+        long afterId = 0L;
+        long purged = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            long cursor = afterId;
+            List<Long> ids = refreshTokenRepository.findPurgeableIds(cursor, now, PageRequest.ofSize(chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer deleted = transactionTemplate.execute(status -> refreshTokenRepository.deleteAllByIdIn(ids));
+            int count = deleted == null ? 0 : deleted;
+            purged += count;
+            purgedCounter.increment(count);
+            chunkCounter.increment();
+            afterId = ids.get(ids.size() - 1);
+
+            if (ids.size() < chunkSize || !pause()) {
+                break;
+            }
+        }
+        return purged;
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.example.ktb3community.auth.service;
 
 import com.example.ktb3community.auth.domain.RefreshToken;
+import com.example.ktb3community.auth.dto.RotatedRefreshToken;
 import com.example.ktb3community.auth.infra.RefreshTokenIdGenerator;
 import com.example.ktb3community.auth.repository.RefreshTokenRepository;
 import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.exception.BusinessException;
 import com.example.ktb3community.jwt.JwtTokenProvider;
+import com.example.ktb3community.jwt.RefreshTokenClaims;
 import com.example.ktb3community.user.domain.User;
+import com.example.ktb3community.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +23,7 @@ public class RefreshTokenService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenIdGenerator refreshTokenIdGenerator;
+    private final UserRepository userRepository;
 
     @Transactional
     public String createRefreshToken(User user) {
@@ -35,28 +39,19 @@ public class RefreshTokenService {
         );
     }
 
-    // JWT 서명/형식 검증
-    public RefreshToken getValidTokenOrThrow(String refreshToken) {
-        Long refreshTokenId = jwtTokenProvider.getRefreshTokenId(refreshToken);
-
-        RefreshToken token = refreshTokenRepository.findById(refreshTokenId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_EXIST_REFRESH_TOKEN));
+    // JWT는 한 번만 파싱하고, 기존 토큰은 조건부 UPDATE로 폐기한 뒤 새 토큰을 INSERT한다.
+    // 동시에 같은 토큰으로 갱신하면 행 잠금 이후 먼저 커밋한 쪽만 1행을 얻고, 나머지는 만료로 처리된다
+    @Transactional
+    public RotatedRefreshToken rotate(String oldRefreshToken) {
+        RefreshTokenClaims claims = jwtTokenProvider.parseRefreshToken(oldRefreshToken);
 
-        if (token.isExpired(Instant.now()) || token.isRevoked()) {
+        int revoked = refreshTokenRepository.revokeIfActive(claims.tokenId(), Instant.now());
+        if (revoked == 0) {
             throw new BusinessException(ErrorCode.REFRESH_TOKEN_EXPIRED);
         }
 
-        return token;
-    }
-
-    @Transactional
-    public String rotate(String oldRefreshToken) {
-        RefreshToken oldToken = getValidTokenOrThrow(oldRefreshToken);
-
-        oldToken.revoke();
-
-        User user = oldToken.getUser();
-        return createRefreshToken(user);
+        User user = userRepository.getReferenceById(claims.userId());
+        return new RotatedRefreshToken(user.getId(), createRefreshToken(user));
     }
 
     @Transactional
@@ -11,7 +11,15 @@ import lombok.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "comments")
+@Table(
+        name = "comments",
+        indexes = {
+                // 게시글별 댓글 수 집계(정합성 점검)를 인덱스만으로 처리한다
+                @Index(name = "idx_comments_post_id_deleted_at", columnList = "post_id, deleted_at"),
+                // 보관 대상(오래전에 지운 댓글)을 찾는다
+                @Index(name = "idx_comments_deleted_at", columnList = "deleted_at")
+        }
+)
 @Getter
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -0,0 +1,12 @@
+package com.example.ktb3community.comment.dto;
+
+import java.time.Instant;
+
+public record CommentExportRow(
+        Long commentId,
+        Long postId,
+        String content,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.example.ktb3community.comment.dto;
+
+public record CommentRef(
+        Long commentId,
+        Long postId
+) {
+}
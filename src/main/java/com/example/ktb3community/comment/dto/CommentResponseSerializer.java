@@ -0,0 +1,35 @@
+package com.example.ktb3community.comment.dto;
+
+import com.example.ktb3community.post.dto.AuthorSerializer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+public class CommentResponseSerializer extends StdSerializer<CommentResponse> {
+
+    private static final SerializedString COMMENT_ID = new SerializedString("commentId");
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString AUTHOR = new SerializedString("author");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+
+    public CommentResponseSerializer() {
+        super(CommentResponse.class);
+    }
+
+    @Override
+    public void serialize(CommentResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(COMMENT_ID);
+        gen.writeNumber(value.commentId());
+        gen.writeFieldName(CONTENT);
+        gen.writeString(value.content());
+        gen.writeFieldName(AUTHOR);
+        AuthorSerializer.write(value.author(), gen);
+        gen.writeFieldName(CREATED_AT);
+        provider.defaultSerializeValue(value.createdAt(), gen);
+        gen.writeEndObject();
+    }
+}
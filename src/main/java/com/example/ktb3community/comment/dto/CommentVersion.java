@@ -0,0 +1,10 @@
+package com.example.ktb3community.comment.dto;
+
+import java.time.Instant;
+
+// 댓글과 그 작성자의 마지막 수정 시각 (ETag 계산용)
+public record CommentVersion(
+        Instant updatedAt,
+        Instant authorUpdatedAt
+) {
+}
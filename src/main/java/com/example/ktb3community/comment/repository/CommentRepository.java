@@ -1,12 +1,19 @@
 package com.example.ktb3community.comment.repository;
 
 import com.example.ktb3community.comment.domain.Comment;
+import com.example.ktb3community.comment.dto.CommentExportRow;
+import com.example.ktb3community.comment.dto.CommentRef;
+import com.example.ktb3community.comment.dto.CommentVersion;
 import com.example.ktb3community.post.domain.Post;
-import org.springframework.data.domain.Page;
+import com.example.ktb3community.post.dto.PostCount;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CommentRepository {
     Comment save(Comment comment);
@@ -16,9 +23,27 @@ public interface CommentRepository {
     Comment findByIdOrThrow(Long id);
 
 
-    Page<Comment> findByPost(Post post, Pageable pageable);
+    // 전체 개수는 세지 않는다 (페이지 수는 게시글의 comment_count로 계산)
+    Slice<Comment> findByPost(Post post, Pageable pageable);
+
+    // findByPost와 같은 페이지의 댓글/작성자 수정 시각만 읽는다 (엔티티 로딩 없음)
+    List<CommentVersion> findVersionsByPostId(Long postId, Pageable pageable);
+
+    // 호출 측에서 트랜잭션 안에서 소비하고 닫아야 한다
+    Stream<CommentExportRow> streamExportRowsByUserId(Long userId);
 
     int softDeleteByUserId(Long userId, Instant now);
 
     int softDeleteByPostId(Long postId, Instant now);
+
+    List<CommentRef> findLiveRefsByUserId(Long userId, Long afterId, int limit);
+
+    int softDeleteByUserIdAndIdIn(Long userId, Collection<Long> ids, Instant now);
+
+    List<Long> findLiveIdsByPostId(Long postId, Long afterId, int limit);
+
+    int softDeleteByPostIdAndIdIn(Long postId, Collection<Long> ids, Instant now);
+
+    // 댓글이 하나도 없는 게시글은 결과에 없다
+    List<PostCount> countLiveByPostIdIn(Collection<Long> postIds);
 }
@@ -1,21 +1,28 @@
 package com.example.ktb3community.comment.repository;
 
 import com.example.ktb3community.comment.domain.Comment;
+import com.example.ktb3community.comment.dto.CommentExportRow;
+import com.example.ktb3community.comment.dto.CommentRef;
+import com.example.ktb3community.comment.dto.CommentVersion;
 import com.example.ktb3community.comment.exception.CommentNotFound;
 import com.example.ktb3community.post.domain.Post;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import com.example.ktb3community.post.dto.PostCount;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class InMemoryCommentRepositoryAdapter implements CommentRepository {
@@ -51,8 +58,18 @@ public class InMemoryCommentRepositoryAdapter implements CommentRepository {
     }
 
     @Override
-    public Page<Comment> findByPost(Post post, Pageable pageable) {
-        Long postId = post.getId();
+    public Slice<Comment> findByPost(Post post, Pageable pageable) {
+        return findLivePage(post.getId(), pageable);
+    }
+
+    @Override
+    public List<CommentVersion> findVersionsByPostId(Long postId, Pageable pageable) {
+        return findLivePage(postId, pageable).getContent().stream()
+                .map(comment -> new CommentVersion(comment.getUpdatedAt(), comment.getUser().getUpdatedAt()))
+                .toList();
+    }
+
+    private Slice<Comment> findLivePage(Long postId, Pageable pageable) {
         List<Comment> all = comments.values().stream()
                 .filter(comment -> comment.getDeletedAt() == null && comment.getPostId().equals(postId))
                 .sorted(resolveComparator(pageable.getSort()))
@@ -62,7 +79,7 @@ public class InMemoryCommentRepositoryAdapter implements CommentRepository {
         int toIndex = Math.min(all.size(), fromIndex + pageable.getPageSize());
         List<Comment> content = fromIndex >= toIndex ? List.of() : all.subList(fromIndex, toIndex);
 
-        return new PageImpl<>(content, pageable, all.size());
+        return new SliceImpl<>(content, pageable, toIndex < all.size());
     }
 
     private Comparator<Comment> resolveComparator(Sort sort) {
@@ -89,6 +106,15 @@ public class InMemoryCommentRepositoryAdapter implements CommentRepository {
             "id", Comparator.comparing(Comment::getId)
     );
 
+    @Override
+    public Stream<CommentExportRow> streamExportRowsByUserId(Long userId) {
+        return comments.values().stream()
+                .filter(comment -> comment.getDeletedAt() == null && comment.getUserId().equals(userId))
+                .sorted(Comparator.comparing(Comment::getId))
+                .map(comment -> new CommentExportRow(comment.getId(), comment.getPostId(), comment.getContent(),
+                        comment.getCreatedAt(), comment.getUpdatedAt()));
+    }
+
     @Override
     public int softDeleteByUserId(Long userId, Instant now) {
         return comments.values().stream()
@@ -110,4 +136,62 @@ public class InMemoryCommentRepositoryAdapter implements CommentRepository {
                 })
                 .sum();
     }
+
+    @Override
+    public List<CommentRef> findLiveRefsByUserId(Long userId, Long afterId, int limit) {
+        return comments.values().stream()
+                .filter(comment -> comment.getDeletedAt() == null
+                        && comment.getUserId().equals(userId)
+                        && comment.getId() > afterId)
+                .sorted(Comparator.comparing(Comment::getId))
+                .limit(limit)
+                .map(comment -> new CommentRef(comment.getId(), comment.getPostId()))
+                .toList();
+    }
+
+    @Override
+    public int softDeleteByUserIdAndIdIn(Long userId, Collection<Long> ids, Instant now) {
+        return ids.stream()
+                .map(comments::get)
+                .filter(comment -> comment != null && comment.getDeletedAt() == null && comment.getUserId().equals(userId))
+                .mapToInt(comment -> {
+                    comment.delete(now);
+                    return 1;
+                })
+                .sum();
+    }
+
+    @Override
+    public List<PostCount> countLiveByPostIdIn(Collection<Long> postIds) {
+        return comments.values().stream()
+                .filter(comment -> comment.getDeletedAt() == null && postIds.contains(comment.getPostId()))
+                .collect(Collectors.groupingBy(Comment::getPostId, Collectors.counting()))
+                .entrySet().stream()
+                .map(entry -> new PostCount(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    @Override
+    public List<Long> findLiveIdsByPostId(Long postId, Long afterId, int limit) {
+        return comments.values().stream()
+                .filter(comment -> comment.getDeletedAt() == null
+                        && comment.getPostId().equals(postId)
+                        && comment.getId() > afterId)
+                .map(Comment::getId)
+                .sorted()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public int softDeleteByPostIdAndIdIn(Long postId, Collection<Long> ids, Instant now) {
+        return ids.stream()
+                .map(comments::get)
+                .filter(comment -> comment != null && comment.getDeletedAt() == null && comment.getPostId().equals(postId))
+                .mapToInt(comment -> {
+                    comment.delete(now);
+                    return 1;
+                })
+                .sum();
+    }
 }
@@ -1,21 +1,43 @@
 package com.example.ktb3community.comment.repository;
 
 import com.example.ktb3community.comment.domain.Comment;
+import com.example.ktb3community.comment.dto.CommentRef;
+import com.example.ktb3community.comment.dto.CommentVersion;
 import com.example.ktb3community.post.domain.Post;
-import org.springframework.data.domain.Page;
+import com.example.ktb3community.post.dto.PostCount;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface JpaCommentRepository extends JpaRepository<Comment, Long> {
     Optional<Comment> findByIdAndDeletedAtIsNull(Long id);
 
-    Page<Comment> findByPostAndDeletedAtIsNull(Post post, Pageable pageable);
+    Slice<Comment> findByPostAndDeletedAtIsNull(Post post, Pageable pageable);
+
+    // 상세 ETag용: 목록과 같은 조건/정렬(Pageable)로 한 페이지의 수정 시각만 읽는다
+    @Query("""
+            select new com.example.ktb3community.comment.dto.CommentVersion(c.updatedAt, u.updatedAt)
+            from Comment c join c.user u
+            where c.post.id = :postId and c.deletedAt is null
+            """)
+    List<CommentVersion> findVersionsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    // 데이터 내보내기용: fetch size를 환경마다 다르게 줘야 하므로 StreamingQueries로 실행한다
+    String EXPORT_ROWS_BY_USER_ID = """
+            select new com.example.ktb3community.comment.dto.CommentExportRow(
+                c.id, c.post.id, c.content, c.createdAt, c.updatedAt)
+            from Comment c
+            where c.user.id = :userId and c.deletedAt is null
+            order by c.id
+            """;
 
     @Modifying(clearAutomatically = true)
     @Query("update Comment c set c.deletedAt = :now where c.user.id = :userId and c.deletedAt is null")
@@ -24,4 +46,38 @@ public interface JpaCommentRepository extends JpaRepository<Comment, Long> {
     @Modifying(clearAutomatically = true)
     @Query("update Comment c set c.deletedAt = :now where c.post.id = :postId and c.deletedAt is null")
     int softDeleteByPostId(@Param("postId") Long postId, @Param("now") Instant now);
+
+    @Query("""
+            select new com.example.ktb3community.comment.dto.CommentRef(c.id, c.post.id)
+            from Comment c
+            where c.user.id = :userId and c.deletedAt is null and c.id > :afterId
+            order by c.id
+            """)
+    List<CommentRef> findLiveRefsByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 같은 트랜잭션에서 진행 상태(Job)를 갱신하므로 영속성 컨텍스트를 비우지 않는다
+    @Modifying
+    @Query("update Comment c set c.deletedAt = :now " +
+            "where c.user.id = :userId and c.id in :ids and c.deletedAt is null")
+    int softDeleteByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    // (post_id, deleted_at) 인덱스 뒤에 PK가 붙어 있어 id 순서로 바로 읽는다
+    @Query("select c.id from Comment c " +
+            "where c.post.id = :postId and c.deletedAt is null and c.id > :afterId " +
+            "order by c.id")
+    List<Long> findLiveIdsByPostId(@Param("postId") Long postId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 같은 트랜잭션에서 진행 상태(Job)를 갱신하므로 영속성 컨텍스트를 비우지 않는다
+    @Modifying
+    @Query("update Comment c set c.deletedAt = :now " +
+            "where c.post.id = :postId and c.id in :ids and c.deletedAt is null")
+    int softDeleteByPostIdAndIdIn(@Param("postId") Long postId, @Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    @Query("""
+            select new com.example.ktb3community.post.dto.PostCount(c.post.id, count(c))
+            from Comment c
+            where c.post.id in :postIds and c.deletedAt is null
+            group by c.post.id
+            """)
+    List<PostCount> countLiveByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
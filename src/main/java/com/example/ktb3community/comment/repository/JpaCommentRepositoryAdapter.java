@@ -1,16 +1,26 @@
 package com.example.ktb3community.comment.repository;
 
 import com.example.ktb3community.comment.domain.Comment;
+import com.example.ktb3community.comment.dto.CommentExportRow;
+import com.example.ktb3community.comment.dto.CommentRef;
+import com.example.ktb3community.comment.dto.CommentVersion;
 import com.example.ktb3community.comment.exception.CommentNotFound;
+import com.example.ktb3community.common.sql.StreamingQueries;
 import com.example.ktb3community.post.domain.Post;
+import com.example.ktb3community.post.dto.PostCount;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 @Primary
@@ -18,6 +28,7 @@ import java.util.Optional;
 public class JpaCommentRepositoryAdapter implements CommentRepository {
 
     private final JpaCommentRepository jpaCommentRepository;
+    private final StreamingQueries streamingQueries;
 
     @Override
     public Comment save(Comment comment) {
@@ -35,10 +46,21 @@ public class JpaCommentRepositoryAdapter implements CommentRepository {
     }
 
     @Override
-    public Page<Comment> findByPost(Post post, Pageable pageable) {
+    public Slice<Comment> findByPost(Post post, Pageable pageable) {
         return jpaCommentRepository.findByPostAndDeletedAtIsNull(post, pageable);
     }
 
+    @Override
+    public List<CommentVersion> findVersionsByPostId(Long postId, Pageable pageable) {
+        return jpaCommentRepository.findVersionsByPostId(postId, pageable);
+    }
+
+    @Override
+    public Stream<CommentExportRow> streamExportRowsByUserId(Long userId) {
+        return streamingQueries.stream(JpaCommentRepository.EXPORT_ROWS_BY_USER_ID, CommentExportRow.class,
+                Map.of("userId", userId));
+    }
+
     @Override
     public int softDeleteByUserId(Long userId, Instant now) {
         return jpaCommentRepository.softDeleteByUserId(userId, now);
@@ -48,4 +70,29 @@ public class JpaCommentRepositoryAdapter implements CommentRepository {
     public int softDeleteByPostId(Long postId, Instant now) {
         return jpaCommentRepository.softDeleteByPostId(postId, now);
     }
+
+    @Override
+    public List<CommentRef> findLiveRefsByUserId(Long userId, Long afterId, int limit) {
+        return jpaCommentRepository.findLiveRefsByUserId(userId, afterId, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public int softDeleteByUserIdAndIdIn(Long userId, Collection<Long> ids, Instant now) {
+        return jpaCommentRepository.softDeleteByUserIdAndIdIn(userId, ids, now);
+    }
+
+    @Override
+    public List<PostCount> countLiveByPostIdIn(Collection<Long> postIds) {
+        return jpaCommentRepository.countLiveByPostIdIn(postIds);
+    }
+
+    @Override
+    public List<Long> findLiveIdsByPostId(Long postId, Long afterId, int limit) {
+        return jpaCommentRepository.findLiveIdsByPostId(postId, afterId, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public int softDeleteByPostIdAndIdIn(Long postId, Collection<Long> ids, Instant now) {
+        return jpaCommentRepository.softDeleteByPostIdAndIdIn(postId, ids, now);
+    }
 }
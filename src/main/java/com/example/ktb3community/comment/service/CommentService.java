@@ -2,21 +2,24 @@ package com.example.ktb3community.comment.service;
 
 import com.example.ktb3community.comment.domain.Comment;
 import com.example.ktb3community.comment.dto.CommentResponse;
+import com.example.ktb3community.comment.dto.CommentVersion;
 import com.example.ktb3community.comment.dto.CreateCommentRequest;
 import com.example.ktb3community.comment.mapper.CommentMapper;
 import com.example.ktb3community.comment.repository.CommentRepository;
 import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.common.pagination.PageResponse;
 import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.notification.service.NotificationCollector;
 import com.example.ktb3community.post.domain.Post;
 import com.example.ktb3community.post.repository.PostRepository;
 import com.example.ktb3community.post.service.PostCommentCounter;
+import com.example.ktb3community.post.service.PostEventHub;
 import com.example.ktb3community.user.domain.User;
 import com.example.ktb3community.user.exception.UserNotFoundException;
 import com.example.ktb3community.user.repository.UserRepository;
 import lombok.AllArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,6 +38,8 @@ public class CommentService {
     private final PostRepository postRepository;
     private final PostCommentCounter postCommentCounter;
     private final CommentMapper commentMapper;
+    private final PostEventHub postEventHub;
+    private final NotificationCollector notificationCollector;
 
     private static final int PAGE_SIZE = 10;
 
@@ -45,17 +50,15 @@ public class CommentService {
         Comment saved = commentRepository.save(Comment.createNew(post, user,
                 createCommentRequest.content()));
         postCommentCounter.increaseCommentCount(postId);
+        postEventHub.commentAdded(postId, saved.getId());
+        notificationCollector.commented(post.getUserId(), postId, userId);
         return commentMapper.toCommentResponse(saved, user);
     }
 
     @Transactional(readOnly = true)
     public PageResponse<CommentResponse> getCommentList(long postId, int page){
         Post post = postRepository.findByIdOrThrow(postId);
-        int requestedPage = Math.max(page, 1);
-        PageRequest pageRequest = PageRequest.of(requestedPage - 1, PAGE_SIZE,
-                Sort.by(Sort.Direction.DESC, "createdAt")
-                        .and(Sort.by(Sort.Direction.DESC, "id")));
-        Page<Comment> commentPage = commentRepository.findByPost(post, pageRequest);
+        Slice<Comment> commentPage = commentRepository.findByPost(post, pageRequest(page));
 
         Set<Long> authorIds = commentPage.getContent().stream()
                 .map(Comment::getUserId)
@@ -71,7 +74,34 @@ public class CommentService {
             }
             return commentMapper.toCommentResponse(c, user);
         }).toList();
-        return new PageResponse<>(content, commentPage.getNumber() + 1, commentPage.getSize(), commentPage.getTotalPages());
+        // 전체 댓글 수는 count 쿼리 대신 게시글에 유지되는 comment_count를 쓴다
+        return PageResponse.of(content, commentPage, post.getCommentCount());
+    }
+
+    // getCommentList가 내려줄 페이지의 댓글/작성자 중 가장 최근 수정 시각 (게시글 상세 ETag용, 엔티티 로딩 없음)
+    @Transactional(readOnly = true)
+    public CommentVersion getCommentPageVersion(long postId, int page) {
+        Instant commentsUpdatedAt = null;
+        Instant authorsUpdatedAt = null;
+        for (CommentVersion version : commentRepository.findVersionsByPostId(postId, pageRequest(page))) {
+            commentsUpdatedAt = latest(commentsUpdatedAt, version.updatedAt());
+            authorsUpdatedAt = latest(authorsUpdatedAt, version.authorUpdatedAt());
+        }
+        return new CommentVersion(commentsUpdatedAt, authorsUpdatedAt);
+    }
+
+    private static PageRequest pageRequest(int page) {
+        int requestedPage = Math.max(page, 1);
+        return PageRequest.of(requestedPage - 1, PAGE_SIZE,
+                Sort.by(Sort.Direction.DESC, "createdAt")
+                        .and(Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    private static Instant latest(Instant current, Instant candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null || candidate.isAfter(current) ? candidate : current;
     }
 
     @Transactional
@@ -95,5 +125,6 @@ public class CommentService {
         comment.delete(Instant.now());
         Post post = postRepository.findByIdOrThrow(comment.getPostId());
         postCommentCounter.decreaseCommentCount(post.getId());
+        postEventHub.commentRemoved(post.getId());
     }
 }
@@ -0,0 +1,54 @@
+package com.example.ktb3community.common.bloom;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 용량이 차면 두 배 크기, 절반 오탐률의 필터를 덧붙여 전체 오탐률을 초기 목표 근처로 유지한다.
+// 삭제는 지원하지 않으므로 지워진 값은 오탐으로 남고, 주기적인 재구성으로 정리한다
+public class ScalableBloomFilter {
+
+    private static final int GROWTH = 2;
+    private static final double TIGHTENING = 0.5;
+
+    private final List<BloomFilter> filters = new CopyOnWriteArrayList<>();
+
+    public ScalableBloomFilter(int initialCapacity, double falsePositiveRate) {
+        // 급수 합이 목표 오탐률을 넘지 않도록 첫 필터는 목표의 (1 - r)배로 시작
+        filters.add(new BloomFilter(initialCapacity, falsePositiveRate * (1 - TIGHTENING)));
+    }
+
+    public void add(String value) {
+        if (mightContain(value)) {
+            return;
+        }
+        current().add(value);
+    }
+
+    public boolean mightContain(String value) {
+        for (BloomFilter filter : filters) {
+            if (filter.mightContain(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int filterCount() {
+        return filters.size();
+    }
+
+    private BloomFilter current() {
+        BloomFilter last = filters.get(filters.size() - 1);
+        if (!last.isFull()) {
+            return last;
+        }
+        synchronized (filters) {
+            last = filters.get(filters.size() - 1);
+            if (last.isFull()) {
+                last = new BloomFilter(last.capacity() * GROWTH, last.falsePositiveRate() * TIGHTENING);
+                filters.add(last);
+            }
+            return last;
+        }
+    }
+}
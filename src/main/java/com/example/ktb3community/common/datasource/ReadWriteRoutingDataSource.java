@@ -0,0 +1,86 @@
+package com.example.ktb3community.common.datasource;
+
+import com.example.ktb3community.auth.security.CustomUserDetails;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// readOnly 트랜잭션은 레플리카로, 나머지는 primary로 보낸다.
+// 트랜잭션 속성이 정해진 뒤에 커넥션을 얻어야 하므로 반드시 LazyConnectionDataSourceProxy로 감싸서 사용한다
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaPool replicaPool;
+    private final RecentWriteTracker recentWriteTracker;
+    private final MeterRegistry meterRegistry;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaPool replicaPool,
+                                      RecentWriteTracker recentWriteTracker, MeterRegistry meterRegistry) {
+        this.replicaPool = replicaPool;
+        this.recentWriteTracker = recentWriteTracker;
+        this.meterRegistry = meterRegistry;
+
+        Map<Object, Object> targets = new HashMap<>(replicaPool.getReplicas());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWriteAfterCommit(userId);
+            return route(PRIMARY, "write");
+        }
+        if (userId != null && recentWriteTracker.wroteRecently(userId)) {
+            return route(PRIMARY, "recent_write");
+        }
+        Optional<String> replica = replicaPool.next();
+        if (replica.isEmpty()) {
+            return route(PRIMARY, "no_healthy_replica");
+        }
+        return route(replica.get(), "read");
+    }
+
+    private void markWriteAfterCommit(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriteTracker.markWrite(userId);
+            }
+        });
+    }
+
+    private String route(String key, String reason) {
+        Counter.builder("db.route")
+                .description("트랜잭션이 라우팅된 대상")
+                .tag("route", PRIMARY.equals(key) ? PRIMARY : "replica")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return key;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.ktb3community.common.datasource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 사용자가 직접 쓴 데이터를 복제 지연 때문에 못 보는 일이 없도록, 쓰기 직후 일정 시간은 primary로 읽게 한다
+public class RecentWriteTracker {
+
+    private final Duration window;
+    private final Map<Long, Instant> lastWrites = new ConcurrentHashMap<>();
+
+    public RecentWriteTracker(Duration window) {
+        this.window = window;
+    }
+
+    public void markWrite(Long userId) {
+        lastWrites.put(userId, Instant.now().plus(window));
+    }
+
+    public boolean wroteRecently(Long userId) {
+        Instant until = lastWrites.get(userId);
+        return until != null && Instant.now().isBefore(until);
+    }
+
+    // 만료된 항목을 주기적으로 비워 맵이 사용자 수만큼 커지지 않게 한다
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        lastWrites.values().removeIf(until -> !now.isBefore(until));
+    }
+}
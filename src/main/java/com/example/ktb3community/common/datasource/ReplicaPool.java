@@ -0,0 +1,72 @@
+package com.example.ktb3community.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 레플리카 목록과 헬스 상태를 관리하고, 정상인 레플리카를 라운드로빈으로 고른다
+@Slf4j
+public class ReplicaPool {
+
+    private final Map<String, DataSource> replicas;
+    private final List<String> keys;
+    private final int validationTimeoutSeconds;
+    private final Map<String, Boolean> healthy = new ConcurrentHashMap<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaPool(Map<String, DataSource> replicas, int validationTimeoutSeconds) {
+        this.replicas = Map.copyOf(replicas);
+        this.keys = List.copyOf(replicas.keySet());
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        keys.forEach(key -> healthy.put(key, true));
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    public Optional<String> next() {
+        int size = keys.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            String key = keys.get((start + i) % size);
+            if (healthy.get(key)) {
+                return Optional.of(key);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public boolean isHealthy(String key) {
+        return healthy.getOrDefault(key, false);
+    }
+
+    public void checkHealth() {
+        for (String key : keys) {
+            boolean valid = validate(replicas.get(key));
+            Boolean previous = healthy.put(key, valid);
+            if (previous != null && previous != valid) {
+                if (valid) {
+                    log.info("[replica] {} 복구되어 읽기 라우팅에 다시 포함", key);
+                } else {
+                    log.warn("[replica] {} 헬스 체크 실패, primary로 우회", key);
+                }
+            }
+        }
+    }
+
+    private boolean validate(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.ktb3community.common.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@RequiredArgsConstructor
+public class RoutingMaintenanceScheduler {
+
+    private final ReplicaPool replicaPool;
+    private final RecentWriteTracker recentWriteTracker;
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplicaHealth() {
+        replicaPool.checkHealth();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.purge-interval-ms:60000}")
+    public void purgeRecentWrites() {
+        recentWriteTracker.purgeExpired();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.ktb3community.common.metrics;
+
+import com.example.ktb3community.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 서비스/리포지토리 어댑터 메서드 실행 시간을 class, method, outcome 태그로 기록
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MethodMetricsAspect {
+    static final String METRIC_NAME = "app.method.duration";
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_BUSINESS_ERROR = "business_error";
+    private static final String OUTCOME_ERROR = "error";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    // 호출마다 Timer.builder를 새로 만들지 않도록 태그 조합별로 캐싱
+    private final ConcurrentHashMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Pointcut("within(com.example.ktb3community..*) && within(@org.springframework.stereotype.Service *)")
+    public void serviceLayer() {}
+
+    @Pointcut("within(com.example.ktb3community..repository.*Adapter)")
+    public void repositoryAdapter() {}
+
+    @Around("serviceLayer() || repositoryAdapter()")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String outcome = OUTCOME_SUCCESS;
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            outcome = (t instanceof CustomException) ? OUTCOME_BUSINESS_ERROR : OUTCOME_ERROR;
+            exception = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            Signature signature = joinPoint.getSignature();
+            TimerKey key = new TimerKey(signature.getDeclaringType().getSimpleName(), signature.getName(), outcome, exception);
+            timers.computeIfAbsent(key, this::register)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder(METRIC_NAME)
+                .description("서비스/리포지토리 메서드 실행 시간")
+                .tag("class", key.className())
+                .tag("method", key.method())
+                .tag("outcome", key.outcome())
+                .tag("exception", key.exception())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String className, String method, String outcome, String exception) {}
+}
@@ -2,6 +2,7 @@ package com.example.ktb3community.common.pagination;
 
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -16,4 +17,18 @@ public record PageResponse<T>(
         @Schema(description = "전체 페이지 수", example = "5")
         long totalPages
 ) {
+    // count 쿼리 없이 읽은 Slice와 근사 전체 개수로 만든다.
+    // 다음 페이지 유무는 Slice가 정확히 알므로, 근사값이 어긋나도 현재 페이지 앞뒤와는 모순되지 않게 맞춘다
+    public static <T> PageResponse<T> of(List<T> content, Slice<?> slice, long approximateTotal) {
+        int page = slice.getNumber() + 1;
+        long totalPages = Math.ceilDiv(Math.max(approximateTotal, 0), slice.getSize());
+        if (slice.hasNext()) {
+            totalPages = Math.max(totalPages, page + 1);
+        } else if (slice.hasContent()) {
+            totalPages = page;
+        } else {
+            totalPages = Math.min(totalPages, page - 1);
+        }
+        return new PageResponse<>(content, page, slice.getSize(), totalPages);
+    }
 }
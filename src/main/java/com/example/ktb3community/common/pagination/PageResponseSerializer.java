@@ -0,0 +1,60 @@
+package com.example.ktb3community.common.pagination;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+// 페이지 안의 원소는 대부분 같은 타입이므로 직렬화기를 한 번만 찾아 재사용한다
+public class PageResponseSerializer extends StdSerializer<PageResponse<?>> {
+
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString PAGE = new SerializedString("page");
+    private static final SerializedString PAGE_SIZE = new SerializedString("pageSize");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+
+    @SuppressWarnings("unchecked")
+    public PageResponseSerializer() {
+        super((Class<PageResponse<?>>) (Class<?>) PageResponse.class);
+    }
+
+    @Override
+    public void serialize(PageResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(CONTENT);
+        writeContent(value.content(), gen, provider);
+        gen.writeFieldName(PAGE);
+        gen.writeNumber(value.page());
+        gen.writeFieldName(PAGE_SIZE);
+        gen.writeNumber(value.pageSize());
+        gen.writeFieldName(TOTAL_PAGES);
+        gen.writeNumber(value.totalPages());
+        gen.writeEndObject();
+    }
+
+    private void writeContent(List<?> content, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (content == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(content, content.size());
+        Class<?> cachedType = null;
+        JsonSerializer<Object> cachedSerializer = null;
+        for (Object item : content) {
+            if (item == null) {
+                provider.defaultSerializeNull(gen);
+                continue;
+            }
+            if (item.getClass() != cachedType) {
+                cachedType = item.getClass();
+                cachedSerializer = provider.findValueSerializer(cachedType);
+            }
+            cachedSerializer.serialize(item, gen, provider);
+        }
+        gen.writeEndArray();
+    }
+}
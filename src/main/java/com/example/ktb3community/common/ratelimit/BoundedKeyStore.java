@@ -0,0 +1,44 @@
+package com.example.ktb3community.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// 키 수 상한이 있는 동시성 맵 (Caffeine). idleTimeout 동안 쓰이지 않은 키는 기본 상태와 같으므로 만료시키고,
+// 상한을 넘으면 자주 쓰이는 키를 남기는 W-TinyLFU로 비운다. 정리는 분할 상환되어 키가 몰려도 삽입마다 전체를 훑지 않고,
+// 새 키를 뿌리는 요청이 자주 쓰이던 키(자기 자신의 버킷 포함)를 밀어내기 어렵다
+public class BoundedKeyStore<V> {
+
+    private final Cache<String, V> values;
+
+    public BoundedKeyStore(int maxKeys, Duration idleTimeout) {
+        this(maxKeys, idleTimeout, System::nanoTime);
+    }
+
+    BoundedKeyStore(int maxKeys, Duration idleTimeout, LongSupplier nanoClock) {
+        this.values = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .ticker(nanoClock::getAsLong)
+                // 정리 작업을 공용 ForkJoinPool로 넘기지 않고 호출 스레드에서 조금씩 처리한다
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public V getOrCreate(String key, Function<String, V> factory) {
+        return values.get(key, factory);
+    }
+
+    public int size() {
+        values.cleanUp();
+        return (int) values.estimatedSize();
+    }
+
+    static LongSupplier millisToNanos(LongSupplier millisClock) {
+        return () -> TimeUnit.MILLISECONDS.toNanos(millisClock.getAsLong());
+    }
+}
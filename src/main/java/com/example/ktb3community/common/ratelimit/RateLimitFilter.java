@@ -0,0 +1,110 @@
+package com.example.ktb3community.common.ratelimit;
+
+import com.example.ktb3community.auth.security.CustomUserDetails;
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.ErrorResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 라우트 분류별 토큰 버킷으로 요청을 제한한다. 인증된 요청은 사용자 id, 익명 요청은 IP로 버킷을 나눈다.
+// 익명 IP는 server.forward-headers-strategy로 신뢰하는 프록시 뒤의 클라이언트 주소가 복원된 값이다
+// (설정이 없으면 로드밸런서 뒤의 모든 익명 요청이 버킷 하나를 나눠 쓴다).
+// JwtAuthenticationFilter 뒤에 두어 SecurityContext의 사용자 정보를 쓸 수 있게 한다
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<RateLimitRule> rules;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final BoundedKeyStore<TokenBucket> buckets;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(List<RateLimitRule> rules, int maxKeys, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.rules = List.copyOf(rules);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.buckets = new BoundedKeyStore<>(maxKeys, refillTime(rules));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RateLimitRule rule = match(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = rule.name() + ":" + clientKey(request);
+        TokenBucket bucket = buckets.getOrCreate(key, k -> new TokenBucket(rule.capacity(), rule.refillPerSecond()));
+        long waitNanos = bucket.tryConsume();
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        reject(response, rule, waitNanos);
+    }
+
+    // 이만큼 쓰이지 않은 버킷은 가득 차 새 버킷과 같으므로 만료시켜도 제한이 느슨해지지 않는다
+    private static Duration refillTime(List<RateLimitRule> rules) {
+        double seconds = rules.stream()
+                .mapToDouble(rule -> rule.capacity() / rule.refillPerSecond())
+                .max()
+                .orElse(1);
+        return Duration.ofMillis((long) Math.ceil(seconds * 1000));
+    }
+
+    private RateLimitRule match(HttpServletRequest request) {
+        String path = request.getServletPath();
+        for (RateLimitRule rule : rules) {
+            if (rule.matchesMethod(request.getMethod()) && pathMatcher.match(rule.pattern(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return "user:" + userDetails.getId();
+        }
+        // RemoteIpValve가 X-Forwarded-For에서 복원한 주소 (헤더를 직접 읽으면 클라이언트가 위조할 수 있다)
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, RateLimitRule rule, long waitNanos) throws IOException {
+        Counter.builder("http.ratelimit.rejected")
+                .description("토큰 버킷 제한으로 거절된 요청 수")
+                .tag("rule", rule.name())
+                .register(meterRegistry)
+                .increment();
+
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+        ErrorResponseDto body = ErrorResponseDto.of(
+                ErrorCode.TOO_MANY_REQUESTS.getCode(),
+                ErrorCode.TOO_MANY_REQUESTS.getMessage()
+        );
+
+        response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(body));
+    }
+}
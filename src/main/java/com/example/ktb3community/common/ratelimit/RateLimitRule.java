@@ -0,0 +1,11 @@
+package com.example.ktb3community.common.ratelimit;
+
+import java.util.List;
+
+// methods가 비어 있으면 모든 메서드에 적용한다
+public record RateLimitRule(String name, List<String> methods, String pattern, int capacity, double refillPerSecond) {
+
+    public boolean matchesMethod(String method) {
+        return methods == null || methods.isEmpty() || methods.contains(method.toUpperCase());
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.ktb3community.common.ratelimit;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+// 키별로 window를 bucketCount개의 시간 버킷으로 나눠 센다.
+// window 동안 시도가 없던 키는 만료되고, 키 수가 maxKeys를 넘으면 드물게 쓰인 키부터 비워 메모리를 제한한다
+public class SlidingWindowRateLimiter {
+
+    private final int limit;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final LongSupplier clock;
+    private final BoundedKeyStore<Window> windows;
+
+    public SlidingWindowRateLimiter(int limit, Duration window, int bucketCount, int maxKeys) {
+        this(limit, window, bucketCount, maxKeys, System::currentTimeMillis);
+    }
+
+    SlidingWindowRateLimiter(int limit, Duration window, int bucketCount, int maxKeys, LongSupplier clock) {
+        this.limit = limit;
+        this.bucketMillis = Math.max(1, window.toMillis() / bucketCount);
+        this.bucketCount = bucketCount;
+        this.clock = clock;
+        // window가 지나도록 시도가 없으면 모든 버킷이 윈도우 밖이라 새 키와 같다
+        this.windows = new BoundedKeyStore<>(maxKeys, window, BoundedKeyStore.millisToNanos(clock));
+    }
+
+    // 허용되면 이번 시도를 기록하고 true, 한도를 넘었으면 기록하지 않고 false
+    public boolean tryAcquire(String key) {
+        long epoch = clock.getAsLong() / bucketMillis;
+        Window window = windows.getOrCreate(key, k -> new Window(bucketCount));
+        return window.tryAcquire(epoch, limit);
+    }
+
+    public int size() {
+        return windows.size();
+    }
+
+    // 버킷 전체를 불변 스냅샷으로 두고 한 번의 CAS로 바꿔, 한도 확인과 기록 사이에 다른 시도가 끼어들지 못하게 한다
+    private static final class Window {
+        // 아직 쓰이지 않은 버킷: 어떤 epoch와 비교해도 윈도우 밖이 되도록 충분히 작은 값
+        private static final long UNUSED = Long.MIN_VALUE / 2;
+
+        private final AtomicReference<Buckets> buckets;
+
+        private Window(int bucketCount) {
+            long[] epochs = new long[bucketCount];
+            Arrays.fill(epochs, UNUSED);
+            this.buckets = new AtomicReference<>(new Buckets(epochs, new long[bucketCount]));
+        }
+
+        private boolean tryAcquire(long epoch, int limit) {
+            while (true) {
+                Buckets current = buckets.get();
+                if (current.total(epoch) >= limit) {
+                    return false;
+                }
+                if (buckets.compareAndSet(current, current.record(epoch))) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private record Buckets(long[] epochs, long[] counts) {
+
+        private long total(long epoch) {
+            long total = 0;
+            for (int i = 0; i < epochs.length; i++) {
+                if (epoch - epochs[i] < epochs.length) {
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+
+        // 이번 epoch의 버킷에 한 번을 더한 새 스냅샷. 버킷이 이전 주기의 것이면 0부터 센다
+        private Buckets record(long epoch) {
+            int index = (int) Math.floorMod(epoch, (long) epochs.length);
+            long[] nextEpochs = epochs.clone();
+            long[] nextCounts = counts.clone();
+            if (nextEpochs[index] != epoch) {
+                nextEpochs[index] = epoch;
+                nextCounts[index] = 0;
+            }
+            nextCounts[index]++;
+            return new Buckets(nextEpochs, nextCounts);
+        }
+    }
+}
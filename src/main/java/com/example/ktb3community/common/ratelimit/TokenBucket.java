@@ -0,0 +1,40 @@
+package com.example.ktb3community.common.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 락 없이 CAS로 갱신하는 토큰 버킷. 토큰은 마지막 갱신 이후 경과 시간만큼 채워진다
+public class TokenBucket {
+
+    private final int capacity;
+    private final double refillPerNano;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(int capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+    }
+
+    // 토큰을 하나 쓰면 0, 부족하면 다음 토큰까지 기다려야 하는 나노초를 반환
+    public long tryConsume() {
+        while (true) {
+            State current = state.get();
+            long now = System.nanoTime();
+            double tokens = refilled(current, now);
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / refillPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, now))) {
+                return 0;
+            }
+        }
+    }
+
+    private double refilled(State current, long now) {
+        return Math.min(capacity, current.tokens + (now - current.updatedAt) * refillPerNano);
+    }
+
+    private record State(double tokens, long updatedAt) {
+    }
+}
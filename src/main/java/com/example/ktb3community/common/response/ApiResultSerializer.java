@@ -0,0 +1,43 @@
+package com.example.ktb3community.common.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+// 모든 응답을 감싸는 봉투라서 필드명과 기본 메시지("OK")를 미리 인코딩해 둔다
+// @JsonInclude(NON_NULL)과 같은 출력: null인 message/data는 쓰지 않는다
+public class ApiResultSerializer extends StdSerializer<ApiResult<?>> {
+
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString DEFAULT_SUCCESS_MESSAGE =
+            new SerializedString(ApiResult.DEFAULT_SUCCESS_MESSAGE);
+
+    @SuppressWarnings("unchecked")
+    public ApiResultSerializer() {
+        super((Class<ApiResult<?>>) (Class<?>) ApiResult.class);
+    }
+
+    @Override
+    public void serialize(ApiResult<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        String message = value.getMessage();
+        if (message != null) {
+            gen.writeFieldName(MESSAGE);
+            if (ApiResult.DEFAULT_SUCCESS_MESSAGE.equals(message)) {
+                gen.writeString(DEFAULT_SUCCESS_MESSAGE);
+            } else {
+                gen.writeString(message);
+            }
+        }
+        Object data = value.getData();
+        if (data != null) {
+            gen.writeFieldName(DATA);
+            provider.defaultSerializeValue(data, gen);
+        }
+        gen.writeEndObject();
+    }
+}
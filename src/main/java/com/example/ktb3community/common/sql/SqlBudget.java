@@ -0,0 +1,29 @@
+package com.example.ktb3community.common.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 한 요청 동안 실행된 SQL 통계 (요청 스레드 안에서만 접근하므로 동기화하지 않음)
+public class SqlBudget {
+    private int statementCount;
+    private long totalElapsedMillis;
+    private final Map<String, Integer> shapeCounts = new HashMap<>();
+
+    void add(String shape, long elapsedMillis) {
+        statementCount++;
+        totalElapsedMillis += elapsedMillis;
+        shapeCounts.merge(shape, 1, Integer::sum);
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getTotalElapsedMillis() {
+        return totalElapsedMillis;
+    }
+
+    public Map<String, Integer> getShapeCounts() {
+        return shapeCounts;
+    }
+}
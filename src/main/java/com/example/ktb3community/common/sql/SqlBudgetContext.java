@@ -0,0 +1,23 @@
+package com.example.ktb3community.common.sql;
+
+public final class SqlBudgetContext {
+
+    private static final ThreadLocal<SqlBudget> CURRENT = new ThreadLocal<>();
+
+    private SqlBudgetContext() {}
+
+    public static SqlBudget begin() {
+        SqlBudget budget = new SqlBudget();
+        CURRENT.set(budget);
+        return budget;
+    }
+
+    // 요청 범위 밖(배치, 스케줄러)에서는 null
+    public static SqlBudget current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.ktb3community.common.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 요청 단위로 SQL 구문 수와 DB 시간을 집계하고 예산 초과/N+1 의심 패턴을 경고한다
+@Slf4j
+@RequiredArgsConstructor
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final int repeatedStatementThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlBudget budget = SqlBudgetContext.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlBudgetContext.end();
+            report(request, budget);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlBudget budget) {
+        String method = request.getMethod();
+        String uri = resolveUri(request);
+
+        DistributionSummary.builder("db.request.statements")
+                .description("요청당 실행된 JDBC 구문 수")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(budget.getStatementCount());
+        Timer.builder("db.request.time")
+                .description("요청당 누적 DB 시간")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(budget.getTotalElapsedMillis(), TimeUnit.MILLISECONDS);
+
+        if (budget.getStatementCount() > statementBudget) {
+            log.warn("[SQL budget] {} {} 구문 {}개 실행 (예산 {}개), DB 시간 {}ms",
+                    method, uri, budget.getStatementCount(), statementBudget, budget.getTotalElapsedMillis());
+        }
+
+        for (Map.Entry<String, Integer> entry : budget.getShapeCounts().entrySet()) {
+            if (entry.getValue() >= repeatedStatementThreshold) {
+                Counter.builder("db.request.n_plus_one")
+                        .description("같은 형태의 구문이 한 요청에서 반복 실행된 횟수")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("[SQL N+1] {} {} 동일 구문 {}회 반복: {}", method, uri, entry.getValue(), entry.getKey());
+            }
+        }
+    }
+
+    // 경로 변수로 인한 태그 폭증을 막기 위해 매칭된 핸들러 패턴을 사용
+    private String resolveUri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.ktb3community.common.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+// datasource-proxy 리스너: 구문 수/DB 시간을 집계하고, 느린 쿼리나 샘플링된 쿼리만 로그로 남긴다
+@Slf4j
+@Component
+public class SqlBudgetListener implements QueryExecutionListener {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private final long slowQueryMillis;
+    private final double sampleRate;
+    private final Timer statementTimer;
+    private final Counter slowStatementCounter;
+
+    public SqlBudgetListener(
+            MeterRegistry meterRegistry,
+            @Value("${app.sql-monitoring.slow-query-ms:200}") long slowQueryMillis,
+            @Value("${app.sql-monitoring.sample-rate:0.0}") double sampleRate) {
+        this.slowQueryMillis = slowQueryMillis;
+        this.sampleRate = sampleRate;
+        this.statementTimer = Timer.builder("db.statement.duration")
+                .description("JDBC 구문 실행 시간")
+                .register(meterRegistry);
+        this.slowStatementCounter = Counter.builder("db.statement.slow")
+                .description("slow-query-ms를 넘긴 JDBC 구문 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+        statementTimer.record(elapsedMillis, TimeUnit.MILLISECONDS);
+
+        if (elapsedMillis >= slowQueryMillis) {
+            slowStatementCounter.increment();
+            log.warn("[SQL slow] {}ms {}", elapsedMillis, joinQueries(queryInfoList));
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info("[SQL sample] {}ms {}", elapsedMillis, joinQueries(queryInfoList));
+        }
+
+        SqlBudget budget = SqlBudgetContext.current();
+        if (budget == null) {
+            return;
+        }
+        // PreparedStatement 배치는 QueryInfo 하나로 들어오므로 한 번의 라운드트립으로 센다
+        for (QueryInfo queryInfo : queryInfoList) {
+            budget.add(shapeOf(queryInfo.getQuery()), elapsedMillis / queryInfoList.size());
+        }
+    }
+
+    // 리터럴/IN 목록 길이 차이를 지워 같은 형태의 구문을 하나로 묶는다
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return IN_LIST.matcher(shape).replaceAll("(?)");
+    }
+
+    private String joinQueries(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.size() == 1) {
+            return queryInfoList.get(0).getQuery();
+        }
+        return queryInfoList.stream().map(QueryInfo::getQuery).toList().toString();
+    }
+}
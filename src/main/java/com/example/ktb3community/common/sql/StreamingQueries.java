@@ -0,0 +1,35 @@
+package com.example.ktb3community.common.sql;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+// 데이터 내보내기처럼 결과가 큰 JPQL을 전방향으로 흘려 읽는다.
+// MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때만 결과를 힙에 모으지 않고 한 행씩 스트리밍하므로
+// 드라이버 속성(useCursorFetch)으로 모든 커넥션을 서버 prepared statement로 바꾸지 않고 이 쿼리에만 값을 준다.
+// 스트림이 열려 있는 동안 그 커넥션으로 다른 구문을 보낼 수 없으니 스트림은 하나씩 열고 닫아야 한다
+@Component
+public class StreamingQueries {
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public StreamingQueries(
+            EntityManager entityManager,
+            @Value("${app.export.fetch-size:-2147483648}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    public <T> Stream<T> stream(String jpql, Class<T> resultType, Map<String, Object> parameters) {
+        TypedQuery<T> query = entityManager.createQuery(jpql, resultType)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        parameters.forEach(query::setParameter);
+        return query.getResultStream();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.ktb3community.common.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public class Etags {
+
+    private Etags() {
+    }
+
+    // 버전 값들을 이어 붙여 해시한 약한 ETag (W/"...")
+    public static String weak(Object... parts) {
+        String joined = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        return "W/\"" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
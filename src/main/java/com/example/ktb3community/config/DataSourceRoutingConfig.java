@@ -0,0 +1,106 @@
+package com.example.ktb3community.config;
+
+import com.example.ktb3community.common.datasource.ReadWriteRoutingDataSource;
+import com.example.ktb3community.common.datasource.RecentWriteTracker;
+import com.example.ktb3community.common.datasource.ReplicaPool;
+import com.example.ktb3community.common.datasource.RoutingMaintenanceScheduler;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// app.datasource.routing.enabled=true일 때만 primary/레플리카 라우팅 DataSource를 구성한다
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    RecentWriteTracker recentWriteTracker(
+            @Value("${app.datasource.routing.read-your-writes-seconds:5}") long readYourWritesSeconds) {
+        return new RecentWriteTracker(Duration.ofSeconds(readYourWritesSeconds));
+    }
+
+    @Bean
+    ReplicaPool replicaPool(
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${app.datasource.routing.replica-urls}") List<String> replicaUrls,
+            @Value("${app.datasource.routing.validation-timeout-seconds:1}") int validationTimeoutSeconds) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String name = "replica-" + i;
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(replicaUrls.get(i))
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            bindHikariProperties(replica, environment);
+            replica.setReadOnly(true);
+            replicas.put(name, instrument(replica, name, meterRegistry));
+        }
+        return new ReplicaPool(replicas, validationTimeoutSeconds);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(DataSourceProperties properties, ReplicaPool replicaPool,
+                          RecentWriteTracker recentWriteTracker, MeterRegistry meterRegistry,
+                          Environment environment) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        bindHikariProperties(primary, environment);
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                instrument(primary, ReadWriteRoutingDataSource.PRIMARY, meterRegistry),
+                replicaPool, recentWriteTracker, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    // OSIV로 세션이 요청 내내 커넥션을 붙잡으면 읽기 후 쓰기가 레플리카로 갈 수 있으므로 트랜잭션마다 반납한다
+    @Bean
+    HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    RoutingMaintenanceScheduler routingMaintenanceScheduler(ReplicaPool replicaPool, RecentWriteTracker recentWriteTracker) {
+        return new RoutingMaintenanceScheduler(replicaPool, recentWriteTracker);
+    }
+
+    // 직접 만든 풀에는 Boot가 spring.datasource.hikari.*를 바인딩하지 않으므로
+    // 라우팅을 켜도 풀 설정과 드라이버 속성(cachePrepStmts 등)이 그대로 적용되게 한다
+    private static void bindHikariProperties(HikariDataSource dataSource, Environment environment) {
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+    }
+
+    private HikariDataSource instrument(HikariDataSource dataSource, String poolName, MeterRegistry meterRegistry) {
+        // hikaricp_* 지표가 pool 태그로 라우트별로 분리된다
+        dataSource.setPoolName(poolName);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
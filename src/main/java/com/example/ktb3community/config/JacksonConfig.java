@@ -0,0 +1,39 @@
+package com.example.ktb3community.config;
+
+import com.example.ktb3community.comment.dto.CommentResponseSerializer;
+import com.example.ktb3community.common.pagination.PageResponseSerializer;
+import com.example.ktb3community.common.response.ApiResultSerializer;
+import com.example.ktb3community.post.dto.AuthorSerializer;
+import com.example.ktb3community.post.dto.PostListResponseSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 등록한 Module 빈은 Boot가 기본 ObjectMapper에 추가한다
+@Configuration
+public class JacksonConfig {
+
+    // 나머지 DTO는 리플렉션 대신 LambdaMetafactory로 생성한 접근자를 사용한다
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Module responseSerializerModule() {
+        return responseSerializers();
+    }
+
+    // 응답마다 반복되는 봉투/페이지/목록 레코드는 전용 직렬화기로 쓴다 (출력 JSON은 기본 직렬화와 동일)
+    public static SimpleModule responseSerializers() {
+        SimpleModule module = new SimpleModule("ResponseSerializers");
+        module.addSerializer(new ApiResultSerializer());
+        module.addSerializer(new PageResponseSerializer());
+        module.addSerializer(new PostListResponseSerializer());
+        module.addSerializer(new CommentResponseSerializer());
+        module.addSerializer(new AuthorSerializer());
+        return module;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.ktb3community.config;
+
+import com.example.ktb3community.common.ratelimit.RateLimitRule;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+// 라우트 분류는 목록 형태라 @Value 대신 프로퍼티 바인딩을 사용한다
+@Configuration
+@EnableConfigurationProperties(RateLimitConfig.RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @ConfigurationProperties(prefix = "app.rate-limit")
+    public record RateLimitProperties(boolean enabled, int maxKeys, List<RateLimitRule> rules) {
+    }
+}
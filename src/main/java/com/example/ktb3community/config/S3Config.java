@@ -1,6 +1,10 @@
 package com.example.ktb3community.config;
 
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.target.AbstractLazyCreationTargetSource;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
@@ -8,9 +12,16 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+// app.storage.type=local이면 AWS 클라이언트를 아예 만들지 않는다
 @Configuration
-public class S3Config {
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3Config implements DisposableBean {
 
     @Value("${cloud.aws.credentials.access-key}")
     private String accessKey;
@@ -21,27 +32,63 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
-    @Bean
+    // fast-startup 프로필: SDK 클라이언트(HTTP 클라이언트, 자격 증명/리전 체인) 생성을 첫 S3 호출까지 미룬다.
+    // 프로필 조건 대신 실행 시점에 값을 읽으므로 AOT로 처리한 빈 정의에서도 그대로 동작한다
+    @Value("${app.startup.defer-s3-client:false}")
+    private boolean deferClient;
+
+    // 실제로 만들어진 클라이언트만 종료 시 닫는다 (지연 프록시의 close를 부르면 종료 중에 클라이언트가 생긴다)
+    private final List<SdkAutoCloseable> createdClients = new CopyOnWriteArrayList<>();
+
+    @Bean(destroyMethod = "")
     S3Presigner s3Presigner() {
-        return S3Presigner.builder()
+        return client(S3Presigner.class, () -> S3Presigner.builder()
                 .region(Region.of(region))
                 .credentialsProvider(
                         StaticCredentialsProvider.create(
                                 AwsBasicCredentials.create(accessKey, secretKey)
                         )
                 )
-                .build();
+                .build());
     }
 
-    @Bean
+    @Bean(destroyMethod = "")
     S3Client s3Client() {
-        return S3Client.builder()
+        return client(S3Client.class, () -> S3Client.builder()
                 .region(Region.of(region))
                 .credentialsProvider(
                         StaticCredentialsProvider.create(
                                 AwsBasicCredentials.create(accessKey, secretKey)
                         )
                 )
-                .build();
+                .build());
+    }
+
+    @Override
+    public void destroy() {
+        createdClients.forEach(SdkAutoCloseable::close);
+    }
+
+    private <T extends SdkAutoCloseable> T client(Class<T> type, Supplier<T> factory) {
+        if (!deferClient) {
+            return created(factory.get());
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(type, new AbstractLazyCreationTargetSource() {
+            @Override
+            public Class<?> getTargetClass() {
+                return type;
+            }
+
+            @Override
+            protected Object createObject() {
+                return created(factory.get());
+            }
+        });
+        return type.cast(proxyFactory.getProxy(type.getClassLoader()));
+    }
+
+    private <T extends SdkAutoCloseable> T created(T client) {
+        createdClients.add(client);
+        return client;
     }
 }
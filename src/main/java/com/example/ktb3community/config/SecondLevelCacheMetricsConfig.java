@@ -0,0 +1,36 @@
+package com.example.ktb3community.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+// hibernate-micrometer가 region별 hit/miss 카운터를 내보내고, 여기서는 대시보드용 적중률 게이지만 추가한다
+@Configuration
+public class SecondLevelCacheMetricsConfig {
+
+    private static final List<String> CACHED_REGIONS = List.of("user", "post");
+
+    @Bean
+    MeterBinder secondLevelCacheHitRatio(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> CACHED_REGIONS.forEach(region ->
+                Gauge.builder("app.l2cache.hit.ratio", statistics, stats -> hitRatio(stats, region))
+                        .description("2차 캐시 region별 누적 적중률")
+                        .tag("region", region)
+                        .register(registry));
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        long hits = regionStatistics.getHitCount();
+        long total = hits + regionStatistics.getMissCount();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
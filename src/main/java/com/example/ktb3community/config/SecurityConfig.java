@@ -3,9 +3,14 @@ package com.example.ktb3community.config;
 import com.example.ktb3community.auth.security.CustomAccessDeniedHandler;
 import com.example.ktb3community.auth.security.CustomAuthenticationEntryPoint;
 import com.example.ktb3community.auth.security.CustomUserDetailsService;
+import com.example.ktb3community.common.ratelimit.RateLimitFilter;
+import com.example.ktb3community.config.RateLimitConfig.RateLimitProperties;
 import com.example.ktb3community.jwt.JwtAuthenticationFilter;
 import com.example.ktb3community.jwt.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -16,8 +21,13 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
 import org.springframework.security.web.csrf.CsrfTokenRequestAttributeHandler;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.util.Arrays;
 
 import static com.example.ktb3community.auth.security.SecurityPaths.*;
 
@@ -31,6 +41,14 @@ public class SecurityConfig {
     private final CorsConfigurationSource corsConfigurationSource;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
+    private final RateLimitProperties rateLimitProperties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+    @Value("${management.server.port:-1}")
+    private int managementPort;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -60,6 +78,11 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(PUBLIC_AUTH).permitAll()
                         .requestMatchers(PUBLIC_DOCS).permitAll()
+                        .requestMatchers(PUBLIC_ACTUATOR).permitAll()
+                        // 메트릭은 내부망에만 여는 관리 포트에서만 인증 없이 긁어 갈 수 있다
+                        .requestMatchers(onManagementPort(MANAGEMENT_ACTUATOR)).permitAll()
+                        .requestMatchers(PUBLIC_FILES).permitAll()
+                        .requestMatchers(ADMIN).hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .userDetailsService(customUserDetailsService)
@@ -67,7 +90,26 @@ public class SecurityConfig {
                 .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailsService),
                         UsernamePasswordAuthenticationFilter.class);
 
+        // 요청 제한 필터: JWT 인증 뒤에 두어 사용자 id 기준으로 버킷을 나눈다
+        if (rateLimitProperties.enabled()) {
+            http.addFilterAfter(new RateLimitFilter(rateLimitProperties.rules(), rateLimitProperties.maxKeys(),
+                            objectMapper, meterRegistry),
+                    JwtAuthenticationFilter.class);
+        }
+
         return http.build();
     }
+
+    // 관리 포트를 따로 두지 않았으면 아무것도 열지 않는다
+    private RequestMatcher onManagementPort(String... patterns) {
+        if (managementPort <= 0 || managementPort == serverPort) {
+            return request -> false;
+        }
+        PathPatternRequestMatcher.Builder paths = PathPatternRequestMatcher.withDefaults();
+        RequestMatcher[] matchers = Arrays.stream(patterns).map(paths::matcher).toArray(RequestMatcher[]::new);
+        return new AndRequestMatcher(
+                request -> request.getLocalPort() == managementPort,
+                new OrRequestMatcher(matchers));
+    }
 }
 
@@ -0,0 +1,26 @@
+package com.example.ktb3community.config;
+
+import com.example.ktb3community.common.sql.SqlBudgetFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class SqlMonitoringConfig {
+
+    @Bean
+    FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.sql-monitoring.statement-budget:20}") int statementBudget,
+            @Value("${app.sql-monitoring.repeated-statement-threshold:5}") int repeatedStatementThreshold) {
+        FilterRegistrationBean<SqlBudgetFilter> registration = new FilterRegistrationBean<>(
+                new SqlBudgetFilter(meterRegistry, statementBudget, repeatedStatementThreshold));
+        // 보안 필터 체인에서 실행되는 쿼리(사용자 조회 등)까지 포함하도록 가장 먼저 실행
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
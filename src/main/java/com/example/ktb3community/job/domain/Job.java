@@ -0,0 +1,118 @@
+package com.example.ktb3community.job.domain;
+
+import com.example.ktb3community.common.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// 백그라운드에서 chunk 단위로 나눠 처리하는 작업.
+// stage/cursor를 chunk와 같은 트랜잭션에서 갱신하므로 중단되어도 마지막 커밋 지점부터 이어서 처리한다
+@Entity
+@Table(
+        name = "jobs",
+        indexes = {
+                @Index(name = "idx_jobs_status_next_run_at", columnList = "status, next_run_at"),
+                @Index(name = "idx_jobs_type_target", columnList = "type, target_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class Job extends BaseTimeEntity {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private JobType type;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobStatus status;
+
+    @Column(nullable = false, length = 40)
+    private String stage;
+
+    // 현재 stage에서 마지막으로 처리한 행의 id (키셋 커서)
+    @Column(name = "cursor_id", nullable = false)
+    private long cursorId;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "next_run_at", nullable = false)
+    private Instant nextRunAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    // 여러 인스턴스가 같은 작업을 잡아도 먼저 커밋한 쪽만 반영된다
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    public static Job createNew(JobType type, Long targetId, String initialStage, Instant now) {
+        return Job.builder()
+                .type(type)
+                .targetId(targetId)
+                .status(JobStatus.PENDING)
+                .stage(initialStage)
+                .cursorId(0L)
+                .processedCount(0L)
+                .attempts(0)
+                .nextRunAt(now)
+                .build();
+    }
+
+    public void advance(long cursorId, long processed) {
+        this.status = JobStatus.RUNNING;
+        this.cursorId = cursorId;
+        this.processedCount += processed;
+        this.attempts = 0;
+    }
+
+    public void moveTo(String stage) {
+        this.status = JobStatus.RUNNING;
+        this.stage = stage;
+        this.cursorId = 0L;
+    }
+
+    public void complete(Instant now) {
+        this.status = JobStatus.COMPLETED;
+        this.finishedAt = now;
+        this.lastError = null;
+    }
+
+    // 재시도 간격은 실패 횟수에 비례해 늘린다
+    public void recordFailure(String error, Instant now, int maxAttempts, Duration backoff) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH
+                ? error
+                : error.substring(0, MAX_ERROR_LENGTH);
+        if (attempts >= maxAttempts) {
+            this.status = JobStatus.FAILED;
+            this.finishedAt = now;
+            return;
+        }
+        this.nextRunAt = now.plus(backoff.multipliedBy(attempts));
+    }
+
+    public boolean isFinished() {
+        return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.ktb3community.job.domain;
+
+public enum JobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package com.example.ktb3community.job.domain;
+
+public enum JobType {
+    USER_WITHDRAWAL,
+    POST_DELETION
+}
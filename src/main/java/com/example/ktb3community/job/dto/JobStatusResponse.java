@@ -0,0 +1,15 @@
+package com.example.ktb3community.job.dto;
+
+import com.example.ktb3community.job.domain.JobStatus;
+
+import java.time.Instant;
+
+public record JobStatusResponse(
+        Long jobId,
+        JobStatus status,
+        String stage,
+        long processedCount,
+        Instant createdAt,
+        Instant finishedAt
+) {
+}
@@ -0,0 +1,28 @@
+package com.example.ktb3community.job.repository;
+
+import com.example.ktb3community.job.domain.Job;
+import com.example.ktb3community.job.domain.JobStatus;
+import com.example.ktb3community.job.domain.JobType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JobRepository extends JpaRepository<Job, Long> {
+
+    @Query("select j.id from Job j " +
+            "where j.status in :statuses and j.nextRunAt <= :now " +
+            "order by j.id")
+    List<Long> findRunnableIds(@Param("statuses") Collection<JobStatus> statuses,
+                               @Param("now") Instant now,
+                               Pageable pageable);
+
+    Optional<Job> findFirstByTypeAndTargetIdOrderByIdDesc(JobType type, Long targetId);
+}
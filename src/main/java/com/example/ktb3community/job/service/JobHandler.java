@@ -0,0 +1,17 @@
+package com.example.ktb3community.job.service;
+
+import com.example.ktb3community.job.domain.Job;
+import com.example.ktb3community.job.domain.JobType;
+
+import java.time.Instant;
+
+// 작업 종류별 처리기. JobRunner가 chunk마다 트랜잭션을 열고 호출한다
+public interface JobHandler {
+
+    JobType type();
+
+    String initialStage();
+
+    // chunk 하나를 처리하고 job의 stage/cursor를 갱신한다 (모든 stage를 마치면 job.complete)
+    void runChunk(Job job, Instant now);
+}
@@ -0,0 +1,122 @@
+package com.example.ktb3community.job.service;
+
+import com.example.ktb3community.job.domain.Job;
+import com.example.ktb3community.job.domain.JobStatus;
+import com.example.ktb3community.job.repository.JobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+
+// 대기 중인 작업을 주기적으로 가져와 chunk마다 트랜잭션을 나눠 실행한다.
+// chunk의 변경과 진행 상태가 함께 커밋되므로 어느 시점에 죽어도 다음 poll에서 이어서 처리한다
+@Slf4j
+@Component
+public class JobRunner {
+
+    private static final EnumSet<JobStatus> RUNNABLE = EnumSet.of(JobStatus.PENDING, JobStatus.RUNNING);
+
+    private final JobRepository jobRepository;
+    private final JobService jobService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxChunksPerRun;
+    private final long pauseMillis;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    public JobRunner(
+            JobRepository jobRepository,
+            JobService jobService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.jobs.batch-size:10}") int batchSize,
+            @Value("${app.jobs.max-chunks-per-run:100}") int maxChunksPerRun,
+            @Value("${app.jobs.pause-ms:50}") long pauseMillis,
+            @Value("${app.jobs.max-attempts:5}") int maxAttempts,
+            @Value("${app.jobs.retry-backoff-seconds:30}") long retryBackoffSeconds) {
+        this.jobRepository = jobRepository;
+        this.jobService = jobService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.pauseMillis = pauseMillis;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = Duration.ofSeconds(retryBackoffSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.poll-interval-ms:1000}")
+    public void poll() {
+        List<Long> jobIds = jobRepository.findRunnableIds(RUNNABLE, Instant.now(), PageRequest.ofSize(batchSize));
+        jobIds.forEach(this::run);
+    }
+
+    // 한 번에 maxChunksPerRun까지만 처리하고 나머지는 다음 poll로 넘겨 다른 작업도 진행되게 한다
+    public void run(Long jobId) {
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            boolean hasMore;
+            try {
+                hasMore = Boolean.TRUE.equals(transactionTemplate.execute(status -> runChunk(jobId)));
+            } catch (ObjectOptimisticLockingFailureException e) {
+                // 다른 인스턴스가 같은 chunk를 먼저 커밋했다. 이번 chunk는 통째로 롤백됐다
+                log.debug("[job] {} 다른 인스턴스가 처리 중", jobId);
+                return;
+            } catch (RuntimeException e) {
+                recordFailure(jobId, e);
+                return;
+            }
+            if (!hasMore || !pause()) {
+                return;
+            }
+        }
+    }
+
+    private boolean runChunk(Long jobId) {
+        Job job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.isFinished()) {
+            return false;
+        }
+        jobService.handler(job.getType()).runChunk(job, Instant.now());
+        meterRegistry.counter("job.chunks", "type", job.getType().name()).increment();
+        if (job.isFinished()) {
+            meterRegistry.counter("job.completed", "type", job.getType().name()).increment();
+            log.info("[job] {} {}({}) 완료: {}건", jobId, job.getType(), job.getTargetId(), job.getProcessedCount());
+            return false;
+        }
+        return true;
+    }
+
+    private void recordFailure(Long jobId, RuntimeException cause) {
+        log.warn("[job] {} chunk 실패", jobId, cause);
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+            job.recordFailure(cause.toString(), Instant.now(), maxAttempts, retryBackoff);
+            meterRegistry.counter("job.failures", "type", job.getType().name(),
+                    "final", String.valueOf(job.getStatus() == JobStatus.FAILED)).increment();
+        }));
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
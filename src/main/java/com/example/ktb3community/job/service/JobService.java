@@ -0,0 +1,46 @@
+package com.example.ktb3community.job.service;
+
+import com.example.ktb3community.job.domain.Job;
+import com.example.ktb3community.job.domain.JobType;
+import com.example.ktb3community.job.repository.JobRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+public class JobService {
+
+    private final JobRepository jobRepository;
+    private final Map<JobType, JobHandler> handlers = new EnumMap<>(JobType.class);
+
+    public JobService(JobRepository jobRepository, List<JobHandler> handlers) {
+        this.jobRepository = jobRepository;
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+    }
+
+    // 호출한 쪽 트랜잭션에 참여하므로 원래 작업과 함께 커밋/롤백된다
+    @Transactional
+    public Job enqueue(JobType type, Long targetId) {
+        JobHandler handler = handler(type);
+        return jobRepository.save(Job.createNew(type, targetId, handler.initialStage(), Instant.now()));
+    }
+
+    // 같은 대상에 작업이 여러 번 등록됐으면 가장 최근 것
+    @Transactional(readOnly = true)
+    public Optional<Job> findLatest(JobType type, Long targetId) {
+        return jobRepository.findFirstByTypeAndTargetIdOrderByIdDesc(type, targetId);
+    }
+
+    JobHandler handler(JobType type) {
+        JobHandler handler = handlers.get(type);
+        if (handler == null) {
+            throw new IllegalStateException("등록된 JobHandler가 없습니다: " + type);
+        }
+        return handler;
+    }
+}
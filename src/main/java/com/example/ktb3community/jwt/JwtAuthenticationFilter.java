@@ -37,6 +37,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return true;
             }
         }
+        // 이미지 요청마다 토큰 검증/사용자 조회를 하지 않는다
+        for (String pattern : SecurityPaths.PUBLIC_FILES) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
         return false;
     }
 
@@ -75,8 +75,17 @@ public class JwtTokenProvider {
     }
 
     public Long getRefreshTokenId(String refreshToken) {
+        return parseRefreshToken(refreshToken).tokenId();
+    }
+
+    // 한 번의 파싱으로 토큰 ID와 사용자 ID를 함께 꺼낸다
+    public RefreshTokenClaims parseRefreshToken(String refreshToken) {
         Claims claims = parseClaims(refreshToken, ErrorCode.INVALID_REFRESH_TOKEN);
-        return Long.valueOf(claims.getId());
+        try {
+            return new RefreshTokenClaims(Long.valueOf(claims.getId()), Long.valueOf(claims.getSubject()));
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
     }
 
     public Long getUserIdFromAccessToken(String accessToken) {
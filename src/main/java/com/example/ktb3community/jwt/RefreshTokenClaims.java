@@ -0,0 +1,6 @@
+package com.example.ktb3community.jwt;
+
+public record RefreshTokenClaims(
+        Long tokenId,
+        Long userId
+) {}
@@ -0,0 +1,81 @@
+package com.example.ktb3community.notification.controller;
+
+import com.example.ktb3community.auth.security.CustomUserDetails;
+import com.example.ktb3community.common.doc.ApiCommonErrorResponses;
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.common.response.ApiResult;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.notification.dto.NotificationPageResponse;
+import com.example.ktb3community.notification.dto.UnreadCountResponse;
+import com.example.ktb3community.notification.service.NotificationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/notifications")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    @Operation(summary = "알림 목록 조회", description = "최신 알림부터 커서(이전 응답의 nextCursor) 기준으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "400", description = "pageSize는 1~20 사이만 허용합니다.")
+    })
+    @ApiCommonErrorResponses
+    @GetMapping
+    public ResponseEntity<ApiResult<NotificationPageResponse>> list(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "이전 페이지의 nextCursor") @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        if (size < 1 || size > 20) {
+            throw new BusinessException(ErrorCode.INVALID_PAGE_SIZE);
+        }
+        return ResponseEntity.ok(ApiResult.ok(notificationService.getNotifications(userDetails.getId(), cursor, size)));
+    }
+
+    @Operation(summary = "안 읽은 알림 수 조회", description = "안 읽은 알림 수를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK")
+    })
+    @ApiCommonErrorResponses
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResult<UnreadCountResponse>> unreadCount(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        long unreadCount = notificationService.getUnreadCount(userDetails.getId());
+        return ResponseEntity.ok(ApiResult.ok(new UnreadCountResponse(unreadCount)));
+    }
+
+    @Operation(summary = "알림 읽음 처리", description = "알림 하나를 읽음으로 표시합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "No Content"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 알림입니다.")
+    })
+    @ApiCommonErrorResponses
+    @PostMapping("/{notificationId}/read")
+    public ResponseEntity<Void> markRead(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "알림 id") @PathVariable Long notificationId) {
+        notificationService.markRead(userDetails.getId(), notificationId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "알림 모두 읽음 처리", description = "안 읽은 알림을 모두 읽음으로 표시합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "No Content")
+    })
+    @ApiCommonErrorResponses
+    @PostMapping("/read-all")
+    public ResponseEntity<Void> markAllRead(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        notificationService.markAllRead(userDetails.getId());
+        return ResponseEntity.noContent().build();
+    }
+}
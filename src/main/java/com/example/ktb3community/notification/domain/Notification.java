@@ -0,0 +1,87 @@
+package com.example.ktb3community.notification.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+// 한 수신자에게 같은 게시글/종류로 묶인 알림 ("5명이 게시글을 좋아합니다").
+// id는 애플리케이션에서 TSID로 미리 정해 IDENTITY와 달리 INSERT를 JDBC 배치로 묶을 수 있게 하고,
+// 탈퇴/보관으로 사용자·게시글 행이 옮겨져도 남도록 FK 없이 id만 저장한다
+@Entity
+@Table(
+        name = "notifications",
+        indexes = {
+                // 수신자별 최신순 키셋 조회와 안 읽은 알림 수 집계
+                @Index(name = "idx_notifications_recipient_id_id", columnList = "recipient_id, id"),
+                @Index(name = "idx_notifications_recipient_id_read_at", columnList = "recipient_id, read_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Notification implements Persistable<Long> {
+    @Id
+    private Long id;
+
+    @Column(name = "recipient_id", nullable = false)
+    private Long recipientId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationType type;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    // 묶인 행위자 중 마지막 사람
+    @Column(name = "actor_id", nullable = false)
+    private Long actorId;
+
+    @Column(name = "actor_count", nullable = false)
+    private int actorCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "read_at")
+    private Instant readAt;
+
+    // id를 미리 채우므로 save()가 merge(SELECT 후 INSERT)로 가지 않도록 새 엔티티임을 직접 알린다
+    @Transient
+    private boolean newEntity;
+
+    private Notification(Long id, Long recipientId, NotificationType type, Long postId,
+                         Long actorId, int actorCount, Instant createdAt) {
+        this.id = id;
+        this.recipientId = recipientId;
+        this.type = type;
+        this.postId = postId;
+        this.actorId = actorId;
+        this.actorCount = actorCount;
+        this.createdAt = createdAt;
+        this.newEntity = true;
+    }
+
+    public static Notification createNew(Long id, Long recipientId, NotificationType type, Long postId,
+                                         Long actorId, int actorCount, Instant createdAt) {
+        return new Notification(id, recipientId, type, postId, actorId, actorCount, createdAt);
+    }
+
+    public boolean isRead() {
+        return readAt != null;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.ktb3community.notification.domain;
+
+public enum NotificationType {
+    COMMENT,
+    LIKE
+}
@@ -0,0 +1,15 @@
+package com.example.ktb3community.notification.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.util.List;
+
+// nextCursor가 null이면 마지막 페이지다
+public record NotificationPageResponse(
+        List<NotificationResponse> content,
+        @JsonSerialize(using = ToStringSerializer.class)
+        Long nextCursor,
+        long unreadCount
+) {
+}
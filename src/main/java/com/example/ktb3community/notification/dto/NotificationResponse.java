@@ -0,0 +1,22 @@
+package com.example.ktb3community.notification.dto;
+
+import com.example.ktb3community.notification.domain.NotificationType;
+import com.example.ktb3community.post.dto.Author;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.time.Instant;
+
+// actor는 탈퇴한 사용자면 null이다
+public record NotificationResponse(
+        // TSID는 JS Number 범위를 넘으므로 문자열로 내보낸다
+        @JsonSerialize(using = ToStringSerializer.class)
+        Long notificationId,
+        NotificationType type,
+        Long postId,
+        Author actor,
+        int actorCount,
+        boolean read,
+        Instant createdAt
+) {
+}
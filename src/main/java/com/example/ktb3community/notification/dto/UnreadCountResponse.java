@@ -0,0 +1,6 @@
+package com.example.ktb3community.notification.dto;
+
+public record UnreadCountResponse(
+        long unreadCount
+) {
+}
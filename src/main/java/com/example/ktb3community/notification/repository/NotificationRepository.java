@@ -0,0 +1,36 @@
+package com.example.ktb3community.notification.repository;
+
+import com.example.ktb3community.notification.domain.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // TSID는 시간순이므로 id 키셋으로 최신 알림부터 페이지를 넘긴다
+    @Query("select n from Notification n " +
+            "where n.recipientId = :recipientId and n.id < :cursor " +
+            "order by n.id desc")
+    List<Notification> findPage(@Param("recipientId") Long recipientId, @Param("cursor") Long cursor, Pageable pageable);
+
+    long countByRecipientIdAndReadAtIsNull(Long recipientId);
+
+    boolean existsByIdAndRecipientId(Long id, Long recipientId);
+
+    @Modifying
+    @Query("update Notification n set n.readAt = :now " +
+            "where n.id = :id and n.recipientId = :recipientId and n.readAt is null")
+    int markRead(@Param("id") Long id, @Param("recipientId") Long recipientId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("update Notification n set n.readAt = :now " +
+            "where n.recipientId = :recipientId and n.readAt is null")
+    int markAllRead(@Param("recipientId") Long recipientId, @Param("now") Instant now);
+}
@@ -0,0 +1,162 @@
+package com.example.ktb3community.notification.service;
+
+import com.example.ktb3community.notification.domain.Notification;
+import com.example.ktb3community.notification.domain.NotificationType;
+import com.example.ktb3community.notification.repository.NotificationRepository;
+import com.github.f4b6a3.tsid.TsidCreator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 댓글/좋아요 알림을 요청 트랜잭션 밖에서 모았다가 주기마다 한꺼번에 저장한다.
+// 같은 수신자·게시글·종류는 한 주기 안에서 알림 하나로 묶고 ("5명이 게시글을 좋아합니다"),
+// 커밋된 행위만 모으므로 롤백된 댓글/좋아요는 알림으로 남지 않는다
+@Slf4j
+@Component
+public class NotificationCollector {
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxPending;
+    private final int batchSize;
+    private final ConcurrentHashMap<PendingKey, PendingActors> pending = new ConcurrentHashMap<>();
+    private final Counter persistedCounter;
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+
+    public NotificationCollector(
+            NotificationRepository notificationRepository,
+            UnreadNotificationCounter unreadNotificationCounter,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.notifications.max-pending:100000}") int maxPending,
+            @Value("${app.notifications.batch-size:500}") int batchSize) {
+        this.notificationRepository = notificationRepository;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+
+        this.persistedCounter = Counter.builder("notification.persisted")
+                .description("저장한 알림 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("notification.dropped")
+                .description("대기열 초과나 저장 실패로 버린 알림 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("notification.flush")
+                .description("모인 알림을 저장하는 데 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("notification.pending", pending, ConcurrentHashMap::size)
+                .description("저장을 기다리는 알림 수")
+                .register(meterRegistry);
+    }
+
+    public void commented(Long recipientId, Long postId, Long actorId) {
+        capture(new PendingKey(recipientId, NotificationType.COMMENT, postId), actorId);
+    }
+
+    public void liked(Long recipientId, Long postId, Long actorId) {
+        capture(new PendingKey(recipientId, NotificationType.LIKE, postId), actorId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<Notification> drained = new ArrayList<>();
+        for (PendingKey key : pending.keySet()) {
+            PendingActors actors = pending.remove(key);
+            if (actors == null) {
+                continue;
+            }
+            drained.add(Notification.createNew(TsidCreator.getTsid().toLong(),
+                    key.recipientId(), key.type(), key.postId(),
+                    actors.lastActorId, actors.actorIds.size(), now));
+        }
+        flushTimer.record(() -> {
+            for (int from = 0; from < drained.size(); from += batchSize) {
+                persist(drained.subList(from, Math.min(from + batchSize, drained.size())));
+            }
+        });
+    }
+
+    // 자기 글에 한 행동은 알리지 않는다
+    private void capture(PendingKey key, Long actorId) {
+        if (key.recipientId().equals(actorId)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    collect(key, actorId);
+                }
+            });
+            return;
+        }
+        collect(key, actorId);
+    }
+
+    private void collect(PendingKey key, Long actorId) {
+        // 저장이 밀려 대기열이 넘치면 새 묶음은 버리고 이미 있는 묶음에만 더한다
+        if (pending.size() >= maxPending && !pending.containsKey(key)) {
+            droppedCounter.increment();
+            return;
+        }
+        pending.compute(key, (k, actors) -> {
+            PendingActors next = actors != null ? actors : new PendingActors();
+            next.add(actorId);
+            return next;
+        });
+    }
+
+    private void persist(List<Notification> chunk) {
+        try {
+            // hibernate.jdbc.batch_size 단위로 INSERT가 묶인다
+            transactionTemplate.executeWithoutResult(status -> notificationRepository.saveAll(chunk));
+        } catch (RuntimeException e) {
+            // 알림은 부가 기능이므로 실패한 묶음은 버리고 나머지 묶음 저장을 이어간다
+            log.warn("[notification] {}건 저장 실패", chunk.size(), e);
+            droppedCounter.increment(chunk.size());
+            return;
+        }
+        persistedCounter.increment(chunk.size());
+        chunk.stream()
+                .map(Notification::getRecipientId)
+                .distinct()
+                .forEach(unreadNotificationCounter::invalidate);
+    }
+
+    private record PendingKey(Long recipientId, NotificationType type, Long postId) {
+    }
+
+    // 좋아요 취소 후 다시 누른 경우처럼 같은 사람이 여러 번 행동해도 한 명으로 센다
+    private static final class PendingActors {
+        private final Set<Long> actorIds = new LinkedHashSet<>();
+        private Long lastActorId;
+
+        private void add(Long actorId) {
+            actorIds.add(actorId);
+            lastActorId = actorId;
+        }
+    }
+}
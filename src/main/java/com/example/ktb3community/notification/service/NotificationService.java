@@ -0,0 +1,89 @@
+package com.example.ktb3community.notification.service;
+
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.notification.domain.Notification;
+import com.example.ktb3community.notification.dto.NotificationPageResponse;
+import com.example.ktb3community.notification.dto.NotificationResponse;
+import com.example.ktb3community.notification.repository.NotificationRepository;
+import com.example.ktb3community.post.dto.Author;
+import com.example.ktb3community.user.domain.User;
+import com.example.ktb3community.user.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@AllArgsConstructor
+public class NotificationService {
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    // 다음 페이지가 있는지 알기 위해 한 건 더 읽는다
+    @Transactional(readOnly = true)
+    public NotificationPageResponse getNotifications(Long userId, Long cursor, int size) {
+        List<Notification> rows = notificationRepository.findPage(userId,
+                cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, size + 1));
+        boolean hasNext = rows.size() > size;
+        List<Notification> page = hasNext ? rows.subList(0, size) : rows;
+
+        Set<Long> actorIds = page.stream()
+                .map(Notification::getActorId)
+                .collect(Collectors.toSet());
+        Map<Long, User> actorMap = userRepository.findAllByIdIn(actorIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<NotificationResponse> content = page.stream()
+                .map(notification -> toResponse(notification, actorMap.get(notification.getActorId())))
+                .toList();
+        Long nextCursor = hasNext ? page.getLast().getId() : null;
+        return new NotificationPageResponse(content, nextCursor, unreadNotificationCounter.get(userId));
+    }
+
+    @Transactional(readOnly = true)
+    public long getUnreadCount(Long userId) {
+        return unreadNotificationCounter.get(userId);
+    }
+
+    @Transactional
+    public void markRead(Long userId, Long notificationId) {
+        if (notificationRepository.markRead(notificationId, userId, Instant.now()) > 0) {
+            unreadNotificationCounter.invalidateAfterCommit(userId);
+            return;
+        }
+        // 이미 읽은 알림은 그대로 성공으로 본다
+        if (!notificationRepository.existsByIdAndRecipientId(notificationId, userId)) {
+            throw new BusinessException(ErrorCode.NOTIFICATION_NOT_FOUND);
+        }
+    }
+
+    @Transactional
+    public void markAllRead(Long userId) {
+        notificationRepository.markAllRead(userId, Instant.now());
+        unreadNotificationCounter.invalidateAfterCommit(userId);
+    }
+
+    private static NotificationResponse toResponse(Notification notification, User actor) {
+        Author author = actor != null
+                ? new Author(actor.getNickname(), actor.getProfileImageUrl(), actor.getProfileThumbnailUrl())
+                : null;
+        return new NotificationResponse(
+                notification.getId(),
+                notification.getType(),
+                notification.getPostId(),
+                author,
+                notification.getActorCount(),
+                notification.isRead(),
+                notification.getCreatedAt()
+        );
+    }
+}
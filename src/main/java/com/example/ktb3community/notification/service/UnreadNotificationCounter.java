@@ -0,0 +1,77 @@
+package com.example.ktb3community.notification.service;
+
+import com.example.ktb3community.notification.repository.NotificationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 사용자별 안 읽은 알림 수를 메모리에 캐시한다. 처음 물을 때 DB에서 세고, 알림 저장/읽음 처리가 커밋되면 비워 다음 조회에서 다시 센다.
+// 캐시는 인스턴스마다 따로 있고 비우기는 쓰기를 처리한 인스턴스에만 닿으므로, 다른 인스턴스가 내려주는 값은 최대 ttl만큼 늦을 수 있다.
+// 여러 인스턴스에서 정확한 값이 필요해지면 공유 저장소로 옮겨야 한다
+@Component
+public class UnreadNotificationCounter {
+
+    private static final int VERSION_STRIPES = 64;
+
+    private final NotificationRepository notificationRepository;
+    private final Cache<Long, Long> counts;
+    // 사용자 id를 줄로 나눈 변경 버전. DB에서 세는 사이에 같은 줄의 값이 바뀌었으면 센 값을 캐시하지 않는다
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public UnreadNotificationCounter(
+            NotificationRepository notificationRepository,
+            @Value("${app.notifications.unread-max-keys:100000}") int maxKeys,
+            @Value("${app.notifications.unread-ttl-ms:30000}") long ttlMillis) {
+        this.notificationRepository = notificationRepository;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                // 정리 작업을 공용 ForkJoinPool로 넘기지 않고 호출 스레드에서 조금씩 처리한다
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public long get(Long userId) {
+        Long cached = counts.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long version = versions.get(stripe(userId));
+        long loaded = notificationRepository.countByRecipientIdAndReadAtIsNull(userId);
+        // 세는 동안 커밋된 알림이 이미 비우기를 지나쳤을 수 있으므로, 그 사이 변경이 없었을 때만 캐시한다
+        if (versions.get(stripe(userId)) == version) {
+            counts.asMap().putIfAbsent(userId, loaded);
+        }
+        return loaded;
+    }
+
+    // 커밋된 변경을 반영한다. 트랜잭션 밖에서 불러야 한다
+    public void invalidate(Long userId) {
+        versions.incrementAndGet(stripe(userId));
+        counts.invalidate(userId);
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 비운다 (롤백되면 값이 그대로이므로 비우지 않는다)
+    public void invalidateAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userId);
+                }
+            });
+            return;
+        }
+        invalidate(userId);
+    }
+
+    private static int stripe(Long userId) {
+        return Math.floorMod(userId.hashCode(), VERSION_STRIPES);
+    }
+}
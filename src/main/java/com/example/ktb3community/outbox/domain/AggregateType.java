@@ -0,0 +1,6 @@
+package com.example.ktb3community.outbox.domain;
+
+public enum AggregateType {
+    POST,
+    USER
+}
@@ -0,0 +1,14 @@
+package com.example.ktb3community.outbox.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 이벤트 종류와 순서를 보장할 단위(aggregate). 같은 aggregate id의 이벤트는 발생 순서대로 전달된다
+@Getter
+@AllArgsConstructor
+public enum DomainEventType {
+    POST_IMAGE_REPLACED(AggregateType.POST),
+    PROFILE_IMAGE_REPLACED(AggregateType.USER);
+
+    private final AggregateType aggregateType;
+}
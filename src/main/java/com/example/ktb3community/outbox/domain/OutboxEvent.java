@@ -0,0 +1,104 @@
+package com.example.ktb3community.outbox.domain;
+
+import com.example.ktb3community.outbox.dto.DomainEvent;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// 도메인 변경과 같은 트랜잭션에 기록되는 이벤트 (transactional outbox).
+// 커밋된 이벤트만 남으므로 롤백된 변경에 대한 후속 처리가 일어나지 않고, 전달 전에 죽어도 다음 poll에서 다시 보낸다
+@Entity
+@Table(
+        name = "outbox_events",
+        indexes = {
+                @Index(name = "idx_outbox_events_status_id", columnList = "status, id"),
+                @Index(name = "idx_outbox_events_aggregate_status_id",
+                        columnList = "aggregate_type, aggregate_id, status, id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class OutboxEvent {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private DomainEventType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 20)
+    private AggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    public static OutboxEvent createNew(DomainEventType type, Long aggregateId, String payload, Instant now) {
+        return OutboxEvent.builder()
+                .type(type)
+                .aggregateType(type.getAggregateType())
+                .aggregateId(aggregateId)
+                .payload(payload)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    public DomainEvent toDomainEvent() {
+        return new DomainEvent(id, type, aggregateId, payload, createdAt);
+    }
+
+    public void published(Instant now) {
+        this.status = OutboxStatus.PUBLISHED;
+        this.publishedAt = now;
+    }
+
+    public void retryAt(int attempts, Instant nextAttemptAt, String error) {
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public void fail(int attempts, String error) {
+        this.status = OutboxStatus.FAILED;
+        this.attempts = attempts;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
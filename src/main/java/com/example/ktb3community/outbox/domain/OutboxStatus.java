@@ -0,0 +1,8 @@
+package com.example.ktb3community.outbox.domain;
+
+public enum OutboxStatus {
+    PENDING,
+    PUBLISHED,
+    // 최대 재시도 횟수를 넘겨 더 이상 전달하지 않는 이벤트 (수동 확인 대상)
+    FAILED
+}
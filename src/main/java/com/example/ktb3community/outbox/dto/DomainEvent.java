@@ -0,0 +1,15 @@
+package com.example.ktb3community.outbox.dto;
+
+import com.example.ktb3community.outbox.domain.DomainEventType;
+
+import java.time.Instant;
+
+// 구독자에게 전달되는 이벤트. payload는 발행 시점에 직렬화한 JSON이다
+public record DomainEvent(
+        Long eventId,
+        DomainEventType type,
+        Long aggregateId,
+        String payload,
+        Instant occurredAt
+) {
+}
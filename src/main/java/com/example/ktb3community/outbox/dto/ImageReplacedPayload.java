@@ -0,0 +1,9 @@
+package com.example.ktb3community.outbox.dto;
+
+// 게시글/프로필 이미지가 바뀌었을 때의 이전/새 이미지 URL.
+// 처음 정해질 때(작성/가입)는 previousImageUrl이, 이미지를 뺄 때는 imageUrl이 null이다
+public record ImageReplacedPayload(
+        String previousImageUrl,
+        String imageUrl
+) {
+}
@@ -0,0 +1,107 @@
+package com.example.ktb3community.outbox.repository;
+
+import com.example.ktb3community.outbox.domain.OutboxEvent;
+import com.example.ktb3community.outbox.domain.OutboxStatus;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Repository
+public class InMemoryOutboxRepositoryAdapter implements OutboxRepository {
+    private final AtomicLong seq = new AtomicLong(1);
+    private final ConcurrentHashMap<Long, OutboxEvent> events = new ConcurrentHashMap<>();
+
+    @Override
+    public OutboxEvent save(OutboxEvent event) {
+        if (event.getId() == null) {
+            event = OutboxEvent.builder()
+                    .id(seq.getAndIncrement())
+                    .type(event.getType())
+                    .aggregateType(event.getAggregateType())
+                    .aggregateId(event.getAggregateId())
+                    .payload(event.getPayload())
+                    .status(event.getStatus())
+                    .attempts(event.getAttempts())
+                    .nextAttemptAt(event.getNextAttemptAt())
+                    .createdAt(event.getCreatedAt())
+                    .build();
+        }
+        events.put(event.getId(), event);
+        return event;
+    }
+
+    @Override
+    public List<OutboxEvent> findDue(Instant now, int limit) {
+        List<OutboxEvent> pending = events.values().stream()
+                .filter(event -> event.getStatus() == OutboxStatus.PENDING)
+                .sorted(Comparator.comparing(OutboxEvent::getId))
+                .toList();
+        Set<String> blocked = new HashSet<>();
+        List<OutboxEvent> due = new ArrayList<>();
+        for (OutboxEvent event : pending) {
+            String aggregate = event.getAggregateType() + ":" + event.getAggregateId();
+            if (event.getNextAttemptAt().isAfter(now)) {
+                blocked.add(aggregate);
+            } else if (!blocked.contains(aggregate) && due.size() < limit) {
+                due.add(event);
+            }
+        }
+        return due;
+    }
+
+    @Override
+    public int markPublished(Collection<Long> ids, Instant now) {
+        return updatePending(ids, event -> event.published(now));
+    }
+
+    @Override
+    public int markRetry(Collection<Long> ids, int attempts, Instant nextAttemptAt, String error) {
+        return updatePending(ids, event -> event.retryAt(attempts, nextAttemptAt, error));
+    }
+
+    @Override
+    public int markFailed(Collection<Long> ids, int attempts, String error) {
+        return updatePending(ids, event -> event.fail(attempts, error));
+    }
+
+    @Override
+    public List<Long> findPublishedIdsBefore(Instant before, int limit) {
+        return events.values().stream()
+                .filter(event -> event.getStatus() == OutboxStatus.PUBLISHED)
+                .filter(event -> event.getPublishedAt().isBefore(before))
+                .map(OutboxEvent::getId)
+                .sorted()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public int deleteAllByIdIn(Collection<Long> ids) {
+        return (int) ids.stream()
+                .map(events::remove)
+                .filter(Objects::nonNull)
+                .count();
+    }
+
+    private int updatePending(Collection<Long> ids, Consumer<OutboxEvent> update) {
+        int updated = 0;
+        for (Long id : ids) {
+            OutboxEvent event = events.get(id);
+            if (event != null && event.getStatus() == OutboxStatus.PENDING) {
+                update.accept(event);
+                updated++;
+            }
+        }
+        return updated;
+    }
+}
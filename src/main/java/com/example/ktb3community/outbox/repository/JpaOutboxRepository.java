@@ -0,0 +1,53 @@
+package com.example.ktb3community.outbox.repository;
+
+import com.example.ktb3community.outbox.domain.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface JpaOutboxRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("select e from OutboxEvent e " +
+            "where e.status = com.example.ktb3community.outbox.domain.OutboxStatus.PENDING " +
+            "and e.nextAttemptAt <= :now " +
+            "and not exists (select 1 from OutboxEvent p " +
+            "where p.aggregateType = e.aggregateType and p.aggregateId = e.aggregateId " +
+            "and p.status = com.example.ktb3community.outbox.domain.OutboxStatus.PENDING " +
+            "and p.id < e.id and p.nextAttemptAt > :now) " +
+            "order by e.id")
+    List<OutboxEvent> findDue(@Param("now") Instant now, Pageable pageable);
+
+    // 다른 인스턴스가 먼저 처리한 이벤트는 건드리지 않도록 PENDING인 것만 바꾼다
+    @Modifying
+    @Query("update OutboxEvent e set e.status = com.example.ktb3community.outbox.domain.OutboxStatus.PUBLISHED, " +
+            "e.publishedAt = :now " +
+            "where e.id in :ids and e.status = com.example.ktb3community.outbox.domain.OutboxStatus.PENDING")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, e.lastError = :error " +
+            "where e.id in :ids and e.status = com.example.ktb3community.outbox.domain.OutboxStatus.PENDING")
+    int markRetry(@Param("ids") Collection<Long> ids, @Param("attempts") int attempts,
+                  @Param("nextAttemptAt") Instant nextAttemptAt, @Param("error") String error);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.status = com.example.ktb3community.outbox.domain.OutboxStatus.FAILED, " +
+            "e.attempts = :attempts, e.lastError = :error " +
+            "where e.id in :ids and e.status = com.example.ktb3community.outbox.domain.OutboxStatus.PENDING")
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("attempts") int attempts, @Param("error") String error);
+
+    @Query("select e.id from OutboxEvent e " +
+            "where e.status = com.example.ktb3community.outbox.domain.OutboxStatus.PUBLISHED and e.publishedAt < :before " +
+            "order by e.id")
+    List<Long> findPublishedIdsBefore(@Param("before") Instant before, Pageable pageable);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
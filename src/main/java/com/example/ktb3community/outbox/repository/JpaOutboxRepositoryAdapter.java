@@ -0,0 +1,53 @@
+package com.example.ktb3community.outbox.repository;
+
+import com.example.ktb3community.outbox.domain.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@Primary
+@RequiredArgsConstructor
+public class JpaOutboxRepositoryAdapter implements OutboxRepository {
+    private final JpaOutboxRepository jpaOutboxRepository;
+
+    @Override
+    public OutboxEvent save(OutboxEvent event) {
+        return jpaOutboxRepository.save(event);
+    }
+
+    @Override
+    public List<OutboxEvent> findDue(Instant now, int limit) {
+        return jpaOutboxRepository.findDue(now, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public int markPublished(Collection<Long> ids, Instant now) {
+        return jpaOutboxRepository.markPublished(ids, now);
+    }
+
+    @Override
+    public int markRetry(Collection<Long> ids, int attempts, Instant nextAttemptAt, String error) {
+        return jpaOutboxRepository.markRetry(ids, attempts, nextAttemptAt, error);
+    }
+
+    @Override
+    public int markFailed(Collection<Long> ids, int attempts, String error) {
+        return jpaOutboxRepository.markFailed(ids, attempts, error);
+    }
+
+    @Override
+    public List<Long> findPublishedIdsBefore(Instant before, int limit) {
+        return jpaOutboxRepository.findPublishedIdsBefore(before, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public int deleteAllByIdIn(Collection<Long> ids) {
+        return jpaOutboxRepository.deleteAllByIdIn(ids);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.ktb3community.outbox.repository;
+
+import com.example.ktb3community.outbox.domain.OutboxEvent;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxRepository {
+    OutboxEvent save(OutboxEvent event);
+
+    // 지금 보낼 수 있는 PENDING 이벤트를 발생(id) 순서대로 가져온다.
+    // 같은 aggregate에 재시도를 기다리는 앞 이벤트가 있으면 순서를 지키기 위해 뒤 이벤트도 빼므로,
+    // 백오프 중인 aggregate가 많아도 정상 aggregate의 이벤트가 limit에서 밀려나지 않는다
+    List<OutboxEvent> findDue(Instant now, int limit);
+
+    int markPublished(Collection<Long> ids, Instant now);
+
+    int markRetry(Collection<Long> ids, int attempts, Instant nextAttemptAt, String error);
+
+    int markFailed(Collection<Long> ids, int attempts, String error);
+
+    List<Long> findPublishedIdsBefore(Instant before, int limit);
+
+    int deleteAllByIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,44 @@
+package com.example.ktb3community.outbox.service;
+
+import com.example.ktb3community.outbox.domain.DomainEventType;
+import com.example.ktb3community.outbox.domain.OutboxEvent;
+import com.example.ktb3community.outbox.repository.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+
+// 요청 경로에서는 이벤트 한 행만 같은 트랜잭션에 남기고, 후속 처리는 커밋 후 OutboxDispatcher가 한다
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+    private final OutboxRepository outboxRepository;
+    private final OutboxDispatcher outboxDispatcher;
+    private final ObjectMapper objectMapper;
+
+    // 도메인 변경과 함께 커밋/롤백되도록 호출한 쪽의 트랜잭션 안에서만 기록한다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DomainEventType type, Long aggregateId, Object payload) {
+        outboxRepository.save(OutboxEvent.createNew(type, aggregateId, toJson(payload), Instant.now()));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxDispatcher.wakeUp();
+            }
+        });
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이벤트 payload를 직렬화할 수 없습니다: " + payload.getClass(), e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.ktb3community.outbox.service;
+
+import com.example.ktb3community.outbox.domain.DomainEventType;
+import com.example.ktb3community.outbox.dto.DomainEvent;
+
+import java.util.List;
+import java.util.Set;
+
+// 커밋 후 비동기로 이벤트를 받는 구독자.
+// 같은 aggregate의 이벤트가 발생 순서대로 묶여 들어오며, 실패하면 묶음 전체를 다시 받으므로 멱등하게 처리해야 한다
+public interface DomainEventSubscriber {
+    Set<DomainEventType> types();
+
+    void handle(List<DomainEvent> events);
+}
@@ -0,0 +1,232 @@
+package com.example.ktb3community.outbox.service;
+
+import com.example.ktb3community.outbox.domain.AggregateType;
+import com.example.ktb3community.outbox.domain.OutboxEvent;
+import com.example.ktb3community.outbox.dto.DomainEvent;
+import com.example.ktb3community.outbox.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// outbox에 쌓인 이벤트를 구독자에게 전달한다. 커밋 직후 깨워지고, 놓친 것은 주기적인 poll이 다시 줍는다.
+// aggregate마다 한 워커만 발생 순서대로 처리하고, 실패하면 그 aggregate의 뒤 이벤트도 재시도 시각까지 기다린다.
+// 여러 인스턴스가 같은 이벤트를 보낼 수 있으므로 전달은 at-least-once다
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final OutboxRepository outboxRepository;
+    private final List<DomainEventSubscriber> subscribers;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final long pollIntervalMillis;
+    private final Duration retention;
+    private final int purgeChunkSize;
+    private final ScheduledExecutorService scheduler;
+    private final ThreadPoolExecutor workers;
+    private final Set<AggregateKey> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean pollRequested = new AtomicBoolean();
+    private final Counter publishedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter purgedCounter;
+    private final Timer lagTimer;
+
+    public OutboxDispatcher(
+            OutboxRepository outboxRepository,
+            List<DomainEventSubscriber> subscribers,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.outbox.poll-interval-ms:1000}") long pollIntervalMillis,
+            @Value("${app.outbox.batch-size:200}") int batchSize,
+            @Value("${app.outbox.worker-threads:4}") int workerThreads,
+            @Value("${app.outbox.queue-capacity:100}") int queueCapacity,
+            @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${app.outbox.retry-backoff-ms:1000}") long retryBackoffMillis,
+            @Value("${app.outbox.retention-hours:72}") long retentionHours,
+            @Value("${app.outbox.purge-chunk-size:1000}") int purgeChunkSize) {
+        this.outboxRepository = outboxRepository;
+        this.subscribers = subscribers;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMillis);
+        this.retention = Duration.ofHours(retentionHours);
+        this.purgeChunkSize = purgeChunkSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("outbox-poller").daemon().factory());
+        this.workers = new ThreadPoolExecutor(
+                workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("outbox-worker-", 1).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.publishedCounter = dispatchCounter(meterRegistry, "published");
+        this.retriedCounter = dispatchCounter(meterRegistry, "retried");
+        this.failedCounter = dispatchCounter(meterRegistry, "failed");
+        this.purgedCounter = Counter.builder("outbox.purged")
+                .description("보관 기간이 지나 삭제한 전달 완료 이벤트 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("outbox.lag")
+                .description("이벤트 발생부터 전달 완료까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::pollSafely, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 커밋 직후 불린다. 이미 예약된 poll이 있으면 그 poll이 이번 이벤트도 가져간다
+    public void wakeUp() {
+        if (!pollRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.execute(this::pollSafely);
+        } catch (RejectedExecutionException e) {
+            pollRequested.set(false);
+        }
+    }
+
+    public void poll() {
+        pollRequested.set(false);
+        Instant now = Instant.now();
+        Map<AggregateKey, List<OutboxEvent>> groups = new LinkedHashMap<>();
+        for (OutboxEvent event : outboxRepository.findDue(now, batchSize)) {
+            groups.computeIfAbsent(new AggregateKey(event.getAggregateType(), event.getAggregateId()),
+                    key -> new ArrayList<>()).add(event);
+        }
+        groups.forEach((key, events) -> {
+            // 재시도를 기다리는 aggregate는 findDue가 이미 뺐다. 다른 워커가 보내는 중인 aggregate만 건너뛴다
+            if (!inFlight.add(key)) {
+                return;
+            }
+            try {
+                workers.execute(() -> dispatch(key, events));
+            } catch (RejectedExecutionException e) {
+                // 워커가 밀려 있으면 다음 poll에서 다시 가져간다
+                inFlight.remove(key);
+            }
+        });
+    }
+
+    @Scheduled(cron = "${app.outbox.purge-cron:0 15 4 * * *}")
+    public void purgePublished() {
+        Instant before = Instant.now().minus(retention);
+        while (true) {
+            List<Long> ids = outboxRepository.findPublishedIdsBefore(before, purgeChunkSize);
+            if (ids.isEmpty()) {
+                return;
+            }
+            Integer deleted = transactionTemplate.execute(status -> outboxRepository.deleteAllByIdIn(ids));
+            purgedCounter.increment(deleted == null ? 0 : deleted);
+            if (ids.size() < purgeChunkSize) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        workers.shutdown();
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("[outbox] poll 실패", e);
+        }
+    }
+
+    private void dispatch(AggregateKey key, List<OutboxEvent> events) {
+        List<Long> ids = events.stream().map(OutboxEvent::getId).toList();
+        try {
+            List<DomainEvent> domainEvents = events.stream().map(OutboxEvent::toDomainEvent).toList();
+            for (DomainEventSubscriber subscriber : subscribers) {
+                List<DomainEvent> matched = domainEvents.stream()
+                        .filter(event -> subscriber.types().contains(event.type()))
+                        .toList();
+                if (!matched.isEmpty()) {
+                    subscriber.handle(matched);
+                }
+            }
+            Instant now = Instant.now();
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.markPublished(ids, now));
+            publishedCounter.increment(ids.size());
+            events.forEach(event -> lagTimer.record(Duration.between(event.getCreatedAt(), now)));
+        } catch (RuntimeException e) {
+            recordFailure(key, events, ids, e);
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    private void recordFailure(AggregateKey key, List<OutboxEvent> events, List<Long> ids, RuntimeException cause) {
+        int attempts = events.getFirst().getAttempts() + 1;
+        String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        try {
+            if (attempts >= maxAttempts) {
+                log.error("[outbox] {} 이벤트 {}건 전달 포기 ({}회 실패)", key, ids.size(), attempts, cause);
+                transactionTemplate.executeWithoutResult(status -> outboxRepository.markFailed(ids, attempts, error));
+                failedCounter.increment(ids.size());
+                return;
+            }
+            log.warn("[outbox] {} 이벤트 {}건 전달 실패 ({}회), 재시도 예정", key, ids.size(), attempts, cause);
+            Instant nextAttemptAt = Instant.now().plus(backoff(attempts));
+            transactionTemplate.executeWithoutResult(
+                    status -> outboxRepository.markRetry(ids, attempts, nextAttemptAt, error));
+            retriedCounter.increment(ids.size());
+        } catch (RuntimeException e) {
+            // 상태를 못 남겨도 PENDING 그대로이므로 다음 poll에서 다시 보낸다
+            log.warn("[outbox] {} 실패 기록 실패", key, e);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+    private static Counter dispatchCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("outbox.dispatch")
+                .description("구독자 전달 결과별 이벤트 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record AggregateKey(AggregateType type, Long id) {
+    }
+}
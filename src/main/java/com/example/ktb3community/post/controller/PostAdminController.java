@@ -0,0 +1,35 @@
+package com.example.ktb3community.post.controller;
+
+import com.example.ktb3community.common.doc.ApiCommonErrorResponses;
+import com.example.ktb3community.post.service.PostCounterReconciler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/posts")
+public class PostAdminController {
+
+    private final PostCounterReconciler postCounterReconciler;
+
+    @Operation(summary = "게시글 카운터 정합성 점검",
+            description = "좋아요/댓글 수를 실제 개수와 비교해 어긋난 게시글을 고치는 점검을 백그라운드에서 시작합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "점검을 시작했습니다."),
+            @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다."),
+            @ApiResponse(responseCode = "409", description = "이미 점검이 실행 중입니다.")
+    })
+    @ApiCommonErrorResponses
+    @PostMapping("/counters/reconcile")
+    public ResponseEntity<Void> reconcileCounters() {
+        // 전체 게시글을 도는 작업이라 요청 스레드에서 기다리지 않는다
+        postCounterReconciler.startReconcile();
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -6,11 +6,14 @@ import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.common.pagination.PageResponse;
 import com.example.ktb3community.common.response.ApiResult;
 import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.job.dto.JobStatusResponse;
 import com.example.ktb3community.post.PostSort;
 import com.example.ktb3community.post.dto.CreatePostRequest;
 import com.example.ktb3community.post.dto.CreatePostResponse;
 import com.example.ktb3community.post.dto.PostDetailResponse;
+import com.example.ktb3community.post.dto.PostDetailResult;
 import com.example.ktb3community.post.dto.PostListResponse;
+import com.example.ktb3community.post.dto.PostVersion;
 import com.example.ktb3community.post.service.PostService;
 import com.example.ktb3community.post.service.PostViewService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,16 +22,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/posts")
 public class PostController {
 
+    // 브라우저/중간 캐시는 저장하되 매번 If-None-Match로 재검증하도록 한다
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final PostService postService;
     private final PostViewService postViewService;
 
@@ -53,6 +61,7 @@ public class PostController {
     @Operation(summary = "게시글 목록 조회", description = "페이지네이션과 정렬 옵션을 사용하여 게시글 목록을 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "304", description = "Not Modified"),
             @ApiResponse(responseCode = "400", description = "pageSize는 1~20 사이만 허용합니다."),
             @ApiResponse(responseCode = "400", description = "page는 1부터 허용합니다.")
     })
@@ -61,29 +70,49 @@ public class PostController {
     public ResponseEntity<ApiResult<PageResponse<PostListResponse>>> list(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(required = false, defaultValue = "10") int pageSize,
-            @RequestParam(required = false, defaultValue = "NEW") PostSort sort
+            @RequestParam(required = false, defaultValue = "NEW") PostSort sort,
+            WebRequest webRequest
     ) {
         if (page < 1) throw new BusinessException(ErrorCode.INVALID_PAGE);
         if (pageSize < 1 || pageSize > 20) {
             throw new BusinessException(ErrorCode.INVALID_PAGE_SIZE);
         }
+        // 목록을 조립하기 전에 워터마크만으로 304 여부를 판단한다
+        String etag = postViewService.getPostListEtag(page, pageSize, sort);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         PageResponse<PostListResponse> pageResponse = postViewService.getPostList(page, pageSize, sort);
-        return ResponseEntity.ok(ApiResult.ok(pageResponse));
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .body(ApiResult.ok(pageResponse));
     }
 
     @Operation(summary = "게시글 상세 조회", description = "특정 게시글의 상세 정보를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "304", description = "Not Modified"),
             @ApiResponse(responseCode = "404", description = "존재하지 않는 게시글입니다."),
     })
     @ApiCommonErrorResponses
     @GetMapping("/{postId}")
     public ResponseEntity<ApiResult<PostDetailResponse>> getPostDetail(
             @AuthenticationPrincipal CustomUserDetails userDetails,
-            @Parameter(description = "게시글 id", example = "1") @PathVariable Long postId) {
+            @Parameter(description = "게시글 id", example = "1") @PathVariable Long postId,
+            WebRequest webRequest) {
         Long userId = userDetails.getId();
-        PostDetailResponse postDetailResponse = postViewService.getPostDetail(postId, userId);
-        return ResponseEntity.ok(ApiResult.ok(postDetailResponse));
+        // 304로 응답하면 엔티티 로딩과 조회수 증가를 모두 건너뛴다
+        PostVersion version = postViewService.getPostDetailVersion(postId);
+        if (webRequest.checkNotModified(postViewService.getPostDetailEtag(postId, userId, version))) {
+            return null;
+        }
+        // 조회수 증가로 updated_at이 바뀌므로 ETag는 본문을 만든 트랜잭션 안에서 계산된 값을 쓴다
+        PostDetailResult detail = postViewService.getPostDetail(postId, userId, version);
+        return ResponseEntity.ok()
+                .eTag(detail.etag())
+                .cacheControl(REVALIDATE)
+                .body(ApiResult.ok(detail.response()));
     }
 
     @Operation(summary = "게시글 수정", description = "특정 게시글의 내용을 수정합니다.")
@@ -120,4 +149,19 @@ public class PostController {
         postService.deletePost(postId, userId);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(summary = "게시글 삭제 진행 상태 조회", description = "삭제한 게시글의 댓글/좋아요 정리 작업 상태를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다."),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 게시글입니다.")
+    })
+    @ApiCommonErrorResponses
+    @GetMapping("/{postId}/deletion")
+    public ResponseEntity<ApiResult<JobStatusResponse>> getDeletionStatus(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "게시글 id", example = "1") @PathVariable Long postId
+    ) {
+        return ResponseEntity.ok(ApiResult.ok(postService.getDeletionStatus(postId, userDetails.getId())));
+    }
 }
@@ -0,0 +1,40 @@
+package com.example.ktb3community.post.controller;
+
+import com.example.ktb3community.common.doc.ApiCommonErrorResponses;
+import com.example.ktb3community.post.service.PostEventHub;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/posts")
+public class PostEventController {
+
+    private final PostEventHub postEventHub;
+
+    @Operation(summary = "게시글 실시간 카운터 구독",
+            description = "좋아요/댓글/조회수 변화량과 새 댓글 id를 SSE(counts 이벤트)로 받습니다. 조회수는 증가시키지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 게시글입니다."),
+            @ApiResponse(responseCode = "503", description = "실시간 연결이 많아 처리할 수 없습니다.")
+    })
+    @ApiCommonErrorResponses
+    @GetMapping("/{postId}/events")
+    public ResponseEntity<SseEmitter> subscribe(
+            @Parameter(description = "게시글 id", example = "1") @PathVariable Long postId) {
+        // nginx 등 리버스 프록시가 응답을 모아 두지 않고 바로 흘려보내도록 한다
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(postEventHub.subscribe(postId));
+    }
+}
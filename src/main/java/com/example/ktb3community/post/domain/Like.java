@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,6 +24,9 @@ import java.time.Instant;
 @Builder
 @Table(name = "likes", uniqueConstraints = {
         @UniqueConstraint(name = "uq_like_post_user", columnNames = {"post_id", "user_id"})
+}, indexes = {
+        // 보관 대상(오래전에 취소한 좋아요)을 찾는다
+        @Index(name = "idx_likes_deleted_at", columnList = "deleted_at")
 })
 public class Like extends BaseTimeEntity {
     @Id
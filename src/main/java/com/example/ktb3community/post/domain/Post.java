@@ -4,22 +4,30 @@ import com.example.ktb3community.common.domain.BaseTimeEntity;
 import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.exception.BusinessException;
 import com.example.ktb3community.user.domain.User;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
+import java.util.Objects;
 
 @Entity
-@Table(name = "posts")
+// 목록 ETag 워터마크(삭제되지 않은 글의 max(updated_at), count)를 인덱스만으로 구한다
+@Table(name = "posts", indexes = @Index(name = "idx_posts_deleted_at_updated_at", columnList = "deleted_at, updated_at"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -43,6 +51,10 @@ public class Post extends BaseTimeEntity {
     @Column(name = "post_image_url")
     private String postImageUrl;
 
+    // 목록 카드용 축소본. 이미지가 바뀌면 비우고, 만들어지면 ImageVariantGenerator가 채운다
+    @Column(name = "post_thumbnail_url")
+    private String postThumbnailUrl;
+
     @Column(name = "like_count", nullable = false)
     private long likeCount;
 
@@ -71,7 +83,17 @@ public class Post extends BaseTimeEntity {
     public void updatePost(String title, String content, String postImageUrl) {
         if ( title != null && !title.isBlank() ){ this.title = title.trim(); }
         if ( content != null && !content.isBlank() ) { this.content = content; }
-        this.postImageUrl = postImageUrl;
+        if (!Objects.equals(this.postImageUrl, postImageUrl)) {
+            this.postImageUrl = postImageUrl;
+            this.postThumbnailUrl = null;
+        }
+    }
+
+    // 만드는 사이 이미지가 다시 바뀌었으면 이전 이미지의 축소본이므로 무시한다
+    public void attachThumbnail(String sourceImageUrl, String thumbnailUrl) {
+        if (Objects.equals(this.postImageUrl, sourceImageUrl)) {
+            this.postThumbnailUrl = thumbnailUrl;
+        }
     }
 
     public void increaseViewCount() {
@@ -94,6 +116,18 @@ public class Post extends BaseTimeEntity {
         if (this.commentCount > 0) this.commentCount--;
     }
 
+    // 일괄 처리(탈퇴 등)에서 모은 변화량을 한 번에 반영한다
+    public void applyCounterDelta(long likeDelta, long commentDelta) {
+        this.likeCount = Math.max(this.likeCount + likeDelta, 0);
+        this.commentCount = Math.max(this.commentCount + commentDelta, 0);
+    }
+
+    // 정합성 점검에서 실제 좋아요/댓글 수로 맞춘다
+    public void correctCounters(long likeCount, long commentCount) {
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+    }
+
     public void delete(Instant now) {
         if (this.deletedAt == null) {
             this.deletedAt = now;
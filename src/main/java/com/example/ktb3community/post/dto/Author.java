@@ -2,6 +2,8 @@ package com.example.ktb3community.post.dto;
 
 public record Author(
         String nickname,
-        String profileImageUrl
+        String profileImageUrl,
+        // 아바타용 축소본. 아직 없으면 null이므로 profileImageUrl을 쓴다
+        String profileThumbnailUrl
 ) {
 }
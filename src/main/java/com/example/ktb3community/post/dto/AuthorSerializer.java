@@ -0,0 +1,40 @@
+package com.example.ktb3community.post.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+public class AuthorSerializer extends StdSerializer<Author> {
+
+    private static final SerializedString NICKNAME = new SerializedString("nickname");
+    private static final SerializedString PROFILE_IMAGE_URL = new SerializedString("profileImageUrl");
+    private static final SerializedString PROFILE_THUMBNAIL_URL = new SerializedString("profileThumbnailUrl");
+
+    public AuthorSerializer() {
+        super(Author.class);
+    }
+
+    @Override
+    public void serialize(Author value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        write(value, gen);
+    }
+
+    // 목록/댓글 직렬화기가 provider 조회 없이 바로 호출한다
+    public static void write(Author author, JsonGenerator gen) throws IOException {
+        if (author == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(author);
+        gen.writeFieldName(NICKNAME);
+        gen.writeString(author.nickname());
+        gen.writeFieldName(PROFILE_IMAGE_URL);
+        gen.writeString(author.profileImageUrl());
+        gen.writeFieldName(PROFILE_THUMBNAIL_URL);
+        gen.writeString(author.profileThumbnailUrl());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.ktb3community.post.dto;
+
+public record CounterReconcileResponse(
+        long scanned,
+        long corrected,
+        long likeDrift,
+        long commentDrift
+) {
+}
@@ -0,0 +1,9 @@
+package com.example.ktb3community.post.dto;
+
+import java.time.Instant;
+
+public record LikeExportRow(
+        Long postId,
+        Instant likedAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.example.ktb3community.post.dto;
+
+public record LikeRef(
+        Long likeId,
+        Long postId
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.ktb3community.post.dto;
+
+// 게시글별 group by 집계 결과 한 행
+public record PostCount(
+        Long postId,
+        long count
+) {
+}
@@ -0,0 +1,11 @@
+package com.example.ktb3community.post.dto;
+
+// 읽었던 값(expected)이 그대로일 때만 실제 값으로 덮어쓴다
+public record PostCounterCorrection(
+        Long postId,
+        long expectedLikeCount,
+        long expectedCommentCount,
+        long likeCount,
+        long commentCount
+) {
+}
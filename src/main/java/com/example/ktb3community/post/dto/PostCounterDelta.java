@@ -0,0 +1,9 @@
+package com.example.ktb3community.post.dto;
+
+// 게시글 하나에 더할 카운터 변화량 (음수면 감소, 결과는 0 미만으로 내려가지 않는다)
+public record PostCounterDelta(
+        Long postId,
+        long likeDelta,
+        long commentDelta
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.ktb3community.post.dto;
+
+public record PostCounterSnapshot(
+        Long postId,
+        long likeCount,
+        long commentCount
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.ktb3community.post.dto;
+
+// 상세 응답과, 그 응답을 만든 트랜잭션의 데이터로 계산한 ETag
+public record PostDetailResult(
+        PostDetailResponse response,
+        String etag
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.ktb3community.post.dto;
+
+import java.util.List;
+
+// flush 주기 동안 모인 게시글 하나의 카운터 변화량과 새로 달린 댓글 id
+public record PostEvent(
+        Long postId,
+        long likeDelta,
+        long commentDelta,
+        long viewDelta,
+        List<Long> newCommentIds
+) {
+}
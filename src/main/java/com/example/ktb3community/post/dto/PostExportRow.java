@@ -0,0 +1,17 @@
+package com.example.ktb3community.post.dto;
+
+import java.time.Instant;
+
+// 데이터 내보내기용 projection: 엔티티로 로딩하지 않아 영속성 컨텍스트에 쌓이지 않는다
+public record PostExportRow(
+        Long postId,
+        String title,
+        String content,
+        String postImageUrl,
+        long likeCount,
+        long viewCount,
+        long commentCount,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
@@ -5,6 +5,8 @@ import java.time.Instant;
 public record PostListResponse(
         Long postId,
         String title,
+        // 카드용 축소본. 이미지가 없거나 아직 만들어지지 않았으면 null
+        String postThumbnailUrl,
         Author author,
         long likeCount,
         long viewCount,
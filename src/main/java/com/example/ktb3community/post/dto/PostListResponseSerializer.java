@@ -0,0 +1,52 @@
+package com.example.ktb3community.post.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+// 목록 한 페이지에 최대 20개씩 쓰이는 레코드라 접근자 리플렉션 없이 필드를 직접 쓴다
+public class PostListResponseSerializer extends StdSerializer<PostListResponse> {
+
+    private static final SerializedString POST_ID = new SerializedString("postId");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString POST_THUMBNAIL_URL = new SerializedString("postThumbnailUrl");
+    private static final SerializedString AUTHOR = new SerializedString("author");
+    private static final SerializedString LIKE_COUNT = new SerializedString("likeCount");
+    private static final SerializedString VIEW_COUNT = new SerializedString("viewCount");
+    private static final SerializedString COMMENT_COUNT = new SerializedString("commentCount");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+
+    public PostListResponseSerializer() {
+        super(PostListResponse.class);
+    }
+
+    @Override
+    public void serialize(PostListResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(POST_ID);
+        if (value.postId() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.postId());
+        }
+        gen.writeFieldName(TITLE);
+        gen.writeString(value.title());
+        gen.writeFieldName(POST_THUMBNAIL_URL);
+        gen.writeString(value.postThumbnailUrl());
+        gen.writeFieldName(AUTHOR);
+        AuthorSerializer.write(value.author(), gen);
+        gen.writeFieldName(LIKE_COUNT);
+        gen.writeNumber(value.likeCount());
+        gen.writeFieldName(VIEW_COUNT);
+        gen.writeNumber(value.viewCount());
+        gen.writeFieldName(COMMENT_COUNT);
+        gen.writeNumber(value.commentCount());
+        // 날짜 형식(WRITE_DATES_AS_TIMESTAMPS 등)은 전역 설정을 그대로 따른다
+        gen.writeFieldName(CREATED_AT);
+        provider.defaultSerializeValue(value.createdAt(), gen);
+        gen.writeEndObject();
+    }
+}
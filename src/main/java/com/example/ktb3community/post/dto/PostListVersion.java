@@ -0,0 +1,11 @@
+package com.example.ktb3community.post.dto;
+
+import java.time.Instant;
+
+// 목록 전체의 워터마크: 게시글 수정 시각/마지막 삭제 시각과 작성자 수정 시각 (ETag 계산용)
+public record PostListVersion(
+        Instant postsUpdatedAt,
+        Instant postsDeletedAt,
+        Instant authorsUpdatedAt
+) {
+}
@@ -0,0 +1,25 @@
+package com.example.ktb3community.post.dto;
+
+import com.example.ktb3community.comment.dto.CommentVersion;
+
+import java.time.Instant;
+
+// 상세 응답을 구성하는 값들의 버전 (ETag 계산용).
+// 댓글 작성/삭제는 게시글의 comment_count와 updated_at을 함께 바꾸므로, 댓글 쪽은 실제로 내려주는 첫 페이지만 본다
+public record PostVersion(
+        Instant postUpdatedAt,
+        Instant authorUpdatedAt,
+        long commentCount,
+        Instant commentsUpdatedAt,
+        Instant commentAuthorsUpdatedAt
+) {
+    // 게시글 행과 작성자만 읽은 버전 (댓글 페이지는 withCommentPage로 채운다)
+    public PostVersion(Instant postUpdatedAt, Instant authorUpdatedAt, long commentCount) {
+        this(postUpdatedAt, authorUpdatedAt, commentCount, null, null);
+    }
+
+    public PostVersion withCommentPage(CommentVersion commentPage) {
+        return new PostVersion(postUpdatedAt, authorUpdatedAt, commentCount,
+                commentPage.updatedAt(), commentPage.authorUpdatedAt());
+    }
+}
@@ -1,12 +1,20 @@
 package com.example.ktb3community.post.repository;
 
 import com.example.ktb3community.post.domain.Post;
+import com.example.ktb3community.post.dto.LikeExportRow;
+import com.example.ktb3community.post.dto.LikeRef;
+import com.example.ktb3community.post.dto.PostCount;
 import com.example.ktb3community.user.domain.User;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 @Repository
 public class InMemoryPostLikeRepositoryAdapter implements PostLikeRepository {
@@ -48,4 +56,64 @@ public class InMemoryPostLikeRepositoryAdapter implements PostLikeRepository {
         }
         return removed;
     }
+
+    // 좋아요 시각은 보관하지 않는다
+    @Override
+    public Stream<LikeExportRow> streamExportRowsByUserId(Long userId) {
+        return likesByPostId.entrySet().stream()
+                .filter(entry -> entry.getValue().contains(userId))
+                .map(entry -> new LikeExportRow(entry.getKey(), null))
+                .sorted(Comparator.comparing(LikeExportRow::postId));
+    }
+
+    // 좋아요 id를 따로 두지 않으므로 게시글 id를 좋아요 id로 쓴다
+    @Override
+    public List<LikeRef> findLiveRefsByUserId(Long userId, Long afterId, int limit) {
+        return likesByPostId.entrySet().stream()
+                .filter(entry -> entry.getKey() > afterId && entry.getValue().contains(userId))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .limit(limit)
+                .map(postId -> new LikeRef(postId, postId))
+                .toList();
+    }
+
+    @Override
+    public int softDeleteByUserIdAndIdIn(Long userId, Collection<Long> ids, Instant now) {
+        int removed = 0;
+        for (Long postId : ids) {
+            Set<Long> userIds = likesByPostId.get(postId);
+            if (userIds != null && userIds.remove(userId)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public List<PostCount> countLiveByPostIdIn(Collection<Long> postIds) {
+        return postIds.stream()
+                .map(postId -> new PostCount(postId, likesByPostId.getOrDefault(postId, Set.of()).size()))
+                .filter(count -> count.count() > 0)
+                .toList();
+    }
+
+    // 좋아요 id가 따로 없으므로 게시글 안에서는 사용자 id를 좋아요 id로 쓴다
+    @Override
+    public List<Long> findLiveIdsByPostId(Long postId, Long afterId, int limit) {
+        return likesByPostId.getOrDefault(postId, Set.of()).stream()
+                .filter(userId -> userId > afterId)
+                .sorted()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public int softDeleteByPostIdAndIdIn(Long postId, Collection<Long> ids, Instant now) {
+        Set<Long> userIds = likesByPostId.get(postId);
+        if (userIds == null) {
+            return 0;
+        }
+        return (int) ids.stream().filter(userIds::remove).count();
+    }
 }
@@ -1,20 +1,29 @@
 package com.example.ktb3community.post.repository;
 
 import com.example.ktb3community.post.domain.Post;
+import com.example.ktb3community.post.dto.PostCounterCorrection;
+import com.example.ktb3community.post.dto.PostCounterDelta;
+import com.example.ktb3community.post.dto.PostCounterSnapshot;
+import com.example.ktb3community.post.dto.PostExportRow;
+import com.example.ktb3community.post.dto.PostListVersion;
+import com.example.ktb3community.post.dto.PostVersion;
 import com.example.ktb3community.post.exception.PostNotFoundException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Comparator;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 @Repository
 public class InMemoryPostRepositoryAdapter implements PostRepository {
@@ -54,7 +63,7 @@ public class InMemoryPostRepositoryAdapter implements PostRepository {
     }
 
     @Override
-    public Page<Post> findAll(Pageable pageable) {
+    public Slice<Post> findAll(Pageable pageable) {
         List<Post> all = posts.values().stream()
                 .filter(p -> p.getDeletedAt() == null)
                 .sorted(resolveComparator(pageable.getSort()))
@@ -64,7 +73,52 @@ public class InMemoryPostRepositoryAdapter implements PostRepository {
         int toIndex = Math.min(all.size(), fromIndex + pageable.getPageSize());
         List<Post> content = fromIndex >= toIndex ? List.of() : all.subList(fromIndex, toIndex);
 
-        return new PageImpl<>(content, pageable, all.size());
+        return new SliceImpl<>(content, pageable, toIndex < all.size());
+    }
+
+    @Override
+    public long countLive() {
+        return posts.values().stream()
+                .filter(p -> p.getDeletedAt() == null)
+                .count();
+    }
+
+    @Override
+    public Optional<PostVersion> findVersionById(Long id) {
+        return findById(id)
+                .map(post -> new PostVersion(post.getUpdatedAt(), post.getUser().getUpdatedAt(), post.getCommentCount()));
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public Optional<Long> findUserIdById(Long id) {
+        return Optional.ofNullable(posts.get(id)).map(Post::getUserId);
+    }
+
+    @Override
+    public PostListVersion findListVersion() {
+        List<Post> alive = posts.values().stream()
+                .filter(p -> p.getDeletedAt() == null)
+                .toList();
+        Instant postsUpdatedAt = alive.stream()
+                .map(Post::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        Instant authorsUpdatedAt = alive.stream()
+                .map(p -> p.getUser().getUpdatedAt())
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        Instant postsDeletedAt = posts.values().stream()
+                .map(Post::getDeletedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return new PostListVersion(postsUpdatedAt, postsDeletedAt, authorsUpdatedAt);
     }
 
     private Comparator<Post> resolveComparator(Sort sort) {
@@ -94,6 +148,15 @@ public class InMemoryPostRepositoryAdapter implements PostRepository {
             "id", Comparator.comparing(Post::getId)
     );
 
+    @Override
+    public Stream<PostExportRow> streamExportRowsByUserId(Long userId) {
+        return posts.values().stream()
+                .filter(p -> p.getDeletedAt() == null && p.getUserId().equals(userId))
+                .sorted(Comparator.comparing(Post::getId))
+                .map(p -> new PostExportRow(p.getId(), p.getTitle(), p.getContent(), p.getPostImageUrl(),
+                        p.getLikeCount(), p.getViewCount(), p.getCommentCount(), p.getCreatedAt(), p.getUpdatedAt()));
+    }
+
     @Override
     public int softDeleteByUserId(Long userId, Instant now) {
         return posts.values().stream()
@@ -104,4 +167,64 @@ public class InMemoryPostRepositoryAdapter implements PostRepository {
                 })
                 .sum();
     }
+
+    @Override
+    public List<Long> findLiveIdsByUserId(Long userId, Long afterId, int limit) {
+        return posts.values().stream()
+                .filter(post -> post.getDeletedAt() == null && post.getUserId().equals(userId) && post.getId() > afterId)
+                .map(Post::getId)
+                .sorted()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public int softDeleteByUserIdAndIdIn(Long userId, Collection<Long> ids, Instant now) {
+        return ids.stream()
+                .map(posts::get)
+                .filter(post -> post != null && post.getDeletedAt() == null && post.getUserId().equals(userId))
+                .mapToInt(post -> {
+                    post.delete(now);
+                    return 1;
+                })
+                .sum();
+    }
+
+    @Override
+    public int applyCounterDeltas(Collection<PostCounterDelta> deltas, Instant now) {
+        int updated = 0;
+        for (PostCounterDelta delta : deltas) {
+            Post post = posts.get(delta.postId());
+            if (post != null) {
+                post.applyCounterDelta(delta.likeDelta(), delta.commentDelta());
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public List<PostCounterSnapshot> findCounterSnapshots(Long afterId, int limit) {
+        return posts.values().stream()
+                .filter(post -> post.getDeletedAt() == null && post.getId() > afterId)
+                .sorted(Comparator.comparing(Post::getId))
+                .limit(limit)
+                .map(post -> new PostCounterSnapshot(post.getId(), post.getLikeCount(), post.getCommentCount()))
+                .toList();
+    }
+
+    @Override
+    public int applyCounterCorrections(Collection<PostCounterCorrection> corrections, Instant now) {
+        int updated = 0;
+        for (PostCounterCorrection correction : corrections) {
+            Post post = posts.get(correction.postId());
+            if (post != null
+                    && post.getLikeCount() == correction.expectedLikeCount()
+                    && post.getCommentCount() == correction.expectedCommentCount()) {
+                post.correctCounters(correction.likeCount(), correction.commentCount());
+                updated++;
+            }
+        }
+        return updated;
+    }
 }
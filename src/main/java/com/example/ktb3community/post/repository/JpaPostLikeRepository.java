@@ -2,9 +2,18 @@ package com.example.ktb3community.post.repository;
 
 import com.example.ktb3community.post.domain.Like;
 import com.example.ktb3community.post.domain.Post;
+import com.example.ktb3community.post.dto.LikeRef;
+import com.example.ktb3community.post.dto.PostCount;
 import com.example.ktb3community.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface JpaPostLikeRepository extends JpaRepository<Like, Long> {
@@ -13,4 +22,50 @@ public interface JpaPostLikeRepository extends JpaRepository<Like, Long> {
 
     Optional<Like> findByPostAndUser(Post post, User user);
 
+    // Like는 HQL 예약어와 겹치므로 쿼리에서는 엔티티를 FQCN으로 쓴다
+    // 취소 후 다시 누른 좋아요는 updatedAt이 마지막으로 누른 시각이다.
+    // 데이터 내보내기용: fetch size를 환경마다 다르게 줘야 하므로 StreamingQueries로 실행한다
+    String EXPORT_ROWS_BY_USER_ID = """
+            select new com.example.ktb3community.post.dto.LikeExportRow(l.post.id, l.updatedAt)
+            from com.example.ktb3community.post.domain.Like l
+            where l.user.id = :userId and l.deletedAt is null
+            order by l.id
+            """;
+
+
+    @Query("""
+            select new com.example.ktb3community.post.dto.LikeRef(l.id, l.post.id)
+            from com.example.ktb3community.post.domain.Like l
+            where l.user.id = :userId and l.deletedAt is null and l.id > :afterId
+            order by l.id
+            """)
+    List<LikeRef> findLiveRefsByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 같은 트랜잭션에서 진행 상태(Job)를 갱신하므로 영속성 컨텍스트를 비우지 않는다
+    @Modifying
+    @Query("update com.example.ktb3community.post.domain.Like l set l.deletedAt = :now " +
+            "where l.user.id = :userId and l.id in :ids and l.deletedAt is null")
+    int softDeleteByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    @Query("""
+            select l.id
+            from com.example.ktb3community.post.domain.Like l
+            where l.post.id = :postId and l.deletedAt is null and l.id > :afterId
+            order by l.id
+            """)
+    List<Long> findLiveIdsByPostId(@Param("postId") Long postId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 같은 트랜잭션에서 진행 상태(Job)를 갱신하므로 영속성 컨텍스트를 비우지 않는다
+    @Modifying
+    @Query("update com.example.ktb3community.post.domain.Like l set l.deletedAt = :now " +
+            "where l.post.id = :postId and l.id in :ids and l.deletedAt is null")
+    int softDeleteByPostIdAndIdIn(@Param("postId") Long postId, @Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    @Query("""
+            select new com.example.ktb3community.post.dto.PostCount(l.post.id, count(l))
+            from com.example.ktb3community.post.domain.Like l
+            where l.post.id in :postIds and l.deletedAt is null
+            group by l.post.id
+            """)
+    List<PostCount> countLiveByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
@@ -1,14 +1,23 @@
 package com.example.ktb3community.post.repository;
 
+import com.example.ktb3community.common.sql.StreamingQueries;
 import com.example.ktb3community.post.domain.Like;
 import com.example.ktb3community.post.domain.Post;
+import com.example.ktb3community.post.dto.LikeExportRow;
+import com.example.ktb3community.post.dto.LikeRef;
+import com.example.ktb3community.post.dto.PostCount;
 import com.example.ktb3community.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Repository
 @Primary
@@ -16,6 +25,7 @@ import java.time.Instant;
 public class JpaPostLikeRepositoryAdapter implements PostLikeRepository {
 
     private final JpaPostLikeRepository jpaPostLikeRepository;
+    private final StreamingQueries streamingQueries;
 
     @Override
     @Transactional(readOnly = true)
@@ -52,4 +62,35 @@ public class JpaPostLikeRepositoryAdapter implements PostLikeRepository {
                 })
                 .orElse(false);
     }
+
+    @Override
+    public Stream<LikeExportRow> streamExportRowsByUserId(Long userId) {
+        return streamingQueries.stream(JpaPostLikeRepository.EXPORT_ROWS_BY_USER_ID, LikeExportRow.class,
+                Map.of("userId", userId));
+    }
+
+    @Override
+    public List<LikeRef> findLiveRefsByUserId(Long userId, Long afterId, int limit) {
+        return jpaPostLikeRepository.findLiveRefsByUserId(userId, afterId, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public int softDeleteByUserIdAndIdIn(Long userId, Collection<Long> ids, Instant now) {
+        return jpaPostLikeRepository.softDeleteByUserIdAndIdIn(userId, ids, now);
+    }
+
+    @Override
+    public List<PostCount> countLiveByPostIdIn(Collection<Long> postIds) {
+        return jpaPostLikeRepository.countLiveByPostIdIn(postIds);
+    }
+
+    @Override
+    public List<Long> findLiveIdsByPostId(Long postId, Long afterId, int limit) {
+        return jpaPostLikeRepository.findLiveIdsByPostId(postId, afterId, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public int softDeleteByPostIdAndIdIn(Long postId, Collection<Long> ids, Instant now) {
+        return jpaPostLikeRepository.softDeleteByPostIdAndIdIn(postId, ids, now);
+    }
 }
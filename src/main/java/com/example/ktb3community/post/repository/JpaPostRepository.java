@@ -1,22 +1,81 @@
 package com.example.ktb3community.post.repository;
 
 import com.example.ktb3community.post.domain.Post;
-import org.springframework.data.domain.Page;
+import com.example.ktb3community.post.dto.PostCounterSnapshot;
+import com.example.ktb3community.post.dto.PostListVersion;
+import com.example.ktb3community.post.dto.PostVersion;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface JpaPostRepository extends JpaRepository<Post, Long> {
-    Optional<Post> findByIdAndDeletedAtIsNull(Long id);
+    // Slice는 한 건 더 읽어 다음 페이지 유무만 판단하고 count 쿼리를 보내지 않는다
+    Slice<Post> findByDeletedAtIsNull(Pageable pageable);
 
-    Page<Post> findByDeletedAtIsNull(Pageable pageable);
+    long countByDeletedAtIsNull();
+
+    // 엔티티를 로딩하지 않고 게시글 행과 작성자(PK 조인)의 버전만 projection으로 가져온다.
+    // 댓글 작성/삭제는 comment_count와 updated_at을 바꾸므로 댓글 테이블은 훑지 않는다
+    @Query("""
+            select new com.example.ktb3community.post.dto.PostVersion(p.updatedAt, u.updatedAt, p.commentCount)
+            from Post p join p.user u
+            where p.id = :id and p.deletedAt is null
+            """)
+    Optional<PostVersion> findVersionById(@Param("id") Long id);
+
+    @Query("select p.user.id from Post p where p.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    // 벌크 soft delete는 updated_at을 건드리지 않으므로 마지막 삭제 시각도 함께 워터마크로 쓴다
+    // (count(*) 대신 deleted_at 인덱스 끝 한 건만 읽는다)
+    @Query("""
+            select new com.example.ktb3community.post.dto.PostListVersion(
+                max(p.updatedAt),
+                (select max(d.deletedAt) from Post d),
+                (select max(u.updatedAt) from User u))
+            from Post p
+            where p.deletedAt is null
+            """)
+    PostListVersion findListVersion();
+
+    // 데이터 내보내기용: fetch size를 환경마다 다르게 줘야 하므로 StreamingQueries로 실행한다
+    String EXPORT_ROWS_BY_USER_ID = """
+            select new com.example.ktb3community.post.dto.PostExportRow(
+                p.id, p.title, p.content, p.postImageUrl,
+                p.likeCount, p.viewCount, p.commentCount, p.createdAt, p.updatedAt)
+            from Post p
+            where p.user.id = :userId and p.deletedAt is null
+            order by p.id
+            """;
 
     @Modifying(clearAutomatically = true)
     @Query("update Post p set p.deletedAt = :now where p.user.id = :userId and p.deletedAt is null")
     int softDeleteByUserId(@Param("userId") Long userId, @Param("now") Instant now);
+
+    @Query("select p.id from Post p " +
+            "where p.user.id = :userId and p.deletedAt is null and p.id > :afterId " +
+            "order by p.id")
+    List<Long> findLiveIdsByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 같은 트랜잭션에서 진행 상태(Job)를 갱신하므로 영속성 컨텍스트를 비우지 않는다
+    @Modifying
+    @Query("update Post p set p.deletedAt = :now " +
+            "where p.user.id = :userId and p.id in :ids and p.deletedAt is null")
+    int softDeleteByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    @Query("""
+            select new com.example.ktb3community.post.dto.PostCounterSnapshot(p.id, p.likeCount, p.commentCount)
+            from Post p
+            where p.deletedAt is null and p.id > :afterId
+            order by p.id
+            """)
+    List<PostCounterSnapshot> findCounterSnapshots(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -1,31 +1,78 @@
 package com.example.ktb3community.post.repository;
 
+import com.example.ktb3community.common.sql.StreamingQueries;
 import com.example.ktb3community.post.domain.Post;
+import com.example.ktb3community.post.dto.PostCounterCorrection;
+import com.example.ktb3community.post.dto.PostCounterDelta;
+import com.example.ktb3community.post.dto.PostCounterSnapshot;
+import com.example.ktb3community.post.dto.PostExportRow;
+import com.example.ktb3community.post.dto.PostListVersion;
+import com.example.ktb3community.post.dto.PostVersion;
 import com.example.ktb3community.post.exception.PostNotFoundException;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Primary;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TimeZone;
+import java.util.stream.Stream;
 
 @Repository
 @AllArgsConstructor
 @Primary
 public class JpaPostRepositoryAdapter implements PostRepository {
 
+    private static final String APPLY_COUNTER_DELTA_SQL = """
+            update posts
+            set like_count = greatest(like_count + ?, 0),
+                comment_count = greatest(comment_count + ?, 0),
+                updated_at = ?
+            where id = ?
+            """;
+
+    private static final String APPLY_COUNTER_CORRECTION_SQL = """
+            update posts
+            set like_count = ?,
+                comment_count = ?,
+                updated_at = ?
+            where id = ? and like_count = ? and comment_count = ?
+            """;
+
+    // Hibernate가 Instant를 UTC 기준으로 저장하므로 JDBC로 쓸 때도 같은 기준으로 바인딩한다
+    private static final TimeZone UTC = TimeZone.getTimeZone(ZoneOffset.UTC);
+
     private JpaPostRepository jpaPostRepository;
+    private JdbcTemplate jdbcTemplate;
+    private EntityManagerFactory entityManagerFactory;
+    private StreamingQueries streamingQueries;
 
     @Override
     public Post save(Post post) {
         return jpaPostRepository.save(post);
     }
 
+    // PK 조회(em.find)로 2차 캐시를 타고, 삭제 여부는 애플리케이션에서 거른다
     @Override
     public Optional<Post> findById(Long id) {
-        return jpaPostRepository.findByIdAndDeletedAtIsNull(id);
+        return jpaPostRepository.findById(id)
+                .filter(post -> post.getDeletedAt() == null);
     }
 
     @Override
@@ -34,12 +81,124 @@ public class JpaPostRepositoryAdapter implements PostRepository {
     }
 
     @Override
-    public Page<Post> findAll(Pageable pageable) {
+    public Slice<Post> findAll(Pageable pageable) {
         return jpaPostRepository.findByDeletedAtIsNull(pageable);
     }
 
+    @Override
+    public long countLive() {
+        return jpaPostRepository.countByDeletedAtIsNull();
+    }
+
+    @Override
+    public Optional<PostVersion> findVersionById(Long id) {
+        return jpaPostRepository.findVersionById(id);
+    }
+
+    @Override
+    public void flush() {
+        jpaPostRepository.flush();
+    }
+
+    @Override
+    public Optional<Long> findUserIdById(Long id) {
+        return jpaPostRepository.findUserIdById(id);
+    }
+
+    @Override
+    public PostListVersion findListVersion() {
+        return jpaPostRepository.findListVersion();
+    }
+
+    @Override
+    public Stream<PostExportRow> streamExportRowsByUserId(Long userId) {
+        return streamingQueries.stream(JpaPostRepository.EXPORT_ROWS_BY_USER_ID, PostExportRow.class,
+                Map.of("userId", userId));
+    }
+
     @Override
     public int softDeleteByUserId(Long userId, Instant now) {
         return jpaPostRepository.softDeleteByUserId(userId, now);
     }
+
+    @Override
+    public List<Long> findLiveIdsByUserId(Long userId, Long afterId, int limit) {
+        return jpaPostRepository.findLiveIdsByUserId(userId, afterId, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public int softDeleteByUserIdAndIdIn(Long userId, Collection<Long> ids, Instant now) {
+        return jpaPostRepository.softDeleteByUserIdAndIdIn(userId, ids, now);
+    }
+
+    // JPQL 벌크 UPDATE는 post 캐시 영역 전체를 비우므로 JDBC 배치로 쓰고 해당 id만 캐시에서 뺀다
+    @Override
+    public int applyCounterDeltas(Collection<PostCounterDelta> deltas, Instant now) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        // 여러 작업이 같은 게시글들을 갱신할 때 잠금 순서를 고정해 데드락을 피한다
+        List<PostCounterDelta> sorted = deltas.stream()
+                .sorted(Comparator.comparing(PostCounterDelta::postId))
+                .toList();
+        Timestamp updatedAt = Timestamp.from(now);
+        int[][] results = jdbcTemplate.batchUpdate(APPLY_COUNTER_DELTA_SQL, sorted, sorted.size(), (ps, delta) -> {
+            ps.setLong(1, delta.likeDelta());
+            ps.setLong(2, delta.commentDelta());
+            ps.setTimestamp(3, updatedAt, Calendar.getInstance(UTC));
+            ps.setLong(4, delta.postId());
+        });
+        evictPostsAround(sorted.stream().map(PostCounterDelta::postId).toList());
+        return updatedRows(results);
+    }
+
+    @Override
+    public List<PostCounterSnapshot> findCounterSnapshots(Long afterId, int limit) {
+        return jpaPostRepository.findCounterSnapshots(afterId, PageRequest.ofSize(limit));
+    }
+
+    // applyCounterDeltas와 같은 이유로 JDBC 배치 + 대상 id만 캐시 제거
+    @Override
+    public int applyCounterCorrections(Collection<PostCounterCorrection> corrections, Instant now) {
+        if (corrections.isEmpty()) {
+            return 0;
+        }
+        List<PostCounterCorrection> sorted = corrections.stream()
+                .sorted(Comparator.comparing(PostCounterCorrection::postId))
+                .toList();
+        Timestamp updatedAt = Timestamp.from(now);
+        int[][] results = jdbcTemplate.batchUpdate(APPLY_COUNTER_CORRECTION_SQL, sorted, sorted.size(), (ps, correction) -> {
+            ps.setLong(1, correction.likeCount());
+            ps.setLong(2, correction.commentCount());
+            ps.setTimestamp(3, updatedAt, Calendar.getInstance(UTC));
+            ps.setLong(4, correction.postId());
+            ps.setLong(5, correction.expectedLikeCount());
+            ps.setLong(6, correction.expectedCommentCount());
+        });
+        evictPostsAround(sorted.stream().map(PostCounterCorrection::postId).toList());
+        return updatedRows(results);
+    }
+
+    private void evictPostsAround(List<Long> postIds) {
+        evictPosts(postIds);
+        // 커밋 전에 다른 트랜잭션이 이전 값을 다시 캐시에 올렸을 수 있으므로 커밋 후에도 한 번 더 비운다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictPosts(postIds);
+                }
+            });
+        }
+    }
+
+    // 드라이버가 배치 결과를 SUCCESS_NO_INFO(-2)로 돌려줄 수 있어 음수는 0으로 센다
+    private static int updatedRows(int[][] results) {
+        return Arrays.stream(results).flatMapToInt(Arrays::stream).map(count -> Math.max(count, 0)).sum();
+    }
+
+    private void evictPosts(List<Long> postIds) {
+        Cache cache = entityManagerFactory.getCache();
+        postIds.forEach(postId -> cache.evict(Post.class, postId));
+    }
 }
@@ -1,12 +1,34 @@
 package com.example.ktb3community.post.repository;
 
 import com.example.ktb3community.post.domain.Post;
+import com.example.ktb3community.post.dto.LikeExportRow;
+import com.example.ktb3community.post.dto.LikeRef;
+import com.example.ktb3community.post.dto.PostCount;
 import com.example.ktb3community.user.domain.User;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 public interface PostLikeRepository {
     boolean exists(Post post, User user);
 
     boolean add(Post post, User user);
 
     boolean remove(Post post, User user);
+
+    // 호출 측에서 트랜잭션 안에서 소비하고 닫아야 한다
+    Stream<LikeExportRow> streamExportRowsByUserId(Long userId);
+
+    List<LikeRef> findLiveRefsByUserId(Long userId, Long afterId, int limit);
+
+    int softDeleteByUserIdAndIdIn(Long userId, Collection<Long> ids, Instant now);
+
+    List<Long> findLiveIdsByPostId(Long postId, Long afterId, int limit);
+
+    int softDeleteByPostIdAndIdIn(Long postId, Collection<Long> ids, Instant now);
+
+    // 좋아요가 하나도 없는 게시글은 결과에 없다
+    List<PostCount> countLiveByPostIdIn(Collection<Long> postIds);
 }
@@ -1,12 +1,21 @@
 package com.example.ktb3community.post.repository;
 
 import com.example.ktb3community.post.domain.Post;
+import com.example.ktb3community.post.dto.PostCounterCorrection;
+import com.example.ktb3community.post.dto.PostCounterDelta;
+import com.example.ktb3community.post.dto.PostCounterSnapshot;
+import com.example.ktb3community.post.dto.PostExportRow;
+import com.example.ktb3community.post.dto.PostListVersion;
+import com.example.ktb3community.post.dto.PostVersion;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PostRepository {
     Post save(Post post);
@@ -15,7 +24,35 @@ public interface PostRepository {
 
     Post findByIdOrThrow(Long id);
 
-    Page<Post> findAll(Pageable pageable);
+    // 전체 개수는 세지 않는다 (페이지 수는 PostTotalsService의 근사값으로 계산)
+    Slice<Post> findAll(Pageable pageable);
+
+    long countLive();
+
+    Optional<PostVersion> findVersionById(Long id);
+
+    // 보류 중인 변경을 DB에 반영해 감사 필드(updatedAt)를 확정한다
+    void flush();
+
+    // 삭제된 게시글도 포함한다 (삭제 진행 상태 조회 시 작성자 확인용)
+    Optional<Long> findUserIdById(Long id);
+
+    PostListVersion findListVersion();
+
+    // 호출 측에서 트랜잭션 안에서 소비하고 닫아야 한다
+    Stream<PostExportRow> streamExportRowsByUserId(Long userId);
 
     int softDeleteByUserId(Long userId, Instant now);
+
+    List<Long> findLiveIdsByUserId(Long userId, Long afterId, int limit);
+
+    int softDeleteByUserIdAndIdIn(Long userId, Collection<Long> ids, Instant now);
+
+    // 조회 없이 원자적으로 카운터를 더한다 (updated_at도 갱신)
+    int applyCounterDeltas(Collection<PostCounterDelta> deltas, Instant now);
+
+    List<PostCounterSnapshot> findCounterSnapshots(Long afterId, int limit);
+
+    // 그 사이 카운터가 바뀐 게시글은 건너뛰고 실제로 고친 행 수를 돌려준다
+    int applyCounterCorrections(Collection<PostCounterCorrection> corrections, Instant now);
 }
@@ -1,5 +1,6 @@
 package com.example.ktb3community.post.service;
 
+import com.example.ktb3community.notification.service.NotificationCollector;
 import com.example.ktb3community.post.domain.Post;
 import com.example.ktb3community.post.dto.LikeResponse;
 import com.example.ktb3community.post.repository.PostLikeRepository;
@@ -16,6 +17,8 @@ public class LikeService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
+    private final PostEventHub postEventHub;
+    private final NotificationCollector notificationCollector;
 
     @Transactional
     public LikeResponse likePost(Long postId, Long userId){
@@ -24,6 +27,8 @@ public class LikeService {
         boolean added = postLikeRepository.add(post, user);
         if (added) {
             post.increaseLikeCount();
+            postEventHub.likeChanged(postId, 1);
+            notificationCollector.liked(post.getUserId(), postId, userId);
         }
         return new LikeResponse(post.getLikeCount(), post.getViewCount(), post.getCommentCount());
     }
@@ -35,6 +40,7 @@ public class LikeService {
         boolean removed = postLikeRepository.remove(post, user);
         if (removed) {
             post.decreaseLikeCount();
+            postEventHub.likeChanged(postId, -1);
         }
         return new LikeResponse(post.getLikeCount(), post.getViewCount(), post.getCommentCount());
     }
@@ -0,0 +1,238 @@
+package com.example.ktb3community.post.service;
+
+import com.example.ktb3community.comment.repository.CommentRepository;
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.post.dto.CounterReconcileResponse;
+import com.example.ktb3community.post.dto.PostCount;
+import com.example.ktb3community.post.dto.PostCounterCorrection;
+import com.example.ktb3community.post.dto.PostCounterSnapshot;
+import com.example.ktb3community.post.repository.PostLikeRepository;
+import com.example.ktb3community.post.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 게시글의 좋아요/댓글 카운터를 likes/comments 실제 개수와 비교해 어긋난 것만 고친다.
+// id 키셋 chunk마다 짧은 트랜잭션으로 읽고 고치며, 읽은 뒤 카운터가 바뀐 게시글은 덮어쓰지 않고 다음 실행에 맡긴다.
+// 조회수는 원천 데이터가 없어 대상이 아니다
+@Slf4j
+@Component
+public class PostCounterReconciler {
+
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final int maxChunksPerRun;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Counter scannedCounter;
+    private final Counter correctedCounter;
+    private final Counter skippedCounter;
+    private final DistributionSummary likeDrift;
+    private final DistributionSummary commentDrift;
+    private final Timer runTimer;
+    private final AtomicLong lastRunCorrected = new AtomicLong();
+    private final ExecutorService executor;
+
+    public PostCounterReconciler(
+            PostRepository postRepository,
+            PostLikeRepository postLikeRepository,
+            CommentRepository commentRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.post-counter-reconcile.chunk-size:500}") int chunkSize,
+            @Value("${app.post-counter-reconcile.pause-ms:100}") long pauseMillis,
+            @Value("${app.post-counter-reconcile.max-chunks-per-run:10000}") int maxChunksPerRun) {
+        this.postRepository = postRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.scannedCounter = Counter.builder("post.counter.reconcile.scanned")
+                .description("점검한 게시글 수")
+                .register(meterRegistry);
+        this.correctedCounter = Counter.builder("post.counter.reconcile.corrected")
+                .description("카운터를 고친 게시글 수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("post.counter.reconcile.skipped")
+                .description("어긋났지만 점검 중에 카운터가 바뀌어 건너뛴 게시글 수")
+                .register(meterRegistry);
+        this.likeDrift = DistributionSummary.builder("post.counter.drift")
+                .description("어긋난 게시글 하나의 카운터 차이(절댓값)")
+                .tag("counter", "like")
+                .register(meterRegistry);
+        this.commentDrift = DistributionSummary.builder("post.counter.drift")
+                .description("어긋난 게시글 하나의 카운터 차이(절댓값)")
+                .tag("counter", "comment")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("post.counter.reconcile.duration")
+                .description("정합성 점검 1회 실행 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("post.counter.reconcile.last_run_corrected", lastRunCorrected);
+        // 관리자 요청으로 시작한 점검은 요청 스레드를 붙잡지 않도록 전용 스레드에서 돈다
+        this.executor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("post-counter-reconciler").daemon().factory());
+    }
+
+    @Scheduled(cron = "${app.post-counter-reconcile.cron:0 0 5 * * *}")
+    public void run() {
+        tryReconcile().ifPresentOrElse(
+                result -> log.info("[post counter reconcile] {}건 점검, {}건 수정", result.scanned(), result.corrected()),
+                () -> log.info("[post counter reconcile] 이미 실행 중이라 건너뜀"));
+    }
+
+    // 관리자 요청으로 점검을 시작하고 바로 돌아간다. 실행 중이면 CONFLICT.
+    // 결과는 로그와 post.counter.reconcile.* 지표로 확인한다
+    public CompletableFuture<CounterReconcileResponse> startReconcile() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.CONFLICT);
+        }
+        try {
+            return CompletableFuture.supplyAsync(this::reconcileClaimed, executor)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.warn("[post counter reconcile] 실패", e);
+                        } else {
+                            log.info("[post counter reconcile] {}건 점검, {}건 수정", result.scanned(), result.corrected());
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 점검은 chunk 사이 대기에서 인터럽트를 받고 멈춘다
+        executor.shutdownNow();
+    }
+
+    private Optional<CounterReconcileResponse> tryReconcile() {
+        if (!running.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+        return Optional.of(reconcileClaimed());
+    }
+
+    // running을 차지한 호출자만 부른다
+    private CounterReconcileResponse reconcileClaimed() {
+        try {
+            CounterReconcileResponse result = runTimer.record(this::reconcileAll);
+            lastRunCorrected.set(result.corrected());
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private CounterReconcileResponse reconcileAll() {
+        long afterId = 0L;
+        ChunkResult total = ChunkResult.EMPTY;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            long cursor = afterId;
+            ChunkResult result = transactionTemplate.execute(status -> reconcileChunk(cursor));
+            if (result == null || result.scanned() == 0) {
+                break;
+            }
+            total = total.plus(result);
+            afterId = result.lastPostId();
+
+            if (result.scanned() < chunkSize || !pause()) {
+                break;
+            }
+        }
+        return new CounterReconcileResponse(total.scanned(), total.corrected(), total.likeDrift(), total.commentDrift());
+    }
+
+    private ChunkResult reconcileChunk(long afterId) {
+        List<PostCounterSnapshot> snapshots = postRepository.findCounterSnapshots(afterId, chunkSize);
+        if (snapshots.isEmpty()) {
+            return ChunkResult.EMPTY;
+        }
+        List<Long> postIds = snapshots.stream().map(PostCounterSnapshot::postId).toList();
+        Map<Long, Long> likes = toMap(postLikeRepository.countLiveByPostIdIn(postIds));
+        Map<Long, Long> comments = toMap(commentRepository.countLiveByPostIdIn(postIds));
+
+        List<PostCounterCorrection> corrections = new ArrayList<>();
+        long likeDriftSum = 0;
+        long commentDriftSum = 0;
+        for (PostCounterSnapshot snapshot : snapshots) {
+            long likeCount = likes.getOrDefault(snapshot.postId(), 0L);
+            long commentCount = comments.getOrDefault(snapshot.postId(), 0L);
+            if (likeCount == snapshot.likeCount() && commentCount == snapshot.commentCount()) {
+                continue;
+            }
+            long likeDiff = Math.abs(likeCount - snapshot.likeCount());
+            long commentDiff = Math.abs(commentCount - snapshot.commentCount());
+            if (likeDiff > 0) {
+                likeDrift.record(likeDiff);
+            }
+            if (commentDiff > 0) {
+                commentDrift.record(commentDiff);
+            }
+            likeDriftSum += likeDiff;
+            commentDriftSum += commentDiff;
+            corrections.add(new PostCounterCorrection(snapshot.postId(),
+                    snapshot.likeCount(), snapshot.commentCount(), likeCount, commentCount));
+        }
+        int corrected = postRepository.applyCounterCorrections(corrections, Instant.now());
+
+        scannedCounter.increment(snapshots.size());
+        correctedCounter.increment(corrected);
+        skippedCounter.increment(corrections.size() - corrected);
+        return new ChunkResult(snapshots.getLast().postId(), snapshots.size(), corrected, likeDriftSum, commentDriftSum);
+    }
+
+    private static Map<Long, Long> toMap(List<PostCount> counts) {
+        return counts.stream().collect(Collectors.toMap(PostCount::postId, PostCount::count));
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record ChunkResult(long lastPostId, long scanned, long corrected, long likeDrift, long commentDrift) {
+        static final ChunkResult EMPTY = new ChunkResult(0L, 0, 0, 0, 0);
+
+        ChunkResult plus(ChunkResult other) {
+            return new ChunkResult(other.lastPostId, scanned + other.scanned, corrected + other.corrected,
+                    likeDrift + other.likeDrift, commentDrift + other.commentDrift);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.ktb3community.post.service;
+
+import com.example.ktb3community.comment.repository.CommentRepository;
+import com.example.ktb3community.job.domain.Job;
+import com.example.ktb3community.job.domain.JobType;
+import com.example.ktb3community.job.service.JobHandler;
+import com.example.ktb3community.post.repository.PostLikeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+// 삭제된 게시글의 댓글 → 좋아요를 chunk 단위로 soft delete 한다.
+// 이미 지운 행은 조건에서 빠지므로 같은 chunk를 다시 돌려도 결과가 같다
+@Component
+public class PostDeletionJobHandler implements JobHandler {
+
+    enum Stage { COMMENTS, LIKES }
+
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final int chunkSize;
+
+    public PostDeletionJobHandler(
+            CommentRepository commentRepository,
+            PostLikeRepository postLikeRepository,
+            @Value("${app.post-deletion.chunk-size:1000}") int chunkSize) {
+        this.commentRepository = commentRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public JobType type() {
+        return JobType.POST_DELETION;
+    }
+
+    @Override
+    public String initialStage() {
+        return Stage.COMMENTS.name();
+    }
+
+    @Override
+    public void runChunk(Job job, Instant now) {
+        Long postId = job.getTargetId();
+        switch (Stage.valueOf(job.getStage())) {
+            case COMMENTS -> {
+                List<Long> ids = commentRepository.findLiveIdsByPostId(postId, job.getCursorId(), chunkSize);
+                if (!ids.isEmpty()) {
+                    commentRepository.softDeleteByPostIdAndIdIn(postId, ids, now);
+                    job.advance(ids.getLast(), ids.size());
+                }
+                if (ids.size() < chunkSize) {
+                    job.moveTo(Stage.LIKES.name());
+                }
+            }
+            case LIKES -> {
+                List<Long> ids = postLikeRepository.findLiveIdsByPostId(postId, job.getCursorId(), chunkSize);
+                if (!ids.isEmpty()) {
+                    postLikeRepository.softDeleteByPostIdAndIdIn(postId, ids, now);
+                    job.advance(ids.getLast(), ids.size());
+                }
+                if (ids.size() < chunkSize) {
+                    job.complete(now);
+                }
+            }
+        }
+    }
+}
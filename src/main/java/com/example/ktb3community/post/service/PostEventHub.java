@@ -0,0 +1,317 @@
+package com.example.ktb3community.post.service;
+
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.post.dto.PostEvent;
+import com.example.ktb3community.post.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 게시글 상세를 보고 있는 클라이언트에게 카운터 변화를 SSE로 보내는 프로세스 내 pub/sub.
+// 변화량은 게시글마다 합쳐 두었다가 flush 주기마다 게시글당 최대 한 번만 보내고,
+// 전송은 연결별 버퍼와 전용 풀에서 처리해 느린 연결이 다른 연결을 막지 않게 한다
+@Component
+public class PostEventHub {
+
+    private static final String EVENT_NAME = "counts";
+    // 한 이벤트에 싣는 새 댓글 id 수 (넘치면 카운터 변화량만 반영된다)
+    private static final int MAX_NEW_COMMENT_IDS = 20;
+    // 버퍼 안에서 heartbeat 자리를 표시하는 값 (SSE 주석으로 나간다)
+    private static final PostEvent HEARTBEAT = new PostEvent(null, 0, 0, 0, List.of());
+    // 전송 중이 아님을 나타내는 sendStartedAt 값
+    private static final long IDLE = Long.MIN_VALUE;
+
+    private final PostRepository postRepository;
+    private final int maxConnections;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final long sendTimeoutNanos;
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, PostEvent> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+    private final ThreadPoolExecutor senders;
+    private final Counter sentCounter;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+    private final Counter stalledCounter;
+
+    public PostEventHub(
+            PostRepository postRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.post-events.flush-interval-ms:1000}") long flushIntervalMs,
+            @Value("${app.post-events.heartbeat-interval-ms:20000}") long heartbeatIntervalMs,
+            @Value("${app.post-events.max-connections:1000}") int maxConnections,
+            @Value("${app.post-events.buffer-size:16}") int bufferSize,
+            @Value("${app.post-events.timeout-ms:1800000}") long timeoutMs,
+            @Value("${app.post-events.sender-threads:4}") int senderThreads,
+            @Value("${app.post-events.send-timeout-ms:5000}") long sendTimeoutMs) {
+        this.postRepository = postRepository;
+        this.maxConnections = maxConnections;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        // 다른 @Scheduled 작업(정합성 점검, 보관 이동)이 길어져도 flush가 밀리지 않도록 전용 스레드를 쓴다
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("post-event-flusher").daemon().factory());
+        this.senders = new ThreadPoolExecutor(
+                senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(maxConnections, 1)),
+                Thread.ofPlatform().name("post-event-sender-", 1).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+        long stallCheckMs = Math.max(1, Math.min(sendTimeoutMs, flushIntervalMs));
+        scheduler.scheduleWithFixedDelay(this::expireStalledSends, stallCheckMs, stallCheckMs, TimeUnit.MILLISECONDS);
+
+        this.sentCounter = Counter.builder("post.events.sent")
+                .description("구독자에게 보낸 카운터 이벤트 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("post.events.rejected")
+                .description("연결 수 제한으로 거절한 구독 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("post.events.dropped")
+                .description("버퍼가 넘쳐 끊은 느린 연결 수")
+                .register(meterRegistry);
+        this.stalledCounter = Counter.builder("post.events.send_timeout")
+                .description("전송 하나가 기한을 넘겨 끊은 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("post.events.connections", connections, AtomicInteger::get)
+                .description("열려 있는 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long postId) {
+        postRepository.findByIdOrThrow(postId);
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            rejectedCounter.increment();
+            throw new BusinessException(ErrorCode.POST_EVENTS_BUSY);
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(postId, emitter, bufferSize);
+        subscribers.compute(postId, (id, targets) -> {
+            Set<Subscriber> next = targets != null ? targets : ConcurrentHashMap.newKeySet();
+            next.add(subscriber);
+            return next;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        // 만료되면 정상 종료시키고 클라이언트(EventSource)가 다시 연결하게 한다
+        emitter.onTimeout(emitter::complete);
+        // 첫 바이트를 바로 내보내 프록시/브라우저가 연결을 열린 상태로 인식하게 한다
+        deliver(subscriber, HEARTBEAT);
+        return emitter;
+    }
+
+    public void likeChanged(Long postId, int delta) {
+        publish(new PostEvent(postId, delta, 0, 0, List.of()));
+    }
+
+    public void commentAdded(Long postId, Long commentId) {
+        publish(new PostEvent(postId, 0, 1, 0, List.of(commentId)));
+    }
+
+    public void commentRemoved(Long postId) {
+        publish(new PostEvent(postId, 0, -1, 0, List.of()));
+    }
+
+    public void viewed(Long postId) {
+        publish(new PostEvent(postId, 0, 0, 1, List.of()));
+    }
+
+    // 주기마다 쌓인 변화량을 게시글당 하나의 이벤트로 구독자 버퍼에 넣는다
+    public void flush() {
+        for (Long postId : pending.keySet()) {
+            PostEvent event = pending.remove(postId);
+            Set<Subscriber> targets = subscribers.get(postId);
+            if (event == null || targets == null) {
+                continue;
+            }
+            targets.forEach(subscriber -> deliver(subscriber, event));
+        }
+    }
+
+    // 변화가 없어도 주기적으로 써서 끊어진 연결을 찾아내고 프록시 유휴 타임아웃을 피한다
+    public void heartbeat() {
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> deliver(subscriber, HEARTBEAT)));
+    }
+
+    // 상대가 읽지 않아 전송이 소켓에서 막힌 연결을 찾아 끊는다.
+    // 막힌 전송 자체는 컨테이너의 쓰기 타임아웃(server.tomcat.connection-timeout)에서 풀리고, 그 전에 연결 자리와 버퍼부터 돌려받는다
+    public void expireStalledSends() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> {
+            long startedAt = subscriber.sendStartedAt;
+            if (startedAt != IDLE && now - startedAt > sendTimeoutNanos && unsubscribe(subscriber)) {
+                stalledCounter.increment();
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        senders.shutdown();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    // 커밋된 변화만 알리도록 트랜잭션 안에서는 커밋 후에 합친다. 보고 있는 사람이 없으면 모으지 않는다
+    private void publish(PostEvent event) {
+        if (!subscribers.containsKey(event.postId())) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.merge(event.postId(), event, PostEventHub::merge);
+                }
+            });
+            return;
+        }
+        pending.merge(event.postId(), event, PostEventHub::merge);
+    }
+
+    private void deliver(Subscriber subscriber, PostEvent event) {
+        if (!subscriber.buffer.offer(event)) {
+            // 변화량을 빠뜨린 채 이어 보내면 클라이언트 값이 틀어지므로 연결을 끊어 재연결(상세 재조회)을 유도한다
+            droppedCounter.increment();
+            close(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            senders.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+            if (unsubscribe(subscriber)) {
+                droppedCounter.increment();
+            }
+            // 이 연결로 보내는 스레드가 없으므로 여기서 끝내도 막히지 않는다
+            complete(subscriber);
+        }
+    }
+
+    // 끊긴 연결은 보내지 않고 여기서 완료한다. emitter.complete()는 진행 중인 send를 기다리므로
+    // 다른 스레드(flush, 기한 점검)에서 부르면 막힌 전송에 같이 묶인다
+    private void drain(Subscriber subscriber) {
+        try {
+            PostEvent event;
+            while (!subscriber.closed.get() && (event = subscriber.buffer.poll()) != null) {
+                send(subscriber, event);
+            }
+            if (subscriber.closed.get()) {
+                complete(subscriber);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 완료된 연결이다 (IOException이면 컨테이너가 onError도 호출한다)
+            unsubscribe(subscriber);
+            subscriber.completed.set(true);
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // 전송 플래그를 내린 사이에 들어온 이벤트나 끊기 요청을 놓치지 않는다
+        if (subscriber.closed.get() ? !subscriber.completed.get() : !subscriber.buffer.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void complete(Subscriber subscriber) {
+        if (subscriber.completed.compareAndSet(false, true)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void send(Subscriber subscriber, PostEvent event) throws IOException {
+        subscriber.sendStartedAt = System.nanoTime();
+        try {
+            if (event == HEARTBEAT) {
+                subscriber.emitter.send(SseEmitter.event().comment("keepalive"));
+            } else {
+                subscriber.emitter.send(SseEmitter.event().name(EVENT_NAME).data(event));
+                sentCounter.increment();
+            }
+        } finally {
+            subscriber.sendStartedAt = IDLE;
+        }
+    }
+
+    // 완료는 전송 스레드가 한다
+    private void close(Subscriber subscriber) {
+        unsubscribe(subscriber);
+        scheduleDrain(subscriber);
+    }
+
+    // 처음 끊은 호출만 true
+    private boolean unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        connections.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.postId, (id, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+        subscriber.buffer.clear();
+        return true;
+    }
+
+    private static PostEvent merge(PostEvent current, PostEvent next) {
+        List<Long> commentIds = current.newCommentIds();
+        if (!next.newCommentIds().isEmpty() && commentIds.size() < MAX_NEW_COMMENT_IDS) {
+            commentIds = new ArrayList<>(commentIds);
+            commentIds.addAll(next.newCommentIds());
+            commentIds = List.copyOf(commentIds.subList(0, Math.min(commentIds.size(), MAX_NEW_COMMENT_IDS)));
+        }
+        return new PostEvent(current.postId(),
+                current.likeDelta() + next.likeDelta(),
+                current.commentDelta() + next.commentDelta(),
+                current.viewDelta() + next.viewDelta(),
+                commentIds);
+    }
+
+    private static final class Subscriber {
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<PostEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile long sendStartedAt = IDLE;
+
+        private Subscriber(Long postId, SseEmitter emitter, int bufferSize) {
+            this.postId = postId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.example.ktb3community.post.service;
 
-import com.example.ktb3community.comment.repository.CommentRepository;
 import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.job.domain.Job;
+import com.example.ktb3community.job.domain.JobType;
+import com.example.ktb3community.job.dto.JobStatusResponse;
+import com.example.ktb3community.job.service.JobService;
+import com.example.ktb3community.outbox.domain.DomainEventType;
+import com.example.ktb3community.outbox.dto.ImageReplacedPayload;
+import com.example.ktb3community.outbox.service.DomainEventPublisher;
 import com.example.ktb3community.post.domain.Post;
 import com.example.ktb3community.post.dto.*;
+import com.example.ktb3community.post.exception.PostNotFoundException;
 import com.example.ktb3community.post.repository.PostRepository;
-import com.example.ktb3community.s3.service.FileService;
 import com.example.ktb3community.user.domain.User;
 import com.example.ktb3community.user.repository.UserRepository;
 import lombok.AllArgsConstructor;
@@ -14,20 +20,28 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Objects;
 
 @Service
 @AllArgsConstructor
 public class PostService implements PostCommentCounter {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
-    private final FileService fileService;
+    private final JobService jobService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final PostTotalsService postTotalsService;
 
     @Transactional
     public CreatePostResponse createPost(Long userId, CreatePostRequest createPostRequest) {
         User user = userRepository.findByIdOrThrow(userId);
         Post saved = postRepository.save(Post.createNew(user, createPostRequest.title(),
                 createPostRequest.content(), createPostRequest.postImageUrl()));
+        postTotalsService.postsCreated(1);
+        // 축소본은 커밋 후 구독자(ImageVariantGenerator)가 만든다
+        if (saved.getPostImageUrl() != null) {
+            domainEventPublisher.append(DomainEventType.POST_IMAGE_REPLACED, saved.getId(),
+                    new ImageReplacedPayload(null, saved.getPostImageUrl()));
+        }
         return new CreatePostResponse(saved.getId());
     }
 
@@ -40,10 +54,15 @@ public class PostService implements PostCommentCounter {
         }
         String previousImageUrl = post.getPostImageUrl();
         post.updatePost(createPostRequest.title(), createPostRequest.content(), createPostRequest.postImageUrl());
-        fileService.deleteImageIfChanged(previousImageUrl, post.getPostImageUrl());
+        // 이전 이미지 삭제와 새 이미지의 축소본 생성은 커밋 후 구독자(ReplacedImageCleaner, ImageVariantGenerator)가 한다
+        if (!Objects.equals(previousImageUrl, post.getPostImageUrl())) {
+            domainEventPublisher.append(DomainEventType.POST_IMAGE_REPLACED, postId,
+                    new ImageReplacedPayload(previousImageUrl, post.getPostImageUrl()));
+        }
         return new CreatePostResponse(post.getId());
     }
 
+    // 게시글만 바로 지우고 댓글/좋아요는 백그라운드 작업(PostDeletionJobHandler)이 나눠서 지운다
     @Transactional
     public void deletePost(Long postId, Long userId) {
         userRepository.findByIdOrThrow(userId);
@@ -51,10 +70,22 @@ public class PostService implements PostCommentCounter {
         if(!post.getUserId().equals(userId)){
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
         }
-        Instant now = Instant.now();
-        commentRepository.softDeleteByPostId(postId, now);
-        Post postToDelete = postRepository.findByIdOrThrow(postId);
-        postToDelete.delete(now);
+        post.delete(Instant.now());
+        postTotalsService.postsDeleted(1);
+        jobService.enqueue(JobType.POST_DELETION, postId);
+    }
+
+    @Transactional(readOnly = true)
+    public JobStatusResponse getDeletionStatus(Long postId, Long userId) {
+        Long authorId = postRepository.findUserIdById(postId)
+                .orElseThrow(PostNotFoundException::new);
+        if (!authorId.equals(userId)) {
+            throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
+        }
+        Job job = jobService.findLatest(JobType.POST_DELETION, postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
+        return new JobStatusResponse(job.getId(), job.getStatus(), job.getStage(), job.getProcessedCount(),
+                job.getCreatedAt(), job.getFinishedAt());
     }
 
     @Transactional
@@ -0,0 +1,87 @@
+package com.example.ktb3community.post.service;
+
+import com.example.ktb3community.post.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 목록 페이지 수 계산용 살아 있는 게시글 수 (근사값).
+// 매 요청 count(*) 대신 커밋된 생성/삭제만큼 더하고 빼며, 다른 인스턴스의 변경과 재동기화 중 놓친 변화는
+// 주기적인 재동기화로 맞춘다. 댓글 수는 게시글의 comment_count가 같은 역할을 하므로 따로 두지 않는다
+@Slf4j
+@Component
+public class PostTotalsService {
+
+    private static final long UNKNOWN = -1L;
+
+    private final PostRepository postRepository;
+    private final AtomicLong livePosts = new AtomicLong(UNKNOWN);
+    private final Counter resyncCounter;
+
+    public PostTotalsService(PostRepository postRepository, MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.resyncCounter = Counter.builder("post.totals.resync")
+                .description("살아 있는 게시글 수를 DB에서 다시 센 횟수")
+                .register(meterRegistry);
+    }
+
+    // 아직 한 번도 세지 않았으면(기동 직후) 이번 요청에서만 센다
+    public long livePostCount() {
+        long count = livePosts.get();
+        return count != UNKNOWN ? count : recount();
+    }
+
+    public void postsCreated(int count) {
+        afterCommit(count);
+    }
+
+    public void postsDeleted(int count) {
+        afterCommit(-count);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.post-totals.resync-interval-ms:60000}",
+            initialDelayString = "${app.post-totals.resync-interval-ms:60000}")
+    public void resync() {
+        recount();
+    }
+
+    private long recount() {
+        long count = postRepository.countLive();
+        long previous = livePosts.getAndSet(count);
+        resyncCounter.increment();
+        if (previous != UNKNOWN && previous != count) {
+            log.debug("[post totals] {} -> {}", previous, count);
+        }
+        return count;
+    }
+
+    private void afterCommit(long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(delta);
+                }
+            });
+            return;
+        }
+        apply(delta);
+    }
+
+    // 아직 세지 않은 상태에서는 더하지 않는다 (첫 재동기화가 이미 반영된 값을 읽는다)
+    private void apply(long delta) {
+        livePosts.updateAndGet(count -> count == UNKNOWN ? UNKNOWN : Math.max(count + delta, 0));
+    }
+}
@@ -3,22 +3,29 @@ package com.example.ktb3community.post.service;
 import com.example.ktb3community.comment.dto.CommentResponse;
 import com.example.ktb3community.comment.service.CommentService;
 import com.example.ktb3community.common.pagination.PageResponse;
+import com.example.ktb3community.common.util.Etags;
 import com.example.ktb3community.post.PostSort;
 import com.example.ktb3community.post.domain.Post;
 import com.example.ktb3community.post.dto.Author;
 import com.example.ktb3community.post.dto.PostDetailResponse;
+import com.example.ktb3community.post.dto.PostDetailResult;
 import com.example.ktb3community.post.dto.PostListResponse;
+import com.example.ktb3community.post.dto.PostListVersion;
+import com.example.ktb3community.post.dto.PostVersion;
+import com.example.ktb3community.post.exception.PostNotFoundException;
 import com.example.ktb3community.post.repository.PostLikeRepository;
 import com.example.ktb3community.post.repository.PostRepository;
 import com.example.ktb3community.user.domain.User;
 import com.example.ktb3community.user.exception.UserNotFoundException;
 import com.example.ktb3community.user.repository.UserRepository;
 import lombok.AllArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -31,14 +38,41 @@ public class PostViewService {
     private final UserRepository userRepository;
     private final PostLikeRepository postLikeRepository;
     private final CommentService commentService;
+    private final PostEventHub postEventHub;
+    private final PostTotalsService postTotalsService;
 
     private static final int COMMENT_PAGE = 1;
 
+    // 목록 응답은 페이지 파라미터와 전체 워터마크로만 결정된다 (게시글/작성자 엔티티 로딩 없음)
+    @Transactional(readOnly = true)
+    public String getPostListEtag(int page, int pageSize, PostSort sort) {
+        PostListVersion version = postRepository.findListVersion();
+        return Etags.weak("posts", page, pageSize, sort.name(),
+                version.postsUpdatedAt(), version.postsDeletedAt(), version.authorsUpdatedAt());
+    }
+
+    // 상세 응답의 304 판단용 버전 (엔티티 로딩 없음).
+    // 댓글과 댓글 작성자는 상세 응답에 실제로 들어가는 첫 페이지만 본다
+    @Transactional(readOnly = true)
+    public PostVersion getPostDetailVersion(long postId) {
+        PostVersion version = postRepository.findVersionById(postId)
+                .orElseThrow(PostNotFoundException::new);
+        return version.withCommentPage(commentService.getCommentPageVersion(postId, COMMENT_PAGE));
+    }
+
+    // 좋아요 여부가 조회자마다 다르므로 조회자 id도 ETag에 포함한다.
+    // DB는 마이크로초까지만 저장하므로, 메모리의 시각으로 만든 ETag와 DB에서 읽은 시각으로 만든 ETag가 맞도록 밀리초로 자른다
+    public String getPostDetailEtag(long postId, long userId, PostVersion version) {
+        return Etags.weak("post", postId, userId,
+                millis(version.postUpdatedAt()), millis(version.authorUpdatedAt()), version.commentCount(),
+                millis(version.commentsUpdatedAt()), millis(version.commentAuthorsUpdatedAt()));
+    }
+
     @Transactional(readOnly = true)
     public PageResponse<PostListResponse> getPostList(int page, int pageSize, PostSort sort) {
         int requestedPage = Math.max(page, 1);
         PageRequest pageRequest = PageRequest.of(requestedPage - 1, pageSize, sort.sort());
-        Page<Post> postPage = postRepository.findAll(pageRequest);
+        Slice<Post> postPage = postRepository.findAll(pageRequest);
 
         Set<Long> authorIds = postPage.getContent().stream()
                 .map(Post::getUserId)
@@ -51,10 +85,11 @@ public class PostViewService {
             if(user == null){
                 throw new UserNotFoundException();
             }
-            Author author = new Author(user.getNickname(), user.getProfileImageUrl());
+            Author author = new Author(user.getNickname(), user.getProfileImageUrl(), user.getProfileThumbnailUrl());
             return new PostListResponse(
                     p.getId(),
                     p.getTitle(),
+                    p.getPostThumbnailUrl(),
                     author,
                     p.getLikeCount(),
                     p.getViewCount(),
@@ -62,19 +97,28 @@ public class PostViewService {
                     p.getCreatedAt()
             );
         }).toList();
-        return new PageResponse<>(content, postPage.getNumber() + 1, postPage.getSize(), postPage.getTotalPages());
+        return PageResponse.of(content, postPage, postTotalsService.livePostCount());
     }
 
+    // version은 304 판단에 쓴 버전이다. 게시글과 작성자는 이 트랜잭션에서 읽은 값으로 바꿔 ETag를 만들고,
+    // 댓글 쪽은 그 사이 바뀌었더라도 ETag가 본문보다 오래된 쪽이라 다음 요청이 200을 한 번 더 받을 뿐이다
     @Transactional
-    public PostDetailResponse getPostDetail(long postId, long userId) {
+    public PostDetailResult getPostDetail(long postId, long userId, PostVersion version) {
         Post post = postRepository.findByIdOrThrow(postId);
         User authorUser = userRepository.findByIdOrThrow(post.getUserId());
-        Author author = new Author(authorUser.getNickname(), authorUser.getProfileImageUrl());
+        Author author = new Author(authorUser.getNickname(), authorUser.getProfileImageUrl(),
+                authorUser.getProfileThumbnailUrl());
         User viewer = userRepository.findByIdOrThrow(userId);
         PageResponse<CommentResponse> commentsPage =
                 commentService.getCommentList(postId, COMMENT_PAGE);
         post.increaseViewCount();
-        return new PostDetailResponse(
+        // 조회수 증가로 바뀌는 updated_at을 커밋 전에 확정해 ETag에 넣는다
+        postRepository.flush();
+        postEventHub.viewed(postId);
+        String etag = getPostDetailEtag(postId, userId, new PostVersion(
+                post.getUpdatedAt(), authorUser.getUpdatedAt(), post.getCommentCount(),
+                version.commentsUpdatedAt(), version.commentAuthorsUpdatedAt()));
+        PostDetailResponse response = new PostDetailResponse(
                 post.getId(),
                 post.getTitle(),
                 post.getContent(),
@@ -87,5 +131,10 @@ public class PostViewService {
                 post.getCreatedAt(),
                 commentsPage
         );
+        return new PostDetailResult(response, etag);
+    }
+
+    private static Instant millis(Instant instant) {
+        return instant == null ? null : instant.truncatedTo(ChronoUnit.MILLIS);
     }
 }
@@ -0,0 +1,59 @@
+package com.example.ktb3community.s3.controller;
+
+import com.example.ktb3community.common.doc.ApiCommonErrorResponses;
+import com.example.ktb3community.s3.service.LocalFileServer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.io.IOException;
+
+// app.storage.type=local일 때 presigned-url로 받은 업로드 URL과 이미지 URL이 가리키는 곳
+@Controller
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalFileController {
+
+    private final LocalFileServer localFileServer;
+
+    @Operation(summary = "로컬 저장소 업로드", description = "사전 서명 URL로 이미지 본문을 스트리밍 업로드합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "403", description = "업로드 URL이 유효하지 않거나 만료되었습니다."),
+            @ApiResponse(responseCode = "413", description = "파일 크기가 허용 범위를 넘었습니다.")
+    })
+    @ApiCommonErrorResponses
+    @PutMapping("/files/{*key}")
+    public ResponseEntity<Void> upload(
+            @PathVariable String key,
+            @RequestParam String contentType,
+            @RequestParam long expires,
+            @RequestParam String signature,
+            HttpServletRequest request
+    ) throws IOException {
+        localFileServer.upload(stripSlash(key), contentType, expires, signature, request);
+        return ResponseEntity.ok().build();
+    }
+
+    @Operation(summary = "로컬 저장소 이미지 조회", description = "이미지를 캐시 헤더, 조건부 요청, Range 요청과 함께 내려줍니다.")
+    @GetMapping("/files/{*key}")
+    public void serve(@PathVariable String key, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        localFileServer.serve(stripSlash(key), request, response);
+    }
+
+    // {*key}는 앞의 "/"까지 담는다
+    private static String stripSlash(String key) {
+        return key.substring(1);
+    }
+}
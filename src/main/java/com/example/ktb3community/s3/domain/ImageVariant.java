@@ -0,0 +1,30 @@
+package com.example.ktb3community.s3.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 목록/댓글에서 원본 대신 내려줄 축소본. 키는 원본 키에서 정해지므로 원본을 지울 때 같이 지울 수 있다
+@Getter
+@AllArgsConstructor
+public enum ImageVariant {
+    // 댓글/목록의 48px 아바타 (2배 밀도 화면까지)
+    AVATAR("avatar", 96, 96, true),
+    // 목록 카드 썸네일
+    CARD("card", 480, 480, false);
+
+    private static final String PREFIX = "images/variants/";
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private final String path;
+    private final int width;
+    private final int height;
+    // true면 가운데를 잘라 정확히 width x height로, false면 비율을 유지해 그 안에 맞춘다
+    private final boolean crop;
+
+    // images/{uuid}_{name}.png -> images/variants/avatar/{uuid}_{name}.jpg
+    public String keyOf(String originalKey) {
+        String name = originalKey.substring(originalKey.lastIndexOf('/') + 1);
+        int dot = name.lastIndexOf('.');
+        return PREFIX + path + "/" + (dot > 0 ? name.substring(0, dot) : name) + ".jpg";
+    }
+}
@@ -2,40 +2,38 @@ package com.example.ktb3community.s3.service;
 
 import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.s3.domain.ImageVariant;
 import com.example.ktb3community.s3.dto.PresignUploadResponse;
+import com.example.ktb3community.s3.storage.ObjectStorage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.S3Exception;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class FileService {
 
-    private final S3Presigner s3Presigner;
-    private final S3Client s3Client;
-
-    @Value("${cloud.aws.s3.bucket-name}")
-    private String bucketName;
+    private final ObjectStorage objectStorage;
 
     @Value("${app.s3.upload-exp-minutes:10}")
     private long uploadExpMinutes;
 
-    private static final Set<String> ALLOWED_CONTENT_TYPES = Set.of(
-            "image/png", "image/jpeg", "image/webp"
+    // 허용하는 Content-Type과 그에 맞춰 서버가 붙이는 확장자. 로컬 저장소는 확장자로 응답 타입을 정하므로
+    // 클라이언트 파일명의 확장자(.html, .svg 등)를 키에 남기지 않는다
+    private static final Map<String, String> ALLOWED_CONTENT_TYPES = Map.of(
+            "image/png", ".png",
+            "image/jpeg", ".jpg",
+            "image/webp", ".webp"
     );
 
     public PresignUploadResponse presignUpload(String originalFileName, String contentType) {
@@ -43,31 +41,16 @@ public class FileService {
         // 파일명 추출
         String safeName = Paths.get(originalFileName == null ? "" : originalFileName).getFileName().toString();
         if (safeName.isBlank()) throw new BusinessException(ErrorCode.FILE_NAME_IS_NOT_BLANK);
-        String key = "images/" + UUID.randomUUID() + "_" + safeName;
 
-        if (!ALLOWED_CONTENT_TYPES.contains(contentType)) {
+        String extension = contentType == null ? null : ALLOWED_CONTENT_TYPES.get(contentType);
+        if (extension == null) {
             throw new BusinessException(ErrorCode.CONTENT_TYPE_NOT_ALLOWED);
         }
+        int dot = safeName.lastIndexOf('.');
+        String baseName = dot > 0 ? safeName.substring(0, dot) : safeName;
+        String key = "images/" + UUID.randomUUID() + "_" + baseName + extension;
 
-        PutObjectRequest put = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(key)
-                .contentType(contentType)
-                .cacheControl("public, max-age=31536000, immutable")
-                .build();
-
-        PutObjectPresignRequest presignReq = PutObjectPresignRequest.builder()
-                .putObjectRequest(put)
-                .signatureDuration(Duration.ofMinutes(uploadExpMinutes))
-                .build();
-
-        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presignReq);
-
-        return new PresignUploadResponse(
-                presigned.url().toString(),
-                key,
-                presigned.signedHeaders()
-        );
+        return objectStorage.presignUpload(key, contentType, Duration.ofMinutes(uploadExpMinutes));
     }
 
     public void deleteImageIfChanged(String previousImageUrl, String updatedImageUrl) {
@@ -84,21 +67,55 @@ public class FileService {
         deleteImage(previousImageUrl);
     }
 
+    // 원본과 함께 원본에서 만든 축소본도 지운다 (아직 만들어지지 않았어도 삭제는 성공한다)
     public void deleteImage(String imageUrl) {
         String key = extractKey(imageUrl);
         if (key == null) {
             throw new BusinessException(ErrorCode.INVALID_S3_KEY);
         }
-        try {
-            s3Client.deleteObject(DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .build());
-        } catch (S3Exception e) {
-            throw new BusinessException(ErrorCode.S3_DELETE_FAILED);
+        objectStorage.delete(key);
+        for (ImageVariant variant : ImageVariant.values()) {
+            objectStorage.delete(variant.keyOf(key));
         }
     }
 
+    // 우리가 올린 이미지가 아니거나, 없거나, maxBytes보다 크면 비어 있다
+    public Optional<byte[]> readImage(String imageUrl, int maxBytes) {
+        String key = extractKey(imageUrl);
+        if (key == null) {
+            return Optional.empty();
+        }
+        Optional<InputStream> opened = objectStorage.open(key);
+        if (opened.isEmpty()) {
+            return Optional.empty();
+        }
+        try (InputStream in = opened.get()) {
+            byte[] content = in.readNBytes(maxBytes + 1);
+            return content.length > maxBytes ? Optional.empty() : Optional.of(content);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.S3_DOWNLOAD_FAILED);
+        }
+    }
+
+    // 축소본을 원본에서 정해지는 키에 저장하고, 원본 URL과 같은 형식의 URL을 돌려준다
+    public String storeVariant(String imageUrl, ImageVariant variant, byte[] content) {
+        String key = extractKey(imageUrl);
+        if (key == null) {
+            throw new BusinessException(ErrorCode.INVALID_S3_KEY);
+        }
+        objectStorage.put(variant.keyOf(key), content, ImageVariant.CONTENT_TYPE);
+        return variantUrl(imageUrl, variant);
+    }
+
+    // 원본 URL의 키 부분만 축소본 키로 바꾼다. 인코딩된 경로(한글 파일명 등)는 인코딩된 채로 바꾼다
+    private String variantUrl(String imageUrl, ImageVariant variant) {
+        String candidate = imageUrl.trim();
+        String rawPath = candidate.contains("://") ? URI.create(candidate).getRawPath() : candidate;
+        String prefix = candidate.substring(0, candidate.lastIndexOf(rawPath));
+        String pathPrefix = keyPathPrefix(rawPath);
+        return prefix + pathPrefix + variant.keyOf(rawPath.substring(pathPrefix.length()));
+    }
+
     private String extractKey(String imageUrl) {
         if (imageUrl == null || imageUrl.isBlank()) {
             throw new BusinessException(ErrorCode.INVALID_IMG_URL);
@@ -113,12 +130,19 @@ public class FileService {
                 throw new BusinessException(ErrorCode.INVALID_IMG_URL);
             }
         }
-        if (candidate.startsWith("/")) {
-            candidate = candidate.substring(1);
-        }
+        candidate = candidate.substring(keyPathPrefix(candidate).length());
         if (!candidate.startsWith("images/")) {
             return null;
         }
         return candidate;
     }
+
+    // 저장소의 URL 경로 접두사(S3는 "/", 로컬은 "/api/files/")가 붙어 있으면 그 부분, 아니면 앞의 "/"만
+    private String keyPathPrefix(String path) {
+        String storagePrefix = objectStorage.urlPathPrefix();
+        if (path.startsWith(storagePrefix)) {
+            return storagePrefix;
+        }
+        return path.startsWith("/") ? "/" : "";
+    }
 }
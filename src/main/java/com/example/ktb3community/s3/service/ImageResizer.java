@@ -0,0 +1,112 @@
+package com.example.ktb3community.s3.service;
+
+import com.example.ktb3community.s3.domain.ImageVariant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Optional;
+
+// ImageIO로 원본을 줄여 JPEG로 인코딩한다.
+// JDK ImageIO에는 WebP 코덱이 없어 WebP 원본은 읽지 못하고(비어 있음), 결과도 JPEG만 만든다
+@Component
+public class ImageResizer {
+
+    private final long maxSourcePixels;
+    private final float jpegQuality;
+
+    public ImageResizer(
+            @Value("${app.image-variants.max-source-pixels:40000000}") long maxSourcePixels,
+            @Value("${app.image-variants.jpeg-quality:0.8}") float jpegQuality) {
+        this.maxSourcePixels = maxSourcePixels;
+        this.jpegQuality = jpegQuality;
+        // 디스크 캐시 파일 없이 메모리에서만 읽고 쓴다
+        ImageIO.setUseCache(false);
+    }
+
+    // 읽을 수 없는 형식이거나 픽셀 수가 너무 많으면(압축 폭탄) 비어 있다. 손상된 파일이면 IOException
+    public Optional<byte[]> resize(byte[] source, ImageVariant variant) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                // 헤더의 크기만 보고 디코딩 전에 거른다
+                if ((long) width * height > maxSourcePixels) {
+                    return Optional.empty();
+                }
+                // 목표의 2배보다 크면 디코딩하면서 픽셀을 건너뛰어 읽는다 (메모리와 디코딩 시간을 줄인다)
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, (int) (1 / (scale(width, height, variant) * 2)));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return Optional.of(encode(scaled(reader.read(0, param), variant)));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scaled(BufferedImage source, ImageVariant variant) {
+        double scale = scale(source.getWidth(), source.getHeight(), variant);
+        int scaledWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int scaledHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        int width = variant.isCrop() ? Math.min(scaledWidth, variant.getWidth()) : scaledWidth;
+        int height = variant.isCrop() ? Math.min(scaledHeight, variant.getHeight()) : scaledHeight;
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            // JPEG에는 알파가 없으므로 투명한 부분은 흰 배경으로 채운다
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, (width - scaledWidth) / 2, (height - scaledHeight) / 2, scaledWidth, scaledHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    // crop이면 짧은 변을, 아니면 긴 변을 목표에 맞춘다. 원본보다 키우지는 않는다
+    private static double scale(int width, int height, ImageVariant variant) {
+        double scaleX = (double) variant.getWidth() / width;
+        double scaleY = (double) variant.getHeight() / height;
+        return Math.min(1.0, variant.isCrop() ? Math.max(scaleX, scaleY) : Math.min(scaleX, scaleY));
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.ktb3community.s3.service;
+
+import com.example.ktb3community.outbox.domain.DomainEventType;
+import com.example.ktb3community.outbox.dto.DomainEvent;
+import com.example.ktb3community.outbox.dto.ImageReplacedPayload;
+import com.example.ktb3community.outbox.service.DomainEventSubscriber;
+import com.example.ktb3community.post.repository.PostRepository;
+import com.example.ktb3community.s3.domain.ImageVariant;
+import com.example.ktb3community.user.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 게시글/프로필 이미지가 정해진 트랜잭션이 커밋된 뒤 축소본을 만들어 저장하고 엔티티에 URL을 남긴다.
+// outbox 워커(크기가 정해진 풀)에서 바로 만들고, 저장소/DB 실패는 그대로 던져 OutboxDispatcher가 백오프로 재시도하게 한다.
+// 만드는 동안 이미지가 또 바뀌었으면 엔티티 쪽에서 무시하므로 재전달/순서 꼬임에도 안전하다
+@Slf4j
+@Component
+public class ImageVariantGenerator implements DomainEventSubscriber {
+
+    private final FileService fileService;
+    private final ImageResizer imageResizer;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int maxSourceBytes;
+    private final Counter generatedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final Timer durationTimer;
+
+    public ImageVariantGenerator(
+            FileService fileService,
+            ImageResizer imageResizer,
+            PostRepository postRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.image-variants.max-source-bytes:10485760}") int maxSourceBytes) {
+        this.fileService = fileService;
+        this.imageResizer = imageResizer;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.maxSourceBytes = maxSourceBytes;
+
+        this.generatedCounter = resultCounter(meterRegistry, "generated");
+        this.skippedCounter = resultCounter(meterRegistry, "skipped");
+        this.failedCounter = resultCounter(meterRegistry, "failed");
+        this.durationTimer = Timer.builder("image.variants.duration")
+                .description("원본을 읽어 축소본을 저장하기까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Set<DomainEventType> types() {
+        return EnumSet.of(DomainEventType.POST_IMAGE_REPLACED, DomainEventType.PROFILE_IMAGE_REPLACED);
+    }
+
+    // 한 묶음은 같은 aggregate의 이벤트이므로 마지막 이미지만 만들면 된다
+    @Override
+    public void handle(List<DomainEvent> events) {
+        DomainEvent last = events.getLast();
+        String imageUrl = read(last).imageUrl();
+        if (imageUrl == null || imageUrl.isBlank()) {
+            return;
+        }
+        generate(last.type(), last.aggregateId(), imageUrl);
+    }
+
+    private void generate(DomainEventType type, Long aggregateId, String imageUrl) {
+        ImageVariant variant = type == DomainEventType.POST_IMAGE_REPLACED ? ImageVariant.CARD : ImageVariant.AVATAR;
+        long start = System.nanoTime();
+        try {
+            Optional<byte[]> resized = fileService.readImage(imageUrl, maxSourceBytes)
+                    .flatMap(source -> resize(source, variant));
+            if (resized.isEmpty()) {
+                // 외부 URL, 이미 지워진 원본, 너무 큰 원본, 읽을 수 없는 형식은 원본을 그대로 쓴다
+                skippedCounter.increment();
+                return;
+            }
+            String variantUrl = fileService.storeVariant(imageUrl, variant, resized.get());
+            transactionTemplate.executeWithoutResult(status -> attach(type, aggregateId, imageUrl, variantUrl));
+            generatedCounter.increment();
+        } catch (RuntimeException e) {
+            // 로그는 outbox가 재시도 횟수와 함께 남긴다
+            failedCounter.increment();
+            throw e;
+        } finally {
+            durationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 서비스(PostService 등)는 DomainEventPublisher를 통해 이 구독자에 다시 의존하므로 저장소를 직접 쓴다
+    private void attach(DomainEventType type, Long aggregateId, String imageUrl, String variantUrl) {
+        if (type == DomainEventType.POST_IMAGE_REPLACED) {
+            postRepository.findById(aggregateId).ifPresent(post -> post.attachThumbnail(imageUrl, variantUrl));
+        } else {
+            userRepository.findById(aggregateId).ifPresent(user -> user.attachProfileThumbnail(imageUrl, variantUrl));
+        }
+    }
+
+    private Optional<byte[]> resize(byte[] source, ImageVariant variant) {
+        try {
+            return imageResizer.resize(source, variant);
+        } catch (IOException e) {
+            // 손상된 파일은 다시 시도해도 같으므로 건너뛴다
+            log.debug("[image variant] 이미지를 읽을 수 없음", e);
+            return Optional.empty();
+        }
+    }
+
+    private ImageReplacedPayload read(DomainEvent event) {
+        try {
+            return objectMapper.readValue(event.payload(), ImageReplacedPayload.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 " + event.eventId() + "의 payload를 읽을 수 없습니다", e);
+        }
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("image.variants")
+                .description("결과별 축소본 생성 요청 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.ktb3community.s3.service;
+
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.s3.storage.LocalObjectStorage;
+import com.example.ktb3community.s3.storage.ObjectStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+// 로컬 저장소의 서명된 업로드를 받고, 이미지를 파일에서 소켓으로 바로 보낸다
+@Service
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalFileServer {
+
+    // Tomcat이 커넥터가 sendfile을 지원할 때 넣어 주는 요청 속성과, 응답을 sendfile로 넘길 때 쓰는 속성
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // 이보다 작은 응답은 그냥 쓰는 쪽이 싸다 (Tomcat DefaultServlet의 sendfileSize 기본값)
+    static final long SENDFILE_MIN_BYTES = 48 * 1024;
+
+    // 이 목록의 확장자만 이미지로 내려준다. 나머지는 브라우저가 렌더링하지 않도록 첨부로 보낸다
+    static final Map<String, MediaType> IMAGE_TYPES = Map.of(
+            "png", MediaType.IMAGE_PNG,
+            "jpg", MediaType.IMAGE_JPEG,
+            "jpeg", MediaType.IMAGE_JPEG,
+            "webp", MediaType.parseMediaType("image/webp"));
+
+    private final LocalObjectStorage storage;
+
+    public void upload(String key, String signedContentType, long expires, String signature,
+                       HttpServletRequest request) throws IOException {
+        storage.verifyUpload(key, signedContentType, expires, signature);
+        if (!sameMediaType(request.getContentType(), signedContentType)) {
+            throw new BusinessException(ErrorCode.CONTENT_TYPE_NOT_ALLOWED);
+        }
+        // Content-Length가 오면 본문을 읽기 전에 거절한다 (chunked 업로드는 쓰면서 한도를 본다)
+        if (request.getContentLengthLong() > storage.maxUploadBytes()) {
+            throw new BusinessException(ErrorCode.FILE_TOO_LARGE);
+        }
+        storage.write(key, request.getInputStream(), storage.maxUploadBytes());
+    }
+
+    // 키가 바뀌지 않는 이미지이므로 오래 캐시하게 하고, 조건부 요청(304)과 단일 Range(206) 요청을 처리한다
+    public void serve(String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = storage.resolve(key);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND);
+        }
+        if (!attributes.isRegularFile()) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND);
+        }
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, ObjectStorage.CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // API와 같은 origin에서 나가므로, 파일이 무엇이든 스크립트로 실행되지 않게 한다
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader("Content-Security-Policy", "sandbox");
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+        MediaType imageType = imageTypeOf(file.getFileName().toString());
+        if (imageType != null) {
+            response.setContentType(imageType.toString());
+        } else {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment");
+        }
+
+        long start = 0;
+        long end = length - 1;
+        Optional<HttpRange> range = requestedRange(request, etag);
+        if (range.isPresent()) {
+            start = range.get().getRangeStart(length);
+            end = Math.min(range.get().getRangeEnd(length), length - 1);
+            if (start >= length || start > end) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (count >= SENDFILE_MIN_BYTES && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 커넥터가 응답을 마무리하면서 커널 sendfile로 페이지 캐시에서 소켓으로 바로 보낸다 (end는 배타적)
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        transfer(file, start, count, response);
+    }
+
+    // sendfile을 못 쓰는 커넥터/작은 파일: 힙 버퍼에 파일 전체를 올리지 않고 채널로 이어 보낸다
+    private void transfer(Path file, long start, long count, HttpServletResponse response) throws IOException {
+        WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    // 보내는 중에 파일이 줄었다
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+        response.flushBuffer();
+    }
+
+    // 단일 범위만 지원한다. 형식이 잘못됐거나 여러 범위이거나 If-Range가 현재 ETag와 다르면 전체를 보낸다
+    private Optional<HttpRange> requestedRange(HttpServletRequest request, String etag) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return Optional.empty();
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return Optional.empty();
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? Optional.of(ranges.get(0)) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static MediaType imageTypeOf(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot < 0 ? null : IMAGE_TYPES.get(fileName.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean sameMediaType(String requested, String signed) {
+        if (requested == null) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaType(requested).equalsTypeAndSubtype(MediaType.parseMediaType(signed));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.ktb3community.s3.service;
+
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.outbox.domain.DomainEventType;
+import com.example.ktb3community.outbox.dto.DomainEvent;
+import com.example.ktb3community.outbox.dto.ImageReplacedPayload;
+import com.example.ktb3community.outbox.service.DomainEventSubscriber;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+// 게시글/프로필 이미지가 바뀐 트랜잭션이 커밋된 뒤에 이전 이미지를 S3에서 지운다.
+// S3 삭제는 없는 키에도 성공하므로 재전달돼도 안전하다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplacedImageCleaner implements DomainEventSubscriber {
+
+    // 다시 시도해도 결과가 같은 오류는 건너뛴다
+    private static final Set<ErrorCode> SKIPPABLE = EnumSet.of(ErrorCode.INVALID_S3_KEY, ErrorCode.INVALID_IMG_URL);
+
+    private final FileService fileService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Set<DomainEventType> types() {
+        return EnumSet.of(DomainEventType.POST_IMAGE_REPLACED, DomainEventType.PROFILE_IMAGE_REPLACED);
+    }
+
+    @Override
+    public void handle(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            ImageReplacedPayload payload = read(event);
+            try {
+                fileService.deleteImageIfChanged(payload.previousImageUrl(), payload.imageUrl());
+            } catch (BusinessException e) {
+                if (!SKIPPABLE.contains(e.getErrorCode())) {
+                    throw e;
+                }
+                log.warn("[image cleanup] 이벤트 {}의 이전 이미지를 지울 수 없어 건너뜀: {}",
+                        event.eventId(), payload.previousImageUrl());
+            }
+        }
+    }
+
+    private ImageReplacedPayload read(DomainEvent event) {
+        try {
+            return objectMapper.readValue(event.payload(), ImageReplacedPayload.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 " + event.eventId() + "의 payload를 읽을 수 없습니다", e);
+        }
+    }
+}
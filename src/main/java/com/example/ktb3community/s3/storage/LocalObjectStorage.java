@@ -0,0 +1,206 @@
+package com.example.ktb3community.s3.storage;
+
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.s3.dto.PresignUploadResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// AWS 없이 로컬 디스크에 키 경로 그대로 저장한다. 업로드는 서명된 URL로 LocalFileController에 스트리밍하고,
+// 이미지는 같은 경로에서 LocalFileServer가 직접 서빙한다
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+
+    private static final String KEY_PREFIX = "images/";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    // transferFrom 한 번에 옮기는 최대 바이트
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+
+    private final Path root;
+    // 쓰는 중인 파일은 서빙 경로(images/) 밖에 두었다가 다 쓰면 원자적으로 옮긴다
+    private final Path tempDir;
+    private final String publicBaseUrl;
+    private final String urlPathPrefix;
+    private final long maxUploadBytes;
+    private final SecretKeySpec signingKey;
+
+    public LocalObjectStorage(@Value("${app.storage.local.root-dir:./data/files}") String rootDir,
+                              @Value("${app.storage.local.public-base-url}") String publicBaseUrl,
+                              @Value("${app.storage.local.max-upload-bytes:10485760}") long maxUploadBytes,
+                              @Value("${app.storage.local.signing-secret}") String signingSecret) {
+        if (signingSecret == null || signingSecret.isBlank()) {
+            throw new IllegalStateException("app.storage.local.signing-secret must be set");
+        }
+        this.root = Paths.get(rootDir).toAbsolutePath().normalize();
+        this.tempDir = this.root.resolve(".tmp");
+        try {
+            Files.createDirectories(tempDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.publicBaseUrl = publicBaseUrl.endsWith("/")
+                ? publicBaseUrl.substring(0, publicBaseUrl.length() - 1)
+                : publicBaseUrl;
+        this.urlPathPrefix = URI.create(this.publicBaseUrl).getPath() + "/";
+        this.maxUploadBytes = maxUploadBytes;
+        this.signingKey = new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    }
+
+    public long maxUploadBytes() {
+        return maxUploadBytes;
+    }
+
+    @Override
+    public String urlPathPrefix() {
+        return urlPathPrefix;
+    }
+
+    // 업로드 URL: {base}/{key}?contentType=..&expires=..&signature=.. (키/타입/만료 시각을 서명한다)
+    @Override
+    public PresignUploadResponse presignUpload(String key, String contentType, Duration expiresIn) {
+        resolve(key);
+        long expires = Instant.now().plus(expiresIn).getEpochSecond();
+        String uploadUrl = publicBaseUrl + "/" + UriUtils.encodePath(key, StandardCharsets.UTF_8)
+                + "?contentType=" + URLEncoder.encode(contentType, StandardCharsets.UTF_8)
+                + "&expires=" + expires
+                + "&signature=" + sign(key, contentType, expires);
+        return new PresignUploadResponse(uploadUrl, key, Map.of("Content-Type", List.of(contentType)));
+    }
+
+    // 서명이 맞지 않거나 만료됐으면 UPLOAD_URL_INVALID
+    public void verifyUpload(String key, String contentType, long expires, String signature) {
+        if (signature == null || contentType == null || expires < Instant.now().getEpochSecond()) {
+            throw new BusinessException(ErrorCode.UPLOAD_URL_INVALID);
+        }
+        byte[] expected = sign(key, contentType, expires).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII))) {
+            throw new BusinessException(ErrorCode.UPLOAD_URL_INVALID);
+        }
+    }
+
+    // 요청 본문을 임시 파일로 바로 옮기고(힙에 올리지 않는다) 끝나면 키 경로로 원자적으로 옮긴다.
+    // maxBytes를 넘으면 FILE_TOO_LARGE, 쓰다 실패하면 S3_UPLOAD_FAILED이고 어느 경우든 기존 파일은 그대로다
+    public void write(String key, InputStream content, long maxBytes) {
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(tempDir, "upload-", ".tmp");
+            try (ReadableByteChannel source = Channels.newChannel(content);
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long position = 0;
+                long transferred;
+                // 한도보다 1바이트 더 읽어 보고 넘으면 거절한다
+                while (position <= maxBytes
+                        && (transferred = out.transferFrom(source, position,
+                        Math.min(TRANSFER_CHUNK, maxBytes + 1 - position))) > 0) {
+                    position += transferred;
+                }
+                if (position > maxBytes) {
+                    throw new BusinessException(ErrorCode.FILE_TOO_LARGE);
+                }
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            temp = null;
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.S3_UPLOAD_FAILED);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] content, String contentType) {
+        write(key, new ByteArrayInputStream(content), content.length);
+    }
+
+    @Override
+    public Optional<InputStream> open(String key) {
+        try {
+            return Optional.of(Files.newInputStream(resolve(key)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.S3_DOWNLOAD_FAILED);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.S3_DELETE_FAILED);
+        }
+    }
+
+    // 키를 루트 아래 images/ 경로로만 풀어 준다 (".." 등으로 벗어나면 INVALID_S3_KEY)
+    public Path resolve(String key) {
+        if (key == null || !key.startsWith(KEY_PREFIX)) {
+            throw new BusinessException(ErrorCode.INVALID_S3_KEY);
+        }
+        Path path;
+        try {
+            path = root.resolve(key).normalize();
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_S3_KEY);
+        }
+        if (!path.startsWith(root.resolve(KEY_PREFIX)) || path.equals(root.resolve(KEY_PREFIX))) {
+            throw new BusinessException(ErrorCode.INVALID_S3_KEY);
+        }
+        return path;
+    }
+
+    private String sign(String key, String contentType, long expires) {
+        try {
+            // Mac은 스레드 안전하지 않아 요청마다 만든다
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            byte[] digest = mac.doFinal((key + "\n" + contentType + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 파일이 남아도 서빙 경로 밖이다
+        }
+    }
+}
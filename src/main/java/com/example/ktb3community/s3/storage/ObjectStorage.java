@@ -0,0 +1,31 @@
+package com.example.ktb3community.s3.storage;
+
+import com.example.ktb3community.s3.dto.PresignUploadResponse;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Optional;
+
+// 이미지 원본/파생본을 키 단위로 읽고 쓰는 저장소 (app.storage.type으로 S3/로컬 디스크 중 하나를 쓴다).
+// 실패는 BusinessException(S3_*)으로 올린다
+public interface ObjectStorage {
+
+    // 키에 UUID가 들어가 내용이 바뀌지 않으므로 오래 캐시한다
+    String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // 클라이언트가 서버를 거치지 않고(또는 스트리밍으로) 직접 올릴 수 있는 서명된 URL
+    PresignUploadResponse presignUpload(String key, String contentType, Duration expiresIn);
+
+    void put(String key, byte[] content, String contentType);
+
+    // 없는 키면 비어 있다. 받은 스트림은 호출한 쪽이 닫는다
+    Optional<InputStream> open(String key);
+
+    // 없는 키여도 성공한다
+    void delete(String key);
+
+    // 공개 URL 경로에서 키 앞에 붙는 부분
+    default String urlPathPrefix() {
+        return "/";
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.ktb3community.s3.storage;
+
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.s3.dto.PresignUploadResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final String bucketName;
+
+    public S3ObjectStorage(S3Client s3Client, S3Presigner s3Presigner,
+                           @Value("${cloud.aws.s3.bucket-name}") String bucketName) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.bucketName = bucketName;
+    }
+
+    @Override
+    public PresignUploadResponse presignUpload(String key, String contentType, Duration expiresIn) {
+        PutObjectRequest put = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .cacheControl(CACHE_CONTROL)
+                .build();
+
+        PutObjectPresignRequest presignReq = PutObjectPresignRequest.builder()
+                .putObjectRequest(put)
+                .signatureDuration(expiresIn)
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presignReq);
+
+        return new PresignUploadResponse(
+                presigned.url().toString(),
+                key,
+                presigned.signedHeaders()
+        );
+    }
+
+    @Override
+    public void put(String key, byte[] content, String contentType) {
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .cacheControl(CACHE_CONTROL)
+                    .build(), RequestBody.fromBytes(content));
+        } catch (S3Exception e) {
+            throw new BusinessException(ErrorCode.S3_UPLOAD_FAILED);
+        }
+    }
+
+    @Override
+    public Optional<InputStream> open(String key) {
+        try {
+            return Optional.of(s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            throw new BusinessException(ErrorCode.S3_DOWNLOAD_FAILED);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (S3Exception e) {
+            throw new BusinessException(ErrorCode.S3_DELETE_FAILED);
+        }
+    }
+}
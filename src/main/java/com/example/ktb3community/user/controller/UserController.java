@@ -9,6 +9,7 @@ import com.example.ktb3community.user.dto.AvailabilityResponse;
 import com.example.ktb3community.user.dto.MeResponse;
 import com.example.ktb3community.user.dto.UpdateMeRequest;
 import com.example.ktb3community.user.dto.UpdatePasswordRequest;
+import com.example.ktb3community.user.service.UserExportService;
 import com.example.ktb3community.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,15 +18,22 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/users")
 public class UserController {
+    private static final MediaType APPLICATION_GZIP = MediaType.parseMediaType("application/gzip");
+
     private final UserService userService;
+    private final UserExportService userExportService;
 
     @Operation(summary = "이메일, 닉네임 중복 검증", description = "이메일 또는 닉네임 중 하나라도 있으면 중복 검증을 수행합니다.")
     @ApiResponses(value = {
@@ -73,6 +81,27 @@ public class UserController {
         return ResponseEntity.ok(ApiResult.ok(me));
     }
 
+    @Operation(summary = "내 데이터 내보내기", description = "내가 쓴 게시글, 댓글, 좋아요를 NDJSON으로 스트리밍합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK")
+    })
+    @ApiCommonErrorResponses
+    @GetMapping("/me/export")
+    public ResponseEntity<StreamingResponseBody> exportMe(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @Parameter(description = "gzip 압축 여부", example = "false") @RequestParam(defaultValue = "false") boolean gzip) {
+        Long userId = customUserDetails.getId();
+        // 요청 스레드가 아닌 비동기 스레드에서 쓰므로 사용자 id만 넘긴다
+        StreamingResponseBody body = out -> userExportService.export(userId, out, gzip);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(gzip ? "export.ndjson.gz" : "export.ndjson")
+                .build();
+        return ResponseEntity.ok()
+                .contentType(gzip ? APPLICATION_GZIP : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
     @Operation(summary = "비밀번호 수정", description = "사용자 id로 비밀번호를 수정합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "No Content"),
@@ -7,11 +7,21 @@ import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.exception.BusinessException;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
+import java.util.Objects;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 목록 ETag 워터마크(max(updated_at))를 인덱스만으로 구한다
+        @Index(name = "idx_users_updated_at", columnList = "updated_at"),
+        // 보관 대상(오래전에 탈퇴한 사용자)을 찾는다
+        @Index(name = "idx_users_deleted_at", columnList = "deleted_at")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -33,6 +43,10 @@ public class User extends BaseTimeEntity {
     @Column(name = "profile_image_url" ,nullable = false)
     private String profileImageUrl;
 
+    // 댓글/목록 아바타용 축소본. 이미지가 바뀌면 비우고, 만들어지면 ImageVariantGenerator가 채운다
+    @Column(name = "profile_thumbnail_url")
+    private String profileThumbnailUrl;
+
     @Column(name = "deleted_at")
     private Instant deletedAt;
 
@@ -61,7 +75,17 @@ public class User extends BaseTimeEntity {
     public void updateProfileImageUrl(String profileImageUrl) {
         String p = profileImageUrl.trim();
         if (p.isBlank()) { throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE); }
-        if (!p.equals(this.profileImageUrl)) { this.profileImageUrl = p; }
+        if (!p.equals(this.profileImageUrl)) {
+            this.profileImageUrl = p;
+            this.profileThumbnailUrl = null;
+        }
+    }
+
+    // 만드는 사이 이미지가 다시 바뀌었으면 이전 이미지의 축소본이므로 무시한다
+    public void attachProfileThumbnail(String sourceImageUrl, String thumbnailUrl) {
+        if (Objects.equals(this.profileImageUrl, sourceImageUrl)) {
+            this.profileThumbnailUrl = thumbnailUrl;
+        }
     }
 
     public void delete(Instant now) {
@@ -0,0 +1,8 @@
+package com.example.ktb3community.user.dto;
+
+// NDJSON 한 줄: {"type":"post","data":{...}}
+public record ExportLine(
+        String type,
+        Object data
+) {
+}
@@ -0,0 +1,7 @@
+package com.example.ktb3community.user.dto;
+
+public record UserIdentity(
+        Long id,
+        String email,
+        String nickname
+) {}
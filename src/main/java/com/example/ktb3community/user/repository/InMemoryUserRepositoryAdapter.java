@@ -2,6 +2,7 @@ package com.example.ktb3community.user.repository;
 
 
 import com.example.ktb3community.user.domain.User;
+import com.example.ktb3community.user.dto.UserIdentity;
 import com.example.ktb3community.user.exception.UserNotFoundException;
 import org.springframework.stereotype.Repository;
 
@@ -89,6 +90,15 @@ public class InMemoryUserRepositoryAdapter implements UserRepository {
                 .orElseThrow(UserNotFoundException::new);
     }
 
+    @Override
+    public User getReferenceById(Long id) {
+        User user = users.get(id);
+        if (user == null) {
+            throw new UserNotFoundException();
+        }
+        return user;
+    }
+
     @Override
     public List<User> findAllByIdIn(Collection<Long> ids) {
         return ids.stream()
@@ -98,6 +108,16 @@ public class InMemoryUserRepositoryAdapter implements UserRepository {
                 .toList();
     }
 
+    @Override
+    public List<UserIdentity> findIdentitiesAfter(Long afterId, int limit) {
+        return users.values().stream()
+                .filter(u -> u.getId() > afterId && u.getDeletedAt() == null)
+                .sorted(Comparator.comparing(User::getId))
+                .limit(limit)
+                .map(u -> new UserIdentity(u.getId(), u.getEmail(), u.getNickname()))
+                .toList();
+    }
+
     @Override
     public void softDeleteById(Long id, Instant now) {
         User user = users.get(id);
@@ -1,6 +1,8 @@
 package com.example.ktb3community.user.repository;
 
 import com.example.ktb3community.user.domain.User;
+import com.example.ktb3community.user.dto.UserIdentity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -20,10 +22,12 @@ public interface JpaUserRepository extends JpaRepository<User, Long> {
 
     boolean existsByNicknameAndDeletedAtIsNull(String nickname);
 
-    Optional<User> findByIdAndDeletedAtIsNull(Long id);
-
     List<User> findAllByIdInAndDeletedAtIsNull(Collection<Long> ids);
 
+    @Query("select new com.example.ktb3community.user.dto.UserIdentity(u.id, u.email, u.nickname) " +
+            "from User u where u.id > :afterId and u.deletedAt is null order by u.id")
+    List<UserIdentity> findIdentitiesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     @Modifying(clearAutomatically = true)
     @Query("update User u set u.deletedAt = :now, u.updatedAt = :now where u.id = :userId and u.deletedAt is null")
     int softDeleteById(@Param("userId") Long userId, @Param("now") Instant now);
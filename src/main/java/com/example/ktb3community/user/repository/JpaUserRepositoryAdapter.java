@@ -1,9 +1,11 @@
 package com.example.ktb3community.user.repository;
 
 import com.example.ktb3community.user.domain.User;
+import com.example.ktb3community.user.dto.UserIdentity;
 import com.example.ktb3community.user.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
@@ -43,9 +45,11 @@ public class JpaUserRepositoryAdapter implements UserRepository {
         return jpaUserRepository.existsByNicknameAndDeletedAtIsNull(nickname);
     }
 
+    // PK 조회(em.find)로 2차 캐시를 타고, 탈퇴 여부는 애플리케이션에서 거른다
     @Override
     public Optional<User> findById(Long id) {
-        return jpaUserRepository.findByIdAndDeletedAtIsNull(id);
+        return jpaUserRepository.findById(id)
+                .filter(user -> user.getDeletedAt() == null);
     }
 
     @Override
@@ -53,11 +57,21 @@ public class JpaUserRepositoryAdapter implements UserRepository {
         return findById(id).orElseThrow(UserNotFoundException::new);
     }
 
+    @Override
+    public User getReferenceById(Long id) {
+        return jpaUserRepository.getReferenceById(id);
+    }
+
     @Override
     public List<User> findAllByIdIn(Collection<Long> ids) {
         return jpaUserRepository.findAllByIdInAndDeletedAtIsNull(ids);
     }
 
+    @Override
+    public List<UserIdentity> findIdentitiesAfter(Long afterId, int limit) {
+        return jpaUserRepository.findIdentitiesAfter(afterId, PageRequest.ofSize(limit));
+    }
+
     @Override
     public void softDeleteById(Long id, Instant now) {
         jpaUserRepository.softDeleteById(id, now);
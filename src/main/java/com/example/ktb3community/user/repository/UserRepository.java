@@ -1,6 +1,7 @@
 package com.example.ktb3community.user.repository;
 
 import com.example.ktb3community.user.domain.User;
+import com.example.ktb3community.user.dto.UserIdentity;
 
 import java.time.Instant;
 import java.util.Collection;
@@ -22,7 +23,13 @@ public interface UserRepository {
 
     User findByIdOrThrow(Long id);
 
+    // 조회 없이 연관관계 설정용 참조만 얻는다
+    User getReferenceById(Long id);
+
     List<User> findAllByIdIn(Collection<Long> ids);
 
+    // id 키셋으로 탈퇴하지 않은 사용자의 이메일/닉네임만 가져온다
+    List<UserIdentity> findIdentitiesAfter(Long afterId, int limit);
+
     void softDeleteById(Long id, Instant now);
 }
@@ -0,0 +1,165 @@
+package com.example.ktb3community.user.service;
+
+import com.example.ktb3community.common.bloom.ScalableBloomFilter;
+import com.example.ktb3community.user.dto.UserIdentity;
+import com.example.ktb3community.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+// 사용 중인 이메일/닉네임의 Bloom filter 인덱스.
+// "없음"이면 DB를 건너뛰고 사용 가능으로 답하고, "있을 수도 있음"만 DB로 확인한다.
+// 다른 인스턴스의 가입은 id 꼬리 따라잡기로 수 초 안에, 탈퇴/닉네임 변경으로 생긴 오탐과 그 밖에 놓친 값은 주기적 재구성으로 반영한다.
+// 그 사이에는 사용 중인 값을 사용 가능으로 답할 수 있다. 가입/닉네임 변경은 DB로 다시 확인하고, 최종 보장은 users의 unique 제약이다
+@Slf4j
+@Component
+public class UserAvailabilityIndex {
+
+    private final UserRepository userRepository;
+    private final int chunkSize;
+    private final int initialCapacity;
+    private final double falsePositiveRate;
+    private final Counter fastPathCounter;
+    private final Counter confirmCounter;
+    // 추가와 재구성의 필터 교체가 엇갈리지 않게 한다. 적재 중에는 잡지 않는다
+    private final Object swapLock = new Object();
+
+    private volatile Filters current;
+    private Filters building;
+
+    public UserAvailabilityIndex(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.availability-index.chunk-size:1000}") int chunkSize,
+            @Value("${app.availability-index.initial-capacity:100000}") int initialCapacity,
+            @Value("${app.availability-index.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.chunkSize = chunkSize;
+        this.initialCapacity = initialCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.fastPathCounter = lookupCounter(meterRegistry, "filter_miss");
+        this.confirmCounter = lookupCounter(meterRegistry, "db_confirm");
+    }
+
+    // 인덱스가 준비되기 전에는 항상 true를 돌려 DB로 확인하게 한다
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        return record(filters == null || filters.emails.mightContain(email));
+    }
+
+    public boolean mightContainNickname(String nickname) {
+        Filters filters = current;
+        return record(filters == null || filters.nicknames.mightContain(nickname));
+    }
+
+    // 저장 전에 추가해도 롤백 시 오탐만 남으므로 안전하다
+    public void add(String email, String nickname) {
+        forEachFilters(filters -> {
+            filters.emails.add(email);
+            filters.nicknames.add(nickname);
+        });
+    }
+
+    public void addNickname(String nickname) {
+        forEachFilters(filters -> filters.nicknames.add(nickname));
+    }
+
+    // 첫 적재도 스케줄러 스레드에서 돌려 기동을 막지 않는다. 그동안은 모든 조회가 DB로 간다
+    @Scheduled(fixedDelayString = "${app.availability-index.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.availability-index.initial-delay-ms:0}")
+    public synchronized void rebuild() {
+        Filters next = new Filters(initialCapacity, falsePositiveRate);
+        // 재구성 중 들어온 추가는 기존 필터와 새 필터 양쪽에 기록된다
+        synchronized (swapLock) {
+            building = next;
+        }
+        try {
+            int loaded = 0;
+            while (true) {
+                List<UserIdentity> chunk = userRepository.findIdentitiesAfter(next.lastUserId, chunkSize);
+                next.addAll(chunk);
+                loaded += chunk.size();
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+            }
+            synchronized (swapLock) {
+                current = next;
+                building = null;
+            }
+            log.info("[availability index] {}명 적재 완료", loaded);
+        } finally {
+            synchronized (swapLock) {
+                if (building == next) {
+                    building = null;
+                }
+            }
+        }
+    }
+
+    // 다른 인스턴스에서 들어온 가입을 마지막으로 본 id 뒤부터 읽어 온다.
+    // 커밋 순서가 id 순서와 달라 건너뛴 사용자는 다음 재구성에서 들어온다
+    @Scheduled(fixedDelayString = "${app.availability-index.catch-up-interval-ms:5000}",
+            initialDelayString = "${app.availability-index.catch-up-interval-ms:5000}")
+    public synchronized void catchUp() {
+        Filters filters = current;
+        if (filters == null) {
+            return;
+        }
+        List<UserIdentity> chunk;
+        do {
+            chunk = userRepository.findIdentitiesAfter(filters.lastUserId, chunkSize);
+            filters.addAll(chunk);
+        } while (chunk.size() == chunkSize);
+    }
+
+    // 교체와 같은 잠금 안에서 쓰므로, 교체 직전의 추가가 옛 필터에만 남는 일이 없다
+    private void forEachFilters(Consumer<Filters> action) {
+        synchronized (swapLock) {
+            if (current != null) {
+                action.accept(current);
+            }
+            if (building != null) {
+                action.accept(building);
+            }
+        }
+    }
+
+    private boolean record(boolean mightContain) {
+        (mightContain ? confirmCounter : fastPathCounter).increment();
+        return mightContain;
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("user.availability.lookup")
+                .description("가용성 조회가 필터에서 끝났는지, DB 확인이 필요했는지")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class Filters {
+        private final ScalableBloomFilter emails;
+        private final ScalableBloomFilter nicknames;
+        // 적재한 사용자 중 가장 큰 id. 재구성과 따라잡기(둘 다 synchronized)에서만 바꾼다
+        private long lastUserId;
+
+        private Filters(int initialCapacity, double falsePositiveRate) {
+            this.emails = new ScalableBloomFilter(initialCapacity, falsePositiveRate);
+            this.nicknames = new ScalableBloomFilter(initialCapacity, falsePositiveRate);
+        }
+
+        private void addAll(List<UserIdentity> identities) {
+            for (UserIdentity identity : identities) {
+                emails.add(identity.email());
+                nicknames.add(identity.nickname());
+                lastUserId = Math.max(lastUserId, identity.id());
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.ktb3community.user.service;
+
+import com.example.ktb3community.comment.repository.CommentRepository;
+import com.example.ktb3community.post.repository.PostLikeRepository;
+import com.example.ktb3community.post.repository.PostRepository;
+import com.example.ktb3community.user.dto.ExportLine;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+// 사용자가 쓴 게시글/댓글/좋아요를 NDJSON으로 흘려 보낸다.
+// DB 커서에서 한 행씩 읽어 바로 쓰므로 작성량과 무관하게 메모리 사용량이 일정하다
+@Slf4j
+@Service
+public class UserExportService {
+
+    // 이 행 수마다 flush해서 클라이언트가 받기 시작하고, 연결이 끊기면 빨리 알아챈다
+    private static final int FLUSH_EVERY_ROWS = 500;
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter lineWriter;
+    private final MeterRegistry meterRegistry;
+
+    public UserExportService(
+            PostRepository postRepository,
+            CommentRepository commentRepository,
+            PostLikeRepository postLikeRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 루트 값 사이 구분자를 줄바꿈으로 두고, flush는 직접 제어한다
+        this.lineWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 응답 스트림은 닫지 않는다 (서블릿 컨테이너가 닫는다)
+    public void export(Long userId, OutputStream out, boolean gzip) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "cancelled";
+        try {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                writeLines(userId, gzipOut);
+                gzipOut.finish();
+            } else {
+                writeLines(userId, out);
+            }
+            out.flush();
+            result = "completed";
+        } catch (IOException e) {
+            // 대부분 클라이언트가 연결을 끊은 경우: 커서는 이미 닫혔고 트랜잭션은 롤백된다
+            log.info("[export] 사용자 {} 내보내기 중단: {}", userId, e.getMessage());
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("user.export", "result", result));
+        }
+    }
+
+    private void writeLines(Long userId, OutputStream out) throws IOException {
+        try (JsonGenerator generator = lineWriter.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try {
+                    long rows = 0;
+                    rows = writeAll("post", postRepository.streamExportRowsByUserId(userId), generator, rows);
+                    rows = writeAll("comment", commentRepository.streamExportRowsByUserId(userId), generator, rows);
+                    rows = writeAll("like", postLikeRepository.streamExportRowsByUserId(userId), generator, rows);
+                    if (rows > 0) {
+                        generator.writeRaw('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long writeAll(String type, Stream<?> rows, JsonGenerator generator, long written) throws IOException {
+        try (rows) {
+            for (Object row : (Iterable<?>) rows::iterator) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new IOException("export interrupted");
+                }
+                lineWriter.writeValue(generator, new ExportLine(type, row));
+                if (++written % FLUSH_EVERY_ROWS == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return written;
+    }
+}
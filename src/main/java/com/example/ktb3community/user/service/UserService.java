@@ -1,12 +1,15 @@
 package com.example.ktb3community.user.service;
 
+import com.example.ktb3community.auth.infra.PasswordHasher;
 import com.example.ktb3community.auth.service.RefreshTokenService;
-import com.example.ktb3community.comment.repository.CommentRepository;
 import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.common.util.CookieUtil;
 import com.example.ktb3community.exception.BusinessException;
-import com.example.ktb3community.post.repository.PostRepository;
-import com.example.ktb3community.s3.service.FileService;
+import com.example.ktb3community.job.domain.JobType;
+import com.example.ktb3community.job.service.JobService;
+import com.example.ktb3community.outbox.domain.DomainEventType;
+import com.example.ktb3community.outbox.dto.ImageReplacedPayload;
+import com.example.ktb3community.outbox.service.DomainEventPublisher;
 import com.example.ktb3community.user.domain.User;
 import com.example.ktb3community.user.dto.AvailabilityResponse;
 import com.example.ktb3community.user.dto.MeResponse;
@@ -15,23 +18,43 @@ import com.example.ktb3community.user.dto.UpdatePasswordRequest;
 import com.example.ktb3community.user.mapper.UserMapper;
 import com.example.ktb3community.user.repository.UserRepository;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.AllArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
+import java.util.Objects;
 
 @Service
-@AllArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
     private final UserMapper userMapper;
-    private final FileService fileService;
-    private final PasswordEncoder passwordEncoder;
+    private final DomainEventPublisher domainEventPublisher;
+    private final PasswordHasher passwordHasher;
     private final RefreshTokenService refreshTokenService;
+    private final UserAvailabilityIndex userAvailabilityIndex;
+    private final JobService jobService;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserService(
+            UserRepository userRepository,
+            UserMapper userMapper,
+            DomainEventPublisher domainEventPublisher,
+            PasswordHasher passwordHasher,
+            RefreshTokenService refreshTokenService,
+            UserAvailabilityIndex userAvailabilityIndex,
+            JobService jobService,
+            PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.domainEventPublisher = domainEventPublisher;
+        this.passwordHasher = passwordHasher;
+        this.refreshTokenService = refreshTokenService;
+        this.userAvailabilityIndex = userAvailabilityIndex;
+        this.jobService = jobService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Transactional(readOnly = true)
     public AvailabilityResponse getAvailability(String email, String nickname) {
@@ -39,11 +62,14 @@ public class UserService {
         Boolean nicknameAvailable = null;
         if(email != null && !email.isBlank()){
             email = email.trim().toLowerCase();
-            emailAvailable = !userRepository.existsByEmail(email);
+            // 필터에 없으면 사용 가능으로 보고 DB를 조회하지 않는다 (가입 시 DB 확인과 unique 제약이 최종 보장)
+            emailAvailable = !userAvailabilityIndex.mightContainEmail(email)
+                    || !userRepository.existsByEmail(email);
         }
         if(nickname != null && !nickname.isBlank()){
             nickname = nickname.trim();
-            nicknameAvailable = !userRepository.existsByNickname(nickname);
+            nicknameAvailable = !userAvailabilityIndex.mightContainNickname(nickname)
+                    || !userRepository.existsByNickname(nickname);
         }
         return new AvailabilityResponse(emailAvailable, nicknameAvailable);
     }
@@ -68,30 +94,34 @@ public class UserService {
             }
 
             user.updateNickname(nickname);
+            userAvailabilityIndex.addNickname(nickname);
         }
         if (profileImageUrl != null && !profileImageUrl.isBlank()){
             String previousImageUrl = user.getProfileImageUrl();
             user.updateProfileImageUrl(profileImageUrl);
-            fileService.deleteImageIfChanged(previousImageUrl, profileImageUrl);
+            // 이전 이미지 삭제와 새 이미지의 축소본 생성은 커밋 후 구독자(ReplacedImageCleaner, ImageVariantGenerator)가 한다
+            if (!Objects.equals(previousImageUrl, user.getProfileImageUrl())) {
+                domainEventPublisher.append(DomainEventType.PROFILE_IMAGE_REPLACED, userId,
+                        new ImageReplacedPayload(previousImageUrl, user.getProfileImageUrl()));
+            }
         }
         return userMapper.userToMeResponse(user);
     }
 
-    @Transactional
+    // 해싱을 트랜잭션 밖에서 끝낸 뒤 짧은 트랜잭션으로 저장한다
     public void updatePassword(Long userId, UpdatePasswordRequest updatePasswordRequest){
-        User user = userRepository.findByIdOrThrow(userId);
-        String hashedPassword = passwordEncoder.encode(updatePasswordRequest.newPassword());
-        user.updatePasswordHash(hashedPassword);
+        String hashedPassword = passwordHasher.encode(updatePasswordRequest.newPassword());
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findByIdOrThrow(userId).updatePasswordHash(hashedPassword));
     }
 
+    // 사용자만 즉시 삭제하고, 댓글/좋아요/게시글 정리는 작업으로 등록해 백그라운드에서 나눠 처리한다
     @Transactional
     public void withdrawMe(Long userId, HttpServletResponse response){
         User user = userRepository.findByIdOrThrow(userId);
-        Instant now = Instant.now();
-        commentRepository.softDeleteByUserId(userId, now);
-        postRepository.softDeleteByUserId(userId, now);
-        userRepository.softDeleteById(userId, now);
+        userRepository.softDeleteById(userId, Instant.now());
         refreshTokenService.revokeAllByUser(user);
+        jobService.enqueue(JobType.USER_WITHDRAWAL, userId);
         CookieUtil.removeRefreshTokenCookie(response);
     }
 }
\ No newline at end of file
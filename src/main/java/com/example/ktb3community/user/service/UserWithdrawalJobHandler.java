@@ -0,0 +1,115 @@
+package com.example.ktb3community.user.service;
+
+import com.example.ktb3community.comment.dto.CommentRef;
+import com.example.ktb3community.comment.repository.CommentRepository;
+import com.example.ktb3community.job.domain.Job;
+import com.example.ktb3community.job.domain.JobType;
+import com.example.ktb3community.job.service.JobHandler;
+import com.example.ktb3community.post.dto.LikeRef;
+import com.example.ktb3community.post.dto.PostCounterDelta;
+import com.example.ktb3community.post.repository.PostLikeRepository;
+import com.example.ktb3community.post.repository.PostRepository;
+import com.example.ktb3community.post.service.PostTotalsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 탈퇴한 사용자의 댓글 → 좋아요 → 게시글 순으로 chunk 단위 soft delete.
+// 다른 사람 글에 남긴 댓글/좋아요는 게시글별로 모아 카운터를 한 번에 줄인다
+@Component
+public class UserWithdrawalJobHandler implements JobHandler {
+
+    enum Stage { COMMENTS, LIKES, POSTS }
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostTotalsService postTotalsService;
+    private final int chunkSize;
+
+    public UserWithdrawalJobHandler(
+            PostRepository postRepository,
+            CommentRepository commentRepository,
+            PostLikeRepository postLikeRepository,
+            PostTotalsService postTotalsService,
+            @Value("${app.withdrawal.chunk-size:500}") int chunkSize) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.postTotalsService = postTotalsService;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public JobType type() {
+        return JobType.USER_WITHDRAWAL;
+    }
+
+    @Override
+    public String initialStage() {
+        return Stage.COMMENTS.name();
+    }
+
+    @Override
+    public void runChunk(Job job, Instant now) {
+        Long userId = job.getTargetId();
+        switch (Stage.valueOf(job.getStage())) {
+            case COMMENTS -> deleteComments(job, userId, now);
+            case LIKES -> deleteLikes(job, userId, now);
+            case POSTS -> deletePosts(job, userId, now);
+        }
+    }
+
+    private void deleteComments(Job job, Long userId, Instant now) {
+        List<CommentRef> comments = commentRepository.findLiveRefsByUserId(userId, job.getCursorId(), chunkSize);
+        if (!comments.isEmpty()) {
+            List<Long> ids = comments.stream().map(CommentRef::commentId).toList();
+            commentRepository.softDeleteByUserIdAndIdIn(userId, ids, now);
+            Map<Long, Long> perPost = countByPost(comments, CommentRef::postId);
+            postRepository.applyCounterDeltas(perPost.entrySet().stream()
+                    .map(entry -> new PostCounterDelta(entry.getKey(), 0, -entry.getValue()))
+                    .toList(), now);
+            job.advance(ids.getLast(), ids.size());
+        }
+        if (comments.size() < chunkSize) {
+            job.moveTo(Stage.LIKES.name());
+        }
+    }
+
+    private void deleteLikes(Job job, Long userId, Instant now) {
+        List<LikeRef> likes = postLikeRepository.findLiveRefsByUserId(userId, job.getCursorId(), chunkSize);
+        if (!likes.isEmpty()) {
+            List<Long> ids = likes.stream().map(LikeRef::likeId).toList();
+            postLikeRepository.softDeleteByUserIdAndIdIn(userId, ids, now);
+            Map<Long, Long> perPost = countByPost(likes, LikeRef::postId);
+            postRepository.applyCounterDeltas(perPost.entrySet().stream()
+                    .map(entry -> new PostCounterDelta(entry.getKey(), -entry.getValue(), 0))
+                    .toList(), now);
+            job.advance(ids.getLast(), ids.size());
+        }
+        if (likes.size() < chunkSize) {
+            job.moveTo(Stage.POSTS.name());
+        }
+    }
+
+    private void deletePosts(Job job, Long userId, Instant now) {
+        List<Long> ids = postRepository.findLiveIdsByUserId(userId, job.getCursorId(), chunkSize);
+        if (!ids.isEmpty()) {
+            int deleted = postRepository.softDeleteByUserIdAndIdIn(userId, ids, now);
+            postTotalsService.postsDeleted(deleted);
+            job.advance(ids.getLast(), ids.size());
+        }
+        if (ids.size() < chunkSize) {
+            job.complete(now);
+        }
+    }
+
+    private static <T> Map<Long, Long> countByPost(List<T> rows, Function<T, Long> postId) {
+        return rows.stream().collect(Collectors.groupingBy(postId, Collectors.counting()));
+    }
+}
@@ -0,0 +1,118 @@
+-- 기준선(V1) 이후 Flyway 도입 전까지 엔티티로만 추가했던 테이블과 인덱스.
+-- 운영 DB는 V1로 기준선을 잡은 뒤 이 파일부터 적용된다
+
+-- 목록 ETag 워터마크(max(updated_at))와 보관 대상(오래전에 탈퇴/삭제한 행) 조회
+create index idx_users_updated_at on users (updated_at);
+create index idx_users_deleted_at on users (deleted_at);
+create index idx_posts_deleted_at_updated_at on posts (deleted_at, updated_at);
+-- 게시글별 댓글 수 집계(정합성 점검)
+create index idx_comments_post_id_deleted_at on comments (post_id, deleted_at);
+create index idx_comments_deleted_at on comments (deleted_at);
+create index idx_likes_deleted_at on likes (deleted_at);
+
+create table jobs (
+    id              bigint       not null auto_increment,
+    type            enum ('USER_WITHDRAWAL','POST_DELETION') not null,
+    target_id       bigint       not null,
+    status          enum ('PENDING','RUNNING','COMPLETED','FAILED') not null,
+    stage           varchar(40)  not null,
+    cursor_id       bigint       not null,
+    processed_count bigint       not null,
+    attempts        integer      not null,
+    last_error      varchar(500),
+    next_run_at     timestamp(6) not null,
+    finished_at     timestamp(6),
+    version         bigint       not null,
+    created_at      timestamp(6) not null,
+    updated_at      timestamp(6) not null,
+    primary key (id)
+);
+create index idx_jobs_status_next_run_at on jobs (status, next_run_at);
+create index idx_jobs_type_target on jobs (type, target_id);
+
+create table notifications (
+    id           bigint       not null,
+    recipient_id bigint       not null,
+    type         enum ('COMMENT','LIKE') not null,
+    post_id      bigint       not null,
+    actor_id     bigint       not null,
+    actor_count  integer      not null,
+    created_at   timestamp(6) not null,
+    read_at      timestamp(6),
+    primary key (id)
+);
+create index idx_notifications_recipient_id_id on notifications (recipient_id, id);
+create index idx_notifications_recipient_id_read_at on notifications (recipient_id, read_at);
+
+create table outbox_events (
+    id              bigint        not null auto_increment,
+    type            enum ('POST_IMAGE_REPLACED','PROFILE_IMAGE_REPLACED') not null,
+    aggregate_type  enum ('POST','USER') not null,
+    aggregate_id    bigint        not null,
+    payload         varchar(4000) not null,
+    status          enum ('PENDING','PUBLISHED','FAILED') not null,
+    attempts        integer       not null,
+    next_attempt_at timestamp(6)  not null,
+    last_error      varchar(500),
+    created_at      timestamp(6)  not null,
+    published_at    timestamp(6),
+    primary key (id)
+);
+create index idx_outbox_events_status_id on outbox_events (status, id);
+
+-- 보관 테이블: 원본 id를 그대로 옮기고 FK는 두지 않는다
+create table users_archive (
+    id                bigint       not null,
+    email             varchar(255) not null,
+    password_hash     varchar(255) not null,
+    nickname          varchar(255) not null,
+    profile_image_url varchar(255) not null,
+    deleted_at        timestamp(6),
+    role              enum ('ROLE_USER','ROLE_ADMIN'),
+    created_at        timestamp(6) not null,
+    updated_at        timestamp(6) not null,
+    archived_at       timestamp(6) not null,
+    primary key (id)
+);
+
+create table posts_archive (
+    id             bigint       not null,
+    user_id        bigint       not null,
+    title          varchar(255) not null,
+    content        longtext     not null,
+    post_image_url varchar(255),
+    like_count     bigint       not null,
+    view_count     bigint       not null,
+    comment_count  bigint       not null,
+    deleted_at     timestamp(6),
+    created_at     timestamp(6) not null,
+    updated_at     timestamp(6) not null,
+    archived_at    timestamp(6) not null,
+    primary key (id)
+);
+create index idx_posts_archive_user_id on posts_archive (user_id);
+
+create table comments_archive (
+    id          bigint       not null,
+    post_id     bigint       not null,
+    user_id     bigint       not null,
+    content     varchar(255) not null,
+    deleted_at  timestamp(6),
+    created_at  timestamp(6) not null,
+    updated_at  timestamp(6) not null,
+    archived_at timestamp(6) not null,
+    primary key (id)
+);
+create index idx_comments_archive_post_id on comments_archive (post_id);
+
+create table likes_archive (
+    id          bigint       not null,
+    post_id     bigint       not null,
+    user_id     bigint       not null,
+    deleted_at  timestamp(6),
+    created_at  timestamp(6) not null,
+    updated_at  timestamp(6) not null,
+    archived_at timestamp(6) not null,
+    primary key (id)
+);
+create index idx_likes_archive_post_id on likes_archive (post_id);
@@ -0,0 +1,71 @@
+-- Flyway 도입 전 운영 코드의 ddl-auto: update가 만든 스키마를 그대로 옮긴 기준선 (제약 이름도 Hibernate가 만든 이름).
+-- 이미 운영 중인 DB는 baseline-on-migrate로 이 버전을 건너뛰고 V1_1부터 적용하므로, 이후에 추가한 테이블/인덱스는 여기에 넣지 않는다.
+-- @Enumerated(STRING) 컬럼은 Hibernate가 만들던 대로 enum 타입이므로 상수를 추가하면 마이그레이션도 추가해야 한다
+
+create table users (
+    id                bigint       not null auto_increment,
+    email             varchar(255) not null,
+    password_hash     varchar(255) not null,
+    nickname          varchar(255) not null,
+    profile_image_url varchar(255) not null,
+    deleted_at        timestamp(6),
+    role              enum ('ROLE_USER','ROLE_ADMIN'),
+    created_at        timestamp(6) not null,
+    updated_at        timestamp(6) not null,
+    primary key (id),
+    constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email),
+    constraint UK2ty1xmrrgtn89xt7kyxx6ta7h unique (nickname)
+);
+
+create table posts (
+    id             bigint       not null auto_increment,
+    user_id        bigint       not null,
+    title          varchar(255) not null,
+    content        longtext     not null,
+    post_image_url varchar(255),
+    like_count     bigint       not null,
+    view_count     bigint       not null,
+    comment_count  bigint       not null,
+    deleted_at     timestamp(6),
+    created_at     timestamp(6) not null,
+    updated_at     timestamp(6) not null,
+    primary key (id),
+    constraint FK5lidm6cqbc7u4xhqpxm898qme foreign key (user_id) references users (id)
+);
+
+create table comments (
+    id         bigint       not null auto_increment,
+    post_id    bigint       not null,
+    user_id    bigint       not null,
+    content    varchar(255) not null,
+    deleted_at timestamp(6),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    primary key (id),
+    constraint FKh4c7lvsc298whoyd4w9ta25cr foreign key (post_id) references posts (id),
+    constraint FK8omq0tc18jd43bu5tjh6jvraq foreign key (user_id) references users (id)
+);
+
+create table likes (
+    id         bigint       not null auto_increment,
+    post_id    bigint       not null,
+    user_id    bigint       not null,
+    deleted_at timestamp(6),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    primary key (id),
+    constraint uq_like_post_user unique (post_id, user_id),
+    constraint FKry8tnr4x2vwemv2bb0h5hyl0x foreign key (post_id) references posts (id),
+    constraint FKnvx9seeqqyy71bij291pwiwrg foreign key (user_id) references users (id)
+);
+
+create table refresh_token (
+    id         bigint       not null,
+    user_id    bigint       not null,
+    expires_at timestamp(6) not null,
+    revoked    bit          not null,
+    version    bigint       not null,
+    primary key (id),
+    constraint FKjtx87i0jvq2svedphegvdwcuy foreign key (user_id) references users (id)
+);
+create index idx_refresh_token_user_revoked on refresh_token (user_id, revoked);
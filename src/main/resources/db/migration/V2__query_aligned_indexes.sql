@@ -0,0 +1,18 @@
+-- 저장소 쿼리마다 조건(등호) → 정렬 → id 순으로 맞춘 복합 인덱스.
+-- 목록은 "정렬값 desc, id asc"라 정렬 컬럼만 내림차순으로 두어 filesort 없이 앞에서부터 읽는다 (MySQL 8.0 이상)
+
+-- PostSort(NEW, VIEW, LIKE, CMT) 목록: where deleted_at is null order by <정렬값> desc, id
+create index idx_posts_deleted_at_created_at_id on posts (deleted_at, created_at desc, id);
+create index idx_posts_deleted_at_view_count_id on posts (deleted_at, view_count desc, id);
+create index idx_posts_deleted_at_like_count_id on posts (deleted_at, like_count desc, id);
+create index idx_posts_deleted_at_comment_count_id on posts (deleted_at, comment_count desc, id);
+-- 작성자 기준 내보내기/탈퇴 처리: where user_id = ? and deleted_at is null [and id > ?] order by id
+create index idx_posts_user_id_deleted_at_id on posts (user_id, deleted_at, id);
+
+-- 댓글 페이지: where post_id = ? and deleted_at is null order by created_at desc, id desc (역방향으로 읽는다)
+create index idx_comments_post_id_deleted_at_created_at_id on comments (post_id, deleted_at, created_at, id);
+create index idx_comments_user_id_deleted_at_id on comments (user_id, deleted_at, id);
+
+create index idx_likes_user_id_deleted_at_id on likes (user_id, deleted_at, id);
+-- 게시글 삭제 처리(id 커서)와 좋아요 수 재계산(count)이 테이블을 읽지 않게 한다
+create index idx_likes_post_id_deleted_at_id on likes (post_id, deleted_at, id);
@@ -0,0 +1,3 @@
+-- 원본 대신 목록/댓글에 내려줄 축소본 URL. 만들어지기 전(또는 만들 수 없는 이미지)에는 null이다
+alter table posts add column post_thumbnail_url varchar(255);
+alter table users add column profile_thumbnail_url varchar(255);
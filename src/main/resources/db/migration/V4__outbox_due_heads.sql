@@ -0,0 +1,2 @@
+-- OutboxRepository.findDue: 같은 aggregate에 재시도를 기다리는 앞 이벤트가 있는지(not exists) 인덱스만으로 확인한다
+create index idx_outbox_events_aggregate_status_id on outbox_events (aggregate_type, aggregate_id, status, id);
@@ -0,0 +1,3 @@
+-- 보관했다가 되살린 게시글/사용자가 축소본 URL을 잃지 않도록 보관 테이블에도 둔다 (V3와 같은 컬럼)
+alter table posts_archive add column post_thumbnail_url varchar(255);
+alter table users_archive add column profile_thumbnail_url varchar(255);
@@ -0,0 +1,73 @@
+package com.example.ktb3community.archive;
+
+import com.example.ktb3community.archive.controller.ArchiveAdminController;
+import com.example.ktb3community.archive.dto.ArchiveRestoreResponse;
+import com.example.ktb3community.archive.service.ArchiveService;
+import com.example.ktb3community.auth.security.CustomUserDetails;
+import com.example.ktb3community.common.Role;
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.post.exception.PostNotFoundException;
+import com.example.ktb3community.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.example.ktb3community.TestFixtures.POST_ID;
+import static com.example.ktb3community.TestFixtures.USER_ID;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ArchiveAdminController.class)
+class ArchiveAdminControllerTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @MockitoBean
+    ArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        User admin = User.builder()
+                .id(USER_ID)
+                .email("admin@email.com")
+                .role(Role.ROLE_ADMIN)
+                .build();
+
+        CustomUserDetails principal = CustomUserDetails.from(admin);
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+    }
+
+    @Test
+    @DisplayName("[200] 보관된 게시글 복구 성공")
+    void restorePost_200_success() throws Exception {
+        given(archiveService.restorePost(POST_ID)).willReturn(new ArchiveRestoreResponse(POST_ID, 3, 5));
+
+        mockMvc.perform(post("/admin/archive/posts/{postId}/restore", POST_ID).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.postId").value(POST_ID))
+                .andExpect(jsonPath("$.data.comments").value(3))
+                .andExpect(jsonPath("$.data.likes").value(5));
+    }
+
+    @Test
+    @DisplayName("[404] 보관된 게시글이 없으면 POST_NOT_FOUND")
+    void restorePost_404_notArchived() throws Exception {
+        given(archiveService.restorePost(POST_ID)).willThrow(new PostNotFoundException());
+
+        mockMvc.perform(post("/admin/archive/posts/{postId}/restore", POST_ID).with(csrf()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(ErrorCode.POST_NOT_FOUND.getCode()));
+    }
+}
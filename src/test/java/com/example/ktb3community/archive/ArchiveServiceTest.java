@@ -0,0 +1,144 @@
+package com.example.ktb3community.archive;
+
+import com.example.ktb3community.archive.domain.ArchiveTable;
+import com.example.ktb3community.archive.dto.ArchiveRestoreResponse;
+import com.example.ktb3community.archive.dto.ArchivedPost;
+import com.example.ktb3community.archive.repository.ArchiveRepository;
+import com.example.ktb3community.archive.service.ArchiveService;
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.post.exception.PostNotFoundException;
+import com.example.ktb3community.user.domain.User;
+import com.example.ktb3community.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.ktb3community.TestFixtures.POST_ID;
+import static com.example.ktb3community.TestFixtures.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final Instant DELETED_AT = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock ArchiveRepository archiveRepository;
+    @Mock UserRepository userRepository;
+    @Mock PlatformTransactionManager transactionManager;
+
+    SimpleMeterRegistry meterRegistry;
+    ArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        archiveService = new ArchiveService(archiveRepository, userRepository, transactionManager, meterRegistry,
+                30, CHUNK_SIZE, 0, 100);
+    }
+
+    @Test
+    @DisplayName("run: 참조하는 쪽(좋아요 → 댓글 → 게시글 → 사용자)부터 보관 기간이 지난 행을 chunk 단위로 옮긴다")
+    void run_movesTablesInForeignKeyOrder() {
+        given(archiveRepository.findArchivableIds(any(ArchiveTable.class), any(Instant.class), eq(CHUNK_SIZE)))
+                .willReturn(List.of());
+        given(archiveRepository.findArchivableIds(eq(ArchiveTable.LIKES), any(Instant.class), eq(CHUNK_SIZE)))
+                .willReturn(List.of(1L, 2L), List.of(3L));
+        given(archiveRepository.moveToArchive(eq(ArchiveTable.LIKES), anyList(), any(Instant.class), any(Instant.class)))
+                .willAnswer(invocation -> ((List<?>) invocation.getArgument(1)).size());
+
+        archiveService.run();
+
+        ArgumentCaptor<ArchiveTable> tables = ArgumentCaptor.forClass(ArchiveTable.class);
+        ArgumentCaptor<Instant> cutoffs = ArgumentCaptor.forClass(Instant.class);
+        verify(archiveRepository, times(5)).findArchivableIds(tables.capture(), cutoffs.capture(), eq(CHUNK_SIZE));
+        assertThat(tables.getAllValues()).containsExactly(
+                ArchiveTable.LIKES, ArchiveTable.LIKES, ArchiveTable.COMMENTS, ArchiveTable.POSTS, ArchiveTable.USERS);
+        assertThat(cutoffs.getValue()).isCloseTo(Instant.now().minus(Duration.ofDays(30)), within(Duration.ofMinutes(1)));
+        verify(archiveRepository, never()).moveToArchive(eq(ArchiveTable.POSTS), anyList(), any(), any());
+        assertThat(meterRegistry.get("archive.moved").tag("table", "likes").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("restorePost: 게시글과 함께 지워진 댓글/좋아요를 되살리고 카운터를 다시 센다")
+    void restorePost_success() {
+        given(archiveRepository.findArchivedPost(POST_ID))
+                .willReturn(Optional.of(new ArchivedPost(POST_ID, USER_ID, DELETED_AT)));
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(mock(User.class)));
+        given(archiveRepository.restoreCascadedComments(eq(POST_ID), eq(DELETED_AT), any(Instant.class))).willReturn(3);
+        given(archiveRepository.restoreCascadedLikes(eq(POST_ID), eq(DELETED_AT), any(Instant.class))).willReturn(5);
+
+        ArchiveRestoreResponse response = archiveService.restorePost(POST_ID);
+
+        assertThat(response).isEqualTo(new ArchiveRestoreResponse(POST_ID, 3, 5));
+        verify(archiveRepository).restorePost(eq(POST_ID), any(Instant.class));
+        verify(archiveRepository).recountPostCounters(POST_ID);
+        assertThat(meterRegistry.get("archive.restored").tag("table", "likes").counter().count()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("restorePost: 보관된 게시글이 없으면 PostNotFoundException 발생")
+    void restorePost_notArchived_throws() {
+        given(archiveRepository.findArchivedPost(POST_ID)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> archiveService.restorePost(POST_ID))
+                .isInstanceOf(PostNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("restorePost: 작성자가 탈퇴했으면 되살리지 않고 CONFLICT 예외 발생")
+    void restorePost_authorWithdrawn_throws() {
+        given(archiveRepository.findArchivedPost(POST_ID))
+                .willReturn(Optional.of(new ArchivedPost(POST_ID, USER_ID, DELETED_AT)));
+        given(userRepository.findById(USER_ID)).willReturn(Optional.empty());
+
+        Throwable thrown = catchThrowable(() -> archiveService.restorePost(POST_ID));
+
+        assertThat(thrown)
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.CONFLICT);
+        verify(archiveRepository, never()).restorePost(any(), any());
+    }
+
+    @Test
+    @DisplayName("restorePost: hot 테이블과 키가 겹치면 CONFLICT 예외 발생")
+    void restorePost_duplicateKey_throws() {
+        given(archiveRepository.findArchivedPost(POST_ID))
+                .willReturn(Optional.of(new ArchivedPost(POST_ID, USER_ID, DELETED_AT)));
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(mock(User.class)));
+        given(archiveRepository.restorePost(eq(POST_ID), any(Instant.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate"));
+
+        Throwable thrown = catchThrowable(() -> archiveService.restorePost(POST_ID));
+
+        assertThat(thrown)
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.CONFLICT);
+    }
+}
@@ -6,9 +6,11 @@ import com.example.ktb3community.auth.dto.AuthResponse;
 import com.example.ktb3community.auth.dto.LoginRequest;
 import com.example.ktb3community.auth.dto.SignUpRequest;
 import com.example.ktb3community.auth.dto.Token;
+import com.example.ktb3community.auth.infra.LoginAttemptLimiter;
 import com.example.ktb3community.auth.service.AuthService;
 import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.common.response.ApiResult;
+import com.example.ktb3community.exception.BusinessException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
@@ -29,9 +31,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import static com.example.ktb3community.TestFixtures.ACCESS_TOKEN;
 import static com.example.ktb3community.TestFixtures.REFRESH_TOKEN;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -45,6 +50,7 @@ class AuthControllerTest {
     @MockitoBean AuthService authService;
     @MockitoBean
     TokenResponder tokenResponder;
+    @MockitoBean LoginAttemptLimiter loginAttemptLimiter;
 
     @BeforeEach
     void setUp() {
@@ -98,6 +104,22 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.data.accessToken").value(ACCESS_TOKEN));
     }
 
+    @Test
+    @DisplayName("[429] 로그인 시도 제한에 걸리면 서비스를 호출하지 않고 거절한다")
+    void login_429_throttled() throws Exception {
+        LoginRequest request = new LoginRequest("Test@email.com", "Password1234!");
+        willThrow(new BusinessException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS))
+                .given(loginAttemptLimiter).checkAllowed(eq("test@email.com"), anyString());
+
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(csrf()))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.code").value(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS.getCode()));
+        verifyNoInteractions(authService);
+    }
+
     @Test
     @DisplayName("[200] 토큰 갱신 성공 (쿠키 필수)")
     void refresh_200_withCookie() throws Exception {
@@ -1,27 +1,33 @@
 package com.example.ktb3community.auth;
 
-import com.example.ktb3community.auth.domain.RefreshToken;
 import com.example.ktb3community.auth.dto.LoginRequest;
+import com.example.ktb3community.auth.dto.RotatedRefreshToken;
 import com.example.ktb3community.auth.dto.SignUpRequest;
 import com.example.ktb3community.auth.dto.Token;
+import com.example.ktb3community.auth.infra.PasswordHasher;
 import com.example.ktb3community.auth.service.AuthService;
 import com.example.ktb3community.auth.service.RefreshTokenService;
 import com.example.ktb3community.common.Role;
 import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.exception.BusinessException;
 import com.example.ktb3community.jwt.JwtTokenProvider;
+import com.example.ktb3community.outbox.domain.DomainEventType;
+import com.example.ktb3community.outbox.dto.ImageReplacedPayload;
+import com.example.ktb3community.outbox.service.DomainEventPublisher;
 import com.example.ktb3community.user.domain.User;
 import com.example.ktb3community.user.exception.UserNotFoundException;
 import com.example.ktb3community.user.repository.UserRepository;
+import com.example.ktb3community.user.service.UserAvailabilityIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.Optional;
 
@@ -31,16 +37,23 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
 
+
     @Mock UserRepository userRepository;
     @Mock JwtTokenProvider jwtTokenProvider;
     @Mock
     RefreshTokenService refreshTokenService;
-    @Mock PasswordEncoder passwordEncoder;
+    @Mock PasswordHasher passwordHasher;
+    @Mock UserAvailabilityIndex userAvailabilityIndex;
+    @Mock DomainEventPublisher domainEventPublisher;
+    @Mock PlatformTransactionManager transactionManager;
 
     @InjectMocks
     AuthService authService;
@@ -52,12 +65,12 @@ class AuthServiceTest {
     }
 
     @Test
-    @DisplayName("signup: 이메일/닉네임 중복이 없으면 회원을 저장하고 토큰을 발급한다")
+    @DisplayName("signup: 이메일/닉네임 중복이 없으면 트랜잭션 밖에서 해싱한 뒤 회원을 저장하고 토큰을 발급한다")
     void signup_success() {
         SignUpRequest request = new SignUpRequest("test@email.com", "password", "nickname", "img");
         String encodedPassword = "encodedPassword";
 
-        given(passwordEncoder.encode("password")).willReturn(encodedPassword);
+        given(passwordHasher.encode("password")).willReturn(encodedPassword);
         given(userRepository.existsByEmail("test@email.com")).willReturn(false);
         given(userRepository.existsByNickname("nickname")).willReturn(false);
 
@@ -81,6 +94,13 @@ class AuthServiceTest {
 
         assertThat(savedUser.getEmail()).isEqualTo("test@email.com");
         assertThat(savedUser.getPasswordHash()).isEqualTo(encodedPassword);
+        verify(userAvailabilityIndex).add("test@email.com", "nickname");
+        verify(domainEventPublisher).append(DomainEventType.PROFILE_IMAGE_REPLACED, USER_ID,
+                new ImageReplacedPayload(null, "img"));
+        InOrder inOrder = inOrder(passwordHasher, transactionManager, userRepository);
+        inOrder.verify(passwordHasher).encode("password");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(userRepository).save(any(User.class));
     }
 
     @Test
@@ -95,6 +115,7 @@ class AuthServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .extracting(ex -> ((BusinessException) ex).getErrorCode())
                 .isEqualTo(ErrorCode.EMAIL_ALREADY_EXIST);
+        verify(passwordHasher, never()).encode(any());
     }
 
     @Test
@@ -114,13 +135,13 @@ class AuthServiceTest {
     }
 
     @Test
-    @DisplayName("login: 이메일과 비밀번호가 일치하면 토큰을 발급한다")
+    @DisplayName("login: 트랜잭션 밖에서 비밀번호를 검증하고, 일치하면 토큰을 발급한다")
     void login_success() {
         LoginRequest request = new LoginRequest("test@email.com", "password");
         User user = newUser("test@email.com", "encodedPassword");
 
         given(userRepository.findByEmail("test@email.com")).willReturn(Optional.of(user));
-        given(passwordEncoder.matches("password", "encodedPassword")).willReturn(true);
+        given(passwordHasher.matches("password", "encodedPassword")).willReturn(true);
 
         given(jwtTokenProvider.createAccessToken(1L)).willReturn("access.token");
         given(refreshTokenService.createRefreshToken(user)).willReturn("refresh.token");
@@ -129,6 +150,10 @@ class AuthServiceTest {
 
         assertThat(token.accessToken()).isEqualTo("access.token");
         assertThat(token.refreshToken()).isEqualTo("refresh.token");
+        InOrder inOrder = inOrder(passwordHasher, transactionManager, refreshTokenService);
+        inOrder.verify(passwordHasher).matches("password", "encodedPassword");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(refreshTokenService).createRefreshToken(user);
     }
 
     @Test
@@ -148,32 +173,38 @@ class AuthServiceTest {
         User user = newUser("test@email.com", "encodedPassword");
 
         given(userRepository.findByEmail("test@email.com")).willReturn(Optional.of(user));
-        given(passwordEncoder.matches("wrongPw", "encodedPassword")).willReturn(false);
+        given(passwordHasher.matches("wrongPw", "encodedPassword")).willReturn(false);
+
+        assertThatThrownBy(() -> authService.login(request))
+                .isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("login: 이메일의 앞뒤 공백과 대소문자를 정규화해 조회한다")
+    void login_normalizesEmail() {
+        LoginRequest request = new LoginRequest(" Test@email.com ", "password");
+        given(userRepository.findByEmail("test@email.com")).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> authService.login(request))
                 .isInstanceOf(UserNotFoundException.class);
+        verifyNoInteractions(passwordHasher);
     }
 
     @Test
-    @DisplayName("refresh: 유효한 리프레시 토큰으로 액세스 토큰 재발급 및 리프레시 토큰 교체(Rotate)")
+    @DisplayName("refresh: 리프레시 토큰을 교체(Rotate)하고 교체 결과의 사용자로 액세스 토큰을 재발급")
     void refresh_success() {
         String oldRefreshToken = "old.refresh.token";
         String newRefreshToken = "new.refresh.token";
         String newAccessToken = "new.access.token";
-        User user = newUser("email", "pw");
-
-        RefreshToken validToken = RefreshToken.createNew(100L, user, null);
-        given(refreshTokenService.getValidTokenOrThrow(oldRefreshToken)).willReturn(validToken);
 
-        given(jwtTokenProvider.createAccessToken(user.getId())).willReturn(newAccessToken);
-        given(refreshTokenService.rotate(oldRefreshToken)).willReturn(newRefreshToken);
+        given(refreshTokenService.rotate(oldRefreshToken)).willReturn(new RotatedRefreshToken(USER_ID, newRefreshToken));
+        given(jwtTokenProvider.createAccessToken(USER_ID)).willReturn(newAccessToken);
 
         Token token = authService.refresh(oldRefreshToken);
 
         assertThat(token.accessToken()).isEqualTo(newAccessToken);
         assertThat(token.refreshToken()).isEqualTo(newRefreshToken);
 
-        verify(refreshTokenService).getValidTokenOrThrow(oldRefreshToken);
         verify(refreshTokenService).rotate(oldRefreshToken);
     }
 
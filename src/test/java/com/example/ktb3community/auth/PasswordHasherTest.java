@@ -0,0 +1,108 @@
+package com.example.ktb3community.auth;
+
+import com.example.ktb3community.auth.infra.PasswordHasher;
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class PasswordHasherTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("해싱 결과를 반환하고 대기/해싱 시간을 기록한다")
+    void encode_recordsMetrics() {
+        passwordHasher = new PasswordHasher(passwordEncoder, meterRegistry, 1, 1, 5000);
+        given(passwordEncoder.encode("password")).willReturn("hash");
+        given(passwordEncoder.matches("password", "hash")).willReturn(true);
+
+        assertThat(passwordHasher.encode("password")).isEqualTo("hash");
+        assertThat(passwordHasher.matches("password", "hash")).isTrue();
+
+        assertThat(meterRegistry.get("auth.password.queue").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("워커와 대기열이 모두 차면 PASSWORD_HASHING_BUSY로 즉시 거절한다")
+    void encode_queueFull_rejects() throws Exception {
+        passwordHasher = new PasswordHasher(passwordEncoder, meterRegistry, 1, 1, 5000);
+        CountDownLatch release = new CountDownLatch(1);
+        given(passwordEncoder.encode(anyString())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "hash";
+        });
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("a"));
+        awaitQueueSize(0, running);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("b"));
+        awaitQueueSize(1, queued);
+
+        Throwable thrown = catchThrowable(() -> passwordHasher.encode("c"));
+        release.countDown();
+
+        assertThat(thrown)
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.PASSWORD_HASHING_BUSY);
+        assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+
+    @Test
+    @DisplayName("결과를 제한 시간 안에 받지 못하면 작업을 취소하고 PASSWORD_HASHING_BUSY로 거절한다")
+    void matches_waitTimeout_rejects() {
+        passwordHasher = new PasswordHasher(passwordEncoder, meterRegistry, 1, 1, 50);
+        CountDownLatch release = new CountDownLatch(1);
+        given(passwordEncoder.matches(anyString(), anyString())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+
+        Throwable thrown = catchThrowable(() -> passwordHasher.matches("password", "hash"));
+        release.countDown();
+
+        assertThat(thrown)
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.PASSWORD_HASHING_BUSY);
+        assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    // 작업이 워커에 들어가거나 대기열에 쌓일 때까지 기다린다
+    private void awaitQueueSize(int expected, CompletableFuture<String> task) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            boolean started = meterRegistry.get("auth.password.queue").timer().count() > 0;
+            double queueSize = meterRegistry.get("auth.password.queue.size").gauge().value();
+            if (started && queueSize == expected && !task.isDone()) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("hasher did not reach queue size " + expected);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.ktb3community.auth;
+
+import com.example.ktb3community.auth.repository.RefreshTokenRepository;
+import com.example.ktb3community.auth.service.RefreshTokenPurgeJob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenPurgeJobTest {
+
+    @Mock RefreshTokenRepository refreshTokenRepository;
+    @Mock PlatformTransactionManager transactionManager;
+
+    SimpleMeterRegistry meterRegistry;
+    RefreshTokenPurgeJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new RefreshTokenPurgeJob(refreshTokenRepository, transactionManager, meterRegistry, 2, 0, 10);
+    }
+
+    @Test
+    @DisplayName("run: 마지막 id를 커서로 다음 chunk를 조회하며 빈 chunk가 나올 때까지 삭제한다")
+    void run_deletesChunksByKeyset() {
+        given(refreshTokenRepository.findPurgeableIds(eq(0L), any(Instant.class), any(Pageable.class)))
+                .willReturn(List.of(10L, 11L));
+        given(refreshTokenRepository.findPurgeableIds(eq(11L), any(Instant.class), any(Pageable.class)))
+                .willReturn(List.of(20L, 21L));
+        given(refreshTokenRepository.findPurgeableIds(eq(21L), any(Instant.class), any(Pageable.class)))
+                .willReturn(List.of());
+        given(refreshTokenRepository.deleteAllByIdIn(List.of(10L, 11L))).willReturn(2);
+        given(refreshTokenRepository.deleteAllByIdIn(List.of(20L, 21L))).willReturn(2);
+
+        job.run();
+
+        assertThat(meterRegistry.get("auth.refresh_token.purged").counter().count()).isEqualTo(4.0);
+        assertThat(meterRegistry.get("auth.refresh_token.purge.chunks").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("auth.refresh_token.purge.last_run").gauge().value()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("run: chunk 크기보다 적게 조회되면 추가 조회 없이 종료한다")
+    void run_partialChunk_stops() {
+        given(refreshTokenRepository.findPurgeableIds(eq(0L), any(Instant.class), any(Pageable.class)))
+                .willReturn(List.of(10L));
+        given(refreshTokenRepository.deleteAllByIdIn(List.of(10L))).willReturn(1);
+
+        job.run();
+
+        verify(refreshTokenRepository, never()).findPurgeableIds(eq(10L), any(Instant.class), any(Pageable.class));
+        assertThat(meterRegistry.get("auth.refresh_token.purged").counter().count()).isEqualTo(1.0);
+    }
+}
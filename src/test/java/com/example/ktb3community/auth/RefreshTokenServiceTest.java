@@ -1,13 +1,16 @@
 package com.example.ktb3community.auth;
 
 import com.example.ktb3community.auth.domain.RefreshToken;
+import com.example.ktb3community.auth.dto.RotatedRefreshToken;
 import com.example.ktb3community.auth.infra.RefreshTokenIdGenerator;
 import com.example.ktb3community.auth.repository.RefreshTokenRepository;
 import com.example.ktb3community.auth.service.RefreshTokenService;
 import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.exception.BusinessException;
 import com.example.ktb3community.jwt.JwtTokenProvider;
+import com.example.ktb3community.jwt.RefreshTokenClaims;
 import com.example.ktb3community.user.domain.User;
+import com.example.ktb3community.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,7 +28,10 @@ import static com.example.ktb3community.TestEntityFactory.refreshToken;
 import static com.example.ktb3community.TestEntityFactory.user;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.security.config.Elements.JWT;
 
@@ -35,6 +41,7 @@ class RefreshTokenServiceTest {
     @Mock RefreshTokenRepository refreshTokenRepository;
     @Mock JwtTokenProvider jwtTokenProvider;
     @Mock RefreshTokenIdGenerator refreshTokenIdGenerator;
+    @Mock UserRepository userRepository;
 
     @InjectMocks
     RefreshTokenService refreshTokenService;
@@ -64,88 +71,25 @@ class RefreshTokenServiceTest {
     }
 
     @Test
-    @DisplayName("getValidToken: 유효한 토큰이면 객체를 반환한다")
-    void getValidToken_success() {
-        Long tokenId = 100L;
-        RefreshToken token = refreshToken(user().build()).id(tokenId).expiresAt(Instant.now().plusSeconds(3600)).build();
-
-        given(jwtTokenProvider.getRefreshTokenId(JWT)).willReturn(tokenId);
-        given(refreshTokenRepository.findById(tokenId)).willReturn(Optional.of(token));
-
-        RefreshToken result = refreshTokenService.getValidTokenOrThrow(JWT);
-
-        assertThat(result).isEqualTo(token);
-    }
-
-    @Test
-    @DisplayName("getValidToken: DB에 토큰이 없으면 NOT_EXIST_REFRESH_TOKEN 예외 발생")
-    void getValidToken_notFound_throws() {
-        given(jwtTokenProvider.getRefreshTokenId(JWT)).willReturn(TOKEN_ID);
-        given(refreshTokenRepository.findById(TOKEN_ID)).willReturn(Optional.empty());
-
-        Throwable thrown = catchThrowable(() -> refreshTokenService.getValidTokenOrThrow(JWT));
-
-        assertThat(thrown)
-                .isInstanceOf(BusinessException.class)
-                .extracting(ex -> ((BusinessException) ex).getErrorCode())
-                .isEqualTo(ErrorCode.NOT_EXIST_REFRESH_TOKEN);
-    }
-
-    @Test
-    @DisplayName("getValidToken: 이미 만료된 토큰이면 REFRESH_TOKEN_EXPIRED 예외 발생")
-    void getValidToken_expiredTime_throws() {
-        RefreshToken token = refreshToken(user().build()).expiresAt(Instant.now().minusSeconds(10)).build();
-
-        given(jwtTokenProvider.getRefreshTokenId(JWT)).willReturn(TOKEN_ID);
-        given(refreshTokenRepository.findById(TOKEN_ID)).willReturn(Optional.of(token));
-
-        Throwable thrown = catchThrowable(() -> refreshTokenService.getValidTokenOrThrow(JWT));
-
-        assertThat(thrown)
-                .isInstanceOf(BusinessException.class)
-                .extracting(ex -> ((BusinessException) ex).getErrorCode())
-                .isEqualTo(ErrorCode.REFRESH_TOKEN_EXPIRED);
-    }
-
-    @Test
-    @DisplayName("getValidToken: 이미 폐기된 토큰이면 REFRESH_TOKEN_EXPIRED 예외 발생")
-    void getValidToken_revoked_throws() {
-        RefreshToken token = refreshToken(user().build()).expiresAt(Instant.now().plusSeconds(3600)).build();
-        token.revoke();
-
-        given(jwtTokenProvider.getRefreshTokenId(JWT)).willReturn(TOKEN_ID);
-        given(refreshTokenRepository.findById(TOKEN_ID)).willReturn(Optional.of(token));
-
-        Throwable thrown = catchThrowable(() -> refreshTokenService.getValidTokenOrThrow(JWT));
-
-        assertThat(thrown)
-                .isInstanceOf(BusinessException.class)
-                .extracting(ex -> ((BusinessException) ex).getErrorCode())
-                .isEqualTo(ErrorCode.REFRESH_TOKEN_EXPIRED);
-    }
-
-    @Test
-    @DisplayName("rotate: 기존 토큰을 폐기하고 새로운 토큰을 발급한다 (Rotation)")
+    @DisplayName("rotate: 조건부 UPDATE로 기존 토큰을 폐기하고 새로운 토큰을 발급한다 (Rotation)")
     void rotate_success() {
         String oldJwt = "old.jwt";
         Long oldTokenId = 100L;
         Long newTokenId = 200L;
         User user = user().id(USER_ID).build();
 
-        RefreshToken oldToken = refreshToken(user).id(oldTokenId).expiresAt(Instant.now().plusSeconds(3600)).build();
-
-        given(jwtTokenProvider.getRefreshTokenId(oldJwt)).willReturn(oldTokenId);
-        given(refreshTokenRepository.findById(oldTokenId)).willReturn(Optional.of(oldToken));
+        given(jwtTokenProvider.parseRefreshToken(oldJwt)).willReturn(new RefreshTokenClaims(oldTokenId, USER_ID));
+        given(refreshTokenRepository.revokeIfActive(eq(oldTokenId), any(Instant.class))).willReturn(1);
+        given(userRepository.getReferenceById(USER_ID)).willReturn(user);
 
         given(refreshTokenIdGenerator.generate()).willReturn(newTokenId);
         given(jwtTokenProvider.getRefreshExpiresAt()).willReturn(Instant.now().plusSeconds(3600));
         given(jwtTokenProvider.createRefreshToken(newTokenId, USER_ID)).willReturn("new.jwt");
 
-        String newJwt = refreshTokenService.rotate(oldJwt);
-
-        assertThat(newJwt).isEqualTo("new.jwt");
+        RotatedRefreshToken rotated = refreshTokenService.rotate(oldJwt);
 
-        assertThat(oldToken.isRevoked()).isTrue();
+        assertThat(rotated.userId()).isEqualTo(USER_ID);
+        assertThat(rotated.refreshToken()).isEqualTo("new.jwt");
 
         ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
         verify(refreshTokenRepository).save(captor.capture());
@@ -154,6 +98,22 @@ class RefreshTokenServiceTest {
         assertThat(newToken.getId()).isEqualTo(newTokenId);
         assertThat(newToken.getUser()).isEqualTo(user);
         assertThat(newToken.isRevoked()).isFalse();
+        verify(refreshTokenRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("rotate: 이미 폐기/만료됐거나 동시 갱신에 진 토큰이면 새 토큰 없이 REFRESH_TOKEN_EXPIRED 예외 발생")
+    void rotate_notActive_throws() {
+        given(jwtTokenProvider.parseRefreshToken(JWT)).willReturn(new RefreshTokenClaims(TOKEN_ID, USER_ID));
+        given(refreshTokenRepository.revokeIfActive(eq(TOKEN_ID), any(Instant.class))).willReturn(0);
+
+        Throwable thrown = catchThrowable(() -> refreshTokenService.rotate(JWT));
+
+        assertThat(thrown)
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.REFRESH_TOKEN_EXPIRED);
+        verify(refreshTokenRepository, never()).save(any());
     }
 
     @Test
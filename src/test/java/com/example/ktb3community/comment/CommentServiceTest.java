@@ -2,6 +2,7 @@ package com.example.ktb3community.comment;
 
 import com.example.ktb3community.comment.domain.Comment;
 import com.example.ktb3community.comment.dto.CommentResponse;
+import com.example.ktb3community.comment.dto.CommentVersion;
 import com.example.ktb3community.comment.dto.CreateCommentRequest;
 import com.example.ktb3community.comment.mapper.CommentMapper;
 import com.example.ktb3community.comment.repository.CommentRepository;
@@ -9,9 +10,11 @@ import com.example.ktb3community.comment.service.CommentService;
 import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.common.pagination.PageResponse;
 import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.notification.service.NotificationCollector;
 import com.example.ktb3community.post.domain.Post;
 import com.example.ktb3community.post.repository.PostRepository;
 import com.example.ktb3community.post.service.PostCommentCounter;
+import com.example.ktb3community.post.service.PostEventHub;
 import com.example.ktb3community.user.domain.User;
 import com.example.ktb3community.user.exception.UserNotFoundException;
 import com.example.ktb3community.user.repository.UserRepository;
@@ -22,10 +25,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -38,6 +42,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.never;
@@ -50,6 +55,8 @@ class CommentServiceTest {
     @Mock PostRepository postRepository;
     @Mock PostCommentCounter postCommentCounter;
     @Mock CommentMapper commentMapper;
+    @Mock PostEventHub postEventHub;
+    @Mock NotificationCollector notificationCollector;
 
     @InjectMocks
     CommentService commentService;
@@ -78,6 +85,8 @@ class CommentServiceTest {
         assertThat(response).isEqualTo(expectedResponse);
 
         verify(postCommentCounter).increaseCommentCount(postId);
+        verify(postEventHub).commentAdded(postId, 100L);
+        verify(notificationCollector).commented(post.getUserId(), postId, userId);
 
         ArgumentCaptor<Comment> captor = ArgumentCaptor.forClass(Comment.class);
         verify(commentRepository).save(captor.capture());
@@ -85,17 +94,17 @@ class CommentServiceTest {
     }
 
     @Test
-    @DisplayName("getCommentList: 댓글 목록과 작성자 정보를 매핑하여 반환한다")
+    @DisplayName("getCommentList: 댓글 목록과 작성자 정보를 매핑하고 페이지 수는 게시글의 댓글 수로 계산한다")
     void getCommentList_success() {
         Long postId = 10L;
-        Post post = post().id(postId).build();
+        Post post = post().id(postId).commentCount(25).build();
         User user1 = user().id(1L).nickname("nick").build();
         User user2 = user().id(2L).nickname("nick").build();
 
         Comment c1 = comment(post, user1).id(100L).content("Content1").build();
         Comment c2 = comment(post, user2).id(101L).content("Content2").build();
 
-        Page<Comment> commentPage = new PageImpl<>(List.of(c1, c2));
+        Slice<Comment> commentPage = new SliceImpl<>(List.of(c1, c2), PageRequest.of(0, 10), true);
 
         given(postRepository.findByIdOrThrow(postId)).willReturn(post);
         given(commentRepository.findByPost(any(Post.class), any(PageRequest.class))).willReturn(commentPage);
@@ -112,6 +121,24 @@ class CommentServiceTest {
         assertThat(response.content()).hasSize(2);
         assertThat(response.content().get(0).content()).isEqualTo("Content1");
         assertThat(response.content().get(1).content()).isEqualTo("Content2");
+        assertThat(response.totalPages()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("getCommentPageVersion: 목록과 같은 페이지의 댓글/작성자 중 가장 최근 수정 시각을 고른다")
+    void getCommentPageVersion_takesLatestOfPage() {
+        Instant older = Instant.parse("2025-01-01T00:00:00Z");
+        Instant newer = Instant.parse("2025-01-02T00:00:00Z");
+        ArgumentCaptor<PageRequest> pageCaptor = ArgumentCaptor.forClass(PageRequest.class);
+        given(commentRepository.findVersionsByPostId(eq(10L), pageCaptor.capture())).willReturn(List.of(
+                new CommentVersion(newer, older),
+                new CommentVersion(older, newer)));
+
+        CommentVersion version = commentService.getCommentPageVersion(10L, 1);
+
+        assertThat(version).isEqualTo(new CommentVersion(newer, newer));
+        assertThat(pageCaptor.getValue().getPageNumber()).isZero();
+        assertThat(pageCaptor.getValue().getSort().getOrderFor("createdAt").isDescending()).isTrue();
     }
 
     @Test
@@ -122,7 +149,7 @@ class CommentServiceTest {
         User user1 = user().id(1L).nickname("nick").build();
         Comment c1 = comment(post, user1).id(100L).content("Content1").build();
 
-        Page<Comment> commentPage = new PageImpl<>(List.of(c1));
+        Slice<Comment> commentPage = new SliceImpl<>(List.of(c1));
 
         given(postRepository.findByIdOrThrow(postId)).willReturn(post);
         given(commentRepository.findByPost(any(Post.class), any(PageRequest.class))).willReturn(commentPage);
@@ -201,6 +228,7 @@ class CommentServiceTest {
         assertThat(comment.getDeletedAt()).isNotNull();
 
         verify(postCommentCounter).decreaseCommentCount(postId);
+        verify(postEventHub).commentRemoved(postId);
     }
 
     @Test
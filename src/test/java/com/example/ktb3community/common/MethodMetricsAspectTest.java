@@ -0,0 +1,65 @@
+package com.example.ktb3community.common;
+
+import com.example.ktb3community.common.metrics.MethodMetricsAspect;
+import com.example.ktb3community.user.exception.UserNotFoundException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MethodMetricsAspectTest {
+
+    SimpleMeterRegistry meterRegistry;
+    SampleService proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new MethodMetricsAspect(meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("정상 종료된 호출은 outcome=success 타이머로 기록된다")
+    void record_success() {
+        proxy.ok();
+        proxy.ok();
+
+        Timer timer = meterRegistry.find("app.method.duration")
+                .tags("class", "SampleService", "method", "ok", "outcome", "success", "exception", "none")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외는 outcome=business_error와 예외 이름으로 기록된다")
+    void record_businessError() {
+        assertThatThrownBy(() -> proxy.fail()).isInstanceOf(UserNotFoundException.class);
+
+        Timer timer = meterRegistry.find("app.method.duration")
+                .tags("method", "fail", "outcome", "business_error", "exception", "UserNotFoundException")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Service
+    static class SampleService {
+        public String ok() {
+            return "ok";
+        }
+
+        public void fail() {
+            throw new UserNotFoundException();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.ktb3community.common;
+
+import com.example.ktb3community.comment.domain.Comment;
+import com.example.ktb3community.comment.dto.CommentExportRow;
+import com.example.ktb3community.comment.repository.JpaCommentRepository;
+import com.example.ktb3community.common.sql.StreamingQueries;
+import com.example.ktb3community.config.JpaConfig;
+import com.example.ktb3community.post.PostSort;
+import com.example.ktb3community.post.domain.Post;
+import com.example.ktb3community.post.dto.LikeExportRow;
+import com.example.ktb3community.post.dto.PostExportRow;
+import com.example.ktb3community.post.repository.JpaPostLikeRepository;
+import com.example.ktb3community.post.repository.JpaPostRepository;
+import com.example.ktb3community.user.domain.User;
+import com.example.ktb3community.user.repository.JpaUserRepository;
+import jakarta.persistence.EntityManager;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.example.ktb3community.TestEntityFactory.comment;
+import static com.example.ktb3community.TestEntityFactory.like;
+import static com.example.ktb3community.TestEntityFactory.post;
+import static com.example.ktb3community.TestEntityFactory.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// db/migration으로 만든 스키마(MySQL 모드 H2)에서 저장소에 선언된 쿼리를 실제로 한 번씩 실행하고,
+// 그때 나간 SQL과 파라미터 그대로 EXPLAIN을 떠서 테이블 전체를 읽는 구문이 없는지 확인한다
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.datasource.url=jdbc:h2:mem:query-plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, QueryPlanTest.CapturingDataSourceConfig.class})
+class QueryPlanTest {
+
+    private static final List<QueryInfo> CAPTURED = new CopyOnWriteArrayList<>();
+    private static final String FULL_SCAN = "tablescan";
+
+    @Autowired
+    private JpaPostRepository jpaPostRepository;
+    @Autowired
+    private JpaCommentRepository jpaCommentRepository;
+    @Autowired
+    private JpaPostLikeRepository jpaPostLikeRepository;
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Post post;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        user = jpaUserRepository.save(user().build());
+        post = jpaPostRepository.save(post(user).build());
+        comment = jpaCommentRepository.save(comment(post, user).build());
+        jpaPostLikeRepository.save(like(post, user).build());
+        jpaPostRepository.flush();
+    }
+
+    @Test
+    @DisplayName("게시글 저장소의 모든 쿼리가 인덱스로 읽는다")
+    void postRepositoryQueries_useIndexes() {
+        Long userId = user.getId();
+        Long postId = post.getId();
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("findByDeletedAtIsNull", () -> {
+            for (PostSort sort : PostSort.values()) {
+                jpaPostRepository.findByDeletedAtIsNull(PageRequest.of(1, 10, sort.sort()));
+            }
+        });
+        queries.put("countByDeletedAtIsNull", () -> jpaPostRepository.countByDeletedAtIsNull());
+        queries.put("findVersionById", () -> jpaPostRepository.findVersionById(postId));
+        queries.put("findUserIdById", () -> jpaPostRepository.findUserIdById(postId));
+        queries.put("findListVersion", () -> jpaPostRepository.findListVersion());
+        queries.put("softDeleteByUserId", () -> jpaPostRepository.softDeleteByUserId(userId, Instant.now()));
+        queries.put("findLiveIdsByUserId", () -> jpaPostRepository.findLiveIdsByUserId(userId, 0L, PageRequest.ofSize(10)));
+        queries.put("softDeleteByUserIdAndIdIn",
+                () -> jpaPostRepository.softDeleteByUserIdAndIdIn(userId, List.of(postId), Instant.now()));
+        queries.put("findCounterSnapshots", () -> jpaPostRepository.findCounterSnapshots(0L, PageRequest.ofSize(10)));
+
+        assertAllIndexed(JpaPostRepository.class, queries);
+    }
+
+    @Test
+    @DisplayName("댓글 저장소의 모든 쿼리가 인덱스로 읽는다")
+    void commentRepositoryQueries_useIndexes() {
+        Long userId = user.getId();
+        Long postId = post.getId();
+        Long commentId = comment.getId();
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("findByIdAndDeletedAtIsNull", () -> jpaCommentRepository.findByIdAndDeletedAtIsNull(commentId));
+        // 2페이지를 요청해 offset이 붙은 목록 쿼리를 확인한다
+        queries.put("findByPostAndDeletedAtIsNull", () -> jpaCommentRepository.findByPostAndDeletedAtIsNull(post,
+                PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")))));
+        queries.put("findVersionsByPostId", () -> jpaCommentRepository.findVersionsByPostId(postId,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")))));
+        queries.put("softDeleteByUserId", () -> jpaCommentRepository.softDeleteByUserId(userId, Instant.now()));
+        queries.put("softDeleteByPostId", () -> jpaCommentRepository.softDeleteByPostId(postId, Instant.now()));
+        queries.put("findLiveRefsByUserId", () -> jpaCommentRepository.findLiveRefsByUserId(userId, 0L, PageRequest.ofSize(10)));
+        queries.put("softDeleteByUserIdAndIdIn",
+                () -> jpaCommentRepository.softDeleteByUserIdAndIdIn(userId, List.of(commentId), Instant.now()));
+        queries.put("findLiveIdsByPostId", () -> jpaCommentRepository.findLiveIdsByPostId(postId, 0L, PageRequest.ofSize(10)));
+        queries.put("softDeleteByPostIdAndIdIn",
+                () -> jpaCommentRepository.softDeleteByPostIdAndIdIn(postId, List.of(commentId), Instant.now()));
+        queries.put("countLiveByPostIdIn", () -> jpaCommentRepository.countLiveByPostIdIn(List.of(postId, postId + 1)));
+
+        assertAllIndexed(JpaCommentRepository.class, queries);
+    }
+
+    @Test
+    @DisplayName("좋아요 저장소의 모든 쿼리가 인덱스로 읽는다")
+    void likeRepositoryQueries_useIndexes() {
+        Long userId = user.getId();
+        Long postId = post.getId();
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("existsByPostAndUserAndDeletedAtIsNull",
+                () -> jpaPostLikeRepository.existsByPostAndUserAndDeletedAtIsNull(post, user));
+        queries.put("findByPostAndUser", () -> jpaPostLikeRepository.findByPostAndUser(post, user));
+        queries.put("findLiveRefsByUserId", () -> jpaPostLikeRepository.findLiveRefsByUserId(userId, 0L, PageRequest.ofSize(10)));
+        queries.put("softDeleteByUserIdAndIdIn",
+                () -> jpaPostLikeRepository.softDeleteByUserIdAndIdIn(userId, List.of(1L), Instant.now()));
+        queries.put("findLiveIdsByPostId", () -> jpaPostLikeRepository.findLiveIdsByPostId(postId, 0L, PageRequest.ofSize(10)));
+        queries.put("softDeleteByPostIdAndIdIn",
+                () -> jpaPostLikeRepository.softDeleteByPostIdAndIdIn(postId, List.of(1L), Instant.now()));
+        queries.put("countLiveByPostIdIn", () -> jpaPostLikeRepository.countLiveByPostIdIn(List.of(postId, postId + 1)));
+
+        assertAllIndexed(JpaPostLikeRepository.class, queries);
+    }
+
+    @Test
+    @DisplayName("데이터 내보내기 스트리밍 쿼리가 인덱스로 읽는다")
+    void exportStreamQueries_useIndexes() {
+        // H2는 음수 fetch size(MySQL 스트리밍 값)를 받지 않으므로 양수로 실행한다
+        StreamingQueries streamingQueries = new StreamingQueries(entityManager, 500);
+        Map<String, Object> parameters = Map.of("userId", user.getId());
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("post", () -> drain(streamingQueries.stream(
+                JpaPostRepository.EXPORT_ROWS_BY_USER_ID, PostExportRow.class, parameters)));
+        queries.put("comment", () -> drain(streamingQueries.stream(
+                JpaCommentRepository.EXPORT_ROWS_BY_USER_ID, CommentExportRow.class, parameters)));
+        queries.put("like", () -> drain(streamingQueries.stream(
+                JpaPostLikeRepository.EXPORT_ROWS_BY_USER_ID, LikeExportRow.class, parameters)));
+
+        assertIndexed(queries);
+    }
+
+    private static void drain(Stream<?> rows) {
+        try (rows) {
+            rows.forEach(row -> { });
+        }
+    }
+
+    // 새 쿼리 메서드를 추가하고 여기서 실행하지 않으면 실패시켜 검사에서 빠지지 않게 한다
+    private void assertAllIndexed(Class<?> repository, Map<String, Runnable> queries) {
+        Set<String> declared = Arrays.stream(repository.getDeclaredMethods())
+                .filter(method -> !method.isSynthetic() && !method.isDefault())
+                .map(Method::getName)
+                .collect(Collectors.toSet());
+        assertThat(queries.keySet()).containsExactlyInAnyOrderElementsOf(declared);
+        assertIndexed(queries);
+    }
+
+    private void assertIndexed(Map<String, Runnable> queries) {
+        List<String> fullScans = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            CAPTURED.clear();
+            query.run();
+            List<QueryInfo> executed = List.copyOf(CAPTURED);
+            assertThat(executed).as("%s 실행 시 나간 SQL", name).isNotEmpty();
+            for (QueryInfo queryInfo : executed) {
+                String plan = explain(queryInfo);
+                if (plan.toLowerCase().contains(FULL_SCAN)) {
+                    fullScans.add(name + "\n  " + queryInfo.getQuery() + "\n  " + plan);
+                }
+            }
+        });
+        assertThat(fullScans).as("테이블 전체를 읽는 쿼리").isEmpty();
+    }
+
+    private String explain(QueryInfo queryInfo) {
+        CAPTURED.clear();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("explain " + queryInfo.getQuery())) {
+            List<List<ParameterSetOperation>> parameters = queryInfo.getParametersList();
+            if (!parameters.isEmpty()) {
+                for (ParameterSetOperation operation : parameters.get(0)) {
+                    operation.getMethod().invoke(statement, operation.getArgs());
+                }
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1));
+                }
+            }
+            return plan.toString().replaceAll("\\s+", " ");
+        } catch (SQLException | ReflectiveOperationException e) {
+            throw new IllegalStateException("EXPLAIN 실패: " + queryInfo.getQuery(), e);
+        }
+    }
+
+    @TestConfiguration
+    static class CapturingDataSourceConfig {
+
+        // Hibernate가 실제로 보낸 SQL과 바인딩 값을 그대로 모은다
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .listener(new CapturingListener())
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    private static final class CapturingListener implements QueryExecutionListener {
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            CAPTURED.addAll(queryInfoList);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.ktb3community.common;
+
+import com.example.ktb3community.auth.security.CustomUserDetails;
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.common.ratelimit.RateLimitFilter;
+import com.example.ktb3community.common.ratelimit.RateLimitRule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static com.example.ktb3community.TestEntityFactory.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    RateLimitFilter filter = new RateLimitFilter(
+            List.of(new RateLimitRule("post-detail", List.of("GET"), "/posts/*", 2, 0.1)),
+            100, new ObjectMapper(), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("버킷을 다 쓰면 429와 Retry-After, 공통 에러 본문을 반환한다")
+    void exhaustedBucket_returns429() throws Exception {
+        assertThat(perform("GET", "/posts/1", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(perform("GET", "/posts/2", "10.0.0.1").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = perform("GET", "/posts/3", "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("10");
+        assertThat(rejected.getContentAsString()).contains(ErrorCode.TOO_MANY_REQUESTS.getCode());
+        assertThat(meterRegistry.get("http.ratelimit.rejected").tag("rule", "post-detail").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("익명 요청은 IP별, 인증된 요청은 사용자별로 버킷이 분리된다")
+    void bucketsAreKeyedByUserOrIp() throws Exception {
+        perform("GET", "/posts/1", "10.0.0.1");
+        perform("GET", "/posts/1", "10.0.0.1");
+        assertThat(perform("GET", "/posts/1", "10.0.0.2").getStatus()).isEqualTo(200);
+
+        CustomUserDetails principal = CustomUserDetails.from(user().id(7L).build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        assertThat(perform("GET", "/posts/1", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("규칙에 해당하지 않는 요청은 제한하지 않는다")
+    void unmatchedRequest_passes() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertThat(perform("POST", "/posts/1", "10.0.0.1").getStatus()).isEqualTo(200);
+            assertThat(perform("GET", "/users/me", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse perform(String method, String path, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
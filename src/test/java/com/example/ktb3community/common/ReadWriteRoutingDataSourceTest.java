@@ -0,0 +1,136 @@
+package com.example.ktb3community.common;
+
+import com.example.ktb3community.auth.security.CustomUserDetails;
+import com.example.ktb3community.common.datasource.ReadWriteRoutingDataSource;
+import com.example.ktb3community.common.datasource.RecentWriteTracker;
+import com.example.ktb3community.common.datasource.ReplicaPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import static com.example.ktb3community.TestEntityFactory.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// 두 개의 임베디드 H2를 primary/레플리카로 두고 실제로 어느 쪽에서 읽는지 확인한다
+class ReadWriteRoutingDataSourceTest {
+
+    EmbeddedDatabase primary;
+    EmbeddedDatabase replica;
+    SimpleMeterRegistry meterRegistry;
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate writeTx;
+    TransactionTemplate readTx;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        meterRegistry = new SimpleMeterRegistry();
+        DataSource routing = routing(Map.of("replica-0", replica), Duration.ofMinutes(1));
+        setUpTemplates(routing);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 레플리카에서 읽는다")
+    void readOnly_routesToReplica() {
+        assertThat(readTx.execute(status -> whoAmI())).isEqualTo("replica");
+        assertThat(meterRegistry.get("db.route").tags("route", "replica", "reason", "read").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary로 간다")
+    void write_routesToPrimary() {
+        assertThat(writeTx.execute(status -> whoAmI())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("직접 쓰기를 커밋한 사용자는 일정 시간 primary에서 읽는다")
+    void readAfterOwnWrite_routesToPrimary() {
+        login(7L);
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("insert into marker(name) values ('written')"));
+
+        assertThat(readTx.execute(status -> whoAmI())).isEqualTo("primary");
+
+        login(8L);
+        assertThat(readTx.execute(status -> whoAmI())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("헬스 체크에 실패한 레플리카는 건너뛰고 primary로 우회한다")
+    void unhealthyReplica_fallsBackToPrimary() throws SQLException {
+        DataSource broken = mock(DataSource.class);
+        given(broken.getConnection()).willThrow(new SQLException("down"));
+        ReplicaPool pool = new ReplicaPool(Map.of("replica-0", broken), 1);
+        setUpTemplates(new LazyConnectionDataSourceProxy(routingOf(pool, Duration.ofMinutes(1))));
+
+        pool.checkHealth();
+
+        assertThat(pool.isHealthy("replica-0")).isFalse();
+        assertThat(readTx.execute(status -> whoAmI())).isEqualTo("primary");
+    }
+
+    private String whoAmI() {
+        return jdbcTemplate.queryForObject("select name from marker order by name limit 1", String.class);
+    }
+
+    private void login(Long userId) {
+        CustomUserDetails principal = CustomUserDetails.from(user().id(userId).build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private DataSource routing(Map<String, DataSource> replicas, Duration window) {
+        return new LazyConnectionDataSourceProxy(routingOf(new ReplicaPool(replicas, 1), window));
+    }
+
+    private ReadWriteRoutingDataSource routingOf(ReplicaPool pool, Duration window) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                primary, pool, new RecentWriteTracker(window), meterRegistry);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    private void setUpTemplates(DataSource dataSource) {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        new JdbcTemplate(database).execute("create table marker(name varchar(20))");
+        new JdbcTemplate(database).update("insert into marker(name) values (?)", name);
+        return database;
+    }
+}
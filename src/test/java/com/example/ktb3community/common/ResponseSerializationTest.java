@@ -0,0 +1,73 @@
+package com.example.ktb3community.common;
+
+import com.example.ktb3community.comment.dto.CommentResponse;
+import com.example.ktb3community.common.pagination.PageResponse;
+import com.example.ktb3community.common.response.ApiResult;
+import com.example.ktb3community.config.JacksonConfig;
+import com.example.ktb3community.post.dto.Author;
+import com.example.ktb3community.post.dto.PostListResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 전용 직렬화기는 기본(리플렉션) 직렬화와 바이트 단위로 같은 JSON을 만들어야 한다
+class ResponseSerializationTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2025-01-01T00:00:00.123Z");
+
+    private final ObjectMapper reflection = mapper(false);
+    private final ObjectMapper optimized = mapper(true);
+
+    @Test
+    @DisplayName("게시글 목록 페이지는 기본 직렬화와 같은 JSON을 만든다")
+    void postListPage_sameAsReflection() throws Exception {
+        PageResponse<PostListResponse> page = new PageResponse<>(List.of(
+                new PostListResponse(1L, "제목 \"1\"", "http://img/card.jpg",
+                        new Author("작성자", "http://img", "http://img/avatar.jpg"), 1, 2, 3, CREATED_AT),
+                new PostListResponse(null, null, null, null, 0, 0, 0, null)
+        ), 1, 10, 5);
+
+        assertSameJson(ApiResult.ok(page));
+    }
+
+    @Test
+    @DisplayName("댓글 페이지와 null 원소도 기본 직렬화와 같은 JSON을 만든다")
+    void commentPage_sameAsReflection() throws Exception {
+        PageResponse<CommentResponse> page = new PageResponse<>(Arrays.asList(
+                new CommentResponse(7L, "댓글", new Author(null, null, null), CREATED_AT),
+                null
+        ), 2, 10, 2);
+
+        assertSameJson(ApiResult.ok("조회 성공", page));
+    }
+
+    @Test
+    @DisplayName("null인 message/data는 생략된다")
+    void emptyEnvelope_sameAsReflection() throws Exception {
+        assertSameJson(ApiResult.ok());
+        assertSameJson(ApiResult.builder().build());
+        assertSameJson(ApiResult.ok(new PageResponse<>(null, 1, 10, 0)));
+    }
+
+    private void assertSameJson(Object value) throws Exception {
+        assertThat(optimized.writeValueAsString(value)).isEqualTo(reflection.writeValueAsString(value));
+    }
+
+    private static ObjectMapper mapper(boolean optimized) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (optimized) {
+            builder.modulesToInstall(new BlackbirdModule(), JacksonConfig.responseSerializers());
+        }
+        return builder.build();
+    }
+}
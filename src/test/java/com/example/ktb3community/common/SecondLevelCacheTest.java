@@ -0,0 +1,120 @@
+package com.example.ktb3community.common;
+
+import com.example.ktb3community.common.sql.StreamingQueries;
+import com.example.ktb3community.config.JpaConfig;
+import com.example.ktb3community.post.domain.Post;
+import com.example.ktb3community.post.repository.JpaPostRepository;
+import com.example.ktb3community.post.repository.JpaPostRepositoryAdapter;
+import com.example.ktb3community.user.domain.User;
+import com.example.ktb3community.user.repository.JpaUserRepository;
+import com.example.ktb3community.user.repository.JpaUserRepositoryAdapter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+
+import static com.example.ktb3community.TestEntityFactory.post;
+import static com.example.ktb3community.TestEntityFactory.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 2차 캐시는 트랜잭션 커밋 이후에 채워지므로 테스트 트랜잭션을 끄고 구간마다 직접 커밋한다
+@DataJpaTest
+@Import({JpaConfig.class, JpaUserRepositoryAdapter.class, JpaPostRepositoryAdapter.class, StreamingQueries.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private JpaUserRepositoryAdapter userRepository;
+    @Autowired
+    private JpaPostRepositoryAdapter postRepository;
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+    @Autowired
+    private JpaPostRepository jpaPostRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jpaPostRepository.deleteAllInBatch();
+        jpaUserRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("두 번째 PK 조회는 2차 캐시에서 적중한다")
+    void findById_hitsCacheOnSecondRead() {
+        Long userId = saveUser("cached@test.com", "cached").getId();
+        CacheRegionStatistics statistics = regionStatistics("user");
+        long hitsBefore = statistics.getHitCount();
+
+        transactionTemplate.executeWithoutResult(status -> userRepository.findByIdOrThrow(userId));
+        transactionTemplate.executeWithoutResult(status -> userRepository.findByIdOrThrow(userId));
+
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isTrue();
+        assertThat(statistics.getHitCount()).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    @DisplayName("벌크 soft delete된 유저는 캐시에 남지 않고 조회되지 않는다")
+    void softDeleteById_evictsCachedUser() {
+        Long userId = saveUser("withdraw@test.com", "withdraw").getId();
+        transactionTemplate.executeWithoutResult(status -> userRepository.findByIdOrThrow(userId));
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> userRepository.softDeleteById(userId, Instant.now()));
+
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isFalse();
+        assertThat(transactionTemplate.execute(status -> userRepository.findById(userId))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("엔티티로 삭제한 게시글은 캐시가 갱신되어도 조회되지 않는다")
+    void deletePost_cachedEntryIsFiltered() {
+        User author = saveUser("author@test.com", "author");
+        Long postId = transactionTemplate.execute(status -> postRepository.save(post(author).build()).getId());
+        transactionTemplate.executeWithoutResult(status -> postRepository.findByIdOrThrow(postId));
+
+        transactionTemplate.executeWithoutResult(status ->
+                postRepository.findByIdOrThrow(postId).delete(Instant.now()));
+
+        assertThat(transactionTemplate.execute(status -> postRepository.findById(postId))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("탈퇴 시 벌크로 삭제된 게시글은 캐시에서 제거된다")
+    void softDeleteByUserId_evictsCachedPosts() {
+        User author = saveUser("writer@test.com", "writer");
+        Long postId = transactionTemplate.execute(status -> postRepository.save(post(author).build()).getId());
+        transactionTemplate.executeWithoutResult(status -> postRepository.findByIdOrThrow(postId));
+        assertThat(entityManagerFactory.getCache().contains(Post.class, postId)).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> postRepository.softDeleteByUserId(author.getId(), Instant.now()));
+
+        assertThat(entityManagerFactory.getCache().contains(Post.class, postId)).isFalse();
+        assertThat(transactionTemplate.execute(status -> postRepository.findById(postId))).isEmpty();
+    }
+
+    private User saveUser(String email, String nickname) {
+        return transactionTemplate.execute(status ->
+                userRepository.save(user().email(email).nickname(nickname).build()));
+    }
+
+    private CacheRegionStatistics regionStatistics(String region) {
+        return entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics()
+                .getDomainDataRegionStatistics(region);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.ktb3community.common;
+
+import com.example.ktb3community.common.sql.SqlBudget;
+import com.example.ktb3community.common.sql.SqlBudgetContext;
+import com.example.ktb3community.common.sql.SqlBudgetListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlBudgetListenerTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    SqlBudgetListener listener = new SqlBudgetListener(meterRegistry, 200, 0.0);
+
+    @AfterEach
+    void tearDown() {
+        SqlBudgetContext.end();
+    }
+
+    @Test
+    @DisplayName("리터럴과 IN 목록 길이만 다른 구문은 같은 형태로 집계된다")
+    void afterQuery_groupsSameShape() {
+        SqlBudget budget = SqlBudgetContext.begin();
+
+        execute("select * from users where id = 1", 3);
+        execute("select * from users where id = 2", 4);
+        execute("select * from posts where id in (?, ?, ?)", 1);
+        execute("select * from posts where id in (?)", 1);
+
+        assertThat(budget.getStatementCount()).isEqualTo(4);
+        assertThat(budget.getTotalElapsedMillis()).isEqualTo(9);
+        assertThat(budget.getShapeCounts())
+                .containsEntry("select * from users where id = ?", 2)
+                .containsEntry("select * from posts where id in (?)", 2);
+    }
+
+    @Test
+    @DisplayName("요청 범위 밖의 구문은 전역 타이머에만 기록된다")
+    void afterQuery_withoutBudget_recordsTimerOnly() {
+        execute("select 1", 5);
+
+        assertThat(SqlBudgetContext.current()).isNull();
+        assertThat(meterRegistry.get("db.statement.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("slow-query-ms 이상 걸린 구문은 slow 카운터를 올린다")
+    void afterQuery_slowStatement_incrementsCounter() {
+        execute("select * from posts", 250);
+
+        assertThat(meterRegistry.get("db.statement.slow").counter().count()).isEqualTo(1.0);
+    }
+
+    private void execute(String sql, long elapsedMillis) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsedMillis);
+        QueryInfo queryInfo = new QueryInfo(sql);
+        listener.afterQuery(executionInfo, List.of(queryInfo));
+    }
+}
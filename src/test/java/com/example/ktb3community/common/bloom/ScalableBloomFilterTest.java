@@ -0,0 +1,43 @@
+package com.example.ktb3community.common.bloom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScalableBloomFilterTest {
+
+    @Test
+    @DisplayName("초기 용량을 넘겨 추가해도 추가한 값은 항상 포함으로 판정된다")
+    void noFalseNegatives_afterGrowth() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("user" + i + "@test.com");
+        }
+
+        assertThat(filter.filterCount()).isGreaterThan(1);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@test.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("확장 후에도 오탐률은 목표치 근처로 유지된다")
+    void falsePositiveRate_staysNearTarget() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("member-" + i);
+        }
+
+        int falsePositives = 0;
+        int probes = 20_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("stranger-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.03);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.ktb3community.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowRateLimiterTest {
+
+    AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Test
+    @DisplayName("윈도우 안에서 한도를 넘는 시도는 거절된다")
+    void tryAcquire_overLimit_rejects() {
+        SlidingWindowRateLimiter limiter = limiter(3, 100);
+
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isFalse();
+        assertThat(limiter.tryAcquire("b")).isTrue();
+    }
+
+    @Test
+    @DisplayName("오래된 버킷이 윈도우 밖으로 밀려나면 다시 허용된다")
+    void tryAcquire_windowSlides_allowsAgain() {
+        SlidingWindowRateLimiter limiter = limiter(2, 100);
+        limiter.tryAcquire("a");
+        now.addAndGet(30_000);
+        limiter.tryAcquire("a");
+        assertThat(limiter.tryAcquire("a")).isFalse();
+
+        // 첫 시도가 있던 버킷만 윈도우를 벗어난 시점
+        now.addAndGet(35_000);
+        assertThat(limiter.tryAcquire("a")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isFalse();
+    }
+
+    @Test
+    @DisplayName("키 수가 상한에 닿으면 만료된 키부터 비워 상한을 지킨다")
+    void tryAcquire_boundedKeys() {
+        SlidingWindowRateLimiter limiter = limiter(1, 2);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        now.addAndGet(120_000);
+        limiter.tryAcquire("c");
+        assertThat(limiter.size()).isEqualTo(1);
+
+        limiter.tryAcquire("d");
+        limiter.tryAcquire("e");
+        assertThat(limiter.size()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시에 시도해도 허용 횟수는 한도를 넘지 않는다")
+    void tryAcquire_concurrent_neverExceedsLimit() throws Exception {
+        SlidingWindowRateLimiter limiter = limiter(50, 100);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 400; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    if (limiter.tryAcquire("a")) {
+                        allowed.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(50);
+    }
+
+    private SlidingWindowRateLimiter limiter(int limit, int maxKeys) {
+        return new SlidingWindowRateLimiter(limit, Duration.ofMinutes(1), 6, maxKeys, now::get);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.ktb3community.job;
+
+import com.example.ktb3community.job.domain.Job;
+import com.example.ktb3community.job.domain.JobStatus;
+import com.example.ktb3community.job.domain.JobType;
+import com.example.ktb3community.job.repository.JobRepository;
+import com.example.ktb3community.job.service.JobHandler;
+import com.example.ktb3community.job.service.JobRunner;
+import com.example.ktb3community.job.service.JobService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JobRunnerTest {
+
+    private static final Long JOB_ID = 1L;
+
+    @Mock JobRepository jobRepository;
+    @Mock JobHandler jobHandler;
+    @Mock PlatformTransactionManager transactionManager;
+
+    SimpleMeterRegistry meterRegistry;
+    JobRunner jobRunner;
+    Job job;
+
+    @BeforeEach
+    void setUp() {
+        given(jobHandler.type()).willReturn(JobType.USER_WITHDRAWAL);
+        meterRegistry = new SimpleMeterRegistry();
+        JobService jobService = new JobService(jobRepository, List.of(jobHandler));
+        jobRunner = new JobRunner(jobRepository, jobService, transactionManager, meterRegistry, 10, 100, 0, 2, 30);
+        job = Job.createNew(JobType.USER_WITHDRAWAL, 7L, "FIRST", Instant.now());
+        given(jobRepository.findById(JOB_ID)).willReturn(Optional.of(job));
+    }
+
+    @Test
+    @DisplayName("poll: 실행 가능한 작업을 완료될 때까지 chunk 단위로 실행한다")
+    void poll_runsChunksUntilComplete() {
+        given(jobRepository.findRunnableIds(anyCollection(), any(Instant.class), any(Pageable.class)))
+                .willReturn(List.of(JOB_ID));
+        willAnswer(invocation -> {
+            job.advance(100L, 100);
+            return null;
+        }).willAnswer(invocation -> {
+            job.advance(150L, 50);
+            job.complete(invocation.getArgument(1));
+            return null;
+        }).given(jobHandler).runChunk(any(Job.class), any(Instant.class));
+
+        jobRunner.poll();
+
+        verify(jobHandler, times(2)).runChunk(any(Job.class), any(Instant.class));
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(job.getProcessedCount()).isEqualTo(150);
+        assertThat(meterRegistry.get("job.chunks").tag("type", "USER_WITHDRAWAL").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("job.completed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("run: chunk가 실패하면 시도 횟수를 올리고 다음 실행을 미루며, 최대 횟수에 도달하면 FAILED")
+    void run_failure_retriesThenFails() {
+        willThrow(new IllegalStateException("boom")).given(jobHandler).runChunk(any(Job.class), any(Instant.class));
+        Instant scheduledAt = job.getNextRunAt();
+
+        jobRunner.run(JOB_ID);
+
+        assertThat(job.getStatus()).isEqualTo(JobStatus.PENDING);
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getLastError()).contains("boom");
+        assertThat(job.getNextRunAt()).isAfter(scheduledAt);
+
+        jobRunner.run(JOB_ID);
+
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(meterRegistry.get("job.failures").tag("final", "true").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("run: 다른 인스턴스가 먼저 커밋해 버전 충돌이 나면 실패로 기록하지 않고 멈춘다")
+    void run_optimisticLock_stopsWithoutFailure() {
+        willThrow(new ObjectOptimisticLockingFailureException(Job.class, JOB_ID))
+                .given(jobHandler).runChunk(any(Job.class), any(Instant.class));
+
+        jobRunner.run(JOB_ID);
+
+        verify(jobHandler, times(1)).runChunk(any(Job.class), any(Instant.class));
+        assertThat(job.getAttempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("run: 이미 끝난 작업은 처리하지 않는다")
+    void run_finishedJob_skips() {
+        job.complete(Instant.now());
+
+        jobRunner.run(JOB_ID);
+
+        verify(jobHandler, times(0)).runChunk(any(Job.class), any(Instant.class));
+    }
+}
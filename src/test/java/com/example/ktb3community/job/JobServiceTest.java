@@ -0,0 +1,65 @@
+package com.example.ktb3community.job;
+
+import com.example.ktb3community.job.domain.Job;
+import com.example.ktb3community.job.domain.JobStatus;
+import com.example.ktb3community.job.domain.JobType;
+import com.example.ktb3community.job.repository.JobRepository;
+import com.example.ktb3community.job.service.JobHandler;
+import com.example.ktb3community.job.service.JobService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class JobServiceTest {
+
+    @Mock JobRepository jobRepository;
+    @Mock JobHandler jobHandler;
+
+    @Test
+    @DisplayName("enqueue: 처리기의 첫 stage로 대기 상태 작업을 저장한다")
+    void enqueue_savesPendingJob() {
+        given(jobHandler.type()).willReturn(JobType.USER_WITHDRAWAL);
+        given(jobHandler.initialStage()).willReturn("COMMENTS");
+        given(jobRepository.save(any(Job.class))).willAnswer(invocation -> invocation.getArgument(0));
+        JobService jobService = new JobService(jobRepository, List.of(jobHandler));
+
+        Job job = jobService.enqueue(JobType.USER_WITHDRAWAL, 7L);
+
+        assertThat(job.getStatus()).isEqualTo(JobStatus.PENDING);
+        assertThat(job.getStage()).isEqualTo("COMMENTS");
+        assertThat(job.getTargetId()).isEqualTo(7L);
+        assertThat(job.getCursorId()).isZero();
+    }
+
+    @Test
+    @DisplayName("findLatest: 같은 대상의 가장 최근 작업을 찾는다")
+    void findLatest_returnsMostRecentJob() {
+        Job job = Job.createNew(JobType.POST_DELETION, 7L, "COMMENTS", Instant.now());
+        given(jobRepository.findFirstByTypeAndTargetIdOrderByIdDesc(JobType.POST_DELETION, 7L))
+                .willReturn(Optional.of(job));
+        JobService jobService = new JobService(jobRepository, List.of());
+
+        assertThat(jobService.findLatest(JobType.POST_DELETION, 7L)).contains(job);
+    }
+
+    @Test
+    @DisplayName("enqueue: 처리기가 없는 작업 종류면 IllegalStateException 발생")
+    void enqueue_noHandler_throws() {
+        JobService jobService = new JobService(jobRepository, List.of());
+
+        assertThatThrownBy(() -> jobService.enqueue(JobType.USER_WITHDRAWAL, 7L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -59,6 +59,17 @@ class JwtTokenProviderTest {
         assertThat(parsedTokenId).isEqualTo(refreshTokenId);
     }
 
+    @Test
+    @DisplayName("parseRefreshToken: 한 번의 파싱으로 토큰 ID와 유저 ID를 함께 복구한다")
+    void parseRefreshToken_success() {
+        String token = jwtTokenProvider.createRefreshToken(555L, 100L);
+
+        RefreshTokenClaims claims = jwtTokenProvider.parseRefreshToken(token);
+
+        assertThat(claims.tokenId()).isEqualTo(555L);
+        assertThat(claims.userId()).isEqualTo(100L);
+    }
+
     @Test
     @DisplayName("getUserIdFromAccessToken: 잘못된 토큰(서명 불일치 등) 입력 시 INVALID_ACCESS_TOKEN 예외 발생")
     void getUserIdFromAccessToken_invalid_throws() {
@@ -0,0 +1,158 @@
+package com.example.ktb3community.notification;
+
+import com.example.ktb3community.notification.domain.Notification;
+import com.example.ktb3community.notification.domain.NotificationType;
+import com.example.ktb3community.notification.repository.NotificationRepository;
+import com.example.ktb3community.notification.service.NotificationCollector;
+import com.example.ktb3community.notification.service.UnreadNotificationCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static com.example.ktb3community.TestFixtures.POST_ID;
+import static com.example.ktb3community.TestFixtures.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCollectorTest {
+
+    private static final Long OTHER_POST_ID = 200L;
+
+    @Mock NotificationRepository notificationRepository;
+    @Mock UnreadNotificationCounter unreadNotificationCounter;
+    @Mock PlatformTransactionManager transactionManager;
+
+    SimpleMeterRegistry meterRegistry;
+    NotificationCollector notificationCollector;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        notificationCollector = newCollector(500);
+    }
+
+    @Test
+    @DisplayName("flush: 같은 수신자/게시글/종류는 행위자 수를 세어 알림 하나로 묶는다")
+    void flush_coalescesPerRecipientAndPost() {
+        notificationCollector.liked(USER_ID, POST_ID, 2L);
+        notificationCollector.liked(USER_ID, POST_ID, 3L);
+        notificationCollector.liked(USER_ID, POST_ID, 2L);
+        notificationCollector.commented(USER_ID, POST_ID, 4L);
+        notificationCollector.liked(USER_ID, OTHER_POST_ID, 5L);
+
+        notificationCollector.flush();
+
+        List<Notification> saved = capturedSaves(1).getFirst().stream()
+                .sorted(Comparator.comparing(Notification::getPostId).thenComparing(Notification::getType))
+                .toList();
+        assertThat(saved).extracting(Notification::getType, Notification::getPostId,
+                        Notification::getActorId, Notification::getActorCount)
+                .containsExactly(
+                        tuple(NotificationType.COMMENT, POST_ID, 4L, 1),
+                        tuple(NotificationType.LIKE, POST_ID, 2L, 2),
+                        tuple(NotificationType.LIKE, OTHER_POST_ID, 5L, 1));
+        assertThat(saved).allSatisfy(notification -> {
+            assertThat(notification.getRecipientId()).isEqualTo(USER_ID);
+            assertThat(notification.isNew()).isTrue();
+            assertThat(notification.isRead()).isFalse();
+        });
+        verify(unreadNotificationCounter, times(1)).invalidate(USER_ID);
+        assertThat(meterRegistry.get("notification.persisted").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("capture: 자기 글에 한 행동은 알리지 않는다")
+    void capture_selfAction_ignored() {
+        notificationCollector.commented(USER_ID, POST_ID, USER_ID);
+
+        notificationCollector.flush();
+
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    @DisplayName("capture: 트랜잭션 안의 행동은 커밋된 뒤에만 모은다")
+    void capture_inTransaction_collectedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            notificationCollector.liked(USER_ID, POST_ID, 2L);
+            notificationCollector.flush();
+            verifyNoInteractions(notificationRepository);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        notificationCollector.flush();
+
+        assertThat(capturedSaves(1).getFirst()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("flush: batch-size마다 트랜잭션을 나누고 실패한 묶음만 버린다")
+    void flush_chunksAndDropsFailedChunk() {
+        notificationCollector = newCollector(2);
+        for (long postId = 1; postId <= 3; postId++) {
+            notificationCollector.liked(USER_ID, postId, 2L);
+        }
+        given(notificationRepository.saveAll(anyList()))
+                .willThrow(new DataAccessResourceFailureException("down"))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        notificationCollector.flush();
+
+        List<List<Notification>> chunks = capturedSaves(2);
+        assertThat(chunks.get(0)).hasSize(2);
+        assertThat(chunks.get(1)).hasSize(1);
+        verify(unreadNotificationCounter, times(1)).invalidate(USER_ID);
+        assertThat(meterRegistry.get("notification.dropped").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("notification.persisted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("capture: 대기 중인 묶음이 max-pending에 닿으면 새 묶음은 버린다")
+    void capture_overMaxPending_dropped() {
+        notificationCollector = new NotificationCollector(notificationRepository, unreadNotificationCounter,
+                transactionManager, meterRegistry, 1, 500);
+
+        notificationCollector.liked(USER_ID, POST_ID, 2L);
+        notificationCollector.liked(USER_ID, POST_ID, 3L);
+        notificationCollector.liked(USER_ID, OTHER_POST_ID, 2L);
+        notificationCollector.flush();
+
+        List<Notification> saved = capturedSaves(1).getFirst();
+        assertThat(saved).singleElement()
+                .satisfies(notification -> assertThat(notification.getActorCount()).isEqualTo(2));
+        assertThat(meterRegistry.get("notification.dropped").counter().count()).isEqualTo(1);
+    }
+
+    private NotificationCollector newCollector(int batchSize) {
+        return new NotificationCollector(notificationRepository, unreadNotificationCounter,
+                transactionManager, meterRegistry, 100, batchSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Notification>> capturedSaves(int times) {
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository, times(times)).saveAll(captor.capture());
+        return captor.getAllValues();
+    }
+}
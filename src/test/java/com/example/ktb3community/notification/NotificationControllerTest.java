@@ -0,0 +1,115 @@
+package com.example.ktb3community.notification;
+
+import com.example.ktb3community.auth.security.CustomUserDetails;
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.notification.controller.NotificationController;
+import com.example.ktb3community.notification.domain.NotificationType;
+import com.example.ktb3community.notification.dto.NotificationPageResponse;
+import com.example.ktb3community.notification.dto.NotificationResponse;
+import com.example.ktb3community.notification.service.NotificationService;
+import com.example.ktb3community.post.dto.Author;
+import com.example.ktb3community.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.example.ktb3community.TestEntityFactory.user;
+import static com.example.ktb3community.TestFixtures.POST_ID;
+import static com.example.ktb3community.TestFixtures.USER_ID;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(NotificationController.class)
+class NotificationControllerTest {
+
+    // JS Number로 표현할 수 없는 크기의 TSID
+    private static final Long NOTIFICATION_ID = 612_345_678_901_234_567L;
+
+    @Autowired MockMvc mockMvc;
+
+    @MockitoBean
+    NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        User user = user().id(USER_ID).build();
+        CustomUserDetails principal = CustomUserDetails.from(user);
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+    }
+
+    @Test
+    @DisplayName("[200] 알림 목록을 돌려주고 id/커서는 문자열로 내보낸다")
+    void list_200_success() throws Exception {
+        NotificationResponse item = new NotificationResponse(NOTIFICATION_ID, NotificationType.LIKE, POST_ID,
+                new Author("actor", null, null), 5, false, Instant.parse("2025-01-01T00:00:00Z"));
+        given(notificationService.getNotifications(USER_ID, null, 20))
+                .willReturn(new NotificationPageResponse(List.of(item), NOTIFICATION_ID, 3));
+
+        mockMvc.perform(get("/notifications"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].notificationId").value(NOTIFICATION_ID.toString()))
+                .andExpect(jsonPath("$.data.content[0].actorCount").value(5))
+                .andExpect(jsonPath("$.data.nextCursor").value(NOTIFICATION_ID.toString()))
+                .andExpect(jsonPath("$.data.unreadCount").value(3));
+    }
+
+    @Test
+    @DisplayName("[400] size가 1~20 밖이면 INVALID_PAGE_SIZE")
+    void list_400_invalidSize() throws Exception {
+        mockMvc.perform(get("/notifications").param("size", "21"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_PAGE_SIZE.getCode()));
+
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    @DisplayName("[200] 안 읽은 알림 수를 돌려준다")
+    void unreadCount_200_success() throws Exception {
+        given(notificationService.getUnreadCount(USER_ID)).willReturn(4L);
+
+        mockMvc.perform(get("/notifications/unread-count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.unreadCount").value(4));
+    }
+
+    @Test
+    @DisplayName("[404] 남의 알림을 읽음 처리하면 NOTIFICATION_NOT_FOUND")
+    void markRead_404_notFound() throws Exception {
+        willThrow(new BusinessException(ErrorCode.NOTIFICATION_NOT_FOUND))
+                .given(notificationService).markRead(USER_ID, NOTIFICATION_ID);
+
+        mockMvc.perform(post("/notifications/{notificationId}/read", NOTIFICATION_ID).with(csrf()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(ErrorCode.NOTIFICATION_NOT_FOUND.getCode()));
+    }
+
+    @Test
+    @DisplayName("[204] 모두 읽음 처리")
+    void markAllRead_204() throws Exception {
+        mockMvc.perform(post("/notifications/read-all").with(csrf()))
+                .andExpect(status().isNoContent());
+
+        verify(notificationService).markAllRead(USER_ID);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.ktb3community.notification;
+
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.notification.domain.Notification;
+import com.example.ktb3community.notification.domain.NotificationType;
+import com.example.ktb3community.notification.dto.NotificationPageResponse;
+import com.example.ktb3community.notification.repository.NotificationRepository;
+import com.example.ktb3community.notification.service.NotificationService;
+import com.example.ktb3community.notification.service.UnreadNotificationCounter;
+import com.example.ktb3community.user.domain.User;
+import com.example.ktb3community.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.ktb3community.TestEntityFactory.user;
+import static com.example.ktb3community.TestFixtures.POST_ID;
+import static com.example.ktb3community.TestFixtures.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Long NOTIFICATION_ID = 7L;
+
+    @Mock NotificationRepository notificationRepository;
+    @Mock UserRepository userRepository;
+    @Mock UnreadNotificationCounter unreadNotificationCounter;
+
+    @InjectMocks
+    NotificationService notificationService;
+
+    @Test
+    @DisplayName("getNotifications: 한 건 더 읽어 다음 커서를 정하고 탈퇴한 행위자는 null로 둔다")
+    void getNotifications_hasNext_setsCursor() {
+        User actor = user().id(2L).nickname("actor").build();
+        given(notificationRepository.findPage(USER_ID, Long.MAX_VALUE, PageRequest.of(0, 3)))
+                .willReturn(List.of(notification(30L, 2L), notification(20L, 3L), notification(10L, 2L)));
+        given(userRepository.findAllByIdIn(Set.of(2L, 3L))).willReturn(List.of(actor));
+        given(unreadNotificationCounter.get(USER_ID)).willReturn(5L);
+
+        NotificationPageResponse response = notificationService.getNotifications(USER_ID, null, 2);
+
+        assertThat(response.content()).hasSize(2);
+        assertThat(response.content().get(0).notificationId()).isEqualTo(30L);
+        assertThat(response.content().get(0).actor().nickname()).isEqualTo("actor");
+        assertThat(response.content().get(1).actor()).isNull();
+        assertThat(response.nextCursor()).isEqualTo(20L);
+        assertThat(response.unreadCount()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("getNotifications: 마지막 페이지면 nextCursor가 null이다")
+    void getNotifications_lastPage_nullCursor() {
+        given(notificationRepository.findPage(USER_ID, 20L, PageRequest.of(0, 3)))
+                .willReturn(List.of(notification(10L, 2L)));
+        given(userRepository.findAllByIdIn(Set.of(2L))).willReturn(List.of());
+
+        NotificationPageResponse response = notificationService.getNotifications(USER_ID, 20L, 2);
+
+        assertThat(response.content()).hasSize(1);
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("markRead: 안 읽은 알림을 읽으면 커밋 후 메모리 카운터를 비운다")
+    void markRead_unread_invalidatesCounter() {
+        given(notificationRepository.markRead(eq(NOTIFICATION_ID), eq(USER_ID), any())).willReturn(1);
+
+        notificationService.markRead(USER_ID, NOTIFICATION_ID);
+
+        verify(unreadNotificationCounter).invalidateAfterCommit(USER_ID);
+    }
+
+    @Test
+    @DisplayName("markRead: 이미 읽은 내 알림이면 아무것도 바꾸지 않고 성공한다")
+    void markRead_alreadyRead_noop() {
+        given(notificationRepository.markRead(eq(NOTIFICATION_ID), eq(USER_ID), any())).willReturn(0);
+        given(notificationRepository.existsByIdAndRecipientId(NOTIFICATION_ID, USER_ID)).willReturn(true);
+
+        notificationService.markRead(USER_ID, NOTIFICATION_ID);
+
+        verify(unreadNotificationCounter, never()).invalidateAfterCommit(any());
+    }
+
+    @Test
+    @DisplayName("markRead: 없거나 남의 알림이면 NOTIFICATION_NOT_FOUND")
+    void markRead_notMine_throws() {
+        given(notificationRepository.markRead(eq(NOTIFICATION_ID), eq(USER_ID), any())).willReturn(0);
+        given(notificationRepository.existsByIdAndRecipientId(NOTIFICATION_ID, USER_ID)).willReturn(false);
+
+        assertThatThrownBy(() -> notificationService.markRead(USER_ID, NOTIFICATION_ID))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.NOTIFICATION_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("markAllRead: 모두 읽음 처리하고 커밋 후 메모리 카운터를 비운다")
+    void markAllRead_resetsCounter() {
+        notificationService.markAllRead(USER_ID);
+
+        verify(notificationRepository).markAllRead(eq(USER_ID), any());
+        verify(unreadNotificationCounter).invalidateAfterCommit(USER_ID);
+    }
+
+    private static Notification notification(Long id, Long actorId) {
+        return Notification.createNew(id, USER_ID, NotificationType.COMMENT, POST_ID, actorId, 1, CREATED_AT);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.ktb3community.notification;
+
+import com.example.ktb3community.notification.domain.Notification;
+import com.example.ktb3community.notification.domain.NotificationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static com.example.ktb3community.TestFixtures.POST_ID;
+import static com.example.ktb3community.TestFixtures.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationTest {
+
+    @Test
+    @DisplayName("createNew: id를 미리 채워도 새 엔티티로 취급되고 읽지 않은 상태다")
+    void createNew_isNewUntilPersisted() {
+        Notification notification = Notification.createNew(1L, USER_ID, NotificationType.LIKE, POST_ID,
+                2L, 3, Instant.parse("2025-01-01T00:00:00Z"));
+
+        assertThat(notification.isNew()).isTrue();
+        assertThat(notification.isRead()).isFalse();
+        assertThat(notification.getActorCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.ktb3community.notification;
+
+import com.example.ktb3community.notification.repository.NotificationRepository;
+import com.example.ktb3community.notification.service.UnreadNotificationCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static com.example.ktb3community.TestFixtures.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadNotificationCounterTest {
+
+    private static final long TTL_MILLIS = 60_000;
+
+    @Mock NotificationRepository notificationRepository;
+
+    @Test
+    @DisplayName("get: 처음 한 번만 DB에서 세고, 비우면 다음 조회에서 다시 센다")
+    void get_loadsOnceUntilInvalidated() {
+        UnreadNotificationCounter counter = new UnreadNotificationCounter(notificationRepository, 10, TTL_MILLIS);
+        given(notificationRepository.countByRecipientIdAndReadAtIsNull(USER_ID)).willReturn(3L, 4L);
+
+        assertThat(counter.get(USER_ID)).isEqualTo(3);
+        assertThat(counter.get(USER_ID)).isEqualTo(3);
+        counter.invalidate(USER_ID);
+
+        assertThat(counter.get(USER_ID)).isEqualTo(4);
+        verify(notificationRepository, times(2)).countByRecipientIdAndReadAtIsNull(USER_ID);
+    }
+
+    @Test
+    @DisplayName("get: 세는 동안 알림이 커밋되어 비워졌으면 센 값을 캐시하지 않는다")
+    void get_invalidatedWhileCounting_notCached() {
+        UnreadNotificationCounter counter = new UnreadNotificationCounter(notificationRepository, 10, TTL_MILLIS);
+        given(notificationRepository.countByRecipientIdAndReadAtIsNull(USER_ID))
+                .willAnswer(invocation -> {
+                    // DB에서 센 직후, 캐시에 넣기 전에 다른 스레드가 새 알림을 커밋하고 비운다
+                    counter.invalidate(USER_ID);
+                    return 3L;
+                })
+                .willReturn(4L);
+
+        assertThat(counter.get(USER_ID)).isEqualTo(3);
+
+        assertThat(counter.get(USER_ID)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("invalidateAfterCommit: 트랜잭션이 커밋된 뒤에만 비운다")
+    void invalidateAfterCommit_waitsForCommit() {
+        UnreadNotificationCounter counter = new UnreadNotificationCounter(notificationRepository, 10, TTL_MILLIS);
+        given(notificationRepository.countByRecipientIdAndReadAtIsNull(USER_ID)).willReturn(1L, 0L);
+        counter.get(USER_ID);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counter.invalidateAfterCommit(USER_ID);
+            assertThat(counter.get(USER_ID)).isEqualTo(1);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(counter.get(USER_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("get: ttl이 지난 값은 다른 인스턴스의 변경을 반영하도록 다시 센다")
+    void get_expiredAfterTtl_reloads() {
+        UnreadNotificationCounter counter = new UnreadNotificationCounter(notificationRepository, 10, 0);
+        given(notificationRepository.countByRecipientIdAndReadAtIsNull(USER_ID)).willReturn(1L, 2L);
+
+        assertThat(counter.get(USER_ID)).isEqualTo(1);
+
+        assertThat(counter.get(USER_ID)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.ktb3community.outbox;
+
+import com.example.ktb3community.outbox.domain.AggregateType;
+import com.example.ktb3community.outbox.domain.DomainEventType;
+import com.example.ktb3community.outbox.domain.OutboxEvent;
+import com.example.ktb3community.outbox.domain.OutboxStatus;
+import com.example.ktb3community.outbox.dto.ImageReplacedPayload;
+import com.example.ktb3community.outbox.repository.OutboxRepository;
+import com.example.ktb3community.outbox.service.DomainEventPublisher;
+import com.example.ktb3community.outbox.service.OutboxDispatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static com.example.ktb3community.TestFixtures.POST_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DomainEventPublisherTest {
+
+    @Mock OutboxRepository outboxRepository;
+    @Mock OutboxDispatcher outboxDispatcher;
+
+    DomainEventPublisher domainEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        domainEventPublisher = new DomainEventPublisher(outboxRepository, outboxDispatcher, new ObjectMapper());
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("append: 이벤트를 JSON payload로 기록하고 커밋된 뒤에 dispatcher를 깨운다")
+    void append_savesAndWakesUpAfterCommit() {
+        domainEventPublisher.append(DomainEventType.POST_IMAGE_REPLACED, POST_ID,
+                new ImageReplacedPayload("http://old-image.com", "http://new-image.com"));
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxRepository).save(captor.capture());
+        OutboxEvent saved = captor.getValue();
+        assertThat(saved.getAggregateType()).isEqualTo(AggregateType.POST);
+        assertThat(saved.getAggregateId()).isEqualTo(POST_ID);
+        assertThat(saved.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(saved.getPayload())
+                .isEqualTo("{\"previousImageUrl\":\"http://old-image.com\",\"imageUrl\":\"http://new-image.com\"}");
+        verifyNoInteractions(outboxDispatcher);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(outboxDispatcher).wakeUp();
+    }
+}
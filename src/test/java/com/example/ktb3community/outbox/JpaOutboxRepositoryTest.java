@@ -0,0 +1,50 @@
+package com.example.ktb3community.outbox;
+
+import com.example.ktb3community.config.JpaConfig;
+import com.example.ktb3community.outbox.domain.DomainEventType;
+import com.example.ktb3community.outbox.domain.OutboxEvent;
+import com.example.ktb3community.outbox.repository.JpaOutboxRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.example.ktb3community.TestFixtures.POST_ID;
+import static com.example.ktb3community.TestFixtures.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(JpaConfig.class)
+class JpaOutboxRepositoryTest {
+
+    @Autowired
+    private JpaOutboxRepository jpaOutboxRepository;
+
+    @Test
+    @DisplayName("findDue: 재시도를 기다리는 aggregate는 뒤 이벤트까지 빼고, 다른 aggregate의 보낼 이벤트가 limit 안에 들어온다")
+    void findDue_skipsBackedOffAggregates() {
+        Instant now = Instant.now();
+        // 백오프 중인 aggregate가 limit보다 많아도 정상 aggregate가 밀리지 않는다
+        for (long aggregateId = 1; aggregateId <= 3; aggregateId++) {
+            OutboxEvent waiting = pending(DomainEventType.POST_IMAGE_REPLACED, POST_ID + aggregateId, now);
+            waiting.retryAt(1, now.plusSeconds(3600), "boom");
+            jpaOutboxRepository.save(waiting);
+            jpaOutboxRepository.save(pending(DomainEventType.POST_IMAGE_REPLACED, POST_ID + aggregateId, now));
+        }
+        OutboxEvent healthy = jpaOutboxRepository.save(pending(DomainEventType.PROFILE_IMAGE_REPLACED, USER_ID, now));
+        OutboxEvent healthyNext = jpaOutboxRepository.save(pending(DomainEventType.PROFILE_IMAGE_REPLACED, USER_ID, now));
+
+        List<OutboxEvent> due = jpaOutboxRepository.findDue(now, PageRequest.ofSize(2));
+
+        assertThat(due).extracting(OutboxEvent::getId).containsExactly(healthy.getId(), healthyNext.getId());
+    }
+
+    private static OutboxEvent pending(DomainEventType type, Long aggregateId, Instant now) {
+        return OutboxEvent.createNew(type, aggregateId, "{}", now);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.ktb3community.outbox;
+
+import com.example.ktb3community.outbox.domain.DomainEventType;
+import com.example.ktb3community.outbox.domain.OutboxEvent;
+import com.example.ktb3community.outbox.domain.OutboxStatus;
+import com.example.ktb3community.outbox.repository.OutboxRepository;
+import com.example.ktb3community.outbox.service.DomainEventSubscriber;
+import com.example.ktb3community.outbox.service.OutboxDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.ktb3community.TestFixtures.POST_ID;
+import static com.example.ktb3community.TestFixtures.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    // 테스트에서는 poll을 직접 호출한다
+    private static final long MANUAL = TimeUnit.MINUTES.toMillis(10);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int PURGE_CHUNK = 2;
+
+    @Mock OutboxRepository outboxRepository;
+    @Mock DomainEventSubscriber subscriber;
+    @Mock PlatformTransactionManager transactionManager;
+
+    SimpleMeterRegistry meterRegistry;
+    OutboxDispatcher outboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxDispatcher = new OutboxDispatcher(outboxRepository, List.of(subscriber), transactionManager, meterRegistry,
+                MANUAL, 200, 2, 10, MAX_ATTEMPTS, 1000, 72, PURGE_CHUNK);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxDispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("poll: aggregate별로 묶어 발생 순서대로 전달하고 전달 완료로 표시한다")
+    void poll_dispatchesPerAggregateInOrder() {
+        OutboxEvent first = event(1L, DomainEventType.POST_IMAGE_REPLACED, POST_ID, 0, Instant.now());
+        OutboxEvent profile = event(2L, DomainEventType.PROFILE_IMAGE_REPLACED, USER_ID, 0, Instant.now());
+        OutboxEvent second = event(3L, DomainEventType.POST_IMAGE_REPLACED, POST_ID, 0, Instant.now());
+        given(outboxRepository.findDue(any(), eq(200))).willReturn(List.of(first, profile, second));
+        given(subscriber.types()).willReturn(allTypes());
+
+        outboxDispatcher.poll();
+
+        verify(subscriber, timeout(1000)).handle(List.of(first.toDomainEvent(), second.toDomainEvent()));
+        verify(subscriber, timeout(1000)).handle(List.of(profile.toDomainEvent()));
+        verify(outboxRepository, timeout(1000)).markPublished(eq(List.of(1L, 3L)), any());
+        verify(outboxRepository, timeout(1000)).markPublished(eq(List.of(2L)), any());
+    }
+
+    @Test
+    @DisplayName("poll: 구독하지 않는 종류는 넘기지 않고 전달 완료로만 표시한다")
+    void poll_skipsUnsubscribedTypes() {
+        OutboxEvent profile = event(1L, DomainEventType.PROFILE_IMAGE_REPLACED, USER_ID, 0, Instant.now());
+        given(outboxRepository.findDue(any(), eq(200))).willReturn(List.of(profile));
+        given(subscriber.types()).willReturn(EnumSet.of(DomainEventType.POST_IMAGE_REPLACED));
+
+        outboxDispatcher.poll();
+
+        verify(outboxRepository, timeout(1000)).markPublished(eq(List.of(1L)), any());
+        verify(subscriber, never()).handle(anyList());
+    }
+
+    @Test
+    @DisplayName("dispatch: 구독자가 실패하면 시도 횟수를 올리고 재시도를 예약한다")
+    void dispatch_failure_schedulesRetry() {
+        OutboxEvent event = event(1L, DomainEventType.POST_IMAGE_REPLACED, POST_ID, 0, Instant.now());
+        given(outboxRepository.findDue(any(), eq(200))).willReturn(List.of(event));
+        given(subscriber.types()).willReturn(allTypes());
+        willThrow(new IllegalStateException("boom")).given(subscriber).handle(anyList());
+
+        outboxDispatcher.poll();
+
+        verify(outboxRepository, timeout(1000))
+                .markRetry(eq(List.of(1L)), eq(1), any(), startsWith("IllegalStateException: boom"));
+        verify(outboxRepository, never()).markPublished(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("dispatch: 최대 시도 횟수에 닿으면 FAILED로 표시하고 더 보내지 않는다")
+    void dispatch_maxAttempts_marksFailed() {
+        OutboxEvent event = event(1L, DomainEventType.POST_IMAGE_REPLACED, POST_ID, MAX_ATTEMPTS - 1, Instant.now());
+        given(outboxRepository.findDue(any(), eq(200))).willReturn(List.of(event));
+        given(subscriber.types()).willReturn(allTypes());
+        willThrow(new IllegalStateException("boom")).given(subscriber).handle(anyList());
+
+        outboxDispatcher.poll();
+
+        verify(outboxRepository, timeout(1000)).markFailed(eq(List.of(1L)), eq(MAX_ATTEMPTS), any());
+        verify(outboxRepository, never()).markRetry(anyList(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("purgePublished: 보관 기간이 지난 전달 완료 이벤트를 chunk 단위로 지운다")
+    void purgePublished_deletesInChunks() {
+        given(outboxRepository.findPublishedIdsBefore(any(), eq(PURGE_CHUNK)))
+                .willReturn(List.of(1L, 2L), List.of(3L));
+        given(outboxRepository.deleteAllByIdIn(List.of(1L, 2L))).willReturn(2);
+        given(outboxRepository.deleteAllByIdIn(List.of(3L))).willReturn(1);
+
+        outboxDispatcher.purgePublished();
+
+        assertThat(meterRegistry.get("outbox.purged").counter().count()).isEqualTo(3);
+    }
+
+    private static Set<DomainEventType> allTypes() {
+        return EnumSet.allOf(DomainEventType.class);
+    }
+
+    private static OutboxEvent event(Long id, DomainEventType type, Long aggregateId, int attempts, Instant nextAttemptAt) {
+        return OutboxEvent.builder()
+                .id(id)
+                .type(type)
+                .aggregateType(type.getAggregateType())
+                .aggregateId(aggregateId)
+                .payload("{}")
+                .status(OutboxStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt)
+                .createdAt(Instant.now())
+                .build();
+    }
+}
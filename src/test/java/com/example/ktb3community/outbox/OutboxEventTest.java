@@ -0,0 +1,46 @@
+package com.example.ktb3community.outbox;
+
+import com.example.ktb3community.outbox.domain.DomainEventType;
+import com.example.ktb3community.outbox.domain.OutboxEvent;
+import com.example.ktb3community.outbox.domain.OutboxStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static com.example.ktb3community.TestFixtures.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxEventTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    @DisplayName("retryAt: 상태는 PENDING으로 두고 시도 횟수와 다음 시도 시각, 잘린 오류 메시지를 남긴다")
+    void retryAt_keepsPendingAndTruncatesError() {
+        OutboxEvent event = OutboxEvent.createNew(DomainEventType.PROFILE_IMAGE_REPLACED, USER_ID, "{}", NOW);
+
+        event.retryAt(2, NOW.plusSeconds(4), "x".repeat(600));
+
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(event.getAttempts()).isEqualTo(2);
+        assertThat(event.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(4));
+        assertThat(event.getLastError()).hasSize(500);
+    }
+
+    @Test
+    @DisplayName("published / fail: 전달 결과에 따라 상태를 바꾼다")
+    void published_and_fail_changeStatus() {
+        OutboxEvent published = OutboxEvent.createNew(DomainEventType.PROFILE_IMAGE_REPLACED, USER_ID, "{}", NOW);
+        OutboxEvent failed = OutboxEvent.createNew(DomainEventType.PROFILE_IMAGE_REPLACED, USER_ID, "{}", NOW);
+
+        published.published(NOW.plusSeconds(1));
+        failed.fail(10, "boom");
+
+        assertThat(published.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+        assertThat(published.getPublishedAt()).isEqualTo(NOW.plusSeconds(1));
+        assertThat(failed.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(10);
+        assertThat(failed.getLastError()).isEqualTo("boom");
+    }
+}
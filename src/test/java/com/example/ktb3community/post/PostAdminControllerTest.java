@@ -0,0 +1,73 @@
+package com.example.ktb3community.post;
+
+import com.example.ktb3community.auth.security.CustomUserDetails;
+import com.example.ktb3community.common.Role;
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.post.controller.PostAdminController;
+import com.example.ktb3community.post.service.PostCounterReconciler;
+import com.example.ktb3community.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.example.ktb3community.TestFixtures.USER_ID;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PostAdminController.class)
+class PostAdminControllerTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @MockitoBean
+    PostCounterReconciler postCounterReconciler;
+
+    @BeforeEach
+    void setUp() {
+        User admin = User.builder()
+                .id(USER_ID)
+                .email("admin@email.com")
+                .role(Role.ROLE_ADMIN)
+                .build();
+
+        CustomUserDetails principal = CustomUserDetails.from(admin);
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+    }
+
+    @Test
+    @DisplayName("[202] 카운터 정합성 점검을 시작하고 끝나기를 기다리지 않는다")
+    void reconcileCounters_202_started() throws Exception {
+        given(postCounterReconciler.startReconcile()).willReturn(new CompletableFuture<>());
+
+        mockMvc.perform(post("/admin/posts/counters/reconcile").with(csrf()))
+                .andExpect(status().isAccepted());
+
+        verify(postCounterReconciler).startReconcile();
+    }
+
+    @Test
+    @DisplayName("[409] 이미 점검이 실행 중이면 CONFLICT")
+    void reconcileCounters_409_alreadyRunning() throws Exception {
+        given(postCounterReconciler.startReconcile()).willThrow(new BusinessException(ErrorCode.CONFLICT));
+
+        mockMvc.perform(post("/admin/posts/counters/reconcile").with(csrf()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value(ErrorCode.CONFLICT.getCode()));
+    }
+}
@@ -3,11 +3,15 @@ package com.example.ktb3community.post;
 import com.example.ktb3community.auth.security.CustomUserDetails;
 import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.common.pagination.PageResponse;
+import com.example.ktb3community.job.domain.JobStatus;
+import com.example.ktb3community.job.dto.JobStatusResponse;
 import com.example.ktb3community.post.controller.PostController;
 import com.example.ktb3community.post.dto.CreatePostRequest;
 import com.example.ktb3community.post.dto.CreatePostResponse;
 import com.example.ktb3community.post.dto.PostDetailResponse;
+import com.example.ktb3community.post.dto.PostDetailResult;
 import com.example.ktb3community.post.dto.PostListResponse;
+import com.example.ktb3community.post.dto.PostVersion;
 import com.example.ktb3community.post.service.PostService;
 import com.example.ktb3community.post.service.PostViewService;
 import com.example.ktb3community.user.domain.User;
@@ -17,6 +21,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
@@ -24,23 +29,32 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.Collections;
 
 import static com.example.ktb3community.TestFixtures.POST_ID;
 import static com.example.ktb3community.TestFixtures.USER_ID;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PostController.class)
 class PostControllerTest {
 
+    private static final String LIST_ETAG = "W/\"list-version\"";
+    private static final String DETAIL_ETAG = "W/\"detail-version\"";
+    private static final PostVersion DETAIL_VERSION = new PostVersion(Instant.EPOCH, Instant.EPOCH, 0);
+
     @Autowired MockMvc mockMvc;
     @Autowired ObjectMapper objectMapper;
 
@@ -99,6 +113,7 @@ class PostControllerTest {
     void list_200_success() throws Exception {
         PageResponse<PostListResponse> response = new PageResponse<>(Collections.emptyList(), 1, 10, 0);
 
+        given(postViewService.getPostListEtag(1, 10, PostSort.NEW)).willReturn(LIST_ETAG);
         given(postViewService.getPostList(anyInt(), anyInt(), any(PostSort.class)))
                 .willReturn(response);
 
@@ -107,7 +122,23 @@ class PostControllerTest {
                         .param("pageSize", "10")
                         .param("sort", "NEW")
                         .with(csrf()))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, LIST_ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+    }
+
+    @Test
+    @DisplayName("[304] 목록 ETag가 같으면 목록을 조회하지 않고 304 응답")
+    void list_304_notModified() throws Exception {
+        given(postViewService.getPostListEtag(1, 10, PostSort.NEW)).willReturn(LIST_ETAG);
+
+        mockMvc.perform(get("/posts")
+                        .header(HttpHeaders.IF_NONE_MATCH, LIST_ETAG)
+                        .with(csrf()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, LIST_ETAG));
+
+        verify(postViewService, never()).getPostList(anyInt(), anyInt(), any(PostSort.class));
     }
 
     @Test
@@ -136,15 +167,36 @@ class PostControllerTest {
     void getPostDetail_200_success() throws Exception {
         PostDetailResponse response = new PostDetailResponse(POST_ID, "Title", "Content", null, null, 0, 0, 0, false, null, null);
 
-        given(postViewService.getPostDetail(POST_ID, USER_ID)).willReturn(response);
+        // 조회수 증가로 버전이 달라지므로 본문을 만든 트랜잭션이 계산한 ETag로 응답한다
+        given(postViewService.getPostDetailVersion(POST_ID)).willReturn(DETAIL_VERSION);
+        given(postViewService.getPostDetailEtag(POST_ID, USER_ID, DETAIL_VERSION)).willReturn(DETAIL_ETAG);
+        given(postViewService.getPostDetail(POST_ID, USER_ID, DETAIL_VERSION))
+                .willReturn(new PostDetailResult(response, "W/\"viewed\""));
 
         mockMvc.perform(get("/posts/{postId}", POST_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"stale\"")
                         .with(csrf()))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"viewed\""))
                 .andExpect(jsonPath("$.data.postId").value(POST_ID))
                 .andExpect(jsonPath("$.data.title").value("Title"));
     }
 
+    @Test
+    @DisplayName("[304] 상세 ETag가 같으면 상세 조회(조회수 증가) 없이 304 응답")
+    void getPostDetail_304_notModified() throws Exception {
+        given(postViewService.getPostDetailVersion(POST_ID)).willReturn(DETAIL_VERSION);
+        given(postViewService.getPostDetailEtag(POST_ID, USER_ID, DETAIL_VERSION)).willReturn(DETAIL_ETAG);
+
+        mockMvc.perform(get("/posts/{postId}", POST_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, DETAIL_ETAG)
+                        .with(csrf()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(postViewService, never()).getPostDetail(anyLong(), anyLong(), any());
+    }
+
     @Test
     @DisplayName("[200] 게시글 수정 성공")
     void updatePost_200_success() throws Exception {
@@ -170,4 +222,18 @@ class PostControllerTest {
 
         verify(postService).deletePost(POST_ID, USER_ID);
     }
+
+    @Test
+    @DisplayName("[200] 게시글 삭제 진행 상태 조회 성공")
+    void getDeletionStatus_200_success() throws Exception {
+        JobStatusResponse response = new JobStatusResponse(7L, JobStatus.COMPLETED, "LIKES", 1200,
+                Instant.parse("2025-01-01T00:00:00Z"), Instant.parse("2025-01-01T00:00:05Z"));
+        given(postService.getDeletionStatus(POST_ID, USER_ID)).willReturn(response);
+
+        mockMvc.perform(get("/posts/{postId}/deletion", POST_ID)
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.processedCount").value(1200));
+    }
 }
@@ -0,0 +1,128 @@
+package com.example.ktb3community.post;
+
+import com.example.ktb3community.comment.repository.CommentRepository;
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.post.dto.CounterReconcileResponse;
+import com.example.ktb3community.post.dto.PostCount;
+import com.example.ktb3community.post.dto.PostCounterCorrection;
+import com.example.ktb3community.post.dto.PostCounterSnapshot;
+import com.example.ktb3community.post.repository.PostLikeRepository;
+import com.example.ktb3community.post.repository.PostRepository;
+import com.example.ktb3community.post.service.PostCounterReconciler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostCounterReconcilerTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock PostRepository postRepository;
+    @Mock PostLikeRepository postLikeRepository;
+    @Mock CommentRepository commentRepository;
+    @Mock PlatformTransactionManager transactionManager;
+
+    SimpleMeterRegistry meterRegistry;
+    PostCounterReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new PostCounterReconciler(postRepository, postLikeRepository, commentRepository,
+                transactionManager, meterRegistry, CHUNK_SIZE, 0, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reconciler.shutdown();
+    }
+
+    @Test
+    @DisplayName("reconcile: 키셋 chunk를 끝까지 돌며 실제 개수와 다른 게시글만 읽은 값 조건으로 고친다")
+    void reconcile_correctsOnlyDriftedPosts() throws Exception {
+        given(postRepository.findCounterSnapshots(0L, CHUNK_SIZE)).willReturn(List.of(
+                new PostCounterSnapshot(1L, 3, 2), new PostCounterSnapshot(2L, 5, 0)));
+        given(postRepository.findCounterSnapshots(2L, CHUNK_SIZE)).willReturn(List.of(
+                new PostCounterSnapshot(3L, 0, 4)));
+        given(postLikeRepository.countLiveByPostIdIn(List.of(1L, 2L)))
+                .willReturn(List.of(new PostCount(1L, 3), new PostCount(2L, 4)));
+        given(commentRepository.countLiveByPostIdIn(List.of(1L, 2L)))
+                .willReturn(List.of(new PostCount(1L, 2)));
+        given(postLikeRepository.countLiveByPostIdIn(List.of(3L))).willReturn(List.of());
+        given(commentRepository.countLiveByPostIdIn(List.of(3L))).willReturn(List.of(new PostCount(3L, 1)));
+        given(postRepository.applyCounterCorrections(anyCollection(), any(Instant.class)))
+                .willAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+
+        CounterReconcileResponse result = reconciler.startReconcile().get(5, TimeUnit.SECONDS);
+
+        assertThat(result).isEqualTo(new CounterReconcileResponse(3, 2, 1, 3));
+        assertThat(capturedCorrections()).containsExactly(
+                new PostCounterCorrection(2L, 5, 0, 4, 0),
+                new PostCounterCorrection(3L, 0, 4, 0, 1));
+        assertThat(meterRegistry.get("post.counter.reconcile.scanned").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("post.counter.drift").tag("counter", "comment").summary().totalAmount())
+                .isEqualTo(3.0);
+        assertThat(meterRegistry.get("post.counter.reconcile.last_run_corrected").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("reconcile: 점검 중에 카운터가 바뀌어 고치지 못한 게시글은 skipped로 센다")
+    void reconcile_concurrentChange_countsSkipped() throws Exception {
+        given(postRepository.findCounterSnapshots(0L, CHUNK_SIZE))
+                .willReturn(List.of(new PostCounterSnapshot(1L, 1, 0)));
+        given(postLikeRepository.countLiveByPostIdIn(List.of(1L))).willReturn(List.of());
+        given(commentRepository.countLiveByPostIdIn(List.of(1L))).willReturn(List.of());
+        given(postRepository.applyCounterCorrections(anyCollection(), any(Instant.class))).willReturn(0);
+
+        CounterReconcileResponse result = reconciler.startReconcile().get(5, TimeUnit.SECONDS);
+
+        assertThat(result.corrected()).isZero();
+        assertThat(meterRegistry.get("post.counter.reconcile.skipped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("startReconcile: 이미 실행 중이면 새로 시작하지 않고 CONFLICT 예외 발생")
+    void reconcile_alreadyRunning_throws() throws Exception {
+        given(postRepository.findCounterSnapshots(0L, CHUNK_SIZE)).willAnswer(invocation -> {
+            Throwable thrown = catchThrowable(() -> reconciler.startReconcile());
+            assertThat(thrown)
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.CONFLICT);
+            return List.of();
+        });
+
+        CounterReconcileResponse result = reconciler.startReconcile().get(5, TimeUnit.SECONDS);
+
+        assertThat(result.scanned()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PostCounterCorrection> capturedCorrections() {
+        ArgumentCaptor<Collection<PostCounterCorrection>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(postRepository, times(2)).applyCounterCorrections(captor.capture(), any(Instant.class));
+        return captor.getAllValues().stream().flatMap(Collection::stream).toList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.ktb3community.post;
+
+import com.example.ktb3community.comment.repository.CommentRepository;
+import com.example.ktb3community.job.domain.Job;
+import com.example.ktb3community.job.domain.JobStatus;
+import com.example.ktb3community.job.domain.JobType;
+import com.example.ktb3community.post.repository.PostLikeRepository;
+import com.example.ktb3community.post.service.PostDeletionJobHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.example.ktb3community.TestFixtures.POST_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostDeletionJobHandlerTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock CommentRepository commentRepository;
+    @Mock PostLikeRepository postLikeRepository;
+
+    PostDeletionJobHandler handler;
+    Job job;
+
+    @BeforeEach
+    void setUp() {
+        handler = new PostDeletionJobHandler(commentRepository, postLikeRepository, CHUNK_SIZE);
+        job = Job.createNew(JobType.POST_DELETION, POST_ID, handler.initialStage(), NOW);
+    }
+
+    @Test
+    @DisplayName("댓글 stage: chunk만큼 지우고 커서를 마지막 id로 옮긴다")
+    void comments_fullChunk_advances() {
+        given(commentRepository.findLiveIdsByPostId(POST_ID, 0L, CHUNK_SIZE)).willReturn(List.of(11L, 12L));
+
+        handler.runChunk(job, NOW);
+
+        verify(commentRepository).softDeleteByPostIdAndIdIn(POST_ID, List.of(11L, 12L), NOW);
+        assertThat(job.getStage()).isEqualTo("COMMENTS");
+        assertThat(job.getCursorId()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("댓글 stage: 남은 댓글이 없으면 좋아요 stage로 넘어간다")
+    void comments_empty_movesToLikes() {
+        job.advance(12L, 2);
+        given(commentRepository.findLiveIdsByPostId(POST_ID, 12L, CHUNK_SIZE)).willReturn(List.of());
+
+        handler.runChunk(job, NOW);
+
+        verify(commentRepository, never()).softDeleteByPostIdAndIdIn(any(), any(), any());
+        assertThat(job.getStage()).isEqualTo("LIKES");
+        assertThat(job.getCursorId()).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요 stage: 마지막 chunk를 지우면 작업을 완료한다")
+    void likes_lastChunk_completes() {
+        job.moveTo("LIKES");
+        given(postLikeRepository.findLiveIdsByPostId(POST_ID, 0L, CHUNK_SIZE)).willReturn(List.of(21L));
+
+        handler.runChunk(job, NOW);
+
+        verify(postLikeRepository).softDeleteByPostIdAndIdIn(POST_ID, List.of(21L), NOW);
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(job.getProcessedCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.ktb3community.post;
+
+import com.example.ktb3community.auth.security.CustomUserDetails;
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.post.controller.PostEventController;
+import com.example.ktb3community.post.exception.PostNotFoundException;
+import com.example.ktb3community.post.service.PostEventHub;
+import com.example.ktb3community.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static com.example.ktb3community.TestEntityFactory.user;
+import static com.example.ktb3community.TestFixtures.POST_ID;
+import static com.example.ktb3community.TestFixtures.USER_ID;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PostEventController.class)
+class PostEventControllerTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @MockitoBean
+    PostEventHub postEventHub;
+
+    @BeforeEach
+    void setUp() {
+        User user = user().id(USER_ID).build();
+        CustomUserDetails principal = CustomUserDetails.from(user);
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+    }
+
+    @Test
+    @DisplayName("[200] 구독하면 비동기 SSE 응답을 시작하고 프록시 버퍼링을 끈다")
+    void subscribe_200_startsStream() throws Exception {
+        given(postEventHub.subscribe(POST_ID)).willReturn(new SseEmitter());
+
+        mockMvc.perform(get("/posts/{postId}/events", POST_ID))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("X-Accel-Buffering", "no"));
+    }
+
+    @Test
+    @DisplayName("[404] 존재하지 않는 게시글이면 POST_NOT_FOUND")
+    void subscribe_404_postNotFound() throws Exception {
+        given(postEventHub.subscribe(POST_ID)).willThrow(new PostNotFoundException());
+
+        mockMvc.perform(get("/posts/{postId}/events", POST_ID))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(ErrorCode.POST_NOT_FOUND.getCode()));
+    }
+
+    @Test
+    @DisplayName("[503] 연결 수 제한을 넘으면 POST_EVENTS_BUSY")
+    void subscribe_503_tooManyConnections() throws Exception {
+        given(postEventHub.subscribe(POST_ID)).willThrow(new BusinessException(ErrorCode.POST_EVENTS_BUSY));
+
+        mockMvc.perform(get("/posts/{postId}/events", POST_ID))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value(ErrorCode.POST_EVENTS_BUSY.getCode()));
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.ktb3community.post;
+
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.post.controller.PostEventController;
+import com.example.ktb3community.post.exception.PostNotFoundException;
+import com.example.ktb3community.post.repository.PostRepository;
+import com.example.ktb3community.post.service.PostEventHub;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.example.ktb3community.TestEntityFactory.post;
+import static com.example.ktb3community.TestFixtures.POST_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class PostEventHubTest {
+
+    // 테스트에서는 flush/heartbeat를 직접 호출한다
+    private static final long MANUAL = TimeUnit.MINUTES.toMillis(10);
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    PostRepository postRepository = mock(PostRepository.class);
+    PostEventHub postEventHub;
+
+    @AfterEach
+    void tearDown() {
+        postEventHub.shutdown();
+    }
+
+    @Test
+    @DisplayName("flush: 주기 동안의 변화를 게시글당 이벤트 하나로 합쳐 보낸다")
+    void flush_coalescesChanges() throws Exception {
+        postEventHub = newHub(10);
+        MvcResult stream = subscribe();
+
+        postEventHub.likeChanged(POST_ID, 1);
+        postEventHub.likeChanged(POST_ID, 1);
+        postEventHub.likeChanged(POST_ID, -1);
+        postEventHub.commentAdded(POST_ID, 7L);
+        postEventHub.viewed(POST_ID);
+        postEventHub.flush();
+
+        String content = awaitContent(stream, "event:counts", 1);
+        assertThat(content).contains("data:{\"postId\":100,\"likeDelta\":1,\"commentDelta\":1,"
+                + "\"viewDelta\":1,\"newCommentIds\":[7]}");
+        assertThat(meterRegistry.get("post.events.connections").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("flush: 새 댓글 id는 20개까지만 싣고 카운트 변화량은 모두 반영한다")
+    void flush_capsNewCommentIds() throws Exception {
+        postEventHub = newHub(10);
+        MvcResult stream = subscribe();
+
+        for (long commentId = 1; commentId <= 25; commentId++) {
+            postEventHub.commentAdded(POST_ID, commentId);
+        }
+        postEventHub.commentRemoved(POST_ID);
+        postEventHub.flush();
+
+        String content = awaitContent(stream, "event:counts", 1);
+        assertThat(content).contains("\"commentDelta\":24,\"viewDelta\":0,"
+                + "\"newCommentIds\":[1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19,20]}");
+    }
+
+    @Test
+    @DisplayName("publish: 구독자가 없는 게시글의 변화는 모으지 않는다")
+    void publish_withoutSubscriber_ignored() throws Exception {
+        postEventHub = newHub(10);
+        postEventHub.likeChanged(POST_ID, 1);
+        MvcResult stream = subscribe();
+
+        postEventHub.flush();
+        postEventHub.heartbeat();
+
+        // 연결 직후 한 번 + heartbeat 한 번, 그 사이에 카운터 이벤트는 없다
+        String content = awaitContent(stream, ":keepalive", 2);
+        assertThat(content).doesNotContain("event:counts");
+    }
+
+    @Test
+    @DisplayName("publish: 트랜잭션 안의 변화는 커밋된 뒤에만 보낸다")
+    void publish_inTransaction_afterCommit() throws Exception {
+        postEventHub = newHub(10);
+        MvcResult stream = subscribe();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            postEventHub.viewed(POST_ID);
+            postEventHub.flush();
+            postEventHub.heartbeat();
+            assertThat(awaitContent(stream, ":keepalive", 2)).doesNotContain("event:counts");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        postEventHub.flush();
+
+        assertThat(awaitContent(stream, "event:counts", 1)).contains("\"viewDelta\":1");
+    }
+
+    @Test
+    @DisplayName("expireStalledSends: 전송 중이 아닌 연결은 기한 점검에서 끊지 않는다")
+    void expireStalledSends_idleSubscriber_kept() throws Exception {
+        postEventHub = newHub(10);
+        MvcResult stream = subscribe();
+        awaitContent(stream, ":keepalive", 1);
+
+        postEventHub.expireStalledSends();
+        postEventHub.viewed(POST_ID);
+        postEventHub.flush();
+
+        assertThat(awaitContent(stream, "event:counts", 1)).contains("\"viewDelta\":1");
+        assertThat(meterRegistry.get("post.events.send_timeout").counter().count()).isZero();
+        assertThat(meterRegistry.get("post.events.connections").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("subscribe: 연결 수 제한을 넘으면 POST_EVENTS_BUSY로 거절한다")
+    void subscribe_overLimit_rejects() {
+        postEventHub = newHub(1);
+        given(postRepository.findByIdOrThrow(POST_ID)).willReturn(post().id(POST_ID).build());
+        postEventHub.subscribe(POST_ID);
+
+        assertThatThrownBy(() -> postEventHub.subscribe(POST_ID))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.POST_EVENTS_BUSY);
+        assertThat(meterRegistry.get("post.events.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("post.events.connections").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("subscribe: 존재하지 않는 게시글이면 연결을 세지 않고 예외를 던진다")
+    void subscribe_postNotFound_throws() {
+        postEventHub = newHub(1);
+        given(postRepository.findByIdOrThrow(POST_ID)).willThrow(new PostNotFoundException());
+
+        assertThatThrownBy(() -> postEventHub.subscribe(POST_ID))
+                .isInstanceOf(PostNotFoundException.class);
+        assertThat(meterRegistry.get("post.events.connections").gauge().value()).isZero();
+    }
+
+    private PostEventHub newHub(int maxConnections) {
+        return new PostEventHub(postRepository, meterRegistry, MANUAL, MANUAL, maxConnections, 16, MANUAL, 1, MANUAL);
+    }
+
+    // 실제 SSE 응답 본문을 보기 위해 컨트롤러를 통해 비동기 응답을 연다
+    private MvcResult subscribe() throws Exception {
+        given(postRepository.findByIdOrThrow(POST_ID)).willReturn(post().id(POST_ID).build());
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PostEventController(postEventHub)).build();
+        return mockMvc.perform(get("/posts/{postId}/events", POST_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    // 전송은 별도 스레드에서 일어나므로 기대한 만큼 쓰일 때까지 기다린다
+    private String awaitContent(MvcResult stream, String token, int expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            String content = stream.getResponse().getContentAsString();
+            if (StringUtils.countOccurrencesOf(content, token) >= expected) {
+                assertThat(StringUtils.countOccurrencesOf(content, token)).isEqualTo(expected);
+                return content;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("stream did not receive " + expected + " x " + token);
+    }
+}
@@ -1,14 +1,22 @@
 package com.example.ktb3community.post;
 
-import com.example.ktb3community.comment.repository.CommentRepository;
 import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.job.domain.Job;
+import com.example.ktb3community.job.domain.JobStatus;
+import com.example.ktb3community.job.domain.JobType;
+import com.example.ktb3community.job.dto.JobStatusResponse;
+import com.example.ktb3community.job.service.JobService;
+import com.example.ktb3community.outbox.domain.DomainEventType;
+import com.example.ktb3community.outbox.dto.ImageReplacedPayload;
+import com.example.ktb3community.outbox.service.DomainEventPublisher;
 import com.example.ktb3community.post.domain.Post;
 import com.example.ktb3community.post.dto.CreatePostRequest;
 import com.example.ktb3community.post.dto.CreatePostResponse;
+import com.example.ktb3community.post.exception.PostNotFoundException;
 import com.example.ktb3community.post.repository.PostRepository;
 import com.example.ktb3community.post.service.PostService;
-import com.example.ktb3community.s3.service.FileService;
+import com.example.ktb3community.post.service.PostTotalsService;
 import com.example.ktb3community.user.domain.User;
 import com.example.ktb3community.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -21,12 +29,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Instant;
+import java.util.Optional;
 
 import static com.example.ktb3community.TestFixtures.POST_ID;
 import static com.example.ktb3community.TestFixtures.USER_ID;
 import static com.example.ktb3community.TestEntityFactory.post;
 import static com.example.ktb3community.TestEntityFactory.user;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -38,14 +48,15 @@ class PostServiceTest {
 
     @Mock UserRepository userRepository;
     @Mock PostRepository postRepository;
-    @Mock CommentRepository commentRepository;
-    @Mock FileService fileService;
+    @Mock JobService jobService;
+    @Mock DomainEventPublisher domainEventPublisher;
+    @Mock PostTotalsService postTotalsService;
 
     @InjectMocks
     PostService postService;
 
     @Test
-    @DisplayName("createPost: 게시글이 정상적으로 저장되고 ID를 반환한다")
+    @DisplayName("createPost: 게시글이 정상적으로 저장되고 ID를 반환하며, 축소본 생성 이벤트를 남긴다")
     void createPost_success() {
         CreatePostRequest request = new CreatePostRequest("Title", "Content", "http://image.url");
         User user = user().id(USER_ID).build();
@@ -64,6 +75,9 @@ class PostServiceTest {
 
         ArgumentCaptor<Post> postCaptor = ArgumentCaptor.forClass(Post.class);
         verify(postRepository).save(postCaptor.capture());
+        verify(postTotalsService).postsCreated(1);
+        verify(domainEventPublisher).append(DomainEventType.POST_IMAGE_REPLACED, POST_ID,
+                new ImageReplacedPayload(null, "http://image.url"));
 
         Post capturedPost = postCaptor.getValue();
         assertThat(capturedPost.getUser()).isEqualTo(user);
@@ -94,7 +108,8 @@ class PostServiceTest {
         assertThat(post.getContent()).isEqualTo("New Content");
         assertThat(post.getPostImageUrl()).isEqualTo("http://new-image.com");
 
-        verify(fileService).deleteImageIfChanged("http://old-image.com", "http://new-image.com");
+        verify(domainEventPublisher).append(DomainEventType.POST_IMAGE_REPLACED, POST_ID,
+                new ImageReplacedPayload("http://old-image.com", "http://new-image.com"));
     }
 
     @Test
@@ -125,7 +140,7 @@ class PostServiceTest {
     }
 
     @Test
-    @DisplayName("deletePost: 작성자 본인이면 댓글과 게시글을 소프트 삭제한다")
+    @DisplayName("deletePost: 작성자 본인이면 게시글을 바로 소프트 삭제하고 댓글/좋아요 정리 작업을 등록한다")
     void deletePost_success() {
         User user = user().id(USER_ID).build();
         Post post = post(user).id(POST_ID).build();
@@ -135,9 +150,10 @@ class PostServiceTest {
 
         postService.deletePost(POST_ID, USER_ID);
 
-        verify(commentRepository).softDeleteByPostId(any(Long.class), any(Instant.class));
-
         assertThat(post.getDeletedAt()).isNotNull();
+        verify(postRepository, times(1)).findByIdOrThrow(POST_ID);
+        verify(jobService).enqueue(JobType.POST_DELETION, POST_ID);
+        verify(postTotalsService).postsDeleted(1);
     }
 
     @Test
@@ -156,10 +172,61 @@ class PostServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .extracting(ex -> ((BusinessException) ex).getErrorCode())
                 .isEqualTo(ErrorCode.AUTH_FORBIDDEN);
-        verify(commentRepository, times(0)).softDeleteByPostId(any(), any());
+        verify(jobService, times(0)).enqueue(any(), any());
         assertThat(post.getDeletedAt()).isNull();
     }
 
+    @Test
+    @DisplayName("getDeletionStatus: 작성자에게 가장 최근 삭제 작업의 진행 상태를 돌려준다")
+    void getDeletionStatus_success() {
+        Job job = Job.createNew(JobType.POST_DELETION, POST_ID, "COMMENTS", Instant.now());
+        job.advance(500L, 500);
+        given(postRepository.findUserIdById(POST_ID)).willReturn(Optional.of(USER_ID));
+        given(jobService.findLatest(JobType.POST_DELETION, POST_ID)).willReturn(Optional.of(job));
+
+        JobStatusResponse response = postService.getDeletionStatus(POST_ID, USER_ID);
+
+        assertThat(response.status()).isEqualTo(JobStatus.RUNNING);
+        assertThat(response.stage()).isEqualTo("COMMENTS");
+        assertThat(response.processedCount()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("getDeletionStatus: 작성자가 아니면 AUTH_FORBIDDEN 예외가 발생한다")
+    void getDeletionStatus_notOwner_throws() {
+        given(postRepository.findUserIdById(POST_ID)).willReturn(Optional.of(999L));
+
+        Throwable thrown = catchThrowable(() -> postService.getDeletionStatus(POST_ID, USER_ID));
+
+        assertThat(thrown)
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.AUTH_FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("getDeletionStatus: 게시글이 없으면 PostNotFoundException 발생")
+    void getDeletionStatus_postNotFound_throws() {
+        given(postRepository.findUserIdById(POST_ID)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> postService.getDeletionStatus(POST_ID, USER_ID))
+                .isInstanceOf(PostNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("getDeletionStatus: 삭제 작업이 없으면(삭제하지 않은 글) NOT_FOUND 예외 발생")
+    void getDeletionStatus_noJob_throws() {
+        given(postRepository.findUserIdById(POST_ID)).willReturn(Optional.of(USER_ID));
+        given(jobService.findLatest(JobType.POST_DELETION, POST_ID)).willReturn(Optional.empty());
+
+        Throwable thrown = catchThrowable(() -> postService.getDeletionStatus(POST_ID, USER_ID));
+
+        assertThat(thrown)
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.NOT_FOUND);
+    }
+
     @Test
     @DisplayName("increaseCommentCount: 게시글의 댓글 카운트를 1 증가시킨다")
     void increaseCommentCount_success() {
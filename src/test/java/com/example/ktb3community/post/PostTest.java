@@ -77,6 +77,24 @@ class PostTest {
         assertThat(post.getPostImageUrl()).isNull();
     }
 
+    @Test
+    @DisplayName("attachThumbnail: 현재 이미지의 축소본만 남기고, 이미지가 바뀌면 축소본을 비운다")
+    void attachThumbnail_onlyForCurrentImage() {
+        Post post = post().postImageUrl("http://original.jpg").build();
+
+        post.attachThumbnail("http://stale.jpg", "http://stale-thumb.jpg");
+        assertThat(post.getPostThumbnailUrl()).isNull();
+
+        post.attachThumbnail("http://original.jpg", "http://original-thumb.jpg");
+        assertThat(post.getPostThumbnailUrl()).isEqualTo("http://original-thumb.jpg");
+
+        post.updatePost("title", null, "http://original.jpg");
+        assertThat(post.getPostThumbnailUrl()).isEqualTo("http://original-thumb.jpg");
+
+        post.updatePost(null, null, "http://new.jpg");
+        assertThat(post.getPostThumbnailUrl()).isNull();
+    }
+
     @Test
     @DisplayName("increaseViewCount: 조회수가 1 증가한다")
     void increaseViewCount() {
@@ -0,0 +1,89 @@
+package com.example.ktb3community.post;
+
+import com.example.ktb3community.post.repository.PostRepository;
+import com.example.ktb3community.post.service.PostTotalsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostTotalsServiceTest {
+
+    @Mock PostRepository postRepository;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    PostTotalsService postTotalsService;
+
+    @BeforeEach
+    void setUp() {
+        postTotalsService = new PostTotalsService(postRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("livePostCount: 처음 한 번만 DB에서 세고 이후에는 캐시된 값을 쓴다")
+    void livePostCount_countsOnce() {
+        given(postRepository.countLive()).willReturn(42L);
+
+        assertThat(postTotalsService.livePostCount()).isEqualTo(42L);
+        assertThat(postTotalsService.livePostCount()).isEqualTo(42L);
+
+        verify(postRepository, times(1)).countLive();
+        assertThat(meterRegistry.get("post.totals.resync").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("postsCreated/postsDeleted: 트랜잭션 안의 변화는 커밋된 뒤에만 반영한다")
+    void delta_inTransaction_afterCommit() {
+        given(postRepository.countLive()).willReturn(10L);
+        postTotalsService.resync();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            postTotalsService.postsCreated(1);
+            postTotalsService.postsDeleted(3);
+            assertThat(postTotalsService.livePostCount()).isEqualTo(10L);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(postTotalsService.livePostCount()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("postsDeleted: 아직 세지 않았으면 무시하고, 센 뒤에는 0 아래로 내려가지 않는다")
+    void delta_unknownIgnored_clampedAtZero() {
+        postTotalsService.postsDeleted(5);
+        given(postRepository.countLive()).willReturn(2L);
+
+        assertThat(postTotalsService.livePostCount()).isEqualTo(2L);
+
+        postTotalsService.postsDeleted(5);
+        assertThat(postTotalsService.livePostCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("resync: 누적된 변화량과 상관없이 DB 값으로 덮어쓴다")
+    void resync_overwrites() {
+        given(postRepository.countLive()).willReturn(10L, 7L);
+        postTotalsService.resync();
+        postTotalsService.postsCreated(5);
+        assertThat(postTotalsService.livePostCount()).isEqualTo(15L);
+
+        postTotalsService.resync();
+
+        assertThat(postTotalsService.livePostCount()).isEqualTo(7L);
+    }
+}
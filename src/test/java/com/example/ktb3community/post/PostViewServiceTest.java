@@ -1,13 +1,20 @@
 package com.example.ktb3community.post;
 
 import com.example.ktb3community.comment.dto.CommentResponse;
+import com.example.ktb3community.comment.dto.CommentVersion;
 import com.example.ktb3community.comment.service.CommentService;
 import com.example.ktb3community.common.pagination.PageResponse;
 import com.example.ktb3community.post.domain.Post;
 import com.example.ktb3community.post.dto.PostDetailResponse;
+import com.example.ktb3community.post.dto.PostDetailResult;
 import com.example.ktb3community.post.dto.PostListResponse;
+import com.example.ktb3community.post.dto.PostListVersion;
+import com.example.ktb3community.post.dto.PostVersion;
+import com.example.ktb3community.post.exception.PostNotFoundException;
 import com.example.ktb3community.post.repository.PostLikeRepository;
 import com.example.ktb3community.post.repository.PostRepository;
+import com.example.ktb3community.post.service.PostEventHub;
+import com.example.ktb3community.post.service.PostTotalsService;
 import com.example.ktb3community.post.service.PostViewService;
 import com.example.ktb3community.user.domain.User;
 import com.example.ktb3community.user.exception.UserNotFoundException;
@@ -18,13 +25,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static com.example.ktb3community.TestEntityFactory.post;
@@ -34,7 +44,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 @ExtendWith(MockitoExtension.class)
 class PostViewServiceTest {
 
@@ -42,12 +54,14 @@ class PostViewServiceTest {
     @Mock UserRepository userRepository;
     @Mock PostLikeRepository postLikeRepository;
     @Mock CommentService commentService;
+    @Mock PostEventHub postEventHub;
+    @Mock PostTotalsService postTotalsService;
 
     @InjectMocks
     PostViewService postViewService;
 
     @Test
-    @DisplayName("getPostList: 게시글 목록과 작성자 정보를 정상적으로 매핑하여 반환한다")
+    @DisplayName("getPostList: 게시글 목록과 작성자 정보를 매핑하고 페이지 수는 근사 게시글 수로 계산한다")
     void getPostList_success() {
         User user1 = user().id(1L).nickname("user1").profileImageUrl("img").build();
         User user2 = user().id(2L).nickname("user2").profileImageUrl("img").build();
@@ -56,17 +70,19 @@ class PostViewServiceTest {
         Post post2 = post(user2).id(11L).title("Title2").content("Content").build();
 
         List<Post> posts = List.of(post1, post2);
-        Page<Post> postPage = new PageImpl<>(posts, PageRequest.of(0, 10), posts.size());
+        Slice<Post> postPage = new SliceImpl<>(posts, PageRequest.of(0, 10), true);
 
         PostSort sort = mock(PostSort.class);
         given(sort.sort()).willReturn(Sort.unsorted());
 
         given(postRepository.findAll(any(PageRequest.class))).willReturn(postPage);
         given(userRepository.findAllByIdIn(Set.of(1L, 2L))).willReturn(List.of(user1, user2));
+        given(postTotalsService.livePostCount()).willReturn(25L);
 
         PageResponse<PostListResponse> response = postViewService.getPostList(1, 10, sort);
 
         assertThat(response.content()).hasSize(2);
+        assertThat(response.totalPages()).isEqualTo(3);
 
         PostListResponse res1 = response.content().getFirst();
         assertThat(res1.title()).isEqualTo("Title1");
@@ -84,7 +100,7 @@ class PostViewServiceTest {
         User user1 = user().id(1L).nickname("user1").profileImageUrl("img").build();
         Post post1 = post(user1).id(10L).title("Title1").content("Content").build();
 
-        Page<Post> postPage = new PageImpl<>(List.of(post1));
+        Slice<Post> postPage = new SliceImpl<>(List.of(post1));
         PostSort sort = mock(PostSort.class);
         given(sort.sort()).willReturn(Sort.unsorted());
 
@@ -96,7 +112,7 @@ class PostViewServiceTest {
     }
 
     @Test
-    @DisplayName("getPostDetail: 상세 조회 시 조회수가 1 증가하고 상세 정보를 반환한다")
+    @DisplayName("getPostDetail: 조회수를 1 올리고, 반영된 수정 시각으로 만든 ETag와 상세 정보를 반환한다")
     void getPostDetail_success() {
         Long postId = 10L;
         Long viewerId = 99L;
@@ -115,14 +131,86 @@ class PostViewServiceTest {
         PageResponse<CommentResponse> emptyComments = new PageResponse<>(Collections.emptyList(), 1, 10, 0);
         given(commentService.getCommentList(postId, 1)).willReturn(emptyComments);
 
-        PostDetailResponse response = postViewService.getPostDetail(postId, viewerId);
+        Instant viewedAt = Instant.parse("2025-01-01T00:00:01.123456789Z");
+        willAnswer(invocation -> {
+            ReflectionTestUtils.setField(post, "updatedAt", viewedAt);
+            return null;
+        }).given(postRepository).flush();
+        Instant commentsAt = Instant.parse("2025-01-01T00:00:00Z");
+        PostVersion checked = new PostVersion(Instant.EPOCH, author.getUpdatedAt(), 0, commentsAt, commentsAt);
+
+        PostDetailResult result = postViewService.getPostDetail(postId, viewerId, checked);
+        PostDetailResponse response = result.response();
 
         assertThat(post.getViewCount()).isEqualTo(1);
+        // 같은 상태를 DB에서(마이크로초로) 다시 읽어 만든 ETag와 같아야 다음 요청이 304가 된다
+        assertThat(result.etag()).isEqualTo(postViewService.getPostDetailEtag(postId, viewerId, new PostVersion(
+                Instant.parse("2025-01-01T00:00:01.123457Z"), author.getUpdatedAt(), 0, commentsAt, commentsAt)));
 
         assertThat(response.postId()).isEqualTo(postId);
         assertThat(response.title()).isEqualTo("Detail Title");
         assertThat(response.author().nickname()).isEqualTo("author");
         assertThat(response.liked()).isTrue();
         assertThat(response.comments()).isSameAs(emptyComments);
+        verify(postEventHub).viewed(postId);
+    }
+
+    @Test
+    @DisplayName("getPostListEtag: 워터마크가 바뀌면 ETag도 바뀐다")
+    void getPostListEtag_changesWithWatermark() {
+        Instant updatedAt = Instant.parse("2025-01-01T00:00:00Z");
+        given(postRepository.findListVersion())
+                .willReturn(new PostListVersion(updatedAt, updatedAt, updatedAt))
+                .willReturn(new PostListVersion(updatedAt, updatedAt, updatedAt))
+                .willReturn(new PostListVersion(updatedAt, updatedAt.plusMillis(1), updatedAt));
+
+        String first = postViewService.getPostListEtag(1, 10, PostSort.NEW);
+        String same = postViewService.getPostListEtag(1, 10, PostSort.NEW);
+        String changed = postViewService.getPostListEtag(1, 10, PostSort.NEW);
+
+        assertThat(first).startsWith("W/\"").isEqualTo(same);
+        assertThat(changed).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("getPostDetailEtag: 같은 버전이라도 조회자가 다르면 ETag가 다르다")
+    void getPostDetailEtag_dependsOnViewer() {
+        Instant updatedAt = Instant.parse("2025-01-01T00:00:00Z");
+        PostVersion version = new PostVersion(updatedAt, updatedAt, 0);
+
+        assertThat(postViewService.getPostDetailEtag(10L, 1L, version))
+                .isEqualTo(postViewService.getPostDetailEtag(10L, 1L, version))
+                .isNotEqualTo(postViewService.getPostDetailEtag(10L, 2L, version));
+    }
+
+    @Test
+    @DisplayName("getPostDetailEtag: 댓글 수가 바뀌면 ETag도 바뀐다")
+    void getPostDetailEtag_changesWithCommentCount() {
+        Instant updatedAt = Instant.parse("2025-01-01T00:00:00Z");
+
+        assertThat(postViewService.getPostDetailEtag(10L, 1L, new PostVersion(updatedAt, updatedAt, 3)))
+                .isNotEqualTo(postViewService.getPostDetailEtag(10L, 1L, new PostVersion(updatedAt, updatedAt, 2)));
+    }
+
+    @Test
+    @DisplayName("getPostDetailVersion: 게시글 버전에 상세에 내려줄 첫 댓글 페이지의 수정 시각을 합친다")
+    void getPostDetailVersion_combinesFirstCommentPage() {
+        Instant postAt = Instant.parse("2025-01-01T00:00:00Z");
+        Instant commentAt = Instant.parse("2025-01-02T00:00:00Z");
+        Instant commentAuthorAt = Instant.parse("2025-01-03T00:00:00Z");
+        given(postRepository.findVersionById(10L)).willReturn(Optional.of(new PostVersion(postAt, postAt, 4)));
+        given(commentService.getCommentPageVersion(10L, 1)).willReturn(new CommentVersion(commentAt, commentAuthorAt));
+
+        assertThat(postViewService.getPostDetailVersion(10L))
+                .isEqualTo(new PostVersion(postAt, postAt, 4, commentAt, commentAuthorAt));
+    }
+
+    @Test
+    @DisplayName("getPostDetailVersion: 삭제되었거나 없는 게시글이면 PostNotFoundException 발생")
+    void getPostDetailVersion_notFound_throws() {
+        given(postRepository.findVersionById(10L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> postViewService.getPostDetailVersion(10L))
+                .isInstanceOf(PostNotFoundException.class);
     }
 }
@@ -1,10 +1,12 @@
 package com.example.ktb3community.post.like;
 
+import com.example.ktb3community.notification.service.NotificationCollector;
 import com.example.ktb3community.post.domain.Post;
 import com.example.ktb3community.post.dto.LikeResponse;
 import com.example.ktb3community.post.repository.PostLikeRepository;
 import com.example.ktb3community.post.repository.PostRepository;
 import com.example.ktb3community.post.service.LikeService;
+import com.example.ktb3community.post.service.PostEventHub;
 import com.example.ktb3community.user.domain.User;
 import com.example.ktb3community.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -19,7 +21,10 @@ import static com.example.ktb3community.TestFixtures.USER_ID;
 import static com.example.ktb3community.TestEntityFactory.post;
 import static com.example.ktb3community.TestEntityFactory.user;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +33,8 @@ class LikeServiceTest {
     @Mock UserRepository userRepository;
     @Mock PostRepository postRepository;
     @Mock PostLikeRepository postLikeRepository;
+    @Mock PostEventHub postEventHub;
+    @Mock NotificationCollector notificationCollector;
 
     @InjectMocks
     LikeService likeService;
@@ -49,6 +56,8 @@ class LikeServiceTest {
         assertThat(response.likeCount()).isEqualTo(initialCount + 1);
 
         verify(postLikeRepository).add(post, user);
+        verify(postEventHub).likeChanged(POST_ID, 1);
+        verify(notificationCollector).liked(post.getUserId(), POST_ID, USER_ID);
     }
 
     @Test
@@ -66,6 +75,8 @@ class LikeServiceTest {
 
         assertThat(post.getLikeCount()).isEqualTo(initialCount);
         assertThat(response.likeCount()).isEqualTo(initialCount);
+        verify(postEventHub, never()).likeChanged(any(), anyInt());
+        verify(notificationCollector, never()).liked(any(), any(), any());
     }
 
     @Test
@@ -85,6 +96,7 @@ class LikeServiceTest {
         assertThat(response.likeCount()).isEqualTo(initialCount - 1);
 
         verify(postLikeRepository).remove(post, user);
+        verify(postEventHub).likeChanged(POST_ID, -1);
     }
 
     @Test
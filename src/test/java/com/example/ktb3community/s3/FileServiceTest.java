@@ -2,70 +2,80 @@ package com.example.ktb3community.s3;
 
 import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.s3.domain.ImageVariant;
 import com.example.ktb3community.s3.dto.PresignUploadResponse;
 import com.example.ktb3community.s3.service.FileService;
+import com.example.ktb3community.s3.storage.ObjectStorage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.S3Exception;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
-import java.net.MalformedURLException;
-import java.net.URL;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class FileServiceTest {
 
-    @Mock S3Presigner s3Presigner;
-    @Mock S3Client s3Client;
+    @Mock ObjectStorage objectStorage;
 
     @InjectMocks
     FileService fileService;
 
-    private static final String BUCKET_NAME = "test-bucket";
-
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(fileService, "bucketName", BUCKET_NAME);
         ReflectionTestUtils.setField(fileService, "uploadExpMinutes", 10L);
+        // 목은 인터페이스의 default 메서드를 실행하지 않는다
+        lenient().when(objectStorage.urlPathPrefix()).thenReturn("/");
     }
 
 
     @Test
     @DisplayName("presignUpload: 유효한 파일명과 타입이면 Presigned URL을 발급한다")
-    void presignUpload_success() throws MalformedURLException {
+    void presignUpload_success() {
         String fileName = "test.jpg";
         String contentType = "image/jpeg";
-        URL mockUrl = new URL("https://s3.aws.com/test-bucket/images/uuid_test.jpg");
+        String uploadUrl = "https://s3.aws.com/test-bucket/images/uuid_test.jpg";
 
-        PresignedPutObjectRequest presignedResponse = mock(PresignedPutObjectRequest.class);
-        given(presignedResponse.url()).willReturn(mockUrl);
-        given(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).willReturn(presignedResponse);
+        given(objectStorage.presignUpload(anyString(), eq(contentType), eq(Duration.ofMinutes(10))))
+                .willAnswer(invocation -> new PresignUploadResponse(uploadUrl, invocation.getArgument(0),
+                        Map.of("Content-Type", List.of(contentType))));
 
         PresignUploadResponse response = fileService.presignUpload(fileName, contentType);
 
-        assertThat(response.uploadUrl()).isEqualTo(mockUrl.toString());
+        assertThat(response.uploadUrl()).isEqualTo(uploadUrl);
         assertThat(response.key()).startsWith("images/");
         assertThat(response.key()).endsWith("_" + fileName);
     }
 
+    @Test
+    @DisplayName("presignUpload: 키의 확장자는 파일명이 아니라 허용된 Content-Type에서 정한다")
+    void presignUpload_extensionFromContentType() {
+        given(objectStorage.presignUpload(anyString(), eq("image/png"), eq(Duration.ofMinutes(10))))
+                .willAnswer(invocation -> new PresignUploadResponse("https://upload", invocation.getArgument(0),
+                        Map.of("Content-Type", List.of("image/png"))));
+
+        PresignUploadResponse response = fileService.presignUpload("x.html", "image/png");
+
+        assertThat(response.key()).startsWith("images/").endsWith("_x.png");
+    }
+
     @Test
     @DisplayName("presignUpload: 지원하지 않는 Content-Type이면 예외 발생")
     void presignUpload_invalidType_throws() {
@@ -93,33 +103,30 @@ class FileServiceTest {
         String newUrl = "https://bucket.s3.com/images/new.jpg";
 
         fileService.deleteImageIfChanged(oldUrl, newUrl);
-        verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
+        verify(objectStorage).delete("images/old.jpg");
     }
 
     @Test
     @DisplayName("deleteImageIfChanged: 기존 이미지가 없거나(null/blank) 변경되지 않았으면 삭제하지 않는다")
     void deleteImageIfChanged_skip() {
         fileService.deleteImageIfChanged(null, "new.jpg");
-        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+        verify(objectStorage, never()).delete(anyString());
 
         fileService.deleteImageIfChanged("same.jpg", "same.jpg");
-        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+        verify(objectStorage, never()).delete(anyString());
     }
 
     @Test
-    @DisplayName("deleteImage: 전체 URL에서 Key를 추출하여 S3 삭제를 요청한다")
+    @DisplayName("deleteImage: 전체 URL에서 Key를 추출하여 원본과 축소본 삭제를 요청한다")
     void deleteImage_fullUrl_success() {
         String expectedKey = "images/test-uuid_image.jpg";
         String fullUrl = "https://" + BUCKET_NAME + ".s3.ap-northeast-2.amazonaws.com/" + expectedKey;
 
         fileService.deleteImage(fullUrl);
 
-        ArgumentCaptor<DeleteObjectRequest> captor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
-        verify(s3Client).deleteObject(captor.capture());
-
-        DeleteObjectRequest request = captor.getValue();
-        assertThat(request.bucket()).isEqualTo(BUCKET_NAME);
-        assertThat(request.key()).isEqualTo(expectedKey);
+        verify(objectStorage).delete(expectedKey);
+        verify(objectStorage).delete("images/variants/avatar/test-uuid_image.jpg");
+        verify(objectStorage).delete("images/variants/card/test-uuid_image.jpg");
     }
 
     @Test
@@ -129,9 +136,7 @@ class FileServiceTest {
 
         fileService.deleteImage(relativePath);
 
-        ArgumentCaptor<DeleteObjectRequest> captor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
-        verify(s3Client).deleteObject(captor.capture());
-        assertThat(captor.getValue().key()).isEqualTo("images/test.jpg");
+        verify(objectStorage).delete("images/test.jpg");
     }
 
     @Test
@@ -161,12 +166,11 @@ class FileServiceTest {
     }
 
     @Test
-    @DisplayName("deleteImage: S3 클라이언트 에러 발생 시 BusinessException으로 래핑한다")
-    void deleteImage_s3Exception_throws() {
+    @DisplayName("deleteImage: 저장소 삭제가 실패하면 예외를 그대로 던진다")
+    void deleteImage_storageFailed_throws() {
         String url = "https://bucket.com/images/valid.jpg";
 
-        doThrow(S3Exception.builder().message("AWS Error").build())
-                .when(s3Client).deleteObject(any(DeleteObjectRequest.class));
+        doThrow(new BusinessException(ErrorCode.S3_DELETE_FAILED)).when(objectStorage).delete("images/valid.jpg");
 
         Throwable thrown = catchThrowable(() ->  fileService.deleteImage(url));
 
@@ -175,4 +179,51 @@ class FileServiceTest {
                 .extracting(ex -> ((BusinessException) ex).getErrorCode())
                 .isEqualTo(ErrorCode.S3_DELETE_FAILED);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("readImage: 우리 이미지가 아니거나, 없거나, 최대 크기를 넘으면 비어 있다")
+    void readImage_skipsUnreadable() {
+        given(objectStorage.open("images/missing.png")).willReturn(Optional.empty());
+        given(objectStorage.open("images/large.png")).willReturn(Optional.of(stream(new byte[11])));
+        given(objectStorage.open("images/ok.png")).willReturn(Optional.of(stream(new byte[10])));
+
+        assertThat(fileService.readImage("https://cdn.other.com/avatar.png", 10)).isEmpty();
+        assertThat(fileService.readImage("https://bucket.com/images/missing.png", 10)).isEmpty();
+        assertThat(fileService.readImage("https://bucket.com/images/large.png", 10)).isEmpty();
+        assertThat(fileService.readImage("https://bucket.com/images/ok.png", 10)).hasValueSatisfying(
+                content -> assertThat(content).hasSize(10));
+    }
+
+    @Test
+    @DisplayName("storeVariant: 축소본을 원본에서 정해지는 키에 저장하고 인코딩된 경로를 유지한 URL을 돌려준다")
+    void storeVariant_returnsVariantUrl() {
+        byte[] content = {1, 2, 3};
+
+        String url = fileService.storeVariant(
+                "https://bucket.com/images/uuid_%ED%94%84%EB%A1%9C%ED%95%84.png", ImageVariant.AVATAR, content);
+
+        verify(objectStorage).put("images/variants/avatar/uuid_프로필.jpg", content, "image/jpeg");
+        assertThat(url).isEqualTo("https://bucket.com/images/variants/avatar/uuid_%ED%94%84%EB%A1%9C%ED%95%84.jpg");
+        assertThat(fileService.storeVariant("/images/post.webp", ImageVariant.CARD, content))
+                .isEqualTo("/images/variants/card/post.jpg");
+    }
+
+    @Test
+    @DisplayName("storeVariant/deleteImage: 로컬 저장소 URL은 저장소 경로 접두사를 떼고 키를 찾는다")
+    void localStoragePrefix_extractsKey() {
+        given(objectStorage.urlPathPrefix()).willReturn("/api/files/");
+        byte[] content = {1};
+
+        String url = fileService.storeVariant("http://localhost:8080/api/files/images/uuid_a.png",
+                ImageVariant.CARD, content);
+        fileService.deleteImage("http://localhost:8080/api/files/images/uuid_a.png");
+
+        verify(objectStorage).put("images/variants/card/uuid_a.jpg", content, "image/jpeg");
+        assertThat(url).isEqualTo("http://localhost:8080/api/files/images/variants/card/uuid_a.jpg");
+        verify(objectStorage).delete("images/uuid_a.png");
+    }
+
+    private static InputStream stream(byte[] content) {
+        return new ByteArrayInputStream(content);
+    }
+}
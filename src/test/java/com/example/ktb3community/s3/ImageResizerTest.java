@@ -0,0 +1,75 @@
+package com.example.ktb3community.s3;
+
+import com.example.ktb3community.s3.domain.ImageVariant;
+import com.example.ktb3community.s3.service.ImageResizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageResizerTest {
+
+    ImageResizer imageResizer = new ImageResizer(40_000_000L, 0.8f);
+
+    @Test
+    @DisplayName("resize: AVATAR는 가운데를 잘라 정사각형 JPEG로 만든다")
+    void resize_avatar_cropsToSquare() throws IOException {
+        byte[] resized = imageResizer.resize(png(1200, 800), ImageVariant.AVATAR).orElseThrow();
+
+        BufferedImage image = read(resized);
+        assertThat(image.getWidth()).isEqualTo(96);
+        assertThat(image.getHeight()).isEqualTo(96);
+        // JPEG 시그니처
+        assertThat(resized[0]).isEqualTo((byte) 0xFF);
+        assertThat(resized[1]).isEqualTo((byte) 0xD8);
+    }
+
+    @Test
+    @DisplayName("resize: CARD는 비율을 유지해 긴 변을 맞추고, 작은 원본은 키우지 않는다")
+    void resize_card_fitsWithoutUpscaling() throws IOException {
+        BufferedImage large = read(imageResizer.resize(png(1920, 1080), ImageVariant.CARD).orElseThrow());
+        BufferedImage small = read(imageResizer.resize(png(200, 100), ImageVariant.CARD).orElseThrow());
+
+        assertThat(large.getWidth()).isEqualTo(480);
+        assertThat(large.getHeight()).isEqualTo(270);
+        assertThat(small.getWidth()).isEqualTo(200);
+        assertThat(small.getHeight()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("resize: 이미지가 아니거나 픽셀 수 제한을 넘으면 비어 있다")
+    void resize_unsupported_empty() throws IOException {
+        ImageResizer limited = new ImageResizer(1_000L, 0.8f);
+
+        assertThat(imageResizer.resize("not an image".getBytes(), ImageVariant.CARD)).isEmpty();
+        assertThat(limited.resize(png(100, 100), ImageVariant.CARD)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("resize: 헤더만 있고 손상된 파일이면 IOException")
+    void resize_corrupted_throws() throws IOException {
+        byte[] png = png(100, 100);
+        byte[] truncated = Arrays.copyOf(png, 40);
+
+        assertThatThrownBy(() -> imageResizer.resize(truncated, ImageVariant.CARD))
+                .isInstanceOf(IOException.class);
+    }
+
+    static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage read(byte[] content) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(content));
+    }
+}
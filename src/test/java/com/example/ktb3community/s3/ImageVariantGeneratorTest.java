@@ -0,0 +1,129 @@
+package com.example.ktb3community.s3;
+
+import com.example.ktb3community.outbox.domain.DomainEventType;
+import com.example.ktb3community.outbox.dto.DomainEvent;
+import com.example.ktb3community.outbox.dto.ImageReplacedPayload;
+import com.example.ktb3community.post.domain.Post;
+import com.example.ktb3community.post.repository.PostRepository;
+import com.example.ktb3community.s3.service.FileService;
+import com.example.ktb3community.s3.service.ImageResizer;
+import com.example.ktb3community.s3.service.ImageVariantGenerator;
+import com.example.ktb3community.s3.storage.LocalObjectStorage;
+import com.example.ktb3community.user.domain.User;
+import com.example.ktb3community.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.ktb3community.TestEntityFactory.post;
+import static com.example.ktb3community.TestEntityFactory.user;
+import static com.example.ktb3community.TestFixtures.POST_ID;
+import static com.example.ktb3community.TestFixtures.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantGeneratorTest {
+
+    private static final String BASE_URL = "http://localhost:8080/api/files/";
+
+    @TempDir Path root;
+    @Mock PostRepository postRepository;
+    @Mock UserRepository userRepository;
+    @Mock PlatformTransactionManager transactionManager;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    LocalObjectStorage storage;
+    ImageVariantGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalObjectStorage(root.toString(), "http://localhost:8080/api/files", 1024 * 1024, "secret");
+        generator = new ImageVariantGenerator(new FileService(storage), new ImageResizer(40_000_000L, 0.8f),
+                postRepository, userRepository, transactionManager, new ObjectMapper(), meterRegistry, 1024 * 1024);
+    }
+
+    @Test
+    @DisplayName("handle: 게시글 이미지의 카드 축소본을 저장하고 게시글에 URL을 남긴다")
+    void handle_post_storesCardAndAttaches() throws Exception {
+        String imageUrl = BASE_URL + "images/uuid_post.png";
+        storage.put("images/uuid_post.png", ImageResizerTest.png(1920, 1080), "image/png");
+        Post post = post().id(POST_ID).postImageUrl(imageUrl).build();
+        given(postRepository.findById(POST_ID)).willReturn(Optional.of(post));
+
+        generator.handle(List.of(event(DomainEventType.POST_IMAGE_REPLACED, POST_ID, null, imageUrl)));
+
+        verify(transactionManager).commit(any());
+        assertThat(post.getPostThumbnailUrl()).isEqualTo(BASE_URL + "images/variants/card/uuid_post.jpg");
+        assertThat(Files.exists(storage.resolve("images/variants/card/uuid_post.jpg"))).isTrue();
+        assertThat(meterRegistry.get("image.variants").tag("result", "generated").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("handle: 같은 사용자의 이벤트가 묶여 오면 마지막 프로필 이미지의 아바타만 만든다")
+    void handle_profile_usesLastEvent() throws Exception {
+        String first = BASE_URL + "images/uuid_first.png";
+        String last = BASE_URL + "images/uuid_last.png";
+        storage.put("images/uuid_last.png", ImageResizerTest.png(400, 300), "image/png");
+        User user = user().id(USER_ID).profileImageUrl(last).build();
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user));
+
+        generator.handle(List.of(
+                event(DomainEventType.PROFILE_IMAGE_REPLACED, USER_ID, null, first),
+                event(DomainEventType.PROFILE_IMAGE_REPLACED, USER_ID, first, last)));
+
+        verify(transactionManager).commit(any());
+        assertThat(user.getProfileThumbnailUrl()).isEqualTo(BASE_URL + "images/variants/avatar/uuid_last.jpg");
+        assertThat(Files.exists(storage.resolve("images/variants/avatar/uuid_first.jpg"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("handle: 외부 URL이나 지워진 원본은 건너뛰고, 이미지를 뺀 이벤트는 작업을 만들지 않는다")
+    void handle_unavailableSource_skips() throws Exception {
+        generator.handle(List.of(event(DomainEventType.PROFILE_IMAGE_REPLACED, USER_ID, null, "https://cdn.other/a.png")));
+        generator.handle(List.of(event(DomainEventType.POST_IMAGE_REPLACED, POST_ID, null, BASE_URL + "images/gone.png")));
+        generator.handle(List.of(event(DomainEventType.POST_IMAGE_REPLACED, POST_ID, BASE_URL + "images/a.png", null)));
+
+        assertThat(meterRegistry.get("image.variants").tag("result", "skipped").counter().count()).isEqualTo(2);
+        verify(postRepository, never()).findById(any());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("handle: 축소본을 붙이다 실패하면 예외를 그대로 던져 outbox가 재시도하게 한다")
+    void handle_attachFailed_throws() throws Exception {
+        String imageUrl = BASE_URL + "images/uuid_avatar.png";
+        storage.put("images/uuid_avatar.png", ImageResizerTest.png(200, 200), "image/png");
+        given(userRepository.findById(USER_ID)).willThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> generator.handle(
+                List.of(event(DomainEventType.PROFILE_IMAGE_REPLACED, USER_ID, null, imageUrl))))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get("image.variants").tag("result", "failed").counter().count()).isEqualTo(1);
+        verify(transactionManager, never()).commit(any());
+    }
+
+    private DomainEvent event(DomainEventType type, Long aggregateId, String previousImageUrl, String imageUrl)
+            throws Exception {
+        String payload = new ObjectMapper().writeValueAsString(new ImageReplacedPayload(previousImageUrl, imageUrl));
+        return new DomainEvent(1L, type, aggregateId, payload, Instant.now());
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.ktb3community.s3;
+
+import com.example.ktb3community.exception.GlobalExceptionHandler;
+import com.example.ktb3community.s3.controller.LocalFileController;
+import com.example.ktb3community.s3.service.LocalFileServer;
+import com.example.ktb3community.s3.storage.LocalObjectStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class LocalFileControllerTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes();
+
+    @TempDir Path root;
+
+    LocalObjectStorage storage;
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalObjectStorage(root.toString(), "http://localhost:8080/api/files", 128 * 1024, "secret");
+        mockMvc = MockMvcBuilders.standaloneSetup(new LocalFileController(new LocalFileServer(storage)))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("[200] 서명된 URL로 올린 본문을 저장하고, 같은 경로에서 장기 캐시 헤더와 함께 내려준다")
+    void upload_thenServe() throws Exception {
+        URI uploadUrl = URI.create(storage.presignUpload("images/uuid_a.png", "image/png", Duration.ofMinutes(10))
+                .uploadUrl());
+
+        mockMvc.perform(put(uploadUrl).contextPath("/api").contentType("image/png").content(CONTENT))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/files/images/uuid_a.png"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                .andExpect(header().string("Content-Security-Policy", "sandbox"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @DisplayName("[200] 허용된 이미지 확장자가 아니면 렌더링되지 않게 첨부로 내려준다")
+    void serve_nonImage_asAttachment() throws Exception {
+        storage.put("images/x.html", "<script>alert(1)</script>".getBytes(), "image/png");
+
+        mockMvc.perform(get("/files/images/x.html"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/octet-stream"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment"))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                .andExpect(header().string("Content-Security-Policy", "sandbox"));
+    }
+
+    @Test
+    @DisplayName("[403/400] 서명이 틀리거나 서명과 다른 Content-Type이면 저장하지 않는다")
+    void upload_invalid_rejected() throws Exception {
+        URI uploadUrl = URI.create(storage.presignUpload("images/uuid_a.png", "image/png", Duration.ofMinutes(10))
+                .uploadUrl());
+
+        mockMvc.perform(put(URI.create("/files/images/uuid_b.png?" + uploadUrl.getRawQuery()))
+                        .contentType("image/png").content(CONTENT))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("UPLOAD_URL_INVALID"));
+        mockMvc.perform(put(uploadUrl).contextPath("/api").contentType("image/jpeg").content(CONTENT))
+                .andExpect(status().isBadRequest());
+
+        assertThat(Files.exists(storage.resolve("images/uuid_a.png"))).isFalse();
+        assertThat(Files.exists(storage.resolve("images/uuid_b.png"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("[206/416] 단일 Range는 부분 응답, 범위를 벗어나면 416, If-Range가 다르면 전체를 보낸다")
+    void serve_range() throws Exception {
+        storage.put("images/a.png", CONTENT, "image/png");
+
+        mockMvc.perform(get("/files/images/a.png").header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().bytes("2345".getBytes()));
+        mockMvc.perform(get("/files/images/a.png").header(HttpHeaders.RANGE, "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes("789".getBytes()));
+        mockMvc.perform(get("/files/images/a.png").header(HttpHeaders.RANGE, "bytes=20-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+        mockMvc.perform(get("/files/images/a.png").header(HttpHeaders.RANGE, "bytes=2-5")
+                        .header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @DisplayName("[304/404] ETag가 같으면 본문 없이 304, 없는 파일이나 images/ 밖은 보내지 않는다")
+    void serve_conditionalAndMissing() throws Exception {
+        storage.put("images/a.png", CONTENT, "image/png");
+        MvcResult first = mockMvc.perform(get("/files/images/a.png")).andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/files/images/a.png").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+        mockMvc.perform(get("/files/images/missing.png"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("FILE_NOT_FOUND"));
+        mockMvc.perform(get("/files/.tmp/upload.tmp"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("[200] 커넥터가 sendfile을 지원하면 본문을 쓰지 않고 파일 경로와 범위를 넘긴다")
+    void serve_sendfile() throws Exception {
+        byte[] large = new byte[64 * 1024];
+        storage.put("images/large.png", large, "image/png");
+
+        mockMvc.perform(get("/files/images/large.png").requestAttr("org.apache.tomcat.sendfile.support", true))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, large.length))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.filename",
+                        storage.resolve("images/large.png").toString()))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.start", 0L))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.end", (long) large.length))
+                .andExpect(content().bytes(new byte[0]));
+    }
+}
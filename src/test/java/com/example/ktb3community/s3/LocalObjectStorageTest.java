@@ -0,0 +1,115 @@
+package com.example.ktb3community.s3;
+
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.s3.dto.PresignUploadResponse;
+import com.example.ktb3community.s3.storage.LocalObjectStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
+
+class LocalObjectStorageTest {
+
+    @TempDir Path root;
+
+    LocalObjectStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalObjectStorage(root.toString(), "http://localhost:8080/api/files/", 16, "secret");
+    }
+
+    @Test
+    @DisplayName("presignUpload: 공개 경로 아래 키로 서명된 업로드 URL을 만들고, 그 값으로 검증을 통과한다")
+    void presignUpload_verifies() {
+        PresignUploadResponse response =
+                storage.presignUpload("images/uuid_프로필.png", "image/png", Duration.ofMinutes(10));
+
+        UriComponents uri = UriComponentsBuilder.fromUriString(response.uploadUrl()).build();
+        MultiValueMap<String, String> query = uri.getQueryParams();
+        assertThat(uri.getPath()).isEqualTo("/api/files/images/uuid_%ED%94%84%EB%A1%9C%ED%95%84.png");
+        assertThat(response.headers()).containsEntry("Content-Type", List.of("image/png"));
+        assertThat(storage.urlPathPrefix()).isEqualTo("/api/files/");
+
+        storage.verifyUpload("images/uuid_프로필.png", "image/png",
+                Long.parseLong(query.getFirst("expires")), query.getFirst("signature"));
+    }
+
+    @Test
+    @DisplayName("verifyUpload: 다른 키/타입이거나 만료된 서명이면 UPLOAD_URL_INVALID")
+    void verifyUpload_invalid_throws() {
+        UriComponents valid = UriComponentsBuilder.fromUriString(
+                storage.presignUpload("images/a.png", "image/png", Duration.ofMinutes(10)).uploadUrl()).build();
+        UriComponents expired = UriComponentsBuilder.fromUriString(
+                storage.presignUpload("images/a.png", "image/png", Duration.ofMinutes(-1)).uploadUrl()).build();
+        long expires = Long.parseLong(valid.getQueryParams().getFirst("expires"));
+        String signature = valid.getQueryParams().getFirst("signature");
+
+        assertErrorCode(() -> storage.verifyUpload("images/b.png", "image/png", expires, signature),
+                ErrorCode.UPLOAD_URL_INVALID);
+        assertErrorCode(() -> storage.verifyUpload("images/a.png", "image/jpeg", expires, signature),
+                ErrorCode.UPLOAD_URL_INVALID);
+        assertErrorCode(() -> storage.verifyUpload("images/a.png", "image/png",
+                        Long.parseLong(expired.getQueryParams().getFirst("expires")),
+                        expired.getQueryParams().getFirst("signature")),
+                ErrorCode.UPLOAD_URL_INVALID);
+    }
+
+    @Test
+    @DisplayName("put/open/delete: 키 경로에 저장하고 읽고 지우며, 없는 키는 비어 있다")
+    void put_open_delete() throws Exception {
+        storage.put("images/variants/card/a.jpg", new byte[]{1, 2, 3}, "image/jpeg");
+
+        try (InputStream in = storage.open("images/variants/card/a.jpg").orElseThrow()) {
+            assertThat(in.readAllBytes()).containsExactly(1, 2, 3);
+        }
+        storage.delete("images/variants/card/a.jpg");
+        storage.delete("images/variants/card/a.jpg");
+        assertThat(storage.open("images/variants/card/a.jpg")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("write: 최대 크기를 넘으면 FILE_TOO_LARGE이고 기존 파일과 임시 파일을 남기지 않는다")
+    void write_tooLarge_keepsExisting() throws Exception {
+        storage.put("images/a.png", new byte[]{7}, "image/png");
+
+        assertErrorCode(() -> storage.write("images/a.png", new ByteArrayInputStream(new byte[17]), 16),
+                ErrorCode.FILE_TOO_LARGE);
+
+        assertThat(Files.readAllBytes(storage.resolve("images/a.png"))).containsExactly(7);
+        try (var temps = Files.list(root.resolve(".tmp"))) {
+            assertThat(temps).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("resolve: images/ 밖을 가리키는 키는 INVALID_S3_KEY")
+    void resolve_outsideImages_throws() {
+        assertErrorCode(() -> storage.resolve("images/../secret.txt"), ErrorCode.INVALID_S3_KEY);
+        assertErrorCode(() -> storage.resolve("images/../../etc/passwd"), ErrorCode.INVALID_S3_KEY);
+        assertErrorCode(() -> storage.resolve(".tmp/upload.tmp"), ErrorCode.INVALID_S3_KEY);
+        assertErrorCode(() -> storage.resolve("images/"), ErrorCode.INVALID_S3_KEY);
+        assertThat(storage.resolve("images/a/../b.png")).isEqualTo(root.toAbsolutePath().resolve("images/b.png"));
+    }
+
+    private static void assertErrorCode(Runnable action, ErrorCode errorCode) {
+        assertThat(catchThrowable(action::run))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(errorCode);
+    }
+}
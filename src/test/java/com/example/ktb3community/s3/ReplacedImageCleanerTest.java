@@ -0,0 +1,65 @@
+package com.example.ktb3community.s3;
+
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.outbox.domain.DomainEventType;
+import com.example.ktb3community.outbox.dto.DomainEvent;
+import com.example.ktb3community.s3.service.FileService;
+import com.example.ktb3community.s3.service.ReplacedImageCleaner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.example.ktb3community.TestFixtures.POST_ID;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReplacedImageCleanerTest {
+
+    @Mock FileService fileService;
+
+    ReplacedImageCleaner replacedImageCleaner;
+
+    @BeforeEach
+    void setUp() {
+        replacedImageCleaner = new ReplacedImageCleaner(fileService, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("handle: 이벤트마다 이전 이미지를 지우고, 키를 알 수 없는 이미지는 건너뛴다")
+    void handle_deletesPreviousImages() {
+        willThrow(new BusinessException(ErrorCode.INVALID_S3_KEY))
+                .given(fileService).deleteImageIfChanged("not-s3", "new-1");
+
+        replacedImageCleaner.handle(List.of(event(1L, "not-s3", "new-1"), event(2L, "old-2", "new-2")));
+
+        verify(fileService).deleteImageIfChanged("not-s3", "new-1");
+        verify(fileService).deleteImageIfChanged("old-2", "new-2");
+    }
+
+    @Test
+    @DisplayName("handle: S3 삭제가 실패하면 예외를 그대로 던져 재시도되게 한다")
+    void handle_deleteFailed_rethrows() {
+        willThrow(new BusinessException(ErrorCode.S3_DELETE_FAILED))
+                .given(fileService).deleteImageIfChanged("old", "new");
+
+        assertThatThrownBy(() -> replacedImageCleaner.handle(List.of(event(1L, "old", "new"))))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.S3_DELETE_FAILED);
+    }
+
+    private static DomainEvent event(Long id, String previousImageUrl, String imageUrl) {
+        String payload = "{\"previousImageUrl\":\"" + previousImageUrl + "\",\"imageUrl\":\"" + imageUrl + "\"}";
+        return new DomainEvent(id, DomainEventType.POST_IMAGE_REPLACED, POST_ID, payload, Instant.now());
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.ktb3community.s3;
+
+import com.example.ktb3community.common.error.ErrorCode;
+import com.example.ktb3community.exception.BusinessException;
+import com.example.ktb3community.s3.dto.PresignUploadResponse;
+import com.example.ktb3community.s3.storage.S3ObjectStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class S3ObjectStorageTest {
+
+    private static final String BUCKET_NAME = "test-bucket";
+
+    @Mock S3Client s3Client;
+    @Mock S3Presigner s3Presigner;
+
+    S3ObjectStorage s3ObjectStorage;
+
+    @BeforeEach
+    void setUp() {
+        s3ObjectStorage = new S3ObjectStorage(s3Client, s3Presigner, BUCKET_NAME);
+    }
+
+    @Test
+    @DisplayName("presignUpload: 버킷/키/Content-Type과 장기 캐시 헤더를 서명해 만료 시간과 함께 발급한다")
+    void presignUpload_success() throws MalformedURLException {
+        URL url = new URL("https://s3.aws.com/test-bucket/images/uuid_test.jpg");
+        PresignedPutObjectRequest presigned = mock(PresignedPutObjectRequest.class);
+        given(presigned.url()).willReturn(url);
+        given(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).willReturn(presigned);
+
+        PresignUploadResponse response =
+                s3ObjectStorage.presignUpload("images/uuid_test.jpg", "image/jpeg", Duration.ofMinutes(10));
+
+        ArgumentCaptor<PutObjectPresignRequest> captor = ArgumentCaptor.forClass(PutObjectPresignRequest.class);
+        verify(s3Presigner).presignPutObject(captor.capture());
+        assertThat(captor.getValue().signatureDuration()).isEqualTo(Duration.ofMinutes(10));
+        assertThat(captor.getValue().putObjectRequest().bucket()).isEqualTo(BUCKET_NAME);
+        assertThat(captor.getValue().putObjectRequest().contentType()).isEqualTo("image/jpeg");
+        assertThat(captor.getValue().putObjectRequest().cacheControl()).contains("immutable");
+        assertThat(response.uploadUrl()).isEqualTo(url.toString());
+        assertThat(response.key()).isEqualTo("images/uuid_test.jpg");
+    }
+
+    @Test
+    @DisplayName("put: 버킷/키/Content-Type과 장기 캐시 헤더를 붙여 업로드한다")
+    void put_success() {
+        s3ObjectStorage.put("images/variants/card/a.jpg", new byte[]{1}, "image/jpeg");
+
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(captor.capture(), any(RequestBody.class));
+        assertThat(captor.getValue().bucket()).isEqualTo(BUCKET_NAME);
+        assertThat(captor.getValue().key()).isEqualTo("images/variants/card/a.jpg");
+        assertThat(captor.getValue().contentType()).isEqualTo("image/jpeg");
+        assertThat(captor.getValue().cacheControl()).contains("immutable");
+    }
+
+    @Test
+    @DisplayName("open: 없는 키면 비어 있다")
+    void open_missing_empty() {
+        given(s3Client.getObject(any(GetObjectRequest.class))).willThrow(NoSuchKeyException.builder().build());
+
+        assertThat(s3ObjectStorage.open("images/missing.png")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("open/put: S3 에러는 다운로드/업로드 실패로 래핑한다")
+    void open_put_s3Exception_throws() {
+        given(s3Client.getObject(any(GetObjectRequest.class))).willThrow(S3Exception.builder().message("AWS Error").build());
+        given(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .willThrow(S3Exception.builder().message("AWS Error").build());
+
+        assertThat(catchThrowable(() -> s3ObjectStorage.open("images/a.png")))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.S3_DOWNLOAD_FAILED);
+        assertThat(catchThrowable(() -> s3ObjectStorage.put("images/a.jpg", new byte[0], "image/jpeg")))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.S3_UPLOAD_FAILED);
+    }
+
+    @Test
+    @DisplayName("delete: S3 클라이언트 에러 발생 시 BusinessException으로 래핑한다")
+    void delete_s3Exception_throws() {
+        doThrow(S3Exception.builder().message("AWS Error").build())
+                .when(s3Client).deleteObject(any(DeleteObjectRequest.class));
+
+        Throwable thrown = catchThrowable(() -> s3ObjectStorage.delete("images/valid.jpg"));
+
+        assertThat(thrown)
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.S3_DELETE_FAILED);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.ktb3community.user;
+
+import com.example.ktb3community.comment.domain.Comment;
+import com.example.ktb3community.comment.dto.CommentExportRow;
+import com.example.ktb3community.comment.repository.JpaCommentRepository;
+import com.example.ktb3community.common.Role;
+import com.example.ktb3community.common.sql.StreamingQueries;
+import com.example.ktb3community.config.JpaConfig;
+import com.example.ktb3community.post.domain.Like;
+import com.example.ktb3community.post.domain.Post;
+import com.example.ktb3community.post.dto.LikeExportRow;
+import com.example.ktb3community.post.dto.PostExportRow;
+import com.example.ktb3community.post.repository.JpaPostLikeRepository;
+import com.example.ktb3community.post.repository.JpaPostRepository;
+import com.example.ktb3community.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 데이터 내보내기가 쓰는 스트리밍 쿼리를 실제 JPA로 실행해 JPQL과 projection 생성자가 맞는지 확인한다.
+// H2는 음수 fetch size(MySQL 스트리밍 값)를 받지 않으므로 양수로 실행한다
+@DataJpaTest
+@Import(JpaConfig.class)
+class ExportStreamQueryTest {
+
+    @Autowired TestEntityManager entityManager;
+
+    StreamingQueries streamingQueries;
+    User owner;
+    Post first;
+    Post second;
+
+    @BeforeEach
+    void setUp() {
+        streamingQueries = new StreamingQueries(entityManager.getEntityManager(), 500);
+        owner = entityManager.persist(User.createNew("owner@test.com", "hash", "owner", "img", Role.ROLE_USER));
+        User other = entityManager.persist(User.createNew("other@test.com", "hash", "other", "img", Role.ROLE_USER));
+        first = entityManager.persist(Post.createNew(owner, "first", "content", null));
+        second = entityManager.persist(Post.createNew(owner, "second", "content", null));
+        Post deleted = entityManager.persist(Post.createNew(owner, "deleted", "content", null));
+        deleted.delete(Instant.now());
+        entityManager.persist(Post.createNew(other, "others", "content", null));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("게시글 내보내기: 본인의 삭제되지 않은 게시글을 id 순으로 스트리밍한다")
+    void streamPostExportRows() {
+        try (Stream<PostExportRow> rows = streamingQueries.stream(
+                JpaPostRepository.EXPORT_ROWS_BY_USER_ID, PostExportRow.class, Map.of("userId", owner.getId()))) {
+            assertThat(rows.toList())
+                    .extracting(PostExportRow::postId, PostExportRow::title)
+                    .containsExactly(
+                            tuple(first.getId(), "first"),
+                            tuple(second.getId(), "second"));
+        }
+    }
+
+    @Test
+    @DisplayName("댓글 내보내기: 본인의 삭제되지 않은 댓글을 id 순으로 스트리밍한다")
+    void streamCommentExportRows() {
+        Comment kept = entityManager.persist(Comment.createNew(second, owner, "kept"));
+        Comment removed = entityManager.persist(Comment.createNew(first, owner, "removed"));
+        removed.delete(Instant.now());
+        entityManager.flush();
+
+        try (Stream<CommentExportRow> rows = streamingQueries.stream(
+                JpaCommentRepository.EXPORT_ROWS_BY_USER_ID, CommentExportRow.class, Map.of("userId", owner.getId()))) {
+            List<CommentExportRow> result = rows.toList();
+            assertThat(result).extracting(CommentExportRow::commentId).containsExactly(kept.getId());
+            assertThat(result.get(0).postId()).isEqualTo(second.getId());
+            assertThat(result.get(0).content()).isEqualTo("kept");
+        }
+    }
+
+    @Test
+    @DisplayName("좋아요 내보내기: Like 엔티티 이름이 HQL 예약어와 겹쳐도 취소되지 않은 좋아요를 스트리밍한다")
+    void streamLikeExportRows() {
+        entityManager.persist(Like.createNew(second, owner));
+        Like cancelled = entityManager.persist(Like.createNew(first, owner));
+        cancelled.delete(Instant.now());
+        entityManager.flush();
+
+        try (Stream<LikeExportRow> rows = streamingQueries.stream(
+                JpaPostLikeRepository.EXPORT_ROWS_BY_USER_ID, LikeExportRow.class, Map.of("userId", owner.getId()))) {
+            assertThat(rows.toList()).extracting(LikeExportRow::postId).containsExactly(second.getId());
+        }
+    }
+}
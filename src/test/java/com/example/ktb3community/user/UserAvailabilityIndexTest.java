@@ -0,0 +1,91 @@
+package com.example.ktb3community.user;
+
+import com.example.ktb3community.user.dto.UserIdentity;
+import com.example.ktb3community.user.repository.UserRepository;
+import com.example.ktb3community.user.service.UserAvailabilityIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class UserAvailabilityIndexTest {
+
+    @Mock UserRepository userRepository;
+
+    UserAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserAvailabilityIndex(userRepository, new SimpleMeterRegistry(), 2, 100, 0.01);
+    }
+
+    @Test
+    @DisplayName("재구성 전에는 항상 DB 확인이 필요하다고 응답한다")
+    void beforeRebuild_alwaysMightContain() {
+        assertThat(index.mightContainEmail("any@test.com")).isTrue();
+        assertThat(index.mightContainNickname("any")).isTrue();
+    }
+
+    @Test
+    @DisplayName("키셋 chunk로 기존 사용자를 적재하고, 이후 가입/닉네임 변경을 반영한다")
+    void rebuild_loadsChunks_thenTracksWrites() {
+        given(userRepository.findIdentitiesAfter(0L, 2)).willReturn(List.of(
+                new UserIdentity(1L, "a@test.com", "alpha"),
+                new UserIdentity(2L, "b@test.com", "beta")));
+        given(userRepository.findIdentitiesAfter(2L, 2)).willReturn(List.of(
+                new UserIdentity(5L, "c@test.com", "gamma")));
+
+        index.rebuild();
+
+        assertThat(index.mightContainEmail("a@test.com")).isTrue();
+        assertThat(index.mightContainEmail("c@test.com")).isTrue();
+        assertThat(index.mightContainNickname("beta")).isTrue();
+        assertThat(index.mightContainEmail("new@test.com")).isFalse();
+
+        index.add("new@test.com", "newbie");
+        index.addNickname("renamed");
+
+        assertThat(index.mightContainEmail("new@test.com")).isTrue();
+        assertThat(index.mightContainNickname("newbie")).isTrue();
+        assertThat(index.mightContainNickname("renamed")).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구성 중에 들어온 가입은 교체된 새 필터에도 남는다")
+    void addDuringRebuild_survivesSwap() {
+        given(userRepository.findIdentitiesAfter(0L, 2)).willAnswer(invocation -> {
+            index.add("during@test.com", "during");
+            return List.of(new UserIdentity(1L, "a@test.com", "alpha"));
+        });
+
+        index.rebuild();
+
+        assertThat(index.mightContainEmail("during@test.com")).isTrue();
+        assertThat(index.mightContainNickname("during")).isTrue();
+        assertThat(index.mightContainEmail("a@test.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("따라잡기: 마지막으로 적재한 id 뒤의 가입(다른 인스턴스)을 읽어 온다")
+    void catchUp_loadsUsersAfterLastId() {
+        given(userRepository.findIdentitiesAfter(0L, 2)).willReturn(List.of(
+                new UserIdentity(1L, "a@test.com", "alpha")));
+        index.rebuild();
+        given(userRepository.findIdentitiesAfter(1L, 2)).willReturn(List.of(
+                new UserIdentity(7L, "remote@test.com", "remote")));
+
+        index.catchUp();
+
+        assertThat(index.mightContainEmail("remote@test.com")).isTrue();
+        assertThat(index.mightContainNickname("remote")).isTrue();
+    }
+}
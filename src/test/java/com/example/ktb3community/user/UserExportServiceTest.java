@@ -0,0 +1,124 @@
+package com.example.ktb3community.user;
+
+import com.example.ktb3community.comment.dto.CommentExportRow;
+import com.example.ktb3community.comment.repository.CommentRepository;
+import com.example.ktb3community.post.dto.LikeExportRow;
+import com.example.ktb3community.post.dto.PostExportRow;
+import com.example.ktb3community.post.repository.PostLikeRepository;
+import com.example.ktb3community.post.repository.PostRepository;
+import com.example.ktb3community.user.service.UserExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static com.example.ktb3community.TestFixtures.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class UserExportServiceTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock PostRepository postRepository;
+    @Mock CommentRepository commentRepository;
+    @Mock PostLikeRepository postLikeRepository;
+    @Mock PlatformTransactionManager transactionManager;
+
+    SimpleMeterRegistry meterRegistry;
+    UserExportService userExportService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        userExportService = new UserExportService(postRepository, commentRepository, postLikeRepository,
+                transactionManager, objectMapper, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("export: 게시글, 댓글, 좋아요를 한 줄에 하나씩 NDJSON으로 쓴다")
+    void export_writesNdjsonLines() throws IOException {
+        givenRows();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        userExportService.export(USER_ID, out, false);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).startsWith("{\"type\":\"post\",\"data\":{\"postId\":10,\"title\":\"title\"");
+        assertThat(lines[1]).isEqualTo("{\"type\":\"comment\",\"data\":{\"commentId\":20,\"postId\":10,"
+                + "\"content\":\"comment\",\"createdAt\":\"2025-01-01T00:00:00Z\",\"updatedAt\":\"2025-01-01T00:00:00Z\"}}");
+        assertThat(lines[2]).isEqualTo("{\"type\":\"like\",\"data\":{\"postId\":30,\"likedAt\":\"2025-01-01T00:00:00Z\"}}");
+        assertThat(lines[3]).isEmpty();
+        assertThat(meterRegistry.get("user.export").tag("result", "completed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("export: gzip이면 압축된 같은 내용을 쓴다")
+    void export_gzip() throws IOException {
+        givenRows();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        userExportService.export(USER_ID, out, true);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            String ndjson = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(ndjson.lines()).hasSize(3);
+            assertThat(ndjson).endsWith("\n");
+        }
+    }
+
+    @Test
+    @DisplayName("export: 클라이언트가 연결을 끊으면 커서를 닫고 IOException을 그대로 던진다")
+    void export_clientDisconnect_closesCursor() {
+        AtomicBoolean postCursorClosed = new AtomicBoolean();
+        given(postRepository.streamExportRowsByUserId(USER_ID))
+                .willReturn(Stream.of(postRow()).onClose(() -> postCursorClosed.set(true)));
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThatThrownBy(() -> userExportService.export(USER_ID, disconnected, false))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+        assertThat(postCursorClosed).isTrue();
+        assertThat(meterRegistry.get("user.export").tag("result", "cancelled").timer().count()).isEqualTo(1);
+    }
+
+    private void givenRows() {
+        given(postRepository.streamExportRowsByUserId(USER_ID)).willReturn(Stream.of(postRow()));
+        given(commentRepository.streamExportRowsByUserId(USER_ID))
+                .willReturn(Stream.of(new CommentExportRow(20L, 10L, "comment", CREATED_AT, CREATED_AT)));
+        given(postLikeRepository.streamExportRowsByUserId(USER_ID))
+                .willReturn(Stream.of(new LikeExportRow(30L, CREATED_AT)));
+    }
+
+    private static PostExportRow postRow() {
+        return new PostExportRow(10L, "title", "content", null, 1, 2, 3, CREATED_AT, CREATED_AT);
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.ktb3community.user;
 
+import com.example.ktb3community.auth.infra.PasswordHasher;
 import com.example.ktb3community.auth.service.RefreshTokenService;
-import com.example.ktb3community.comment.repository.CommentRepository;
 import com.example.ktb3community.common.error.ErrorCode;
 import com.example.ktb3community.exception.BusinessException;
-import com.example.ktb3community.post.repository.PostRepository;
-import com.example.ktb3community.s3.service.FileService;
+import com.example.ktb3community.job.domain.JobType;
+import com.example.ktb3community.job.service.JobService;
+import com.example.ktb3community.outbox.domain.DomainEventType;
+import com.example.ktb3community.outbox.dto.ImageReplacedPayload;
+import com.example.ktb3community.outbox.service.DomainEventPublisher;
 import com.example.ktb3community.user.domain.User;
 import com.example.ktb3community.user.dto.AvailabilityResponse;
 import com.example.ktb3community.user.dto.MeResponse;
@@ -14,6 +17,7 @@ import com.example.ktb3community.user.dto.UpdatePasswordRequest;
 import com.example.ktb3community.user.exception.UserNotFoundException;
 import com.example.ktb3community.user.mapper.UserMapper;
 import com.example.ktb3community.user.repository.UserRepository;
+import com.example.ktb3community.user.service.UserAvailabilityIndex;
 import com.example.ktb3community.user.service.UserService;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.DisplayName;
@@ -22,10 +26,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Instant;
 
@@ -41,18 +46,21 @@ import static org.mockito.Mockito.*;
 class UserServiceTest {
 
     @Mock UserRepository userRepository;
-    @Mock PostRepository postRepository;
-    @Mock CommentRepository commentRepository;
     @Mock UserMapper userMapper;
-    @Mock FileService fileService;
-    @Mock PasswordEncoder passwordEncoder;
+    @Mock DomainEventPublisher domainEventPublisher;
+    @Mock PasswordHasher passwordHasher;
     @Mock RefreshTokenService refreshTokenService;
+    @Mock UserAvailabilityIndex userAvailabilityIndex;
+    @Mock JobService jobService;
+    @Mock PlatformTransactionManager transactionManager;
 
     @InjectMocks UserService userService;
 
     @Test
     @DisplayName("getAvailability: 입력값을 trim하여 중복 여부를 확인한다")
     void getAvailability_success() {
+        given(userAvailabilityIndex.mightContainEmail("user@test.com")).willReturn(true);
+        given(userAvailabilityIndex.mightContainNickname("nick")).willReturn(true);
         given(userRepository.existsByEmail("user@test.com")).willReturn(false);
         given(userRepository.existsByNickname("nick")).willReturn(true);
 
@@ -65,6 +73,19 @@ class UserServiceTest {
         verify(userRepository).existsByNickname("nick");
     }
 
+    @Test
+    @DisplayName("getAvailability: 필터에 없는 값은 DB 조회 없이 사용 가능으로 응답한다")
+    void getAvailability_filterMiss_skipsDb() {
+        given(userAvailabilityIndex.mightContainEmail("new@test.com")).willReturn(false);
+        given(userAvailabilityIndex.mightContainNickname("newNick")).willReturn(false);
+
+        AvailabilityResponse response = userService.getAvailability("new@test.com", "newNick");
+
+        assertThat(response.emailAvailable()).isTrue();
+        assertThat(response.nicknameAvailable()).isTrue();
+        then(userRepository).shouldHaveNoInteractions();
+    }
+
     @ParameterizedTest
     @DisplayName("getAvailability: 값이 없거나 공백이면 null을 반환한다")
     @NullAndEmptySource
@@ -126,13 +147,15 @@ class UserServiceTest {
         given(userMapper.userToMeResponse(user)).willReturn(expectedResponse);
 
         MeResponse result = userService.updateMe(USER_ID, request);
+        verify(userAvailabilityIndex).addNickname("newNick");
 
         assertThat(result).isEqualTo(expectedResponse);
 
         assertThat(user.getNickname()).isEqualTo("newNick");
         assertThat(user.getProfileImageUrl()).isEqualTo("newImage");
 
-        verify(fileService).deleteImageIfChanged("oldImage", "newImage");
+        verify(domainEventPublisher).append(DomainEventType.PROFILE_IMAGE_REPLACED, USER_ID,
+                new ImageReplacedPayload("oldImage", "newImage"));
     }
 
     @Test
@@ -178,7 +201,7 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("updatePassword: 비밀번호 해시화 후 변경 상태를 검증한다")
+    @DisplayName("updatePassword: 트랜잭션 밖에서 비밀번호를 해시화한 뒤 변경한다")
     void updatePassword_success() {
         UpdatePasswordRequest request = new UpdatePasswordRequest("newPassword");
         User user = User.builder()
@@ -187,15 +210,18 @@ class UserServiceTest {
                 .build();
 
         given(userRepository.findByIdOrThrow(USER_ID)).willReturn(user);
-        given(passwordEncoder.encode("newPassword")).willReturn("hashedPassword");
+        given(passwordHasher.encode("newPassword")).willReturn("hashedPassword");
 
         userService.updatePassword(USER_ID, request);
 
         assertThat(user.getPasswordHash()).isEqualTo("hashedPassword");
+        InOrder inOrder = inOrder(passwordHasher, transactionManager);
+        inOrder.verify(passwordHasher).encode("newPassword");
+        inOrder.verify(transactionManager).getTransaction(any());
     }
 
     @Test
-    @DisplayName("withdrawMe: 회원 탈퇴 시 소프트 삭제 및 토큰을 폐기한다")
+    @DisplayName("withdrawMe: 회원 탈퇴 시 사용자를 소프트 삭제하고 토큰 폐기 후 정리 작업을 등록한다")
     void withdrawMe_success() {
         User user = User.builder().id(USER_ID).build();
         HttpServletResponse response = mock(HttpServletResponse.class);
@@ -203,10 +229,8 @@ class UserServiceTest {
 
         userService.withdrawMe(USER_ID, response);
 
-        verify(commentRepository).softDeleteByUserId(eq(USER_ID), isA(Instant.class));
-        verify(postRepository).softDeleteByUserId(eq(USER_ID), isA(Instant.class));
         verify(userRepository).softDeleteById(eq(USER_ID), isA(Instant.class));
-
         verify(refreshTokenService).revokeAllByUser(user);
+        verify(jobService).enqueue(JobType.USER_WITHDRAWAL, USER_ID);
     }
 }
\ No newline at end of file
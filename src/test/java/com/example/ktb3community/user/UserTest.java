@@ -98,6 +98,21 @@ class UserTest {
         assertEquals("http://new-image", user.getProfileImageUrl());
     }
 
+    @Test
+    @DisplayName("attachProfileThumbnail: 현재 이미지의 축소본만 남기고, 이미지가 바뀌면 축소본을 비운다")
+    void attachProfileThumbnail_onlyForCurrentImage() {
+        User user = user().profileImageUrl("http://original").build();
+
+        user.attachProfileThumbnail("http://stale", "http://stale-thumb");
+        assertNull(user.getProfileThumbnailUrl());
+
+        user.attachProfileThumbnail("http://original", "http://original-thumb");
+        assertEquals("http://original-thumb", user.getProfileThumbnailUrl());
+
+        user.updateProfileImageUrl("http://new-image");
+        assertNull(user.getProfileThumbnailUrl());
+    }
+
     @Test
     @DisplayName("updateProfileImageUrl: 공백일 경우 예외가 발생한다")
     void updateProfileImageUrl_blank_throws() {
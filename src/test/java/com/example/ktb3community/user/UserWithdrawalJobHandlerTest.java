@@ -0,0 +1,119 @@
+package com.example.ktb3community.user;
+
+import com.example.ktb3community.comment.dto.CommentRef;
+import com.example.ktb3community.comment.repository.CommentRepository;
+import com.example.ktb3community.job.domain.Job;
+import com.example.ktb3community.job.domain.JobStatus;
+import com.example.ktb3community.job.domain.JobType;
+import com.example.ktb3community.post.dto.LikeRef;
+import com.example.ktb3community.post.dto.PostCounterDelta;
+import com.example.ktb3community.post.repository.PostLikeRepository;
+import com.example.ktb3community.post.repository.PostRepository;
+import com.example.ktb3community.post.service.PostTotalsService;
+import com.example.ktb3community.user.service.UserWithdrawalJobHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static com.example.ktb3community.TestFixtures.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserWithdrawalJobHandlerTest {
+
+    private static final int CHUNK_SIZE = 3;
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock PostRepository postRepository;
+    @Mock CommentRepository commentRepository;
+    @Mock PostLikeRepository postLikeRepository;
+    @Mock PostTotalsService postTotalsService;
+
+    UserWithdrawalJobHandler handler;
+    Job job;
+
+    @BeforeEach
+    void setUp() {
+        handler = new UserWithdrawalJobHandler(postRepository, commentRepository, postLikeRepository, postTotalsService, CHUNK_SIZE);
+        job = Job.createNew(JobType.USER_WITHDRAWAL, USER_ID, handler.initialStage(), NOW);
+    }
+
+    @Test
+    @DisplayName("댓글 stage: chunk를 지우고 게시글별 댓글 수를 모아 한 번에 줄이며 커서를 옮긴다")
+    void comments_fullChunk_advances() {
+        given(commentRepository.findLiveRefsByUserId(USER_ID, 0L, CHUNK_SIZE)).willReturn(List.of(
+                new CommentRef(11L, 100L), new CommentRef(12L, 100L), new CommentRef(13L, 200L)));
+
+        handler.runChunk(job, NOW);
+
+        verify(commentRepository).softDeleteByUserIdAndIdIn(USER_ID, List.of(11L, 12L, 13L), NOW);
+        assertThat(capturedDeltas()).containsExactlyInAnyOrder(
+                new PostCounterDelta(100L, 0, -2), new PostCounterDelta(200L, 0, -1));
+        assertThat(job.getStage()).isEqualTo("COMMENTS");
+        assertThat(job.getCursorId()).isEqualTo(13L);
+        assertThat(job.getProcessedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("댓글 stage: chunk가 덜 차면 좋아요 stage로 넘어가고 커서를 초기화한다")
+    void comments_lastChunk_movesToLikes() {
+        given(commentRepository.findLiveRefsByUserId(USER_ID, 0L, CHUNK_SIZE))
+                .willReturn(List.of(new CommentRef(11L, 100L)));
+
+        handler.runChunk(job, NOW);
+
+        assertThat(job.getStage()).isEqualTo("LIKES");
+        assertThat(job.getCursorId()).isZero();
+        assertThat(job.getProcessedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좋아요 stage: 게시글별 좋아요 수를 줄이고, 남은 게 없으면 게시글 stage로 넘어간다")
+    void likes_decrementsLikeCount() {
+        job.moveTo("LIKES");
+        given(postLikeRepository.findLiveRefsByUserId(USER_ID, 0L, CHUNK_SIZE))
+                .willReturn(List.of(new LikeRef(21L, 100L), new LikeRef(22L, 300L)));
+
+        handler.runChunk(job, NOW);
+
+        verify(postLikeRepository).softDeleteByUserIdAndIdIn(USER_ID, List.of(21L, 22L), NOW);
+        assertThat(capturedDeltas()).containsExactlyInAnyOrder(
+                new PostCounterDelta(100L, -1, 0), new PostCounterDelta(300L, -1, 0));
+        assertThat(job.getStage()).isEqualTo("POSTS");
+    }
+
+    @Test
+    @DisplayName("게시글 stage: 남은 게시글을 지우면 작업을 완료한다")
+    void posts_lastChunk_completes() {
+        job.moveTo("POSTS");
+        given(postRepository.findLiveIdsByUserId(USER_ID, 0L, CHUNK_SIZE)).willReturn(List.of(31L, 32L));
+        given(postRepository.softDeleteByUserIdAndIdIn(USER_ID, List.of(31L, 32L), NOW)).willReturn(2);
+
+        handler.runChunk(job, NOW);
+
+        verify(postTotalsService).postsDeleted(2);
+        verify(postRepository, never()).applyCounterDeltas(any(), any());
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(job.getFinishedAt()).isEqualTo(NOW);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<PostCounterDelta> capturedDeltas() {
+        ArgumentCaptor<Collection<PostCounterDelta>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(postRepository).applyCounterDeltas(captor.capture(), eq(NOW));
+        return captor.getValue();
+    }
+}